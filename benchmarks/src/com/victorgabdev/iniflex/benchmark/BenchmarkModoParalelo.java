@@ -0,0 +1,119 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.service.FuncionarioService;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compara o modo sequencial e o modo paralelo do {@link FuncionarioService}.
+ * <p>
+ * Dois serviços são carregados com os mesmos dados sintéticos; cada operação é executada nos dois,
+ * com a saída do console desviada para um resumo SHA-256. O programa informa o tempo médio de cada
+ * modo, o ganho obtido e se as saídas foram idênticas byte a byte.
+ * </p>
+ * <p>
+ * Uso: {@code BenchmarkModoParalelo [quantidade] [repeticoes]} (padrão: 1.000.000 funcionários, 5 repetições).
+ * </p>
+ */
+public class BenchmarkModoParalelo {
+
+    private static final long SEMENTE = 42;
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Map<String, Consumer<FuncionarioService>> operacoes = new LinkedHashMap<>();
+        operacoes.put("aplicarAumentoPercentual", s -> s.aplicarAumentoPercentual(10));
+        operacoes.put("imprimirTotalSalarios", FuncionarioService::imprimirTotalSalarios);
+        operacoes.put("imprimirFuncionarioMaisVelho", FuncionarioService::imprimirFuncionarioMaisVelho);
+        operacoes.put("imprimirFuncionariosOrdemAlfabetica", FuncionarioService::imprimirFuncionariosOrdemAlfabetica);
+        operacoes.put("imprimirSalariosEmMinimos", FuncionarioService::imprimirSalariosEmMinimos);
+
+        PrintStream console = System.out;
+        console.printf("%d funcionários, %d repetições, %d processadores%n",
+                quantidade, repeticoes, Runtime.getRuntime().availableProcessors());
+
+        long inicio = System.nanoTime();
+        FuncionarioService sequencial = carregar(quantidade, false);
+        long cargaSequencial = System.nanoTime() - inicio;
+        inicio = System.nanoTime();
+        FuncionarioService paralelo = carregar(quantidade, true);
+        long cargaParalela = System.nanoTime() - inicio;
+        imprimirLinha(console, "inserirFuncionarios", cargaSequencial, cargaParalela, true);
+
+        for (Map.Entry<String, Consumer<FuncionarioService>> operacao : operacoes.entrySet()) {
+            long tempoSequencial = 0;
+            long tempoParalelo = 0;
+            boolean identicos = true;
+            for (int i = 0; i < repeticoes; i++) {
+                Execucao a = executar(sequencial, operacao.getValue());
+                Execucao b = executar(paralelo, operacao.getValue());
+                tempoSequencial += a.nanos;
+                tempoParalelo += b.nanos;
+                identicos &= Arrays.equals(a.resumoSaida, b.resumoSaida);
+            }
+            imprimirLinha(console, operacao.getKey(), tempoSequencial / repeticoes, tempoParalelo / repeticoes, identicos);
+        }
+    }
+
+    private static FuncionarioService carregar(int quantidade, boolean paralelo) {
+        FuncionarioService service = new FuncionarioService(GeradorFuncionarios.repositorio(quantidade, SEMENTE));
+        service.setModoParalelo(paralelo);
+        // Sem cache: cada repetição deve calcular o relatório.
+        service.setCapacidadeCache(0);
+        service.inserirFuncionarios();
+        return service;
+    }
+
+    private static Execucao executar(FuncionarioService service, Consumer<FuncionarioService> operacao) {
+        PrintStream console = System.out;
+        MessageDigest digest = novoDigest();
+        try (PrintStream saida = new PrintStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest),
+                false, StandardCharsets.UTF_8)) {
+            System.setOut(saida);
+            long inicio = System.nanoTime();
+            operacao.accept(service);
+            long nanos = System.nanoTime() - inicio;
+            saida.flush();
+            return new Execucao(nanos, digest.digest());
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    private static void imprimirLinha(PrintStream console, String operacao, long sequencial, long paralelo,
+                                      boolean identicos) {
+        console.printf("%-38s sequencial: %9.2f ms  paralelo: %9.2f ms  ganho: %5.2fx  saída idêntica: %s%n",
+                operacao, sequencial / 1e6, paralelo / 1e6, (double) sequencial / Math.max(paralelo, 1),
+                identicos ? "sim" : "NÃO");
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Execucao {
+
+        private final long nanos;
+        private final byte[] resumoSaida;
+
+        Execucao(long nanos, byte[] resumoSaida) {
+            this.nanos = nanos;
+            this.resumoSaida = resumoSaida;
+        }
+    }
+}
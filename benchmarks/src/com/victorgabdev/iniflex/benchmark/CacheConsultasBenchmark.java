@@ -0,0 +1,83 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH dos relatórios agregados com e sem o cache de consultas do {@link FuncionarioService}.
+ * <p>
+ * Com {@code capacidadeCache=0} cada impressão recalcula o relatório; com o cache ativo, as impressões
+ * seguintes apenas reescrevem o texto já formatado. {@code aumentarEImprimirTotal} mede o pior caso,
+ * com uma alteração invalidando o cache antes de cada impressão.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CacheConsultasBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int tamanho;
+
+    @Param({"0", "64"})
+    public int capacidadeCache;
+
+    private FuncionarioService service;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        service = new FuncionarioService(GeradorFuncionarios.repositorio(tamanho, 42));
+        service.setCapacidadeCache(capacidadeCache);
+        service.inserirFuncionarios();
+        service.agruparFuncionariosPorFuncao();
+    }
+
+    @TearDown(Level.Trial)
+    public void restaurarConsole() {
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public void imprimirTotalSalarios() {
+        service.imprimirTotalSalarios();
+    }
+
+    @Benchmark
+    public void imprimirFuncionariosAgrupados() {
+        service.imprimirFuncionariosAgrupados();
+    }
+
+    @Benchmark
+    public void imprimirSalariosEmMinimos() {
+        service.imprimirSalariosEmMinimos();
+    }
+
+    @Benchmark
+    public void aumentarEImprimirTotal() {
+        service.aplicarAumentoPercentual(0);
+        service.imprimirTotalSalarios();
+    }
+}
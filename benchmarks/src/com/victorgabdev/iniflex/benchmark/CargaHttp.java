@@ -0,0 +1,115 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.http.FuncionarioHttpServer;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga do {@link FuncionarioHttpServer} a taxas fixas de requisições.
+ * <p>
+ * Para cada taxa, as requisições são disparadas em intervalos regulares, sem esperar as anteriores
+ * (carga em malha aberta). A latência é medida a partir do instante em que cada requisição deveria
+ * ter sido enviada, então atrasos do próprio servidor não escondem o tempo de fila. A mistura é de
+ * 99% de consultas (total de salários, mais velho e primeira página em ordem alfabética) e 1% de
+ * aumentos de 0%, que passam pela trava de escrita sem alterar os salários.
+ * </p>
+ * <p>
+ * Uso: {@code CargaHttp [quantidade] [segundos] [taxas...]} (padrão: 10.000 funcionários, 10 segundos
+ * por taxa, 500, 1.000 e 2.000 requisições por segundo).
+ * </p>
+ */
+public class CargaHttp {
+
+    private static final long SEMENTE = 42;
+    private static final String[] CONSULTAS = {"/total-salarios", "/mais-velho", "/funcionarios/alfabetica?tamanho=20"};
+
+    public static void main(String[] args) throws Exception {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int segundos = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int[] taxas = args.length > 2
+                ? Arrays.stream(args, 2, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{500, 1_000, 2_000};
+
+        FuncionarioService service = new FuncionarioService(GeradorFuncionarios.repositorio(quantidade, SEMENTE));
+        service.inserirFuncionarios();
+
+        try (FuncionarioHttpServer servidor = new FuncionarioHttpServer(service,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            servidor.iniciar();
+            String base = "http://localhost:" + servidor.getPorta();
+            HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            System.out.printf("%d funcionários, %d s por taxa, threads virtuais: %s%n",
+                    quantidade, segundos, servidor.isThreadsVirtuais() ? "sim" : "não");
+
+            // Aquecimento, descartado.
+            executar(cliente, base, Math.min(taxas[0], 500), 2);
+            for (int taxa : taxas) {
+                Resultado resultado = executar(cliente, base, taxa, segundos);
+                System.out.printf("%6d req/s  p50: %8.2f ms  p99: %8.2f ms  máx: %8.2f ms  erros: %d%n",
+                        taxa, resultado.percentil(0.50) / 1e6, resultado.percentil(0.99) / 1e6,
+                        resultado.percentil(1.0) / 1e6, resultado.erros);
+            }
+        }
+    }
+
+    private static Resultado executar(HttpClient cliente, String base, int taxa, int segundos) {
+        int total = taxa * segundos;
+        long intervalo = 1_000_000_000L / taxa;
+        long[] latencias = new long[total];
+        AtomicInteger erros = new AtomicInteger();
+        CompletableFuture<?>[] pendentes = new CompletableFuture<?>[total];
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long previsto = inicio + i * intervalo;
+            long espera = previsto - System.nanoTime();
+            if (espera > 0) LockSupport.parkNanos(espera);
+
+            int indice = i;
+            pendentes[i] = cliente.sendAsync(requisicao(base, i), HttpResponse.BodyHandlers.discarding())
+                    .handle((resposta, falha) -> {
+                        latencias[indice] = System.nanoTime() - previsto;
+                        if (falha != null || resposta.statusCode() >= 400) erros.incrementAndGet();
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(pendentes).join();
+        Arrays.sort(latencias);
+        return new Resultado(latencias, erros.get());
+    }
+
+    private static HttpRequest requisicao(String base, int indice) {
+        if (indice % 100 == 99) {
+            return HttpRequest.newBuilder(URI.create(base + "/aumento?percentual=0"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return HttpRequest.newBuilder(URI.create(base + CONSULTAS[indice % CONSULTAS.length])).GET().build();
+    }
+
+    private static class Resultado {
+
+        private final long[] latenciasOrdenadas;
+        private final int erros;
+
+        Resultado(long[] latenciasOrdenadas, int erros) {
+            this.latenciasOrdenadas = latenciasOrdenadas;
+            this.erros = erros;
+        }
+
+        long percentil(double fracao) {
+            int posicao = (int) Math.ceil(fracao * latenciasOrdenadas.length) - 1;
+            return latenciasOrdenadas[Math.max(0, posicao)];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.ConsultaFuncionarios;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Consultas combinadas sobre o {@link FuncionarioService}: com {@code Stream} sobre a lista inteira e
+ * com {@link ConsultaFuncionarios}, que lê os candidatos do índice mais seletivo, aplica os filtros em
+ * uma única passada e para a leitura quando o limite é atingido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConsultaBenchmark {
+
+    private static final long SALARIO_MINIMO = 20_000_00;
+    private static final Comparator<Funcionario> POR_MAIOR_SALARIO =
+            Comparator.comparingLong(Funcionario::getSalarioCentavos).reversed();
+
+    @Param({"10000", "1000000"})
+    public int tamanho;
+
+    private FuncionarioService service;
+    private List<Funcionario> funcionarios;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        service = new FuncionarioService(GeradorFuncionarios.repositorio(tamanho, 42));
+        service.inserirFuncionarios();
+        funcionarios = service.consultar().listar();
+    }
+
+    @Benchmark
+    public long streamFuncaoEMes() {
+        return funcionarios.stream()
+                .filter(f -> f.getFuncao() == FuncaoFuncionario.DIRETOR)
+                .filter(f -> f.getDataNascimento().getMonthValue() == 12)
+                .filter(f -> f.getSalarioCentavos() >= SALARIO_MINIMO)
+                .count();
+    }
+
+    @Benchmark
+    public long consultaFuncaoEMes() {
+        return service.consultar()
+                .comFuncao(FuncaoFuncionario.DIRETOR)
+                .nascidosNosMeses(12)
+                .comSalarioEntreCentavos(SALARIO_MINIMO, Long.MAX_VALUE)
+                .contar();
+    }
+
+    @Benchmark
+    public List<Funcionario> streamMaioresSalariosDaFuncao() {
+        return funcionarios.stream()
+                .filter(f -> f.getFuncao() == FuncaoFuncionario.GERENTE)
+                .sorted(POR_MAIOR_SALARIO)
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Funcionario> consultaMaioresSalariosDaFuncao() {
+        return service.consultar()
+                .comFuncao(FuncaoFuncionario.GERENTE)
+                .ordenarPor(POR_MAIOR_SALARIO)
+                .limitar(10)
+                .listar();
+    }
+
+    @Benchmark
+    public List<String> consultaPrimeirosComSalario() {
+        return service.consultar()
+                .comSalarioEntreCentavos(SALARIO_MINIMO, Long.MAX_VALUE)
+                .limitar(10)
+                .listar(Funcionario::getNome);
+    }
+}
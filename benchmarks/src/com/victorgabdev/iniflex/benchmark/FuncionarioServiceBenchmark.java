@@ -0,0 +1,115 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH das operações de consulta e relatório do {@link FuncionarioService}.
+ * <p>
+ * Cada tamanho de conjunto é gerado uma vez por execução com o {@link GeradorFuncionarios}.
+ * A saída do console é descartada, mas a formatação continua sendo medida. Para a taxa de
+ * alocação, execute com {@code -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FuncionarioServiceBenchmark {
+
+    /** Tamanho das consultas top-K e da primeira página das listagens. */
+    static final int TAMANHO_PAGINA = 20;
+
+    @Param({"10", "10000", "1000000", "10000000"})
+    public int tamanho;
+
+    private FuncionarioService service;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        service = new FuncionarioService(GeradorFuncionarios.repositorio(tamanho, 42));
+        // Sem cache, para medir o cálculo de cada relatório; ver CacheConsultasBenchmark.
+        service.setCapacidadeCache(0);
+        service.inserirFuncionarios();
+        service.agruparFuncionariosPorFuncao();
+    }
+
+    @TearDown(Level.Trial)
+    public void restaurarConsole() {
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public void imprimirTodosFuncionarios() {
+        service.imprimirTodosFuncionarios();
+    }
+
+    @Benchmark
+    public void imprimirFuncionariosAgrupados() {
+        service.imprimirFuncionariosAgrupados();
+    }
+
+    @Benchmark
+    public void imprimirAniversariantesMes10E12() {
+        service.imprimirAniversariantesMes10E12();
+    }
+
+    @Benchmark
+    public void imprimirFuncionarioMaisVelho() {
+        service.imprimirFuncionarioMaisVelho();
+    }
+
+    @Benchmark
+    public void imprimirFuncionariosOrdemAlfabetica() {
+        service.imprimirFuncionariosOrdemAlfabetica();
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarMaisVelhos() {
+        return service.buscarMaisVelhos(TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarMaioresSalarios() {
+        return service.buscarMaioresSalarios(TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public List<Funcionario> listarOrdemAlfabetica() {
+        return service.listarOrdemAlfabetica(1, TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public void imprimirTotalSalarios() {
+        service.imprimirTotalSalarios();
+    }
+
+    @Benchmark
+    public void imprimirSalariosEmMinimos() {
+        service.imprimirSalariosEmMinimos();
+    }
+}
@@ -0,0 +1,129 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.EstatisticasFuncao;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.FuncionarioServiceConcorrente;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de contenção: várias threads leitoras e escritoras sobre o mesmo serviço.
+ * <p>
+ * O grupo {@code concorrente} usa o {@link FuncionarioServiceConcorrente}; o grupo {@code travaGlobal}
+ * reproduz o uso atual, com o {@link FuncionarioService} protegido por uma única trava. Em cada grupo,
+ * 6 threads leem (total de salários, estatísticas por função e busca por nome) e 2 escrevem
+ * (troca de função de um funcionário e aumento de 0%, que regrava todos os salários sem alterá-los).
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FuncionarioServiceConcorrenteBenchmark {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    @Param({"10000", "1000000"})
+    public int tamanho;
+
+    private List<Funcionario> dados;
+    private FuncionarioServiceConcorrente concorrente;
+    private FuncionarioService sequencial;
+    private final Object travaGlobal = new Object();
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        dados = GeradorFuncionarios.gerar(tamanho, 42);
+
+        concorrente = new FuncionarioServiceConcorrente(() -> dados);
+        concorrente.inserirFuncionarios();
+
+        // Cópia própria: o serviço sequencial altera os funcionários no lugar.
+        List<Funcionario> copia = GeradorFuncionarios.gerar(tamanho, 42);
+        sequencial = new FuncionarioService(() -> copia);
+        sequencial.inserirFuncionarios();
+    }
+
+    @Benchmark
+    @Group("concorrente")
+    @GroupThreads(6)
+    public Object lerConcorrente() {
+        switch (ThreadLocalRandom.current().nextInt(3)) {
+            case 0:
+                return concorrente.calcularTotalSalarios();
+            case 1:
+                return concorrente.obterEstatisticasPorFuncao();
+            default:
+                return concorrente.buscarPorNome(nomeAleatorio());
+        }
+    }
+
+    @Benchmark
+    @Group("concorrente")
+    @GroupThreads(2)
+    public void escreverConcorrente() {
+        if (ThreadLocalRandom.current().nextInt(100) == 0) concorrente.aplicarAumentoPercentual(0);
+        else concorrente.alterarFuncao(nomeAleatorio(), funcaoAleatoria());
+    }
+
+    @Benchmark
+    @Group("travaGlobal")
+    @GroupThreads(6)
+    public Object lerComTravaGlobal() {
+        synchronized (travaGlobal) {
+            switch (ThreadLocalRandom.current().nextInt(3)) {
+                case 0:
+                    return totalSalarios(sequencial.obterEstatisticasPorFuncao());
+                case 1:
+                    return sequencial.obterEstatisticasPorFuncao();
+                default:
+                    return sequencial.buscarPorNome(nomeAleatorio());
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("travaGlobal")
+    @GroupThreads(2)
+    public void escreverComTravaGlobal() {
+        synchronized (travaGlobal) {
+            if (ThreadLocalRandom.current().nextInt(100) == 0) sequencial.aplicarAumentoPercentual(0);
+            else sequencial.alterarFuncao(nomeAleatorio(), funcaoAleatoria());
+        }
+    }
+
+    private String nomeAleatorio() {
+        return dados.get(ThreadLocalRandom.current().nextInt(dados.size())).getNome();
+    }
+
+    private static FuncaoFuncionario funcaoAleatoria() {
+        return FUNCOES[ThreadLocalRandom.current().nextInt(FUNCOES.length)];
+    }
+
+    private static long totalSalarios(Map<FuncaoFuncionario, EstatisticasFuncao> estatisticas) {
+        long total = 0;
+        for (EstatisticasFuncao e : estatisticas.values()) total += e.getTotalSalarios().unscaledValue().longValue();
+        return total;
+    }
+}
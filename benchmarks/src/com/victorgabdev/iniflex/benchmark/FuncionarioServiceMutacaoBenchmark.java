@@ -0,0 +1,88 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.VersaoFuncionarios;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH das operações do {@link FuncionarioService} que alteram os dados.
+ * <p>
+ * Como carga, aumento e remoção mudam o estado do serviço, cada medição usa um serviço recém
+ * carregado ({@link Level#Iteration}) e é feita em modo {@link Mode#SingleShotTime}: a latência
+ * reportada é a de uma execução da operação sobre o conjunto inteiro. A remoção mede um lote de
+ * {@value #REMOCOES_POR_LOTE} nomes distintos, removidos um a um. O aumento com versão fixada mede
+ * o custo de manter a versão anterior disponível para um relatório durante o aumento.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FuncionarioServiceMutacaoBenchmark {
+
+    static final int REMOCOES_POR_LOTE = 10;
+
+    @Param({"10", "10000", "1000000", "10000000"})
+    public int tamanho;
+
+    private List<Funcionario> dados;
+    private FuncionarioService carregado;
+    private FuncionarioService vazio;
+    private List<String> nomesParaRemover;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        dados = GeradorFuncionarios.gerar(tamanho, 42);
+
+        vazio = new FuncionarioService(() -> new ArrayList<>(dados));
+        carregado = new FuncionarioService(() -> new ArrayList<>(dados));
+        carregado.inserirFuncionarios();
+
+        nomesParaRemover = new ArrayList<>(REMOCOES_POR_LOTE);
+        int passo = Math.max(tamanho / REMOCOES_POR_LOTE, 1);
+        for (int i = 0; i < REMOCOES_POR_LOTE && i * passo < tamanho; i++) {
+            nomesParaRemover.add(dados.get(i * passo).getNome());
+        }
+    }
+
+    @Benchmark
+    public void inserirFuncionarios() {
+        vazio.inserirFuncionarios();
+    }
+
+    @Benchmark
+    public void aplicarAumentoPercentual() {
+        carregado.aplicarAumentoPercentual(10);
+    }
+
+    @Benchmark
+    public long aplicarAumentoComVersaoFixada() {
+        try (VersaoFuncionarios.Fixacao anterior = carregado.fixarVersao()) {
+            carregado.aplicarAumentoPercentual(10);
+            return anterior.getVersao().getTotalSalariosCentavos();
+        }
+    }
+
+    @Benchmark
+    public void removerFuncionario() {
+        for (String nome : nomesParaRemover) carregado.removerFuncionario(nome);
+    }
+}
@@ -0,0 +1,64 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera conjuntos sintéticos de funcionários com o mesmo formato dos dados de
+ * {@link com.victorgabdev.iniflex.repositoty.FuncionarioRepositoryImpl}.
+ * <p>
+ * Os nomes partem dos nomes pré-definidos, seguidos de um número sequencial; as datas de nascimento
+ * ficam entre 1955 e 2005, os salários entre R$ 1.200,00 e R$ 25.000,00 com duas casas decimais e a
+ * função é sorteada entre todas as {@link FuncaoFuncionario}. A mesma semente sempre gera os mesmos dados.
+ * </p>
+ */
+public final class GeradorFuncionarios {
+
+    private static final String[] NOMES = {
+            "Maria", "João", "Caio", "Miguel", "Alice", "Heitor", "Arthur", "Laura", "Heloísa", "Helena"
+    };
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final long INICIO_NASCIMENTOS = LocalDate.of(1955, 1, 1).toEpochDay();
+    private static final long FIM_NASCIMENTOS = LocalDate.of(2005, 12, 31).toEpochDay();
+
+    private GeradorFuncionarios() {
+    }
+
+    /**
+     * Gera a quantidade informada de funcionários.
+     *
+     * @param quantidade Quantidade de funcionários.
+     * @param semente    Semente do gerador pseudoaleatório.
+     * @return Lista com os funcionários gerados.
+     */
+    public static List<Funcionario> gerar(int quantidade, long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        List<Funcionario> funcionarios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            String nome = NOMES[random.nextInt(NOMES.length)] + " " + i;
+            LocalDate nascimento = LocalDate.ofEpochDay(random.nextLong(INICIO_NASCIMENTOS, FIM_NASCIMENTOS + 1));
+            BigDecimal salario = BigDecimal.valueOf(random.nextLong(120_000, 2_500_001), 2);
+            FuncaoFuncionario funcao = FUNCOES[random.nextInt(FUNCOES.length)];
+            funcionarios.add(new Funcionario(nome, nascimento, salario, funcao));
+        }
+        return funcionarios;
+    }
+
+    /**
+     * Cria um repositório que gera um novo conjunto de funcionários a cada chamada.
+     *
+     * @param quantidade Quantidade de funcionários.
+     * @param semente    Semente do gerador pseudoaleatório.
+     * @return Repositório com os funcionários gerados.
+     */
+    public static IFuncionarioRepository repositorio(int quantidade, long semente) {
+        return () -> gerar(quantidade, semente);
+    }
+}
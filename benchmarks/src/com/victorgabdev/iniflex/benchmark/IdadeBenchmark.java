@@ -0,0 +1,89 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.FaixasEtarias;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribuição de uma população em faixas etárias: com {@code Period.between} por pessoa, com a idade
+ * calculada por {@link CalculadoraIdade} e com a tabela de dias de {@link FaixasEtarias}, que não
+ * calcula idades.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdadeBenchmark {
+
+    private static final LocalDate REFERENCIA = LocalDate.of(2024, 2, 29);
+    private static final int[] LIMITES = {18, 30, 45, 60, 65};
+
+    @Param({"10000000"})
+    public int tamanho;
+
+    private LocalDate[] nascimentos;
+    private int[] diasNascimento;
+    private FaixasEtarias faixas;
+
+    @Setup(Level.Trial)
+    public void gerar() {
+        Random aleatorio = new Random(42);
+        nascimentos = new LocalDate[tamanho];
+        diasNascimento = new int[tamanho];
+        int inicio = (int) LocalDate.of(1940, 1, 1).toEpochDay();
+        for (int i = 0; i < tamanho; i++) {
+            diasNascimento[i] = inicio + aleatorio.nextInt(70 * 365);
+            nascimentos[i] = LocalDate.ofEpochDay(diasNascimento[i]);
+        }
+        faixas = FaixasEtarias.de(CalculadoraIdade.em(REFERENCIA), LIMITES);
+    }
+
+    @Benchmark
+    public int[] periodBetween() {
+        int[] contagem = new int[LIMITES.length + 1];
+        for (LocalDate nascimento : nascimentos) contagem[faixa(Period.between(nascimento, REFERENCIA).getYears())]++;
+        return contagem;
+    }
+
+    @Benchmark
+    public int[] calculadoraIdade() {
+        CalculadoraIdade calculadora = CalculadoraIdade.em(REFERENCIA);
+        int[] contagem = new int[LIMITES.length + 1];
+        for (LocalDate nascimento : nascimentos) contagem[faixa(calculadora.idade(nascimento))]++;
+        return contagem;
+    }
+
+    @Benchmark
+    public int[] faixasEtarias() {
+        return faixas.contar(diasNascimento, 0, tamanho);
+    }
+
+    @Benchmark
+    public int[] faixasEtariasComConstrucao() {
+        return FaixasEtarias.de(CalculadoraIdade.em(REFERENCIA), LIMITES).contar(diasNascimento, 0, tamanho);
+    }
+
+    private static int faixa(int idade) {
+        int faixa = 0;
+        while (faixa < LIMITES.length && idade >= LIMITES[faixa]) faixa++;
+        return faixa;
+    }
+}
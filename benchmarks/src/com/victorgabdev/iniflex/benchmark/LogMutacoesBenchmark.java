@@ -0,0 +1,103 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.store.LogMutacoes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH do {@link LogMutacoes}.
+ * <p>
+ * {@code registrarEAguardar} espera cada registro chegar ao disco: com uma thread, cada mutação paga
+ * um {@code fsync}; com várias, as threads que aguardam ao mesmo tempo dividem o mesmo {@code fsync}
+ * (group commit). {@code registrarSemAguardar} mede apenas o registro em memória, com a gravação em
+ * lotes em segundo plano. O log é recriado a cada iteração, em um diretório temporário.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogMutacoesBenchmark {
+
+    private static final LogMutacoes.ConsumidorMutacoes IGNORAR = new LogMutacoes.ConsumidorMutacoes() {
+        @Override
+        public void remocao(String nome) {
+        }
+
+        @Override
+        public void aumento(double percentual) {
+        }
+
+        @Override
+        public void alteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+        }
+
+        @Override
+        public void aumentoFuncao(FuncaoFuncionario funcao, double percentual) {
+        }
+    };
+
+    private Path diretorio;
+    private Path arquivo;
+    private LogMutacoes log;
+
+    @Setup(Level.Trial)
+    public void criarDiretorio() throws IOException {
+        diretorio = Files.createTempDirectory("log-mutacoes-benchmark");
+        arquivo = diretorio.resolve("mutacoes.log");
+    }
+
+    @Setup(Level.Iteration)
+    public void abrir() throws IOException {
+        Files.deleteIfExists(arquivo);
+        log = LogMutacoes.abrir(arquivo, IGNORAR);
+    }
+
+    @TearDown(Level.Iteration)
+    public void fechar() {
+        log.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void removerDiretorio() throws IOException {
+        Files.deleteIfExists(arquivo);
+        Files.deleteIfExists(diretorio);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void registrarEAguardar() {
+        log.aguardar(log.registrarAlteracaoFuncao("Nome 42", FuncaoFuncionario.GERENTE));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void registrarEAguardar16Threads() {
+        log.aguardar(log.registrarAlteracaoFuncao("Nome 42", FuncaoFuncionario.GERENTE));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long registrarSemAguardar() {
+        return log.registrarAlteracaoFuncao("Nome 42", FuncaoFuncionario.GERENTE);
+    }
+}
@@ -0,0 +1,82 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.LoteMutacoes;
+import com.victorgabdev.iniflex.service.ResultadoLote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma rodada de folha com {@value #DEMISSOES} demissões, {@value #PROMOCOES} promoções e dois aumentos
+ * por função: aplicada uma mutação por vez e com {@link FuncionarioService#aplicarLote(LoteMutacoes)}.
+ * <p>
+ * Como as mutações mudam o estado do serviço, cada medição usa um serviço recém carregado
+ * ({@link Level#Iteration}) e é feita em modo {@link Mode#SingleShotTime}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LoteMutacoesBenchmark {
+
+    static final int DEMISSOES = 1000;
+    static final int PROMOCOES = 1000;
+
+    @Param({"10000", "1000000"})
+    public int tamanho;
+
+    private FuncionarioService service;
+    private List<String> demitidos;
+    private List<String> promovidos;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        List<Funcionario> dados = GeradorFuncionarios.gerar(tamanho, 42);
+        service = new FuncionarioService(() -> new ArrayList<>(dados));
+        service.inserirFuncionarios();
+
+        demitidos = new ArrayList<>(DEMISSOES);
+        promovidos = new ArrayList<>(PROMOCOES);
+        int passo = Math.max(tamanho / (DEMISSOES + PROMOCOES), 1);
+        for (int i = 0; i < DEMISSOES + PROMOCOES && i * passo < tamanho; i++) {
+            (i % 2 == 0 ? demitidos : promovidos).add(dados.get(i * passo).getNome());
+        }
+    }
+
+    @Benchmark
+    public void umaPorVez() {
+        for (String nome : demitidos) service.removerFuncionario(nome);
+        for (String nome : promovidos) service.alterarFuncao(nome, FuncaoFuncionario.COORDENADOR);
+        service.aplicarAumentoPercentual(FuncaoFuncionario.OPERADOR, 5);
+        service.aplicarAumentoPercentual(FuncaoFuncionario.COORDENADOR, 3);
+    }
+
+    @Benchmark
+    public ResultadoLote lote() {
+        LoteMutacoes lote = new LoteMutacoes();
+        for (String nome : demitidos) lote.remover(nome);
+        for (String nome : promovidos) lote.alterarFuncao(nome, FuncaoFuncionario.COORDENADOR);
+        lote.aplicarAumentoPercentual(FuncaoFuncionario.OPERADOR, 5);
+        lote.aplicarAumentoPercentual(FuncaoFuncionario.COORDENADOR, 3);
+        return service.aplicarLote(lote);
+    }
+}
@@ -0,0 +1,63 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.metricas.HistogramaLatencia;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da instrumentação do {@link FuncionarioService}, com as métricas desligadas e ligadas, em
+ * operações baratas (busca pelo índice de nomes) e em varreduras (top-K), além do registro isolado
+ * em um {@link HistogramaLatencia}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricasBenchmark {
+
+    @Param({"false", "true"})
+    public boolean ativo;
+
+    private FuncionarioService service;
+    private final HistogramaLatencia histograma = new HistogramaLatencia();
+    private long valor;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        service = new FuncionarioService(GeradorFuncionarios.repositorio(10_000, 42));
+        service.inserirFuncionarios();
+        service.getMetricas().setAtivo(ativo);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarPorNome() {
+        return service.buscarPorNome("Nome 42");
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarMaisVelhos() {
+        return service.buscarMaisVelhos(FuncionarioServiceBenchmark.TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public void registrarHistograma() {
+        histograma.registrar(valor++ & 0xFFFFF);
+    }
+}
@@ -0,0 +1,91 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.store.FuncionarioOffHeapStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga e relatórios do fluxo padrão (agrupamento por função, aniversariantes, mais velho, ordem
+ * alfabética e total) com os funcionários no heap e no {@link FuncionarioOffHeapStore}.
+ * <p>
+ * Os relatórios são escritos em um destino que descarta o texto. Execute com {@code -prof gc} para
+ * comparar as alocações e o tempo em coleta de lixo, que no heap crescem com a quantidade de funcionários.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class OffHeapBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int tamanho;
+
+    private List<Funcionario> dados;
+
+    @Setup(Level.Trial)
+    public void gerar() {
+        dados = GeradorFuncionarios.gerar(tamanho, 42);
+    }
+
+    @Benchmark
+    public void noHeap() {
+        FuncionarioService service = novoServico();
+        service.inserirFuncionarios();
+        service.agruparFuncionariosPorFuncao();
+        service.imprimirFuncionariosAgrupados();
+        service.imprimirAniversariantes(10, 12);
+        service.imprimirFuncionarioMaisVelho();
+        service.imprimirFuncionariosOrdemAlfabetica();
+        service.imprimirTotalSalarios();
+    }
+
+    @Benchmark
+    public void foraDoHeap() {
+        FuncionarioService service = novoServico();
+        service.imprimirRelatoriosForaDoHeap(service.carregarForaDoHeap());
+    }
+
+    private FuncionarioService novoServico() {
+        FuncionarioService service = new FuncionarioService(() -> new ArrayList<>(dados));
+        service.setSaida(new EscritorRelatorio(new Descarte()));
+        return service;
+    }
+
+    private static final class Descarte implements Appendable {
+
+        @Override
+        public Appendable append(CharSequence texto) {
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence texto, int inicio, int fim) {
+            return this;
+        }
+
+        @Override
+        public Appendable append(char caractere) {
+            return this;
+        }
+    }
+}
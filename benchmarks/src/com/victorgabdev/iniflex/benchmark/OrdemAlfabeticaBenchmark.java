@@ -0,0 +1,120 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.entities.Pessoa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordenação alfabética dos funcionários: pelo {@code compareTo} das {@code String}s (ordem UTF-16, que
+ * põe "Élio" depois de "Zélia"), pelo {@link Collator} de {@code pt-BR} e pelas chaves de
+ * {@link ChaveOrdenacaoNome}, calculadas na carga, com o radix sort e com comparações de bytes.
+ * <p>
+ * Com {@code nomes=sequenciais} os nomes são os de {@link GeradorFuncionarios}, um primeiro nome seguido
+ * de um número; com {@code nomes=completos}, dois prenomes e dois sobrenomes sorteados, com muitos
+ * homônimos e prefixos longos em comum. {@link #calcularChaves()} mede o custo das chaves, pago uma vez
+ * por funcionário na carga.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OrdemAlfabeticaBenchmark {
+
+    private static final Comparator<Funcionario> POR_NOME = Comparator.comparing(Pessoa::getNome);
+
+    private static final String[] PRENOMES = {
+            "Maria", "José", "Ana", "João", "Antônio", "Francisco", "Carlos", "Paulo", "Pedro", "Lucas",
+            "Luís", "Márcia", "Juliana", "Fernanda", "Patrícia", "Camila", "Jéssica", "Letícia", "Júlia",
+            "Heloísa", "Helena", "Heitor", "Élio", "Ângela", "Íris", "Otávio", "Úrsula", "Caio", "Alice", "Laura"
+    };
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira",
+            "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Gonçalves", "Araújo", "Brandão", "Conceição"
+    };
+
+    @Param({"1000000"})
+    public int tamanho;
+
+    @Param({"sequenciais", "completos"})
+    public String nomes;
+
+    private Funcionario[] funcionarios;
+    private byte[][] chaves;
+
+    @Setup(Level.Trial)
+    public void gerar() {
+        funcionarios = GeradorFuncionarios.gerar(tamanho, 42).toArray(new Funcionario[0]);
+        if (nomes.equals("completos")) {
+            SplittableRandom random = new SplittableRandom(42);
+            for (Funcionario funcionario : funcionarios) {
+                funcionario.setNome(sortear(random, PRENOMES) + " " + sortear(random, PRENOMES) + " "
+                        + sortear(random, SOBRENOMES) + " " + sortear(random, SOBRENOMES));
+            }
+        }
+        chaves = calcularChaves();
+    }
+
+    @Benchmark
+    public Funcionario[] compareTo() {
+        Funcionario[] ordenados = funcionarios.clone();
+        Arrays.sort(ordenados, POR_NOME);
+        return ordenados;
+    }
+
+    @Benchmark
+    public Funcionario[] collator() {
+        Collator collator = Collator.getInstance(new Locale("pt", "BR"));
+        Funcionario[] ordenados = funcionarios.clone();
+        Arrays.sort(ordenados, Comparator.comparing(Pessoa::getNome, collator));
+        return ordenados;
+    }
+
+    @Benchmark
+    public Funcionario[] chavesComRadixSort() {
+        Funcionario[] ordenados = funcionarios.clone();
+        ChaveOrdenacaoNome.ordenar(ordenados, chaves.clone());
+        return ordenados;
+    }
+
+    @Benchmark
+    public Integer[] chavesComComparacao() {
+        Integer[] ordem = new Integer[tamanho];
+        for (int i = 0; i < tamanho; i++) ordem[i] = i;
+        Arrays.sort(ordem, (a, b) -> ChaveOrdenacaoNome.comparar(chaves[a], chaves[b]));
+        return ordem;
+    }
+
+    @Benchmark
+    public byte[][] calcularChaves() {
+        byte[][] calculadas = new byte[funcionarios.length][];
+        for (int i = 0; i < funcionarios.length; i++) calculadas[i] = ChaveOrdenacaoNome.de(funcionarios[i].getNome());
+        return calculadas;
+    }
+
+    private static String sortear(SplittableRandom random, String[] opcoes) {
+        return opcoes[random.nextInt(opcoes.length)];
+    }
+}
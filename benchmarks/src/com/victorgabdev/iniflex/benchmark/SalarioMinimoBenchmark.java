@@ -0,0 +1,93 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.DivisorCentavos;
+import com.victorgabdev.iniflex.calculo.TabelaSalarioMinimo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de salários em salários mínimos para uma população inteira: com {@code BigDecimal.divide}
+ * por funcionário, com a divisão inteira de {@link Centavos#razao(long, long)}, com o recíproco
+ * pré-calculado de {@link DivisorCentavos} e em uma série histórica com uma data por salário.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalarioMinimoBenchmark {
+
+    private static final BigDecimal SALARIO_MINIMO = new BigDecimal("1212.00");
+
+    @Param({"1000000"})
+    public int tamanho;
+
+    private long[] salarios;
+    private BigDecimal[] salariosDecimais;
+    private long[] dias;
+    private DivisorCentavos divisor;
+    private TabelaSalarioMinimo tabela;
+
+    @Setup(Level.Trial)
+    public void gerar() {
+        Random aleatorio = new Random(42);
+        salarios = new long[tamanho];
+        salariosDecimais = new BigDecimal[tamanho];
+        dias = new long[tamanho];
+        long inicio = LocalDate.of(2020, 1, 1).toEpochDay();
+        for (int i = 0; i < tamanho; i++) {
+            salarios[i] = 1_000_00 + aleatorio.nextInt(30_000_00);
+            salariosDecimais[i] = Centavos.paraBigDecimal(salarios[i]);
+            // Série histórica ordenada por data, como em uma tabela particionada por mês.
+            dias[i] = inicio + (long) i * 5 * 365 / tamanho;
+        }
+        divisor = DivisorCentavos.de(1212_00);
+        tabela = TabelaSalarioMinimo.vazia();
+        long[] minimos = {1039_00, 1100_00, 1212_00, 1320_00, 1412_00};
+        for (int ano = 0; ano < minimos.length; ano++) {
+            tabela = tabela.comVigencia(TabelaSalarioMinimo.NACIONAL, LocalDate.of(2020 + ano, 1, 1), minimos[ano]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal[] bigDecimal() {
+        BigDecimal[] quantidades = new BigDecimal[tamanho];
+        for (int i = 0; i < tamanho; i++) quantidades[i] = salariosDecimais[i].divide(SALARIO_MINIMO, 2, RoundingMode.HALF_UP);
+        return quantidades;
+    }
+
+    @Benchmark
+    public long[] divisaoInteira() {
+        long[] quantidades = new long[tamanho];
+        for (int i = 0; i < tamanho; i++) quantidades[i] = Centavos.razao(salarios[i], 1212_00);
+        return quantidades;
+    }
+
+    @Benchmark
+    public long[] reciproco() {
+        return divisor.razoes(salarios);
+    }
+
+    @Benchmark
+    public long[] serieHistorica() {
+        return tabela.calcularMultiplos(salarios, TabelaSalarioMinimo.NACIONAL, dias);
+    }
+}
@@ -0,0 +1,68 @@
+package com.victorgabdev.iniflex.benchmark;
+
+import com.victorgabdev.iniflex.store.FuncionarioColunarStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH da gravação e da carga de snapshots binários do {@link FuncionarioColunarStore}.
+ * <p>
+ * A carga inclui a primeira consulta (total de salários), para medir o tempo até o armazenamento
+ * estar utilizável. O snapshot é gravado em um diretório temporário, removido ao final.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class SnapshotBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int tamanho;
+
+    private FuncionarioColunarStore store;
+    private Path diretorio;
+    private Path arquivo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        store = FuncionarioColunarStore.de(GeradorFuncionarios.gerar(tamanho, 42));
+        diretorio = Files.createTempDirectory("snapshot-benchmark");
+        arquivo = diretorio.resolve("funcionarios.snap");
+        store.gravar(arquivo);
+    }
+
+    @TearDown(Level.Trial)
+    public void remover() throws IOException {
+        Files.deleteIfExists(arquivo);
+        Files.deleteIfExists(diretorio);
+    }
+
+    @Benchmark
+    public void gravar() {
+        store.gravar(arquivo);
+    }
+
+    @Benchmark
+    public long carregarEConsultar() {
+        return FuncionarioColunarStore.carregar(arquivo).totalSalariosCentavos();
+    }
+}
@@ -1,6 +1,21 @@
 import com.victorgabdev.iniflex.exceptions.FuncionariosJaCarregadosException;
+import com.victorgabdev.iniflex.http.FuncionarioHttpServer;
+import com.victorgabdev.iniflex.repositoty.FuncionarioCsvRepository;
+import com.victorgabdev.iniflex.repositoty.FuncionarioRepositoryImpl;
+import com.victorgabdev.iniflex.repositoty.FuncionarioSnapshotRepository;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
 import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.Particionamento;
+import com.victorgabdev.iniflex.shard.FuncionarioServiceParticionado;
+import com.victorgabdev.iniflex.shard.RepositorioParticionado;
+import com.victorgabdev.iniflex.shard.ServidorShard;
 
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -31,16 +46,45 @@ import java.util.NoSuchElementException;
  *   <li>Erros genéricos são capturados e exibidos de forma amigável</li>
  * </ul>
  *
+ * <p>Se o caminho de um arquivo CSV for informado como argumento, os funcionários são
+ * carregados dele através do {@link FuncionarioCsvRepository}. Arquivos com a extensão
+ * {@code .snap}, gravados por {@link FuncionarioService#salvarSnapshot(Path)}, são carregados
+ * pelo {@link FuncionarioSnapshotRepository}.</p>
+ *
+ * <p>Com {@code --http [porta] [arquivo]}, os funcionários são carregados e expostos pela API HTTP/JSON
+ * do {@link FuncionarioHttpServer} em {@code localhost} (porta padrão 8080), em vez de executar o fluxo padrão.</p>
+ *
+ * <p>Com {@code --shard porta shard quantidade [nome|funcao] [arquivo]}, apenas a partição do shard é carregada
+ * e servida pelo {@link ServidorShard} em {@code localhost}; com {@code --coordenador porta,porta,...}, o fluxo
+ * padrão, a partir da remoção, é executado sobre os shards locais pelo {@link FuncionarioServiceParticionado}.</p>
+ *
  * @author Victor Aquino
  * @version 1.0
  * @see FuncionarioService
  */
 public class App {
 
-    private static final FuncionarioService service = new FuncionarioService();
+    private static FuncionarioService service;
 
     public static void main(String[] args) {
 
+        if (args.length > 0 && args[0].equals("--http")) {
+            servirHttp(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--shard")) {
+            servirShard(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--coordenador")) {
+            coordenarShards(args);
+            return;
+        }
+
+        service = args.length > 0
+                ? new FuncionarioService(repositorioDoArquivo(Path.of(args[0])))
+                : new FuncionarioService();
+
         try {
             executarOperacoes();
         } catch (FuncionariosJaCarregadosException | NoSuchElementException e) {
@@ -54,6 +98,89 @@ public class App {
 
     }
 
+    private static void servirHttp(String[] args) {
+        int porta = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        service = args.length > 2
+                ? new FuncionarioService(repositorioDoArquivo(Path.of(args[2])))
+                : new FuncionarioService();
+        service.inserirFuncionarios();
+
+        FuncionarioHttpServer servidor = new FuncionarioHttpServer(service,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), porta));
+        Runtime.getRuntime().addShutdownHook(new Thread(servidor::close));
+        servidor.iniciar();
+        System.out.printf("Servidor HTTP em http://localhost:%d (threads virtuais: %s)%n",
+                servidor.getPorta(), servidor.isThreadsVirtuais() ? "sim" : "não");
+    }
+
+    private static void servirShard(String[] args) {
+        if (args.length < 4) throw new IllegalArgumentException("Uso: --shard porta shard quantidade [nome|funcao] [arquivo]");
+        int porta = Integer.parseInt(args[1]);
+        Particionamento particionamento = args.length > 4 && args[4].equals("funcao")
+                ? Particionamento.POR_FUNCAO
+                : Particionamento.POR_NOME;
+        IFuncionarioRepository origem = args.length > 5
+                ? repositorioDoArquivo(Path.of(args[5]))
+                : new FuncionarioRepositoryImpl();
+
+        ServidorShard servidor = new ServidorShard(
+                new RepositorioParticionado(origem, particionamento, Integer.parseInt(args[2]), Integer.parseInt(args[3])),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), porta));
+        Runtime.getRuntime().addShutdownHook(new Thread(servidor::close));
+        servidor.iniciar();
+        System.out.printf("Shard %s/%s em localhost:%d com %d funcionário(s)%n",
+                args[2], args[3], servidor.getPorta(), servidor.getQuantidadeFuncionarios());
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void coordenarShards(String[] args) {
+        if (args.length < 2) throw new IllegalArgumentException("Uso: --coordenador porta,porta,...");
+        List<InetSocketAddress> enderecos = new ArrayList<>();
+        for (String porta : args[1].split(",")) {
+            enderecos.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(porta.trim())));
+        }
+
+        try (FuncionarioServiceParticionado particionado = new FuncionarioServiceParticionado(enderecos)) {
+            System.out.printf("Coordenando %d shard(s) (%s)%n", particionado.getQuantidadeShards(), particionado.getParticionamento());
+            printSeparador();
+            System.out.println("2) Removendo funcionário João...");
+            particionado.removerFuncionario("João");
+            printSeparador();
+            System.out.println("3) Listando todos os funcionários:");
+            particionado.imprimirTodosFuncionarios();
+            printSeparador();
+            System.out.println("4) Aplicando aumento de 10% nos salários...");
+            particionado.aplicarAumentoPercentual(10);
+            printSeparador();
+            System.out.println("6) Listando funcionários agrupados por função:");
+            particionado.imprimirFuncionariosAgrupados();
+            printSeparador();
+            System.out.println("7) Funcionários que fazem aniversário em Outubro e Dezembro:");
+            particionado.imprimirAniversariantes(10, 12);
+            printSeparador();
+            System.out.println("8) Funcionário mais velho da empresa:");
+            particionado.imprimirFuncionarioMaisVelho();
+            printSeparador();
+            System.out.println("9) Listando funcionários em ordem alfabética:");
+            particionado.imprimirFuncionariosOrdemAlfabetica();
+            printSeparador();
+            System.out.println("10) Total dos salários dos funcionários:");
+            particionado.imprimirTotalSalarios();
+        } catch (NoSuchElementException | IllegalArgumentException | UncheckedIOException e) {
+            System.err.println("ERRO: " + e.getMessage());
+        }
+    }
+
+    private static IFuncionarioRepository repositorioDoArquivo(Path arquivo) {
+        return arquivo.getFileName().toString().endsWith(".snap")
+                ? new FuncionarioSnapshotRepository(arquivo)
+                : new FuncionarioCsvRepository(arquivo);
+    }
+
     private static void executarOperacoes() {
         carregarFuncionarios();
         removerFuncionarioJoao();
@@ -0,0 +1,113 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Calcula idades em anos completos a partir de uma única data de referência.
+ * <p>
+ * O resultado é idêntico a {@code Period.between(nascimento, referencia).getYears()}, inclusive para
+ * nascidos em 29 de fevereiro (que completam anos em 1º de março nos anos não bissextos) e para
+ * nascimentos posteriores à referência, mas sem criar objetos {@link Period}: a idade é a diferença
+ * entre os anos, menos um se o mês e o dia do nascimento ainda não chegaram no ano da referência.
+ * Os campos da referência são lidos uma única vez, então todas as idades de uma consulta usam a
+ * mesma data, mesmo que ela atravesse a meia-noite.
+ * </p>
+ * <p>
+ * Para filtros e faixas etárias não é preciso calcular idades: quem nasceu até
+ * {@link #limiteNascimento(int)} tem pelo menos aquela idade. Ver {@link FaixasEtarias}.
+ * </p>
+ */
+public final class CalculadoraIdade {
+
+    private final LocalDate referencia;
+    private final int ano;
+    private final int mesDia;
+
+    private CalculadoraIdade(LocalDate referencia) {
+        this.referencia = referencia;
+        this.ano = referencia.getYear();
+        this.mesDia = mesDia(referencia.getMonthValue(), referencia.getDayOfMonth());
+    }
+
+    /**
+     * @param referencia Data em que as idades são calculadas.
+     * @return Uma calculadora para a data.
+     */
+    public static CalculadoraIdade em(LocalDate referencia) {
+        return new CalculadoraIdade(referencia);
+    }
+
+    /**
+     * @return Uma calculadora para a data atual, lida uma única vez.
+     */
+    public static CalculadoraIdade hoje() {
+        return new CalculadoraIdade(LocalDate.now());
+    }
+
+    public LocalDate getReferencia() {
+        return referencia;
+    }
+
+    /**
+     * @param nascimento Data de nascimento.
+     * @return A idade em anos completos na data de referência; negativa para nascimentos mais de um
+     *         ano posteriores à referência, como em {@link Period#getYears()}.
+     */
+    public int idade(LocalDate nascimento) {
+        return idade(nascimento.getYear(), mesDia(nascimento.getMonthValue(), nascimento.getDayOfMonth()));
+    }
+
+    /**
+     * Como {@link #idade(LocalDate)}, para uma data de nascimento em dias desde 1970-01-01
+     * ({@link LocalDate#toEpochDay()}), convertida sem criar um {@link LocalDate}.
+     */
+    public int idade(int diaNascimento) {
+        // Conversão de dias para data civil (H. Hinnant), com o ano começando em março.
+        long z = diaNascimento + 719468L;
+        long era = Math.floorDiv(z, 146097L);
+        long diaDaEra = z - era * 146097L;
+        long anoDaEra = (diaDaEra - diaDaEra / 1460 + diaDaEra / 36524 - diaDaEra / 146096) / 365;
+        long diaDoAno = diaDaEra - (365 * anoDaEra + anoDaEra / 4 - anoDaEra / 100);
+        int mesDeslocado = (int) ((5 * diaDoAno + 2) / 153);
+        int dia = (int) (diaDoAno - (153 * mesDeslocado + 2) / 5) + 1;
+        int mes = mesDeslocado < 10 ? mesDeslocado + 3 : mesDeslocado - 9;
+        int anoNascimento = (int) (anoDaEra + era * 400) + (mes <= 2 ? 1 : 0);
+        return idade(anoNascimento, mesDia(mes, dia));
+    }
+
+    /**
+     * Indica se a pessoa tem pelo menos a idade informada na data de referência, como em regras de
+     * aposentadoria por idade.
+     *
+     * @throws IllegalArgumentException se a idade for menor que 1.
+     */
+    public boolean temIdadeMinima(LocalDate nascimento, int anos) {
+        return !nascimento.isAfter(limiteNascimento(anos));
+    }
+
+    /**
+     * Retorna a data de nascimento mais recente com a qual se tem a idade informada na referência:
+     * {@code idade(nascimento) >= anos} se, e somente se, {@code nascimento <= limiteNascimento(anos)}.
+     * Em anos não bissextos, quem nasceu em 29 de fevereiro só completa a idade em 1º de março.
+     *
+     * @param anos Idade mínima, a partir de 1.
+     * @throws IllegalArgumentException se a idade for menor que 1.
+     */
+    public LocalDate limiteNascimento(int anos) {
+        if (anos < 1) throw new IllegalArgumentException("A idade deve ser maior que zero: " + anos);
+        return referencia.minusYears(anos);
+    }
+
+    private int idade(int anoNascimento, int mesDiaNascimento) {
+        if (anoNascimento < ano || anoNascimento == ano && mesDiaNascimento <= mesDia) {
+            return ano - anoNascimento - (mesDiaNascimento > mesDia ? 1 : 0);
+        }
+        // Nascimento posterior à referência: Period.between trunca em direção ao zero.
+        return -(anoNascimento - ano - (mesDia > mesDiaNascimento ? 1 : 0));
+    }
+
+    private static int mesDia(int mes, int dia) {
+        return mes << 5 | dia;
+    }
+}
@@ -0,0 +1,82 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Operações sobre valores monetários representados em centavos ({@code long}).
+ * <p>
+ * Os salários são mantidos como inteiros de centavos para que somas, aumentos e razões sejam
+ * calculados sem criar objetos {@link BigDecimal}. Os arredondamentos seguem {@link RoundingMode#HALF_UP},
+ * produzindo exatamente os mesmos centavos que as operações equivalentes com {@code BigDecimal}.
+ * </p>
+ */
+public final class Centavos {
+
+    private Centavos() {
+    }
+
+    /**
+     * Converte um valor monetário para centavos.
+     *
+     * @param valor Valor com no máximo duas casas decimais.
+     * @return O valor em centavos.
+     * @throws ArithmeticException se o valor tiver mais de duas casas decimais ou não couber em um {@code long}.
+     */
+    public static long de(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converte centavos para um {@link BigDecimal} com duas casas decimais.
+     */
+    public static BigDecimal paraBigDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    /**
+     * Calcula quantas vezes um valor contém o divisor, com duas casas decimais, arredondando HALF_UP.
+     * <p>
+     * Equivale a {@code valor.divide(divisor, 2, RoundingMode.HALF_UP)} quando ambos têm duas casas
+     * decimais, mas o resultado é devolvido em centésimos: 182 representa 1,82.
+     * </p>
+     *
+     * @param valorCentavos   Valor a ser dividido, em centavos.
+     * @param divisorCentavos Divisor, em centavos.
+     * @return A razão em centésimos.
+     * @throws ArithmeticException se o divisor for zero.
+     */
+    public static long razao(long valorCentavos, long divisorCentavos) {
+        if (divisorCentavos == 0) throw new ArithmeticException("Divisão por zero");
+
+        long alto = Math.multiplyHigh(valorCentavos, 100);
+        long numerador = valorCentavos * 100;
+        if (alto != (numerador >> 63)) {
+            return dividirArredondando(BigInteger.valueOf(valorCentavos).multiply(BigInteger.valueOf(100)),
+                    BigInteger.valueOf(divisorCentavos));
+        }
+        return dividirArredondando(numerador, divisorCentavos);
+    }
+
+    /**
+     * Divide dois inteiros arredondando o quociente com {@link RoundingMode#HALF_UP}.
+     *
+     * @throws ArithmeticException se o divisor for zero.
+     */
+    public static long dividirArredondando(long dividendo, long divisor) {
+        if (divisor == Long.MIN_VALUE || dividendo == Long.MIN_VALUE) {
+            return dividirArredondando(BigInteger.valueOf(dividendo), BigInteger.valueOf(divisor));
+        }
+
+        long quociente = dividendo / divisor;
+        long resto = Math.abs(dividendo % divisor);
+        long divisorAbsoluto = Math.abs(divisor);
+        if (resto >= divisorAbsoluto - resto) quociente += Long.signum(dividendo) * Long.signum(divisor);
+        return quociente;
+    }
+
+    static long dividirArredondando(BigInteger dividendo, BigInteger divisor) {
+        return new BigDecimal(dividendo).divide(new BigDecimal(divisor), 0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
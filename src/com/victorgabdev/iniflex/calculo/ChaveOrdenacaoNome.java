@@ -0,0 +1,247 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Chaves de ordenação dos nomes segundo as regras de ordenação do português do Brasil.
+ * <p>
+ * A ordem é a do {@link Collator} de {@code pt-BR}: letras acentuadas ficam junto das letras sem acento
+ * ("Élio" antes de "Fábio", e não depois de "Zélia"), e acentos e maiúsculas só desempatam nomes iguais
+ * nas letras. Cada chave é um {@code byte[]} que, comparado com {@link Arrays#compareUnsigned(byte[], byte[])},
+ * dá o mesmo resultado que {@link CollationKey#compareTo(CollationKey)}, de forma que o nome é analisado uma
+ * única vez e cada comparação da ordenação é uma comparação de bytes. Essa ordem é a de
+ * {@link Collator#compare(String, String)}, exceto em alguns nomes com caracteres de controle ignoráveis
+ * (como U+007F e o hífen condicional U+00AD) junto de espaços ou hifens, em que o próprio {@code compare}
+ * do JDK diverge do {@link CollationKey}.
+ * </p>
+ * <p>
+ * Os pesos de primeiro, segundo e terceiro nível do {@link CollationKey} são gravados em um byte quando
+ * menores que 255, o caso das letras latinas, ou em três bytes ({@code 0xFF} seguido do peso), o que
+ * preserva a ordem e reduz a chave a cerca de três bytes por caractere. Para os caracteres latinos, cujos
+ * pesos não dependem dos caracteres vizinhos, os pesos vêm de uma tabela montada na inicialização; nomes com
+ * outros caracteres usam o {@link CollationKey} completo.
+ * </p>
+ * <p>
+ * Listas inteiras são ordenadas com {@link #ordenar(Object[], byte[][])}, um radix sort sobre os bytes
+ * das chaves que não faz comparações entre nomes, exceto em grupos pequenos.
+ * </p>
+ */
+public final class ChaveOrdenacaoNome {
+
+    /** Caracteres com pesos na tabela: Basic Latin até Latin Extended-B. */
+    private static final int LIMITE_TABELA = 0x250;
+
+    /** Intervalos com até esta quantidade de chaves são ordenados por inserção. */
+    private static final int LIMITE_INSERCAO = 32;
+
+    private static final int SEPARADOR = 0;
+    private static final int PESO_LONGO = 0xFF;
+
+    /** Acesso ao {@link Collator}, que não é thread-safe, sincronizado no próprio objeto. */
+    private static final Collator COLLATOR = Collator.getInstance(new Locale("pt", "BR"));
+
+    /**
+     * Pesos de cada caractere da tabela, por nível: {@code PESOS[nivel][c]}. Letras acentuadas têm o
+     * peso da letra base e o do acento, e caracteres ignorados em um nível não têm peso nele.
+     */
+    private static final char[][][] PESOS = new char[3][LIMITE_TABELA][];
+
+    static {
+        for (char c = 0; c < LIMITE_TABELA; c++) {
+            char[] pesos = pesos(String.valueOf(c));
+            int inicio = 0;
+            for (int nivel = 0; nivel < 3; nivel++) {
+                int fim = inicio;
+                while (fim < pesos.length && pesos[fim] != SEPARADOR) fim++;
+                PESOS[nivel][c] = Arrays.copyOfRange(pesos, inicio, fim);
+                inicio = fim + 1;
+            }
+        }
+    }
+
+    private ChaveOrdenacaoNome() {
+    }
+
+    /**
+     * @param nome Nome a ser ordenado.
+     * @return A chave de ordenação do nome, a ser comparada com {@link Arrays#compareUnsigned(byte[], byte[])}.
+     */
+    public static byte[] de(String nome) {
+        int tamanho = nome.length();
+        int pesos = 0;
+        for (int i = 0; i < tamanho; i++) {
+            char c = nome.charAt(i);
+            if (c >= LIMITE_TABELA) return compactar(pesos(nome));
+            pesos += PESOS[0][c].length + PESOS[1][c].length + PESOS[2][c].length;
+        }
+
+        byte[] chave = new byte[3 * pesos + 2];
+        int posicao = 0;
+        for (int nivel = 0; nivel < 3; nivel++) {
+            if (nivel > 0) chave[posicao++] = SEPARADOR;
+            char[][] pesosNivel = PESOS[nivel];
+            for (int i = 0; i < tamanho; i++) {
+                for (char peso : pesosNivel[nome.charAt(i)]) posicao = gravarPeso(peso, chave, posicao);
+            }
+        }
+        return Arrays.copyOf(chave, posicao);
+    }
+
+    /**
+     * Compara duas chaves criadas por {@link #de(String)}.
+     */
+    public static int comparar(byte[] a, byte[] b) {
+        return Arrays.compareUnsigned(a, b);
+    }
+
+    /**
+     * Ordena os itens pelas chaves de forma estável: itens com chaves iguais mantêm a ordem original.
+     * <p>
+     * A ordenação é um radix sort pelo byte mais significativo: cada intervalo é distribuído pelo byte
+     * seguinte das chaves, sem comparar nomes, e apenas intervalos pequenos são ordenados por inserção.
+     * Os bytes iniciais comuns a um intervalo inteiro são saltados sem mover os itens.
+     * </p>
+     *
+     * @param itens  Itens a serem ordenados, reordenados no próprio array.
+     * @param chaves Chave de cada item, na mesma posição; reordenadas junto com os itens.
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes.
+     */
+    public static <T> void ordenar(T[] itens, byte[][] chaves) {
+        if (itens.length != chaves.length)
+            throw new IllegalArgumentException("Quantidade de chaves (" + chaves.length + ") diferente da de itens (" + itens.length + ")");
+        new RadixSort(itens, chaves).ordenar(0, itens.length, 0, 0);
+    }
+
+    private static int gravarPeso(char peso, byte[] chave, int posicao) {
+        if (peso < PESO_LONGO) {
+            chave[posicao++] = (byte) peso;
+        } else {
+            chave[posicao++] = (byte) PESO_LONGO;
+            chave[posicao++] = (byte) (peso >>> 8);
+            chave[posicao++] = (byte) peso;
+        }
+        return posicao;
+    }
+
+    /**
+     * Converte os pesos de 16 bits de um {@link CollationKey}, com os níveis separados por 0, para o formato compacto.
+     */
+    private static byte[] compactar(char[] pesos) {
+        byte[] chave = new byte[3 * pesos.length];
+        int posicao = 0;
+        for (char peso : pesos) {
+            if (peso == SEPARADOR) chave[posicao++] = SEPARADOR;
+            else posicao = gravarPeso(peso, chave, posicao);
+        }
+        return Arrays.copyOf(chave, posicao);
+    }
+
+    private static char[] pesos(String texto) {
+        byte[] bytes;
+        synchronized (COLLATOR) {
+            bytes = COLLATOR.getCollationKey(texto).toByteArray();
+        }
+        char[] pesos = new char[bytes.length / 2];
+        for (int i = 0; i < pesos.length; i++) pesos[i] = (char) ((bytes[2 * i] & 0xFF) << 8 | bytes[2 * i + 1] & 0xFF);
+        return pesos;
+    }
+
+    /**
+     * Radix sort pelo byte mais significativo sobre os arrays de itens e de chaves, com arrays
+     * auxiliares compartilhados por todos os intervalos.
+     */
+    private static final class RadixSort {
+
+        private final Object[] itens;
+        private final byte[][] chaves;
+        private final Object[] auxItens;
+        private final byte[][] auxChaves;
+
+        /** Balde de cada posição no byte atual, para que cada chave seja lida uma vez por nível. */
+        private final int[] baldes;
+
+        /** Contagens dos baldes por nível da recursão, reutilizadas entre os intervalos do mesmo nível. */
+        private final List<int[]> limitesPorNivel = new ArrayList<>();
+
+        RadixSort(Object[] itens, byte[][] chaves) {
+            this.itens = itens;
+            this.chaves = chaves;
+            this.auxItens = new Object[itens.length];
+            this.auxChaves = new byte[chaves.length][];
+            this.baldes = new int[itens.length];
+        }
+
+        /**
+         * Ordena o intervalo {@code [inicio, fim)}, cujas chaves são iguais até o byte {@code digito}.
+         */
+        void ordenar(int inicio, int fim, int digito, int nivel) {
+            if (fim - inicio <= LIMITE_INSERCAO) {
+                ordenarPorInsercao(inicio, fim, digito);
+                return;
+            }
+            digito = prefixoComum(inicio, fim, digito);
+
+            // Balde 0: chaves que terminam em digito; baldes 1 a 256: o byte seguinte mais 1.
+            if (limitesPorNivel.size() == nivel) limitesPorNivel.add(new int[2 * 258]);
+            int[] limites = limitesPorNivel.get(nivel);
+            Arrays.fill(limites, 0, 258, 0);
+            for (int i = inicio; i < fim; i++) {
+                byte[] chave = chaves[i];
+                int balde = digito < chave.length ? (chave[digito] & 0xFF) + 1 : 0;
+                baldes[i] = balde;
+                limites[balde + 1]++;
+            }
+            // Sem byte em comum, só as chaves que terminam podem ocupar o intervalo inteiro: são iguais.
+            if (limites[1] == fim - inicio) return;
+
+            // Posições 0 a 257: início de cada balde; a partir de 258: a próxima posição livre no balde.
+            for (int b = 0; b < 257; b++) limites[b + 1] += limites[b];
+            System.arraycopy(limites, 0, limites, 258, 257);
+            for (int i = inicio; i < fim; i++) {
+                int destino = limites[258 + baldes[i]]++;
+                auxItens[destino] = itens[i];
+                auxChaves[destino] = chaves[i];
+            }
+            System.arraycopy(auxItens, 0, itens, inicio, fim - inicio);
+            System.arraycopy(auxChaves, 0, chaves, inicio, fim - inicio);
+
+            for (int b = 1; b < 257; b++) {
+                if (limites[b + 1] - limites[b] > 1) ordenar(inicio + limites[b], inicio + limites[b + 1], digito + 1, nivel + 1);
+            }
+        }
+
+        /**
+         * @return O tamanho do maior prefixo comum a todas as chaves do intervalo, a partir de {@code digito}.
+         */
+        private int prefixoComum(int inicio, int fim, int digito) {
+            byte[] primeira = chaves[inicio];
+            int comum = primeira.length;
+            for (int i = inicio + 1; i < fim && comum > digito; i++) {
+                byte[] chave = chaves[i];
+                int diferenca = Arrays.mismatch(primeira, digito, comum, chave, digito, Math.min(chave.length, comum));
+                if (diferenca >= 0) comum = digito + diferenca;
+            }
+            return comum;
+        }
+
+        private void ordenarPorInsercao(int inicio, int fim, int digito) {
+            for (int i = inicio + 1; i < fim; i++) {
+                Object item = itens[i];
+                byte[] chave = chaves[i];
+                int j = i - 1;
+                while (j >= inicio && Arrays.compareUnsigned(chaves[j], digito, chaves[j].length, chave, digito, chave.length) > 0) {
+                    itens[j + 1] = itens[j];
+                    chaves[j + 1] = chaves[j];
+                    j--;
+                }
+                itens[j + 1] = item;
+                chaves[j + 1] = chave;
+            }
+        }
+    }
+}
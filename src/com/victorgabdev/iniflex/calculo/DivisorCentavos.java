@@ -0,0 +1,120 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Divisor em centavos com o recíproco pré-calculado, para calcular muitas razões pelo mesmo valor.
+ * <p>
+ * Produz exatamente o mesmo resultado que {@link Centavos#razao(long, long)}, ou seja,
+ * {@code valor.divide(divisor, 2, RoundingMode.HALF_UP)} em centésimos, mas sem a divisão inteira
+ * por elemento. O arredondamento HALF_UP de {@code 100 * valor / divisor} é o piso de
+ * {@code (200 * valor + divisor) / (2 * divisor)}; esse quociente é estimado com o recíproco em
+ * ponto fixo {@code 2^62 / (2 * divisor)} e uma multiplicação de 128 bits, que erra por no máximo
+ * uma unidade para baixo, e corrigido com uma multiplicação e uma comparação. Valores tão grandes
+ * que o numerador passaria de {@code 2^62} (acima de ~R$ 230 trilhões) voltam para
+ * {@link Centavos#razao(long, long)}.
+ * </p>
+ */
+public final class DivisorCentavos {
+
+    private static final int BITS_RECIPROCO = 62;
+
+    /** Maior valor absoluto, em centavos, que ainda usa o recíproco. */
+    private final long valorMaximo;
+
+    private final long divisorCentavos;
+    private final long divisorDobrado;
+    private final long reciproco;
+
+    private DivisorCentavos(long divisorCentavos) {
+        this.divisorCentavos = divisorCentavos;
+        this.divisorDobrado = 2 * divisorCentavos;
+        this.reciproco = (1L << BITS_RECIPROCO) / divisorDobrado;
+        this.valorMaximo = ((1L << BITS_RECIPROCO) - 1 - divisorCentavos) / 200;
+    }
+
+    /**
+     * Pré-calcula o recíproco de um divisor.
+     *
+     * @param divisorCentavos Divisor em centavos, como o salário mínimo.
+     * @return O divisor pronto para uso.
+     * @throws IllegalArgumentException se o divisor não for positivo ou passar de {@code 2^60} centavos.
+     */
+    public static DivisorCentavos de(long divisorCentavos) {
+        if (divisorCentavos <= 0 || divisorCentavos > 1L << 60)
+            throw new IllegalArgumentException("Divisor inválido: " + divisorCentavos);
+        return new DivisorCentavos(divisorCentavos);
+    }
+
+    public long getDivisorCentavos() {
+        return divisorCentavos;
+    }
+
+    /**
+     * Calcula quantas vezes o valor contém o divisor, com duas casas decimais, arredondando
+     * {@link RoundingMode#HALF_UP}.
+     *
+     * @param valorCentavos Valor a ser dividido, em centavos.
+     * @return A razão em centésimos: 182 representa 1,82.
+     */
+    public long razao(long valorCentavos) {
+        if (valorCentavos >= 0) {
+            return valorCentavos <= valorMaximo ? quociente(valorCentavos) : Centavos.razao(valorCentavos, divisorCentavos);
+        }
+        // HALF_UP é simétrico em relação ao zero.
+        return valorCentavos >= -valorMaximo ? -quociente(-valorCentavos) : Centavos.razao(valorCentavos, divisorCentavos);
+    }
+
+    /**
+     * Calcula a razão de cada valor, em uma única passada.
+     *
+     * @param valoresCentavos Valores em centavos.
+     * @return As razões em centésimos, na mesma ordem.
+     */
+    public long[] razoes(long[] valoresCentavos) {
+        long[] razoes = new long[valoresCentavos.length];
+        razoes(valoresCentavos, 0, valoresCentavos.length, razoes);
+        return razoes;
+    }
+
+    /**
+     * Calcula a razão dos valores em {@code [inicio, fim)} e grava cada uma na mesma posição de {@code destino}.
+     *
+     * @throws IndexOutOfBoundsException se o intervalo não couber em algum dos arrays.
+     */
+    public void razoes(long[] valoresCentavos, int inicio, int fim, long[] destino) {
+        Objects.checkFromToIndex(inicio, fim, valoresCentavos.length);
+        Objects.checkFromToIndex(inicio, fim, destino.length);
+        long maximo = valorMaximo;
+        for (int i = inicio; i < fim; i++) {
+            long valor = valoresCentavos[i];
+            destino[i] = valor >= 0 && valor <= maximo ? quociente(valor) : razao(valor);
+        }
+    }
+
+    /** Piso de {@code (200 * valor + divisor) / (2 * divisor)} para {@code 0 <= valor <= valorMaximo}. */
+    private long quociente(long valorCentavos) {
+        long numerador = 200 * valorCentavos + divisorCentavos;
+        long alto = Math.multiplyHigh(numerador, reciproco);
+        long estimativa = (alto << (64 - BITS_RECIPROCO)) | ((numerador * reciproco) >>> BITS_RECIPROCO);
+        long resto = numerador - estimativa * divisorDobrado;
+        // Soma 1 quando resto >= divisorDobrado, sem desvio condicional.
+        return estimativa + ((divisorDobrado - 1 - resto) >>> 63);
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        return this == outro || outro instanceof DivisorCentavos && ((DivisorCentavos) outro).divisorCentavos == divisorCentavos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(divisorCentavos);
+    }
+
+    @Override
+    public String toString() {
+        return Centavos.paraBigDecimal(divisorCentavos).toPlainString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Faixas etárias em uma data de referência, para classificar muitas datas de nascimento.
+ * <p>
+ * Os limites são idades mínimas em ordem crescente: com {@code 18, 30, 60}, a faixa 0 tem menos de 18
+ * anos, a faixa 1 de 18 a 29, a faixa 2 de 30 a 59 e a faixa 3 tem 60 anos ou mais. Na construção,
+ * cada limite é convertido na data de nascimento correspondente ({@link CalculadoraIdade#limiteNascimento(int)})
+ * e é montada uma tabela com a faixa de cada dia entre o limite mais antigo e o mais recente. Classificar
+ * uma data em dias desde a época custa então uma subtração, dois limites e uma leitura da tabela, sem
+ * calcular idades nem criar objetos. As faixas são idênticas às obtidas com
+ * {@code Period.between(nascimento, referencia).getYears()}.
+ * </p>
+ */
+public final class FaixasEtarias {
+
+    /** Maior idade aceita como limite, que limita a tabela a ~55 mil dias. */
+    private static final int IDADE_MAXIMA = 150;
+
+    private final CalculadoraIdade calculadora;
+    private final int[] limites;
+
+    /** Primeiro dia da tabela: quem nasceu até este dia está na última faixa. */
+    private final int diaInicial;
+
+    /** Faixa de cada dia a partir de {@link #diaInicial}; a última posição vale para os dias seguintes. */
+    private final byte[] faixaPorDia;
+
+    private FaixasEtarias(CalculadoraIdade calculadora, int[] limites) {
+        this.calculadora = calculadora;
+        this.limites = limites;
+
+        int ultima = limites.length;
+        int[] dias = new int[ultima];
+        for (int i = 0; i < ultima; i++) dias[i] = Math.toIntExact(calculadora.limiteNascimento(limites[i]).toEpochDay());
+
+        this.diaInicial = dias[ultima - 1];
+        this.faixaPorDia = new byte[dias[0] - diaInicial + 2];
+        // O limite i separa a faixa i (nascidos depois de dias[i]) da faixa i + 1.
+        int posicao = 0;
+        for (int faixa = ultima; faixa > 0; faixa--) {
+            int fim = dias[faixa - 1] - diaInicial;
+            while (posicao <= fim) faixaPorDia[posicao++] = (byte) faixa;
+        }
+        // As posições restantes, de quem nasceu depois do limite mais recente, ficam na faixa 0.
+    }
+
+    /**
+     * Cria as faixas etárias.
+     *
+     * @param calculadora Calculadora com a data de referência.
+     * @param limites     Idades mínimas de cada faixa a partir da segunda, em ordem estritamente crescente.
+     * @return As faixas, que são {@code limites.length + 1}.
+     * @throws IllegalArgumentException se não houver limites, se eles não forem crescentes ou se algum
+     *                                  estiver fora do intervalo de 1 a 150 anos.
+     */
+    public static FaixasEtarias de(CalculadoraIdade calculadora, int... limites) {
+        Objects.requireNonNull(calculadora, "calculadora");
+        if (limites.length == 0) throw new IllegalArgumentException("Informe ao menos um limite de idade");
+        for (int i = 0; i < limites.length; i++) {
+            if (limites[i] < 1 || limites[i] > IDADE_MAXIMA)
+                throw new IllegalArgumentException("Limite de idade inválido: " + limites[i]);
+            if (i > 0 && limites[i] <= limites[i - 1])
+                throw new IllegalArgumentException("Os limites de idade devem ser crescentes: " + Arrays.toString(limites));
+        }
+        return new FaixasEtarias(calculadora, limites.clone());
+    }
+
+    public LocalDate getReferencia() {
+        return calculadora.getReferencia();
+    }
+
+    /**
+     * @return A quantidade de faixas, {@code limites.length + 1}.
+     */
+    public int quantidade() {
+        return limites.length + 1;
+    }
+
+    /**
+     * @return A faixa da data de nascimento, em dias desde 1970-01-01.
+     */
+    public int faixa(int diaNascimento) {
+        return faixaPorDia[posicao(diaNascimento, diaInicial, faixaPorDia.length - 1)];
+    }
+
+    /**
+     * @return A faixa da data de nascimento.
+     */
+    public int faixa(LocalDate nascimento) {
+        long dia = nascimento.toEpochDay();
+        return faixa((int) Math.max(Integer.MIN_VALUE, Math.min(dia, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Conta quantas datas de nascimento caem em cada faixa, em uma única passada.
+     *
+     * @param diasNascimento Datas de nascimento em dias desde 1970-01-01.
+     * @param inicio         Primeira posição, inclusiva.
+     * @param fim            Última posição, exclusiva.
+     * @return Array indexado pela faixa com a quantidade de nascimentos.
+     * @throws IndexOutOfBoundsException se o intervalo não couber no array.
+     */
+    public int[] contar(int[] diasNascimento, int inicio, int fim) {
+        Objects.checkFromToIndex(inicio, fim, diasNascimento.length);
+        int[] contagem = new int[quantidade()];
+        byte[] tabela = faixaPorDia;
+        int base = diaInicial;
+        int ultimaPosicao = tabela.length - 1;
+        for (int i = inicio; i < fim; i++) contagem[tabela[posicao(diasNascimento[i], base, ultimaPosicao)]]++;
+        return contagem;
+    }
+
+    /** Posição do dia na tabela; a subtração em {@code long} evita estouro nos extremos do {@code int}. */
+    private static int posicao(int dia, int base, int ultimaPosicao) {
+        return (int) Math.max(0, Math.min((long) dia - base, ultimaPosicao));
+    }
+
+    /**
+     * @return A descrição da faixa, como {@code "até 17"}, {@code "18 a 29"} ou {@code "60 ou mais"}.
+     * @throws IndexOutOfBoundsException se a faixa não existir.
+     */
+    public String descricao(int faixa) {
+        Objects.checkIndex(faixa, quantidade());
+        if (faixa == 0) return "até " + (limites[0] - 1);
+        if (faixa == limites.length) return limites[faixa - 1] + " ou mais";
+        return limites[faixa - 1] + " a " + (limites[faixa] - 1);
+    }
+}
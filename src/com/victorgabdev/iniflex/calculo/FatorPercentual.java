@@ -0,0 +1,67 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Fator de aumento percentual pré-calculado para aplicação sobre valores em centavos.
+ * <p>
+ * O percentual é convertido uma única vez na fração exata {@code numerador / denominador}
+ * (por exemplo, 10% vira 11/10), de forma que cada aplicação custa uma multiplicação e uma divisão
+ * inteiras. O resultado é idêntico a
+ * {@code salario.add(salario.multiply(BigDecimal.valueOf(percentual).divide(100))).setScale(2, HALF_UP)}.
+ * Quando o produto não cabe em um {@code long}, a conta é refeita com {@link BigInteger}.
+ * </p>
+ */
+public final class FatorPercentual {
+
+    private final BigInteger numeradorExato;
+    private final BigInteger denominadorExato;
+
+    /** Fração reduzida em {@code long}; {@code denominador == 0} indica que ela não coube. */
+    private final long numerador;
+    private final long denominador;
+
+    private FatorPercentual(BigInteger numeradorExato, BigInteger denominadorExato) {
+        this.numeradorExato = numeradorExato;
+        this.denominadorExato = denominadorExato;
+        boolean cabeEmLong = numeradorExato.bitLength() < 64 && denominadorExato.bitLength() < 64;
+        this.numerador = cabeEmLong ? numeradorExato.longValue() : 0;
+        this.denominador = cabeEmLong ? denominadorExato.longValue() : 0;
+    }
+
+    /**
+     * Cria o fator correspondente a um aumento percentual.
+     *
+     * @param percentual Percentual de aumento (ex: 10 para 10%). Valores negativos representam redução.
+     * @return O fator pré-calculado.
+     * @throws NumberFormatException se o percentual for infinito ou NaN.
+     */
+    public static FatorPercentual de(double percentual) {
+        BigDecimal fator = BigDecimal.valueOf(percentual);
+        BigInteger denominador = BigInteger.TEN.pow(Math.max(fator.scale(), 0) + 2);
+        BigInteger percentualInteiro = fator.scale() >= 0
+                ? fator.unscaledValue()
+                : fator.unscaledValue().multiply(BigInteger.TEN.pow(-fator.scale()));
+        BigInteger numerador = denominador.add(percentualInteiro);
+
+        BigInteger mdc = numerador.gcd(denominador);
+        return new FatorPercentual(numerador.divide(mdc), denominador.divide(mdc));
+    }
+
+    /**
+     * Aplica o fator a um valor em centavos, arredondando HALF_UP.
+     *
+     * @param centavos Valor original em centavos.
+     * @return O novo valor em centavos.
+     * @throws ArithmeticException se o resultado não couber em um {@code long}.
+     */
+    public long aplicar(long centavos) {
+        if (denominador != 0) {
+            long alto = Math.multiplyHigh(centavos, numerador);
+            long produto = centavos * numerador;
+            if (alto == (produto >> 63)) return Centavos.dividirArredondando(produto, denominador);
+        }
+        return Centavos.dividirArredondando(BigInteger.valueOf(centavos).multiply(numeradorExato), denominadorExato);
+    }
+}
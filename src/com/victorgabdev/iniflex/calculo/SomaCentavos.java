@@ -0,0 +1,49 @@
+package com.victorgabdev.iniflex.calculo;
+
+/**
+ * Soma exata de valores em centavos, acumulada em 128 bits.
+ * <p>
+ * Diferente de somar com {@link Math#addExact(long, long)}, o resultado não depende da ordem das
+ * parcelas: somas parciais podem passar do limite de um {@code long}, e só o valor final precisa
+ * caber. Serve para verificar, antes de alterar qualquer coisa, a soma que uma mutação deixará.
+ * </p>
+ */
+public final class SomaCentavos {
+
+    private long baixo;
+    private long alto;
+
+    /**
+     * @param inicial Valor inicial da soma, em centavos.
+     */
+    public SomaCentavos(long inicial) {
+        baixo = inicial;
+        alto = inicial >> 63;
+    }
+
+    public SomaCentavos() {
+        this(0);
+    }
+
+    public SomaCentavos adicionar(long centavos) {
+        long soma = baixo + centavos;
+        alto += (centavos >> 63) + (Long.compareUnsigned(soma, baixo) < 0 ? 1 : 0);
+        baixo = soma;
+        return this;
+    }
+
+    public SomaCentavos subtrair(long centavos) {
+        alto -= (centavos >> 63) + (Long.compareUnsigned(baixo, centavos) < 0 ? 1 : 0);
+        baixo -= centavos;
+        return this;
+    }
+
+    /**
+     * @return A soma, em centavos.
+     * @throws ArithmeticException se a soma não couber em um {@code long}.
+     */
+    public long valor() {
+        if (alto != baixo >> 63) throw new ArithmeticException("long overflow");
+        return baixo;
+    }
+}
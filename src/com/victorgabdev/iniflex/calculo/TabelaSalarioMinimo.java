@@ -0,0 +1,233 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Tabela de salários mínimos por região e período de vigência.
+ * <p>
+ * Cada vigência começa em uma data e dura até o início da próxima vigência da mesma região. Uma
+ * região sem vigência na data consultada usa o salário mínimo {@link #NACIONAL}, como acontece com
+ * os estados sem piso regional. A tabela é imutável: {@link #comVigencia(String, LocalDate, long)}
+ * devolve uma nova tabela, o que permite compartilhá-la entre threads. Para cada vigência é
+ * pré-calculado um {@link DivisorCentavos}, então o cálculo de salários em mínimos de uma população
+ * inteira não faz nenhuma divisão por funcionário.
+ * </p>
+ * <pre>{@code
+ * TabelaSalarioMinimo tabela = TabelaSalarioMinimo.vazia()
+ *         .comVigencia(TabelaSalarioMinimo.NACIONAL, LocalDate.of(2022, 1, 1), 1212_00)
+ *         .comVigencia(TabelaSalarioMinimo.NACIONAL, LocalDate.of(2023, 5, 1), 1320_00)
+ *         .comVigencia("SP", LocalDate.of(2023, 7, 1), 1550_00);
+ * }</pre>
+ */
+public final class TabelaSalarioMinimo {
+
+    /** Região do salário mínimo nacional, usado quando a região consultada não tem vigência própria. */
+    public static final String NACIONAL = "BR";
+
+    private static final TabelaSalarioMinimo VAZIA = new TabelaSalarioMinimo(Map.of());
+
+    private final Map<String, Vigencias> regioes;
+
+    private TabelaSalarioMinimo(Map<String, Vigencias> regioes) {
+        this.regioes = regioes;
+    }
+
+    /**
+     * @return Uma tabela sem nenhuma vigência.
+     */
+    public static TabelaSalarioMinimo vazia() {
+        return VAZIA;
+    }
+
+    /**
+     * Cria uma tabela com um único salário mínimo nacional, vigente em qualquer data.
+     *
+     * @param valorCentavos Salário mínimo em centavos.
+     * @throws IllegalArgumentException se o valor não for positivo.
+     */
+    public static TabelaSalarioMinimo nacional(long valorCentavos) {
+        return VAZIA.comVigencia(NACIONAL, LocalDate.MIN, valorCentavos);
+    }
+
+    /**
+     * Acrescenta uma vigência à tabela.
+     *
+     * @param regiao        Região do salário mínimo, como {@link #NACIONAL} ou a sigla de um estado.
+     * @param inicio        Primeiro dia de vigência; uma vigência existente com o mesmo início é substituída.
+     * @param valorCentavos Salário mínimo em centavos.
+     * @return Uma nova tabela com a vigência; esta tabela não é alterada.
+     * @throws IllegalArgumentException se o valor não for positivo.
+     */
+    public TabelaSalarioMinimo comVigencia(String regiao, LocalDate inicio, long valorCentavos) {
+        Objects.requireNonNull(regiao, "regiao");
+        DivisorCentavos divisor = DivisorCentavos.de(valorCentavos);
+
+        Map<String, Vigencias> novas = new HashMap<>(regioes);
+        Vigencias atuais = regioes.get(regiao);
+        novas.put(regiao, atuais == null
+                ? new Vigencias(new long[]{inicio.toEpochDay()}, new DivisorCentavos[]{divisor})
+                : atuais.com(inicio.toEpochDay(), divisor));
+        return new TabelaSalarioMinimo(Map.copyOf(novas));
+    }
+
+    /**
+     * @return O salário mínimo vigente na região e na data, em centavos.
+     * @throws NoSuchElementException se não houver salário mínimo vigente.
+     */
+    public long getValorCentavos(String regiao, LocalDate data) {
+        return divisor(regiao, data).getDivisorCentavos();
+    }
+
+    /**
+     * @return O salário mínimo vigente na região e na data, com o recíproco pré-calculado.
+     * @throws NoSuchElementException se não houver salário mínimo vigente.
+     */
+    public DivisorCentavos divisor(String regiao, LocalDate data) {
+        DivisorCentavos divisor = procurar(regiao, data.toEpochDay());
+        if (divisor == null) {
+            throw new NoSuchElementException(String.format("Não há salário mínimo vigente em %s para a região %s.", data, regiao));
+        }
+        return divisor;
+    }
+
+    /**
+     * Calcula quantos salários mínimos vigentes na data cada salário representa, em uma única passada.
+     *
+     * @param salariosCentavos Salários em centavos.
+     * @return Os salários em mínimos, em centésimos (182 representa 1,82), arredondados como
+     *         {@code salario.divide(minimo, 2, RoundingMode.HALF_UP)}.
+     * @throws NoSuchElementException se não houver salário mínimo vigente.
+     */
+    public long[] calcularMultiplos(long[] salariosCentavos, String regiao, LocalDate data) {
+        return divisor(regiao, data).razoes(salariosCentavos);
+    }
+
+    /**
+     * Calcula quantos salários mínimos cada salário representa na sua própria data de referência,
+     * como em uma série histórica. A vigência encontrada para uma linha é reaproveitada enquanto as
+     * datas seguintes continuarem dentro dela, então linhas agrupadas por período praticamente não
+     * fazem buscas na tabela.
+     *
+     * @param salariosCentavos Salários em centavos.
+     * @param diasReferencia   Data de referência de cada salário, em dias desde 1970-01-01
+     *                         ({@link LocalDate#toEpochDay()}).
+     * @return Os salários em mínimos, em centésimos, na mesma ordem.
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes.
+     * @throws NoSuchElementException   se alguma data não tiver salário mínimo vigente.
+     */
+    public long[] calcularMultiplos(long[] salariosCentavos, String regiao, long[] diasReferencia) {
+        if (salariosCentavos.length != diasReferencia.length) {
+            throw new IllegalArgumentException(String.format("Quantidade de salários (%d) diferente da quantidade de datas (%d)",
+                    salariosCentavos.length, diasReferencia.length));
+        }
+
+        long[] multiplos = new long[salariosCentavos.length];
+        long inicio = Long.MAX_VALUE;
+        long fim = Long.MIN_VALUE;
+        DivisorCentavos divisor = null;
+        for (int i = 0; i < salariosCentavos.length; i++) {
+            long dia = diasReferencia[i];
+            if (dia < inicio || dia >= fim) {
+                Faixa faixa = faixa(regiao, dia);
+                inicio = faixa.inicio;
+                fim = faixa.fim;
+                divisor = faixa.divisor;
+            }
+            multiplos[i] = divisor.razao(salariosCentavos[i]);
+        }
+        return multiplos;
+    }
+
+    private DivisorCentavos procurar(String regiao, long dia) {
+        Vigencias vigencias = regioes.get(regiao);
+        DivisorCentavos divisor = vigencias == null ? null : vigencias.vigente(dia);
+        if (divisor == null && !NACIONAL.equals(regiao)) {
+            Vigencias nacionais = regioes.get(NACIONAL);
+            divisor = nacionais == null ? null : nacionais.vigente(dia);
+        }
+        return divisor;
+    }
+
+    /**
+     * Encontra o intervalo de dias em torno de {@code dia} em que o salário mínimo da região não muda,
+     * considerando tanto as vigências regionais quanto as nacionais usadas como reserva.
+     */
+    private Faixa faixa(String regiao, long dia) {
+        DivisorCentavos divisor = procurar(regiao, dia);
+        if (divisor == null) {
+            throw new NoSuchElementException(String.format("Não há salário mínimo vigente em %s para a região %s.",
+                    LocalDate.ofEpochDay(dia), regiao));
+        }
+
+        long inicio = Long.MIN_VALUE;
+        long fim = Long.MAX_VALUE;
+        for (Vigencias vigencias : new Vigencias[]{regioes.get(regiao), regioes.get(NACIONAL)}) {
+            if (vigencias == null) continue;
+            int posicao = vigencias.posicao(dia);
+            if (posicao >= 0) inicio = Math.max(inicio, vigencias.inicios[posicao]);
+            if (posicao + 1 < vigencias.inicios.length) fim = Math.min(fim, vigencias.inicios[posicao + 1]);
+        }
+        return new Faixa(inicio, fim, divisor);
+    }
+
+    /** Vigências de uma região, ordenadas pelo dia de início. */
+    private static final class Vigencias {
+
+        private final long[] inicios;
+        private final DivisorCentavos[] divisores;
+
+        Vigencias(long[] inicios, DivisorCentavos[] divisores) {
+            this.inicios = inicios;
+            this.divisores = divisores;
+        }
+
+        Vigencias com(long inicio, DivisorCentavos divisor) {
+            int posicao = Arrays.binarySearch(inicios, inicio);
+            if (posicao >= 0) {
+                DivisorCentavos[] novosDivisores = divisores.clone();
+                novosDivisores[posicao] = divisor;
+                return new Vigencias(inicios, novosDivisores);
+            }
+
+            int insercao = -posicao - 1;
+            long[] novosInicios = new long[inicios.length + 1];
+            DivisorCentavos[] novosDivisores = new DivisorCentavos[divisores.length + 1];
+            System.arraycopy(inicios, 0, novosInicios, 0, insercao);
+            System.arraycopy(divisores, 0, novosDivisores, 0, insercao);
+            novosInicios[insercao] = inicio;
+            novosDivisores[insercao] = divisor;
+            System.arraycopy(inicios, insercao, novosInicios, insercao + 1, inicios.length - insercao);
+            System.arraycopy(divisores, insercao, novosDivisores, insercao + 1, divisores.length - insercao);
+            return new Vigencias(novosInicios, novosDivisores);
+        }
+
+        /** @return A posição da vigência que contém o dia, ou -1 se o dia for anterior a todas. */
+        int posicao(long dia) {
+            int posicao = Arrays.binarySearch(inicios, dia);
+            return posicao >= 0 ? posicao : -posicao - 2;
+        }
+
+        DivisorCentavos vigente(long dia) {
+            int posicao = posicao(dia);
+            return posicao >= 0 ? divisores[posicao] : null;
+        }
+    }
+
+    private static final class Faixa {
+
+        private final long inicio;
+        private final long fim;
+        private final DivisorCentavos divisor;
+
+        Faixa(long inicio, long fim, DivisorCentavos divisor) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.divisor = divisor;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.victorgabdev.iniflex.entities;
 
+import com.victorgabdev.iniflex.calculo.Centavos;
+
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.time.LocalDate;
@@ -16,8 +18,14 @@ import java.util.Locale;
  */
 public class Funcionario extends Pessoa {
 
-    /** Salário do funcionário. */
-    private BigDecimal salario;
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /** {@link NumberFormat} não é thread-safe, então cada thread reutiliza a sua instância. */
+    private static final ThreadLocal<NumberFormat> FORMATO_SALARIO =
+            ThreadLocal.withInitial(() -> NumberFormat.getInstance(new Locale("pt", "BR")));
+
+    /** Salário do funcionário, em centavos. */
+    private long salarioCentavos;
 
     /** Função exercida pelo funcionário. */
     private FuncaoFuncionario funcao;
@@ -27,21 +35,54 @@ public class Funcionario extends Pessoa {
      *
      * @param nome           Nome completo do funcionário.
      * @param dataNascimento Data de nascimento do funcionário.
-     * @param salario        Salário atual do funcionário.
+     * @param salario        Salário atual do funcionário, com no máximo duas casas decimais.
      * @param funcao         Função exercida pelo funcionário.
+     * @throws IllegalArgumentException se o salário tiver mais de duas casas decimais.
      */
     public Funcionario(String nome, LocalDate dataNascimento, BigDecimal salario, FuncaoFuncionario funcao) {
         super(nome, dataNascimento);
-        this.salario = salario;
+        this.salarioCentavos = paraCentavos(salario);
         this.funcao = funcao;
     }
 
     public BigDecimal getSalario() {
-        return salario;
+        return Centavos.paraBigDecimal(salarioCentavos);
     }
 
     public void setSalario(BigDecimal salario) {
-        this.salario = salario;
+        this.salarioCentavos = paraCentavos(salario);
+    }
+
+    public long getSalarioCentavos() {
+        return salarioCentavos;
+    }
+
+    public void setSalarioCentavos(long salarioCentavos) {
+        this.salarioCentavos = salarioCentavos;
+    }
+
+    /**
+     * Cria uma cópia do funcionário com outro salário, compartilhando nome, data de nascimento e função.
+     *
+     * @param salarioCentavos Salário da cópia, em centavos.
+     * @return Um novo funcionário; este não é alterado.
+     */
+    public Funcionario comSalarioCentavos(long salarioCentavos) {
+        Funcionario copia = new Funcionario(nome, dataNascimento, BigDecimal.ZERO, funcao);
+        copia.salarioCentavos = salarioCentavos;
+        return copia;
+    }
+
+    /**
+     * Cria uma cópia do funcionário com outra função, compartilhando nome, data de nascimento e salário.
+     *
+     * @param funcao Função da cópia.
+     * @return Um novo funcionário; este não é alterado.
+     */
+    public Funcionario comFuncao(FuncaoFuncionario funcao) {
+        Funcionario copia = comSalarioCentavos(salarioCentavos);
+        copia.funcao = funcao;
+        return copia;
     }
 
     public FuncaoFuncionario getFuncao() {
@@ -63,16 +104,17 @@ public class Funcionario extends Pessoa {
      */
     @Override
     public String toString() {
+        return "Nome: " + this.nome
+                + ", data nascimento: " + this.dataNascimento.format(FORMATO_DATA)
+                + ", salário: " + FORMATO_SALARIO.get().format(getSalario())
+                + ", função: " + this.funcao.getDescricao();
+    }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-
-        NumberFormat numberFormat = NumberFormat.getInstance(new Locale("pt", "BR"));
-        String salarioFormatado = numberFormat.format(this.salario);
-
-        return String.format("Nome: %s, data nascimento: %s, salário: %s, função: %s",
-                this.nome,
-                this.dataNascimento.format(formatter),
-                salarioFormatado,
-                this.funcao.getDescricao());
+    private static long paraCentavos(BigDecimal salario) {
+        try {
+            return Centavos.de(salario);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Salário inválido: " + salario.toPlainString(), e);
+        }
     }
 }
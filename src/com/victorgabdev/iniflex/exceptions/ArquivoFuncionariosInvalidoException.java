@@ -0,0 +1,12 @@
+package com.victorgabdev.iniflex.exceptions;
+
+public class ArquivoFuncionariosInvalidoException extends RuntimeException {
+
+    public ArquivoFuncionariosInvalidoException(String message) {
+        super(message);
+    }
+
+    public ArquivoFuncionariosInvalidoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
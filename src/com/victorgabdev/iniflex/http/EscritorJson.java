@@ -0,0 +1,135 @@
+package com.victorgabdev.iniflex.http;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Monta respostas JSON em um {@link StringBuilder}, sem bibliotecas externas.
+ * <p>
+ * As vírgulas entre valores são inseridas automaticamente. Valores monetários são escritos como
+ * números com duas casas decimais, a partir dos centavos, e datas no formato ISO ({@code 2000-10-18}).
+ * </p>
+ */
+final class EscritorJson {
+
+    private static final char[] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder texto = new StringBuilder(256);
+    private boolean precisaVirgula;
+
+    EscritorJson abrirObjeto() {
+        separar();
+        texto.append('{');
+        precisaVirgula = false;
+        return this;
+    }
+
+    EscritorJson fecharObjeto() {
+        texto.append('}');
+        precisaVirgula = true;
+        return this;
+    }
+
+    EscritorJson abrirLista() {
+        separar();
+        texto.append('[');
+        precisaVirgula = false;
+        return this;
+    }
+
+    EscritorJson fecharLista() {
+        texto.append(']');
+        precisaVirgula = true;
+        return this;
+    }
+
+    /** Escreve o nome de um campo; o próximo valor escrito é o seu valor. */
+    EscritorJson campo(String nome) {
+        separar();
+        escreverString(nome);
+        texto.append(':');
+        precisaVirgula = false;
+        return this;
+    }
+
+    EscritorJson valor(String valor) {
+        separar();
+        escreverString(valor);
+        precisaVirgula = true;
+        return this;
+    }
+
+    EscritorJson valor(long valor) {
+        separar();
+        texto.append(valor);
+        precisaVirgula = true;
+        return this;
+    }
+
+    EscritorJson valor(LocalDate data) {
+        return valor(data.toString());
+    }
+
+    EscritorJson valorMoeda(long centavos) {
+        return valorDecimal(centavos);
+    }
+
+    /** Escreve um valor em centésimos com duas casas decimais (182 para 1.82). */
+    EscritorJson valorDecimal(long centesimos) {
+        separar();
+        texto.append(Centavos.paraBigDecimal(centesimos).toPlainString());
+        precisaVirgula = true;
+        return this;
+    }
+
+    EscritorJson funcionario(Funcionario funcionario) {
+        return abrirObjeto()
+                .campo("nome").valor(funcionario.getNome())
+                .campo("dataNascimento").valor(funcionario.getDataNascimento())
+                .campo("salario").valorMoeda(funcionario.getSalarioCentavos())
+                .campo("funcao").valor(funcionario.getFuncao().getDescricao())
+                .fecharObjeto();
+    }
+
+    byte[] paraBytes() {
+        return texto.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void separar() {
+        if (precisaVirgula) texto.append(',');
+    }
+
+    private void escreverString(String valor) {
+        texto.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"':
+                    texto.append("\\\"");
+                    break;
+                case '\\':
+                    texto.append("\\\\");
+                    break;
+                case '\n':
+                    texto.append("\\n");
+                    break;
+                case '\r':
+                    texto.append("\\r");
+                    break;
+                case '\t':
+                    texto.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        texto.append("\\u00").append(HEXADECIMAL[c >> 4]).append(HEXADECIMAL[c & 0xF]);
+                    } else {
+                        texto.append(c);
+                    }
+            }
+        }
+        texto.append('"');
+    }
+}
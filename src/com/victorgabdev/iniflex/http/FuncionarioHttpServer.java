@@ -0,0 +1,407 @@
+package com.victorgabdev.iniflex.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.DivisorCentavos;
+import com.victorgabdev.iniflex.calculo.TabelaSalarioMinimo;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.VersaoFuncionarios;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * API HTTP/JSON local sobre um {@link FuncionarioService}, usando o {@link HttpServer} do JDK.
+ * <p>
+ * Rotas disponíveis:
+ * </p>
+ * <ul>
+ *   <li>{@code GET /funcionarios} - todos os funcionários, na ordem de inserção</li>
+ *   <li>{@code GET /funcionarios/alfabetica?pagina=1&tamanho=50} - uma página em ordem alfabética</li>
+ *   <li>{@code DELETE /funcionarios/{nome}} - remove os funcionários com o nome</li>
+ *   <li>{@code POST /aumento?percentual=10} - aplica um aumento percentual</li>
+ *   <li>{@code GET /funcoes} - nomes dos funcionários agrupados por função</li>
+ *   <li>{@code GET /aniversariantes?meses=10,12} - aniversariantes dos meses</li>
+ *   <li>{@code GET /mais-velho} - nome e idade do funcionário mais velho</li>
+ *   <li>{@code GET /total-salarios} - total dos salários</li>
+ *   <li>{@code GET /salarios-minimos?regiao=SP&data=2023-07-01} - quantos salários mínimos cada funcionário
+ *   ganha, pela {@link FuncionarioService#getTabelaSalarioMinimo() tabela} do serviço (padrão: nacional, hoje)</li>
+ * </ul>
+ * <p>
+ * Cada requisição é atendida em uma thread virtual quando o JDK em execução as oferece (21 ou
+ * superior); em versões anteriores, em um pool fixo de threads de plataforma. A listagem, o total e
+ * os salários mínimos são lidos de uma versão fixada ({@link FuncionarioService#fixarVersao()}), sem
+ * travas; as demais consultas compartilham uma trava de leitura e as alterações usam a trava de escrita.
+ * </p>
+ * <p>
+ * Erros são respondidos como {@code {"erro": "..."}}: 404 para funcionários ou rotas inexistentes,
+ * 400 para parâmetros inválidos e 405 para métodos não suportados.
+ * </p>
+ */
+public class FuncionarioHttpServer implements Closeable {
+
+    private static final int TAMANHO_PAGINA_PADRAO = 50;
+    private static final int FILA_CONEXOES = 1024;
+    private static final int THREADS_PLATAFORMA = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    private final FuncionarioService service;
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+    private final boolean threadsVirtuais;
+
+    /**
+     * Cria o servidor e associa o endereço; as requisições só são aceitas após {@link #iniciar()}.
+     *
+     * @param service  Serviço já carregado, que passa a ser acessado apenas pelo servidor.
+     * @param endereco Endereço local; a porta 0 escolhe uma porta livre.
+     * @throws UncheckedIOException caso o endereço não possa ser associado.
+     */
+    public FuncionarioHttpServer(FuncionarioService service, InetSocketAddress endereco) {
+        this.service = Objects.requireNonNull(service, "O serviço não pode ser nulo");
+        try {
+            this.servidor = HttpServer.create(endereco, FILA_CONEXOES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o servidor em " + endereco, e);
+        }
+        ExecutorService virtual = executorThreadsVirtuais();
+        this.threadsVirtuais = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(THREADS_PLATAFORMA, new FabricaThreads());
+        this.servidor.setExecutor(executor);
+        this.servidor.createContext("/", this::atender);
+    }
+
+    public void iniciar() {
+        servidor.start();
+    }
+
+    /**
+     * @return A porta em que o servidor aceita conexões.
+     */
+    public int getPorta() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * @return {@code true} se as requisições são atendidas em threads virtuais.
+     */
+    public boolean isThreadsVirtuais() {
+        return threadsVirtuais;
+    }
+
+    /**
+     * Para de aceitar conexões e aguarda até 5 segundos pelas requisições em andamento.
+     */
+    @Override
+    public void close() {
+        servidor.stop(0);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void atender(HttpExchange troca) {
+        Resposta resposta;
+        try {
+            resposta = rotear(troca.getRequestMethod(), troca.getRequestURI().getRawPath(),
+                    parametros(troca.getRequestURI().getRawQuery()));
+        } catch (MetodoNaoSuportadoException e) {
+            resposta = Resposta.erro(405, e.getMessage());
+        } catch (NoSuchElementException e) {
+            resposta = Resposta.erro(404, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            resposta = Resposta.erro(400, e.getMessage());
+        } catch (RuntimeException e) {
+            resposta = Resposta.erro(500, e.getMessage());
+        }
+
+        try (troca) {
+            if (resposta.corpo == null) {
+                troca.sendResponseHeaders(resposta.status, -1);
+                return;
+            }
+            troca.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            troca.sendResponseHeaders(resposta.status, resposta.corpo.length);
+            try (OutputStream corpo = troca.getResponseBody()) {
+                corpo.write(resposta.corpo);
+            }
+        } catch (IOException e) {
+            // O cliente desconectou antes de receber a resposta.
+        }
+    }
+
+    private Resposta rotear(String metodo, String caminho, Map<String, String> parametros) {
+        if (caminho.startsWith("/funcionarios/") && !caminho.equals("/funcionarios/alfabetica")) {
+            exigirMetodo(metodo, "DELETE");
+            String nome = URLDecoder.decode(caminho.substring("/funcionarios/".length()), StandardCharsets.UTF_8);
+            escrever(() -> service.removerFuncionario(nome));
+            return Resposta.SEM_CONTEUDO;
+        }
+
+        switch (caminho) {
+            case "/funcionarios":
+                exigirMetodo(metodo, "GET");
+                return listarFuncionarios();
+            case "/funcionarios/alfabetica":
+                exigirMetodo(metodo, "GET");
+                int pagina = inteiro(parametros, "pagina", 1);
+                int tamanho = inteiro(parametros, "tamanho", TAMANHO_PAGINA_PADRAO);
+                return Resposta.ok(ler(() -> lista(service.listarOrdemAlfabetica(pagina, tamanho))));
+            case "/aumento":
+                exigirMetodo(metodo, "POST");
+                double percentual = decimal(parametros, "percentual");
+                escrever(() -> service.aplicarAumentoPercentual(percentual));
+                return totalSalarios();
+            case "/funcoes":
+                exigirMetodo(metodo, "GET");
+                return ler(this::agruparPorFuncao);
+            case "/aniversariantes":
+                exigirMetodo(metodo, "GET");
+                int[] meses = meses(parametros);
+                return Resposta.ok(ler(() -> lista(service.buscarAniversariantes(meses))));
+            case "/mais-velho":
+                exigirMetodo(metodo, "GET");
+                return ler(this::maisVelho);
+            case "/total-salarios":
+                exigirMetodo(metodo, "GET");
+                return totalSalarios();
+            case "/salarios-minimos":
+                exigirMetodo(metodo, "GET");
+                String regiao = parametros.getOrDefault("regiao", TabelaSalarioMinimo.NACIONAL);
+                LocalDate data = data(parametros, "data");
+                return salariosEmMinimos(service.getTabelaSalarioMinimo().divisor(regiao, data));
+            default:
+                throw new NoSuchElementException("Rota não encontrada: " + caminho);
+        }
+    }
+
+    private Resposta listarFuncionarios() {
+        try (VersaoFuncionarios.Fixacao fixacao = service.fixarVersao()) {
+            return Resposta.ok(lista(exigirFuncionarios(fixacao.getVersao()).funcionarios()));
+        }
+    }
+
+    private Resposta totalSalarios() {
+        try (VersaoFuncionarios.Fixacao fixacao = service.fixarVersao()) {
+            long total = exigirFuncionarios(fixacao.getVersao()).getTotalSalariosCentavos();
+            return Resposta.ok(new EscritorJson().abrirObjeto().campo("total").valorMoeda(total).fecharObjeto().paraBytes());
+        }
+    }
+
+    private Resposta salariosEmMinimos(DivisorCentavos minimo) {
+        try (VersaoFuncionarios.Fixacao fixacao = service.fixarVersao()) {
+            List<Funcionario> funcionarios = exigirFuncionarios(fixacao.getVersao()).funcionarios();
+            long[] salarios = new long[funcionarios.size()];
+            for (int i = 0; i < salarios.length; i++) salarios[i] = funcionarios.get(i).getSalarioCentavos();
+            long[] quantidades = minimo.razoes(salarios);
+
+            EscritorJson json = new EscritorJson().abrirLista();
+            for (int i = 0; i < salarios.length; i++) {
+                json.abrirObjeto()
+                        .campo("nome").valor(funcionarios.get(i).getNome())
+                        .campo("salariosMinimos").valorDecimal(quantidades[i])
+                        .fecharObjeto();
+            }
+            return Resposta.ok(json.fecharLista().paraBytes());
+        }
+    }
+
+    private Resposta agruparPorFuncao() {
+        EscritorJson json = new EscritorJson().abrirObjeto();
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            Set<Funcionario> membros = service.buscarPorFuncao(funcao);
+            if (membros.isEmpty()) continue;
+            json.campo(funcao.getDescricao()).abrirLista();
+            for (Funcionario funcionario : membros) json.valor(funcionario.getNome());
+            json.fecharLista();
+        }
+        return Resposta.ok(json.fecharObjeto().paraBytes());
+    }
+
+    private Resposta maisVelho() {
+        List<Funcionario> maisVelhos = service.buscarMaisVelhos(1);
+        if (maisVelhos.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+
+        Funcionario maisVelho = maisVelhos.get(0);
+        int idade = CalculadoraIdade.hoje().idade(maisVelho.getDataNascimento());
+        return Resposta.ok(new EscritorJson().abrirObjeto()
+                .campo("nome").valor(maisVelho.getNome())
+                .campo("idade").valor(idade)
+                .fecharObjeto().paraBytes());
+    }
+
+    private <T> T ler(Supplier<T> consulta) {
+        trava.readLock().lock();
+        try {
+            return consulta.get();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private void escrever(Runnable alteracao) {
+        trava.writeLock().lock();
+        try {
+            alteracao.run();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /** Serializa a lista; os funcionários são mutáveis, então só é chamado sob trava ou sobre uma versão. */
+    private static byte[] lista(List<Funcionario> funcionarios) {
+        EscritorJson json = new EscritorJson().abrirLista();
+        funcionarios.forEach(json::funcionario);
+        return json.fecharLista().paraBytes();
+    }
+
+    private static VersaoFuncionarios exigirFuncionarios(VersaoFuncionarios versao) {
+        if (versao.tamanho() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        return versao;
+    }
+
+    private static void exigirMetodo(String metodo, String esperado) {
+        if (!metodo.equals(esperado)) throw new MetodoNaoSuportadoException(metodo);
+    }
+
+    private static Map<String, String> parametros(String consulta) {
+        Map<String, String> parametros = new HashMap<>();
+        if (consulta == null || consulta.isEmpty()) return parametros;
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String nome = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.put(URLDecoder.decode(nome, StandardCharsets.UTF_8), URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    private static int inteiro(Map<String, String> parametros, String nome, int padrao) {
+        String valor = parametros.get(nome);
+        if (valor == null) return padrao;
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Parâmetro '%s' inválido: %s", nome, valor));
+        }
+    }
+
+    private static double decimal(Map<String, String> parametros, String nome) {
+        String valor = parametros.get(nome);
+        if (valor == null) throw new IllegalArgumentException(String.format("Parâmetro '%s' é obrigatório", nome));
+        try {
+            return Double.parseDouble(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Parâmetro '%s' inválido: %s", nome, valor));
+        }
+    }
+
+    private static LocalDate data(Map<String, String> parametros, String nome) {
+        String valor = parametros.get(nome);
+        if (valor == null) return LocalDate.now();
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("Parâmetro '%s' inválido: %s", nome, valor));
+        }
+    }
+
+    private static int[] meses(Map<String, String> parametros) {
+        String valor = parametros.getOrDefault("meses", "10,12");
+        String[] partes = valor.split(",");
+        int[] meses = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            try {
+                meses[i] = Integer.parseInt(partes[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parâmetro 'meses' inválido: " + valor);
+            }
+        }
+        return meses;
+    }
+
+    /**
+     * Obtém {@code Executors.newVirtualThreadPerTaskExecutor()} por reflexão, para que o projeto
+     * continue compilando para o Java 17.
+     *
+     * @return O executor, ou {@code null} se o JDK em execução não oferecer threads virtuais.
+     */
+    private static ExecutorService executorThreadsVirtuais() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static final class Resposta {
+
+        static final Resposta SEM_CONTEUDO = new Resposta(204, null);
+
+        final int status;
+        final byte[] corpo;
+
+        Resposta(int status, byte[] corpo) {
+            this.status = status;
+            this.corpo = corpo;
+        }
+
+        static Resposta ok(byte[] corpo) {
+            return new Resposta(200, corpo);
+        }
+
+        static Resposta erro(int status, String mensagem) {
+            return new Resposta(status, new EscritorJson().abrirObjeto()
+                    .campo("erro").valor(Objects.toString(mensagem, "Erro interno"))
+                    .fecharObjeto().paraBytes());
+        }
+    }
+
+    /** Threads de plataforma daemon, usadas quando não há threads virtuais. */
+    private static final class FabricaThreads implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "funcionarios-http-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class MetodoNaoSuportadoException extends RuntimeException {
+
+        MetodoNaoSuportadoException(String metodo) {
+            super("Método não suportado: " + metodo);
+        }
+    }
+}
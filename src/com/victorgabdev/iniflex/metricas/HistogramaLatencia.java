@@ -0,0 +1,110 @@
+package com.victorgabdev.iniflex.metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em nanossegundos com buckets log-lineares, no estilo do HdrHistogram.
+ * <p>
+ * Cada potência de dois é dividida em 32 buckets, então o valor informado para um percentil fica a
+ * no máximo ~3% do valor real. Valores abaixo de 64 ns têm buckets exatos e valores acima de ~73
+ * minutos vão para o último bucket. O registro é lock-free e não aloca: um incremento atômico no
+ * bucket, mais contadores de soma e máximo.
+ * </p>
+ */
+public final class HistogramaLatencia {
+
+    /** Bits do sub-bucket: valores até {@code 2^6} são exatos e cada faixa seguinte tem 32 buckets. */
+    private static final int BITS_SUB_BUCKET = 6;
+    private static final int SUB_BUCKETS = 1 << BITS_SUB_BUCKET;
+    private static final int MEIO_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+    /** Maior magnitude registrada: valores a partir de {@code 2^42} ns são agrupados no último bucket. */
+    private static final int MAGNITUDE_MAXIMA = 41;
+    private static final long VALOR_MAXIMO = (1L << (MAGNITUDE_MAXIMA + 1)) - 1;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(indice(VALOR_MAXIMO) + 1);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder soma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra uma latência.
+     *
+     * @param nanos Duração em nanossegundos; valores negativos são tratados como zero.
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(0, nanos);
+        contagens.incrementAndGet(indice(Math.min(valor, VALOR_MAXIMO)));
+        total.increment();
+        soma.add(valor);
+        maximo.accumulate(valor);
+    }
+
+    public long getQuantidade() {
+        return total.sum();
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * @return A média exata das latências registradas, ou 0 se não houver nenhuma.
+     */
+    public double getMedia() {
+        long quantidade = total.sum();
+        return quantidade == 0 ? 0 : (double) soma.sum() / quantidade;
+    }
+
+    /**
+     * Calcula o percentil informado.
+     *
+     * @param percentil Percentil entre 0 e 100, como 50 ou 99,9.
+     * @return O maior valor equivalente ao bucket do percentil, limitado ao máximo registrado,
+     *         ou 0 se não houver registros.
+     * @throws IllegalArgumentException se o percentil estiver fora do intervalo.
+     */
+    public long percentil(double percentil) {
+        if (!(percentil >= 0 && percentil <= 100))
+            throw new IllegalArgumentException("Percentil inválido: " + percentil);
+
+        long[] copia = new long[contagens.length()];
+        long quantidade = 0;
+        for (int i = 0; i < copia.length; i++) {
+            copia[i] = contagens.get(i);
+            quantidade += copia[i];
+        }
+        if (quantidade == 0) return 0;
+
+        long posicao = Math.max(1, (long) Math.ceil(percentil / 100 * quantidade));
+        long acumulado = 0;
+        for (int i = 0; i < copia.length; i++) {
+            acumulado += copia[i];
+            if (acumulado >= posicao) return Math.min(limiteSuperior(i), maximo.get());
+        }
+        return maximo.get();
+    }
+
+    /** Zera o histograma. Registros concorrentes com a limpeza podem ser perdidos. */
+    public void zerar() {
+        for (int i = 0; i < contagens.length(); i++) contagens.set(i, 0);
+        total.reset();
+        soma.reset();
+        maximo.reset();
+    }
+
+    static int indice(long valor) {
+        if (valor < SUB_BUCKETS) return (int) valor;
+        int deslocamento = 63 - Long.numberOfLeadingZeros(valor) - (BITS_SUB_BUCKET - 1);
+        return deslocamento * MEIO_SUB_BUCKETS + (int) (valor >>> deslocamento);
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < SUB_BUCKETS) return indice;
+        int deslocamento = indice / MEIO_SUB_BUCKETS - 1;
+        long subBucket = indice - deslocamento * MEIO_SUB_BUCKETS;
+        return ((subBucket + 1) << deslocamento) - 1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.victorgabdev.iniflex.metricas;
+
+/**
+ * Medição de uma chamada, iniciada por {@link Metricas#iniciar(Enum)}.
+ * <p>
+ * Com as métricas desligadas é sempre a mesma instância, sem efeito, então o custo de instrumentar
+ * uma operação se resume à leitura de um campo volátil.
+ * </p>
+ */
+public final class Medicao {
+
+    static final Medicao INATIVA = new Medicao(null, 0, 0);
+
+    private final MetricasOperacao operacao;
+    private final long inicio;
+    private final long alocacaoInicial;
+
+    Medicao(MetricasOperacao operacao, long inicio, long alocacaoInicial) {
+        this.operacao = operacao;
+        this.inicio = inicio;
+        this.alocacaoInicial = alocacaoInicial;
+    }
+
+    /**
+     * Encerra a medição e registra a chamada. Chamadas que terminam em exceção não são registradas.
+     *
+     * @param linhasPercorridas Quantos funcionários a operação leu ou alterou.
+     */
+    public void concluir(long linhasPercorridas) {
+        if (operacao == null) return;
+        long nanos = System.nanoTime() - inicio;
+        long bytes = alocacaoInicial < 0 ? 0 : Metricas.bytesAlocadosThread() - alocacaoInicial;
+        operacao.registrar(nanos, linhasPercorridas, bytes);
+    }
+}
@@ -0,0 +1,186 @@
+package com.victorgabdev.iniflex.metricas;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Registro de métricas por operação, identificadas pelas constantes de um enum.
+ * <p>
+ * Cada operação instrumentada chama {@link #iniciar(Enum)} e, ao terminar,
+ * {@link Medicao#concluir(long)} com a quantidade de linhas percorridas:
+ * </p>
+ * <pre>{@code
+ * Medicao medicao = metricas.iniciar(OperacaoFuncionario.REMOVER_FUNCIONARIO);
+ * ...
+ * medicao.concluir(encontrados.size());
+ * }</pre>
+ * <p>
+ * As métricas começam desligadas; nesse modo {@link #iniciar(Enum)} apenas lê um campo volátil e
+ * devolve uma medição sem efeito. Ligadas, cada chamada registra a latência em um
+ * {@link HistogramaLatencia}, as linhas percorridas e os bytes alocados pela thread, quando a JVM
+ * oferece essa medição. Os valores podem ser lidos pelo {@link #getRelatorio()} ou por JMX, após
+ * {@link #registrarJmx(String)}. Esta classe é thread-safe.
+ * </p>
+ *
+ * @param <E> Enum das operações; o {@code toString()} de cada constante é o nome exibido.
+ */
+public final class Metricas<E extends Enum<E>> implements MetricasMXBean {
+
+    private static final String DOMINIO_JMX = "com.victorgabdev.iniflex";
+
+    private final E[] constantes;
+    private final MetricasOperacao[] operacoes;
+    private final List<ObjectName> registradosJmx = new ArrayList<>();
+    private volatile boolean ativo;
+
+    public Metricas(Class<E> tipo) {
+        this.constantes = tipo.getEnumConstants();
+        this.operacoes = new MetricasOperacao[constantes.length];
+    }
+
+    /**
+     * Inicia a medição de uma chamada da operação.
+     *
+     * @param operacao Operação executada.
+     * @return A medição a ser concluída ao final da chamada.
+     */
+    public Medicao iniciar(E operacao) {
+        if (!ativo) return Medicao.INATIVA;
+        long alocacaoInicial = bytesAlocadosThread();
+        return new Medicao(operacoes[operacao.ordinal()], System.nanoTime(), alocacaoInicial);
+    }
+
+    /**
+     * @return As métricas acumuladas da operação.
+     */
+    public MetricasOperacao get(E operacao) {
+        criarOperacoes();
+        return operacoes[operacao.ordinal()];
+    }
+
+    @Override
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    /**
+     * Liga ou desliga a coleta. Os valores já acumulados são mantidos.
+     */
+    @Override
+    public synchronized void setAtivo(boolean ativo) {
+        if (ativo) criarOperacoes();
+        this.ativo = ativo;
+    }
+
+    @Override
+    public synchronized void zerar() {
+        criarOperacoes();
+        for (MetricasOperacao operacao : operacoes) operacao.zerar();
+    }
+
+    /**
+     * Monta um relatório em texto com uma linha por operação já chamada, com latências em microssegundos.
+     */
+    @Override
+    public String getRelatorio() {
+        criarOperacoes();
+        Formatter relatorio = new Formatter(new StringBuilder(), Locale.ROOT);
+        relatorio.format("%-38s %10s %10s %10s %10s %10s %10s %14s %16s%n", "operação", "chamadas",
+                "média µs", "p50 µs", "p99 µs", "p99,9 µs", "máx µs", "linhas", "bytes alocados");
+        for (MetricasOperacao operacao : operacoes) {
+            if (operacao.getChamadas() == 0) continue;
+            relatorio.format("%-38s %10d %10.1f %10.1f %10.1f %10.1f %10.1f %14d %16d%n", operacao.getNome(),
+                    operacao.getChamadas(), operacao.getLatenciaMediaMicros(), operacao.getLatenciaP50Micros(),
+                    operacao.getLatenciaP99Micros(), operacao.getLatenciaP999Micros(),
+                    operacao.getLatenciaMaximaMicros(), operacao.getLinhasPercorridas(), operacao.getBytesAlocados());
+        }
+        return relatorio.toString();
+    }
+
+    /**
+     * Publica o registro e as métricas de cada operação no servidor JMX da plataforma, como
+     * {@code com.victorgabdev.iniflex:type=Metricas,name=<nome>} e
+     * {@code com.victorgabdev.iniflex:type=Metricas,name=<nome>,operacao=<operação>}.
+     *
+     * @param nome Nome que distingue este registro dos demais.
+     * @throws IllegalStateException se os MBeans não puderem ser registrados, por exemplo por nome repetido.
+     */
+    public synchronized void registrarJmx(String nome) {
+        Objects.requireNonNull(nome, "O nome não pode ser nulo");
+        if (!registradosJmx.isEmpty()) throw new IllegalStateException("As métricas já foram registradas no JMX");
+
+        criarOperacoes();
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            String base = DOMINIO_JMX + ":type=Metricas,name=" + ObjectName.quote(nome);
+            registrar(servidor, this, new ObjectName(base));
+            for (MetricasOperacao operacao : operacoes) {
+                registrar(servidor, operacao, new ObjectName(base + ",operacao=" + operacao.getNome()));
+            }
+        } catch (JMException e) {
+            removerJmx();
+            throw new IllegalStateException("Não foi possível registrar as métricas no JMX: " + nome, e);
+        }
+    }
+
+    /**
+     * Remove do servidor JMX os MBeans publicados por {@link #registrarJmx(String)}.
+     */
+    public synchronized void removerJmx() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName nome : registradosJmx) {
+            try {
+                servidor.unregisterMBean(nome);
+            } catch (JMException e) {
+                // Já removido por outro meio.
+            }
+        }
+        registradosJmx.clear();
+    }
+
+    /**
+     * Cria as métricas das operações no primeiro uso, para que serviços que nunca ligam as métricas
+     * não reservem os histogramas.
+     */
+    private synchronized void criarOperacoes() {
+        if (operacoes[operacoes.length - 1] != null) return;
+        for (E constante : constantes) operacoes[constante.ordinal()] = new MetricasOperacao(constante.toString());
+    }
+
+    static long bytesAlocadosThread() {
+        return Alocacao.THREADS != null ? Alocacao.THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    static boolean medeAlocacao() {
+        return Alocacao.THREADS != null;
+    }
+
+    private void registrar(MBeanServer servidor, Object mbean, ObjectName nome) throws JMException {
+        servidor.registerMBean(mbean, nome);
+        registradosJmx.add(nome);
+    }
+
+    /**
+     * Acesso à medição de alocação por thread, carregado apenas na primeira medição para não
+     * inicializar o gerenciamento da JVM em serviços que não usam as métricas.
+     */
+    private static final class Alocacao {
+
+        static final com.sun.management.ThreadMXBean THREADS = threadsComAlocacao();
+
+        private static com.sun.management.ThreadMXBean threadsComAlocacao() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (!(threads instanceof com.sun.management.ThreadMXBean)) return null;
+            com.sun.management.ThreadMXBean comAlocacao = (com.sun.management.ThreadMXBean) threads;
+            return comAlocacao.isThreadAllocatedMemorySupported() && comAlocacao.isThreadAllocatedMemoryEnabled()
+                    ? comAlocacao : null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.victorgabdev.iniflex.metricas;
+
+/**
+ * Interface JMX do registro de métricas: liga e desliga a coleta, zera os valores e expõe o
+ * relatório em texto. As métricas de cada operação são publicadas em MBeans próprios.
+ */
+public interface MetricasMXBean {
+
+    boolean isAtivo();
+
+    void setAtivo(boolean ativo);
+
+    void zerar();
+
+    String getRelatorio();
+}
@@ -0,0 +1,80 @@
+package com.victorgabdev.iniflex.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas acumuladas de uma operação: chamadas, histograma de latências, linhas percorridas e
+ * bytes alocados. Thread-safe e sem travas.
+ */
+public final class MetricasOperacao implements MetricasOperacaoMXBean {
+
+    private final String nome;
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+    private final LongAdder linhas = new LongAdder();
+    private final LongAdder bytesAlocados = new LongAdder();
+
+    MetricasOperacao(String nome) {
+        this.nome = nome;
+    }
+
+    void registrar(long nanos, long linhasPercorridas, long bytes) {
+        latencias.registrar(nanos);
+        linhas.add(linhasPercorridas);
+        if (bytes > 0) bytesAlocados.add(bytes);
+    }
+
+    void zerar() {
+        latencias.zerar();
+        linhas.reset();
+        bytesAlocados.reset();
+    }
+
+    public HistogramaLatencia getLatencias() {
+        return latencias;
+    }
+
+    @Override
+    public String getNome() {
+        return nome;
+    }
+
+    @Override
+    public long getChamadas() {
+        return latencias.getQuantidade();
+    }
+
+    @Override
+    public double getLatenciaMediaMicros() {
+        return latencias.getMedia() / 1_000;
+    }
+
+    @Override
+    public double getLatenciaP50Micros() {
+        return latencias.percentil(50) / 1_000.0;
+    }
+
+    @Override
+    public double getLatenciaP99Micros() {
+        return latencias.percentil(99) / 1_000.0;
+    }
+
+    @Override
+    public double getLatenciaP999Micros() {
+        return latencias.percentil(99.9) / 1_000.0;
+    }
+
+    @Override
+    public double getLatenciaMaximaMicros() {
+        return latencias.getMaximo() / 1_000.0;
+    }
+
+    @Override
+    public long getLinhasPercorridas() {
+        return linhas.sum();
+    }
+
+    @Override
+    public long getBytesAlocados() {
+        return Metricas.medeAlocacao() ? bytesAlocados.sum() : -1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.victorgabdev.iniflex.metricas;
+
+/**
+ * Interface JMX com as métricas de uma operação. Latências em microssegundos.
+ */
+public interface MetricasOperacaoMXBean {
+
+    String getNome();
+
+    long getChamadas();
+
+    double getLatenciaMediaMicros();
+
+    double getLatenciaP50Micros();
+
+    double getLatenciaP99Micros();
+
+    double getLatenciaP999Micros();
+
+    double getLatenciaMaximaMicros();
+
+    long getLinhasPercorridas();
+
+    /**
+     * @return Bytes alocados pela thread durante as chamadas, ou -1 se a JVM não oferecer a medição.
+     */
+    long getBytesAlocados();
+}
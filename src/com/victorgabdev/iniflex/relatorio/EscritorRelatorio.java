@@ -0,0 +1,405 @@
+package com.victorgabdev.iniflex.relatorio;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * Escritor de relatórios com buffer, usado pelos métodos {@code imprimir*} do
+ * {@link com.victorgabdev.iniflex.service.FuncionarioService}.
+ * <p>
+ * O texto é acumulado em um buffer de caracteres reutilizável e enviado ao destino em blocos
+ * grandes, apenas quando o buffer enche ou em {@link #flush()}. Datas, valores monetários e
+ * inteiros são escritos dígito a dígito no buffer, sem criar {@code DateTimeFormatter},
+ * {@code NumberFormat} ou {@code String.format} por linha. O resultado é idêntico ao de
+ * {@code System.out.println} com os formatos usados pelo sistema:
+ * </p>
+ * <ul>
+ *   <li>datas no padrão {@code dd/MM/yyyy};</li>
+ *   <li>valores monetários como {@code NumberFormat.getInstance(pt-BR)}: {@code 2.009,44}, {@code 2.000,1};</li>
+ *   <li>razões com duas casas como {@code BigDecimal#toString()}: {@code 1.82}.</li>
+ * </ul>
+ * <p>
+ * O destino pode ser qualquer {@link Appendable} ou um {@link WritableByteChannel}. Instâncias
+ * não são thread-safe.
+ * </p>
+ */
+public class EscritorRelatorio implements Flushable, Closeable {
+
+    /** Tamanho padrão do buffer de caracteres. */
+    static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private static final String SEPARADOR_LINHA = System.lineSeparator();
+
+    /** Formato usado apenas para anos fora do intervalo 1 a 9999. */
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final Destino destino;
+    private final char[] buffer;
+    private int posicao;
+
+    /**
+     * Cria um escritor que envia o texto para o {@link Appendable} informado.
+     *
+     * @param destino Destino do texto.
+     */
+    public EscritorRelatorio(Appendable destino) {
+        this(new DestinoAppendable(Objects.requireNonNull(destino, "O destino não pode ser nulo")), TAMANHO_BUFFER);
+    }
+
+    /**
+     * Cria um escritor que codifica o texto com o charset padrão e o grava no canal informado.
+     *
+     * @param canal Canal de destino.
+     */
+    public EscritorRelatorio(WritableByteChannel canal) {
+        this(canal, Charset.defaultCharset());
+    }
+
+    /**
+     * Cria um escritor que codifica o texto com o charset informado e o grava no canal.
+     *
+     * @param canal   Canal de destino.
+     * @param charset Charset usado na codificação.
+     */
+    public EscritorRelatorio(WritableByteChannel canal, Charset charset) {
+        this(new DestinoCanal(Objects.requireNonNull(canal, "O canal não pode ser nulo"), charset), TAMANHO_BUFFER);
+    }
+
+    private EscritorRelatorio(Destino destino, int tamanhoBuffer) {
+        this.destino = destino;
+        this.buffer = new char[tamanhoBuffer];
+    }
+
+    /**
+     * Cria um escritor para a saída padrão. O {@link System#out} é consultado a cada descarga,
+     * de forma que redirecionamentos feitos com {@link System#setOut} são respeitados.
+     *
+     * @return O escritor para o console.
+     */
+    public static EscritorRelatorio paraConsole() {
+        return new EscritorRelatorio(new DestinoConsole(), TAMANHO_BUFFER);
+    }
+
+    public EscritorRelatorio escrever(CharSequence texto) {
+        int tamanho = texto.length();
+        for (int inicio = 0; inicio < tamanho; ) {
+            if (posicao == buffer.length) descarregarBuffer();
+            int quantidade = Math.min(tamanho - inicio, buffer.length - posicao);
+            if (texto instanceof String) {
+                ((String) texto).getChars(inicio, inicio + quantidade, buffer, posicao);
+            } else {
+                for (int i = 0; i < quantidade; i++) buffer[posicao + i] = texto.charAt(inicio + i);
+            }
+            posicao += quantidade;
+            inicio += quantidade;
+        }
+        return this;
+    }
+
+    public EscritorRelatorio escrever(char caractere) {
+        if (posicao == buffer.length) descarregarBuffer();
+        buffer[posicao++] = caractere;
+        return this;
+    }
+
+    /**
+     * Escreve um inteiro em decimal, como {@link Long#toString(long)}.
+     */
+    public EscritorRelatorio escreverInteiro(long valor) {
+        garantirEspaco(20);
+        if (valor < 0) {
+            buffer[posicao++] = '-';
+            if (valor == Long.MIN_VALUE) return escrever("9223372036854775808");
+            valor = -valor;
+        }
+        int digitos = contarDigitos(valor);
+        for (int i = posicao + digitos - 1; i >= posicao; i--) {
+            buffer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        posicao += digitos;
+        return this;
+    }
+
+    /**
+     * Escreve uma data no padrão {@code dd/MM/yyyy}.
+     */
+    public EscritorRelatorio escreverData(LocalDate data) {
+        int ano = data.getYear();
+        if (ano < 1 || ano > 9999) return escrever(FORMATO_DATA.format(data));
+
+        garantirEspaco(10);
+        escreverDoisDigitos(data.getDayOfMonth());
+        buffer[posicao++] = '/';
+        escreverDoisDigitos(data.getMonthValue());
+        buffer[posicao++] = '/';
+        escreverDoisDigitos(ano / 100);
+        escreverDoisDigitos(ano % 100);
+        return this;
+    }
+
+    /**
+     * Escreve um valor em centavos no formato de {@code NumberFormat.getInstance(pt-BR)}: milhares
+     * separados por ponto, decimais por vírgula e sem zeros à direita nos centavos.
+     *
+     * @param centavos Valor em centavos.
+     */
+    public EscritorRelatorio escreverMoeda(long centavos) {
+        garantirEspaco(32);
+        if (centavos < 0) {
+            buffer[posicao++] = '-';
+            if (centavos == Long.MIN_VALUE) return escrever("92.233.720.368.547.758,08");
+            centavos = -centavos;
+        }
+
+        long inteiro = centavos / 100;
+        int fracao = (int) (centavos % 100);
+
+        int digitos = contarDigitos(inteiro);
+        int separadores = (digitos - 1) / 3;
+        int i = posicao + digitos + separadores - 1;
+        for (int d = 0; d < digitos; d++) {
+            if (d > 0 && d % 3 == 0) buffer[i--] = '.';
+            buffer[i--] = (char) ('0' + inteiro % 10);
+            inteiro /= 10;
+        }
+        posicao += digitos + separadores;
+
+        if (fracao != 0) {
+            buffer[posicao++] = ',';
+            buffer[posicao++] = (char) ('0' + fracao / 10);
+            if (fracao % 10 != 0) buffer[posicao++] = (char) ('0' + fracao % 10);
+        }
+        return this;
+    }
+
+    /**
+     * Escreve um valor em centésimos com exatamente duas casas decimais, como
+     * {@code BigDecimal.valueOf(centesimos, 2).toString()}.
+     *
+     * @param centesimos Valor em centésimos (182 para 1.82).
+     */
+    public EscritorRelatorio escreverDecimal(long centesimos) {
+        if (centesimos == Long.MIN_VALUE) return escrever("-92233720368547758.08");
+
+        garantirEspaco(22);
+        if (centesimos < 0) {
+            buffer[posicao++] = '-';
+            centesimos = -centesimos;
+        }
+        escreverInteiro(centesimos / 100);
+        buffer[posicao++] = '.';
+        escreverDoisDigitos((int) (centesimos % 100));
+        return this;
+    }
+
+    /**
+     * Escreve o funcionário no mesmo formato de {@link Funcionario#toString()}.
+     */
+    public EscritorRelatorio escreverFuncionario(Funcionario funcionario) {
+        return escreverFuncionario(funcionario.getNome(), funcionario.getDataNascimento(),
+                funcionario.getSalarioCentavos(), funcionario.getFuncao());
+    }
+
+    /**
+     * Escreve um funcionário a partir dos seus atributos, no mesmo formato de {@link Funcionario#toString()}.
+     */
+    public EscritorRelatorio escreverFuncionario(String nome, LocalDate dataNascimento, long salarioCentavos,
+                                                 FuncaoFuncionario funcao) {
+        escrever("Nome: ").escrever(nome);
+        escrever(", data nascimento: ").escreverData(dataNascimento);
+        escrever(", salário: ").escreverMoeda(salarioCentavos);
+        return escrever(", função: ").escrever(funcao.getDescricao());
+    }
+
+    /**
+     * Escreve o separador de linha do sistema, como {@code println}.
+     */
+    public EscritorRelatorio novaLinha() {
+        return escrever(SEPARADOR_LINHA);
+    }
+
+    /**
+     * Envia o conteúdo do buffer ao destino e descarrega o destino.
+     *
+     * @throws UncheckedIOException se a escrita falhar.
+     */
+    @Override
+    public void flush() {
+        descarregarBuffer();
+        try {
+            destino.descarregar();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Descarrega o buffer e fecha o destino, quando ele for {@link Closeable}.
+     *
+     * @throws UncheckedIOException se a escrita falhar.
+     */
+    @Override
+    public void close() {
+        flush();
+        try {
+            destino.fechar();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void escreverDoisDigitos(int valor) {
+        buffer[posicao++] = (char) ('0' + valor / 10);
+        buffer[posicao++] = (char) ('0' + valor % 10);
+    }
+
+    private void garantirEspaco(int caracteres) {
+        if (buffer.length - posicao < caracteres) descarregarBuffer();
+    }
+
+    private void descarregarBuffer() {
+        if (posicao == 0) return;
+        try {
+            destino.escrever(buffer, posicao);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        posicao = 0;
+    }
+
+    private static int contarDigitos(long valor) {
+        int digitos = 1;
+        for (long limite = 10; digitos < 19 && valor >= limite; limite *= 10) digitos++;
+        return digitos;
+    }
+
+    private interface Destino {
+
+        void escrever(char[] caracteres, int quantidade) throws IOException;
+
+        void descarregar() throws IOException;
+
+        void fechar() throws IOException;
+    }
+
+    private static class DestinoAppendable implements Destino {
+
+        private final Appendable appendable;
+
+        DestinoAppendable(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public void escrever(char[] caracteres, int quantidade) throws IOException {
+            appendable.append(CharBuffer.wrap(caracteres, 0, quantidade));
+        }
+
+        @Override
+        public void descarregar() throws IOException {
+            if (appendable instanceof Flushable) ((Flushable) appendable).flush();
+        }
+
+        @Override
+        public void fechar() throws IOException {
+            if (appendable instanceof Closeable) ((Closeable) appendable).close();
+        }
+    }
+
+    private static class DestinoConsole implements Destino {
+
+        @Override
+        public void escrever(char[] caracteres, int quantidade) {
+            System.out.append(CharBuffer.wrap(caracteres, 0, quantidade));
+        }
+
+        @Override
+        public void descarregar() {
+            System.out.flush();
+        }
+
+        @Override
+        public void fechar() {
+            System.out.flush();
+        }
+    }
+
+    private static class DestinoCanal implements Destino {
+
+        private final WritableByteChannel canal;
+        private final CharsetEncoder codificador;
+        private final ByteBuffer bytes;
+
+        /** Caractere alto de um par substituto que ficou sem o par no fim do último bloco. */
+        private final CharBuffer pendente = CharBuffer.allocate(1);
+
+        DestinoCanal(WritableByteChannel canal, Charset charset) {
+            this.canal = canal;
+            this.codificador = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer.allocate(TAMANHO_BUFFER * 4);
+        }
+
+        @Override
+        public void escrever(char[] caracteres, int quantidade) throws IOException {
+            CharBuffer entrada = CharBuffer.wrap(caracteres, 0, quantidade);
+            if (pendente.position() > 0) {
+                CharBuffer par = CharBuffer.allocate(2).put(pendente.flip()).put(entrada.get()).flip();
+                pendente.clear();
+                codificar(par);
+            }
+            codificar(entrada);
+            if (entrada.hasRemaining()) pendente.put(entrada.get());
+        }
+
+        @Override
+        public void descarregar() throws IOException {
+            gravarBytes();
+        }
+
+        @Override
+        public void fechar() throws IOException {
+            if (pendente.position() > 0) {
+                codificador.encode(pendente.flip(), bytes, true);
+                pendente.clear();
+            }
+            gravarBytes();
+            canal.close();
+        }
+
+        private void codificar(CharBuffer entrada) throws IOException {
+            while (true) {
+                CoderResult resultado = codificador.encode(entrada, bytes, false);
+                if (resultado.isOverflow()) {
+                    gravarBytes();
+                    continue;
+                }
+                if (resultado.isError()) resultado.throwException();
+                return;
+            }
+        }
+
+        private void gravarBytes() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) canal.write(bytes);
+            bytes.clear();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.victorgabdev.iniflex.repositoty;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementação do repositório de funcionários baseada em um arquivo CSV.
+ * <p>
+ * Lê exportações da folha de pagamento no formato {@code nome;dd/MM/yyyy;salario;funcao},
+ * uma linha por funcionário. O arquivo é lido por janelas mapeadas em memória através do
+ * {@link LeitorCsvFuncionarios}, o que permite carregar milhões de linhas sem manter o
+ * conteúdo textual do arquivo no heap.
+ * </p>
+ */
+public class FuncionarioCsvRepository implements IFuncionarioRepository {
+
+    private final Path arquivo;
+
+    /**
+     * Cria um repositório que lê os funcionários do arquivo informado.
+     *
+     * @param arquivo Caminho do arquivo CSV.
+     */
+    public FuncionarioCsvRepository(Path arquivo) {
+        this.arquivo = Objects.requireNonNull(arquivo, "O arquivo não pode ser nulo");
+    }
+
+    /**
+     * Lê todos os funcionários do arquivo CSV.
+     *
+     * @return Uma {@link List} com os funcionários na ordem em que aparecem no arquivo.
+     * @throws java.io.UncheckedIOException caso o arquivo não possa ser lido.
+     * @throws com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException caso alguma linha seja inválida.
+     * @see IFuncionarioRepository#retornaTodosFuncionarios()
+     */
+    @Override
+    public List<Funcionario> retornaTodosFuncionarios() {
+        List<Funcionario> funcionarios = new ArrayList<>();
+        try (LeitorCsvFuncionarios leitor = new LeitorCsvFuncionarios(arquivo)) {
+            leitor.forEachRemaining(funcionarios::add);
+        }
+        return funcionarios;
+    }
+
+    /**
+     * Retorna um cursor que lê o arquivo CSV sob demanda, linha a linha.
+     * <p>
+     * Apenas a janela mapeada corrente e o funcionário em processamento ficam em memória,
+     * o que permite processar arquivos maiores que o heap. O arquivo é fechado junto com o {@link Stream}.
+     * </p>
+     *
+     * @return Um {@link Stream} sequencial e ordenado com os funcionários do arquivo.
+     * @see IFuncionarioRepository#streamFuncionarios()
+     */
+    @Override
+    public Stream<Funcionario> streamFuncionarios() {
+        LeitorCsvFuncionarios leitor = new LeitorCsvFuncionarios(arquivo);
+        Spliterator<Funcionario> spliterator = Spliterators.spliteratorUnknownSize(leitor,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(leitor::close);
+    }
+}
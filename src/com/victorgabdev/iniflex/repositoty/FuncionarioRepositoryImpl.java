@@ -18,6 +18,8 @@ import java.util.List;
  */
 public class FuncionarioRepositoryImpl implements IFuncionarioRepository{
 
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
     public FuncionarioRepositoryImpl() {
     }
 
@@ -40,18 +42,17 @@ public class FuncionarioRepositoryImpl implements IFuncionarioRepository{
     public List<Funcionario> retornaTodosFuncionarios() {
 
         List<Funcionario> funcionarios = new ArrayList<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");;
-
-        funcionarios.add(new Funcionario("Maria", LocalDate.parse("18/10/2000", formatter), new BigDecimal("2009.44"), FuncaoFuncionario.OPERADOR));
-        funcionarios.add(new Funcionario("João", LocalDate.parse("12/05/1990", formatter), new BigDecimal("2284.38"), FuncaoFuncionario.OPERADOR));
-        funcionarios.add(new Funcionario("Caio", LocalDate.parse("02/05/1961", formatter), new BigDecimal("9836.14"), FuncaoFuncionario.COORDENADOR));
-        funcionarios.add(new Funcionario("Miguel", LocalDate.parse("14/10/1988", formatter), new BigDecimal("19119.88"), FuncaoFuncionario.DIRETOR));
-        funcionarios.add(new Funcionario("Alice", LocalDate.parse("05/01/1995", formatter), new BigDecimal("2234.68"), FuncaoFuncionario.RECEPCIONISTA));
-        funcionarios.add(new Funcionario("Heitor", LocalDate.parse("19/11/1999", formatter), new BigDecimal("1582.72"), FuncaoFuncionario.OPERADOR));
-        funcionarios.add(new Funcionario("Arthur", LocalDate.parse("31/03/1993", formatter), new BigDecimal("4071.84"), FuncaoFuncionario.CONTADOR));
-        funcionarios.add(new Funcionario("Laura", LocalDate.parse("08/07/1994", formatter), new BigDecimal("3017.45"), FuncaoFuncionario.GERENTE));
-        funcionarios.add(new Funcionario("Heloísa", LocalDate.parse("24/05/2003", formatter), new BigDecimal("1606.85"), FuncaoFuncionario.ELETRICISTA));
-        funcionarios.add(new Funcionario("Helena", LocalDate.parse("02/09/1996", formatter), new BigDecimal("2799.93"), FuncaoFuncionario.GERENTE));
+
+        funcionarios.add(new Funcionario("Maria", LocalDate.parse("18/10/2000", FORMATTER), new BigDecimal("2009.44"), FuncaoFuncionario.OPERADOR));
+        funcionarios.add(new Funcionario("João", LocalDate.parse("12/05/1990", FORMATTER), new BigDecimal("2284.38"), FuncaoFuncionario.OPERADOR));
+        funcionarios.add(new Funcionario("Caio", LocalDate.parse("02/05/1961", FORMATTER), new BigDecimal("9836.14"), FuncaoFuncionario.COORDENADOR));
+        funcionarios.add(new Funcionario("Miguel", LocalDate.parse("14/10/1988", FORMATTER), new BigDecimal("19119.88"), FuncaoFuncionario.DIRETOR));
+        funcionarios.add(new Funcionario("Alice", LocalDate.parse("05/01/1995", FORMATTER), new BigDecimal("2234.68"), FuncaoFuncionario.RECEPCIONISTA));
+        funcionarios.add(new Funcionario("Heitor", LocalDate.parse("19/11/1999", FORMATTER), new BigDecimal("1582.72"), FuncaoFuncionario.OPERADOR));
+        funcionarios.add(new Funcionario("Arthur", LocalDate.parse("31/03/1993", FORMATTER), new BigDecimal("4071.84"), FuncaoFuncionario.CONTADOR));
+        funcionarios.add(new Funcionario("Laura", LocalDate.parse("08/07/1994", FORMATTER), new BigDecimal("3017.45"), FuncaoFuncionario.GERENTE));
+        funcionarios.add(new Funcionario("Heloísa", LocalDate.parse("24/05/2003", FORMATTER), new BigDecimal("1606.85"), FuncaoFuncionario.ELETRICISTA));
+        funcionarios.add(new Funcionario("Helena", LocalDate.parse("02/09/1996", FORMATTER), new BigDecimal("2799.93"), FuncaoFuncionario.GERENTE));
 
         return funcionarios;
     }
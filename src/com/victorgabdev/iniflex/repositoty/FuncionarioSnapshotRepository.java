@@ -0,0 +1,69 @@
+package com.victorgabdev.iniflex.repositoty;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.store.FuncionarioColunarStore;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do repositório de funcionários baseada em um snapshot binário.
+ * <p>
+ * Lê arquivos gravados por {@link FuncionarioColunarStore#gravar(Path)} ou por
+ * {@code FuncionarioService.salvarSnapshot(Path)}. O arquivo é mapeado em memória e as colunas são
+ * copiadas em bloco, sem interpretar datas ou valores em texto como no {@link FuncionarioCsvRepository}.
+ * </p>
+ * <p>
+ * A leitura das colunas é rápida, mas o repositório entrega objetos {@link Funcionario}: um serviço
+ * carregado por ele ainda cria um objeto por linha e monta o seu agrupamento e a sua primeira versão,
+ * o que custa alguns segundos por milhão de funcionários. Para consultar o snapshot sem essa carga,
+ * use {@link FuncionarioColunarStore#carregar(Path)} diretamente.
+ * </p>
+ */
+public class FuncionarioSnapshotRepository implements IFuncionarioRepository {
+
+    private final Path arquivo;
+
+    /**
+     * Cria um repositório que lê os funcionários do snapshot informado.
+     *
+     * @param arquivo Caminho do snapshot.
+     */
+    public FuncionarioSnapshotRepository(Path arquivo) {
+        this.arquivo = Objects.requireNonNull(arquivo, "O arquivo não pode ser nulo");
+    }
+
+    /**
+     * Lê todos os funcionários do snapshot.
+     *
+     * @return Uma {@link List} com os funcionários na ordem em que foram gravados.
+     * @throws java.io.UncheckedIOException caso o arquivo não possa ser lido.
+     * @throws com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException caso o arquivo
+     *         não seja um snapshot válido ou esteja corrompido.
+     * @see IFuncionarioRepository#retornaTodosFuncionarios()
+     */
+    @Override
+    public List<Funcionario> retornaTodosFuncionarios() {
+        FuncionarioColunarStore store = FuncionarioColunarStore.carregar(arquivo);
+        List<Funcionario> funcionarios = new ArrayList<>(store.tamanho());
+        for (int i = 0; i < store.tamanho(); i++) funcionarios.add(store.getFuncionario(i));
+        return funcionarios;
+    }
+
+    /**
+     * Retorna um cursor sobre o snapshot. As colunas são carregadas de uma vez, mas cada
+     * {@link Funcionario} só é criado quando consumido.
+     *
+     * @return Um {@link Stream} sequencial e ordenado com os funcionários do snapshot.
+     * @see IFuncionarioRepository#streamFuncionarios()
+     */
+    @Override
+    public Stream<Funcionario> streamFuncionarios() {
+        FuncionarioColunarStore store = FuncionarioColunarStore.carregar(arquivo);
+        return IntStream.range(0, store.tamanho()).mapToObj(store::getFuncionario);
+    }
+}
@@ -3,6 +3,7 @@ package com.victorgabdev.iniflex.repositoty;
 import com.victorgabdev.iniflex.entities.Funcionario;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface que define o contrato para um repositório de funcionários.
@@ -24,4 +25,22 @@ public interface IFuncionarioRepository {
      *         Se não houver funcionários cadastrados, retorna uma lista vazia.
      */
     List<Funcionario> retornaTodosFuncionarios();
+
+    /**
+     * Retorna um cursor sobre os funcionários cadastrados.
+     * <p>
+     * Diferente de {@link #retornaTodosFuncionarios()}, implementações que leem de fontes externas
+     * devem produzir os funcionários sob demanda, sem materializar o conjunto completo em memória.
+     * O {@link Stream} retornado pode manter recursos abertos e deve ser fechado após o uso,
+     * preferencialmente com try-with-resources.
+     * </p>
+     * <p>
+     * A implementação padrão apenas percorre a lista de {@link #retornaTodosFuncionarios()}.
+     * </p>
+     *
+     * @return Um {@link Stream} sequencial de {@link Funcionario}, na ordem do repositório.
+     */
+    default Stream<Funcionario> streamFuncionarios() {
+        return retornaTodosFuncionarios().stream();
+    }
 }
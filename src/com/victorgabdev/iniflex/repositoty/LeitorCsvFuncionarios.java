@@ -0,0 +1,310 @@
+package com.victorgabdev.iniflex.repositoty;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor que lê um arquivo CSV de funcionários diretamente de janelas mapeadas em memória.
+ * <p>
+ * Cada linha segue o formato {@code nome;dd/MM/yyyy;salario;funcao}. A leitura é feita byte a byte
+ * sobre o {@link MappedByteBuffer}, sem expressões regulares, sem {@code DateTimeFormatter} e sem
+ * criar uma {@link String} por linha: apenas o nome é decodificado. O arquivo é percorrido em janelas
+ * de tamanho fixo, de forma que nunca é carregado por inteiro no heap.
+ * </p>
+ * <p>
+ * Espaços em volta de cada campo são ignorados. Linhas vazias são ignoradas e a primeira linha não
+ * vazia é descartada quando for um cabeçalho (campo de data que não começa com um dígito). Um BOM
+ * UTF-8 no início do arquivo, como o gravado pelo Excel, é ignorado. O salário aceita ponto ou
+ * vírgula como separador decimal.
+ * </p>
+ */
+class LeitorCsvFuncionarios implements Iterator<Funcionario>, Closeable {
+
+    /** Tamanho máximo de cada janela mapeada do arquivo. */
+    static final int TAMANHO_JANELA = 64 * 1024 * 1024;
+
+    private static final byte SEPARADOR = ';';
+    private static final byte[] BOM_UTF8 = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /** Nomes e descrições das funções em ASCII maiúsculo, indexados pelo ordinal da função. */
+    private static final byte[][] NOMES_FUNCOES = new byte[FuncaoFuncionario.values().length][];
+    private static final byte[][] DESCRICOES_FUNCOES = new byte[FuncaoFuncionario.values().length][];
+
+    static {
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            NOMES_FUNCOES[funcao.ordinal()] = maiusculas(funcao.name());
+            DESCRICOES_FUNCOES[funcao.ordinal()] = maiusculas(funcao.getDescricao());
+        }
+    }
+
+    private final Path arquivo;
+    private final FileChannel canal;
+    private final long tamanhoArquivo;
+    private final int tamanhoJanela;
+
+    private MappedByteBuffer janela;
+    private long inicioJanela;
+    private int posicao;
+    private long numeroLinha;
+    private boolean primeiraLinhaLida;
+
+    private byte[] bufferNome = new byte[64];
+    private Funcionario proximo;
+
+    LeitorCsvFuncionarios(Path arquivo) {
+        this(arquivo, TAMANHO_JANELA);
+    }
+
+    /**
+     * @param tamanhoJanela Tamanho máximo de cada janela mapeada, que também limita o tamanho de uma linha.
+     */
+    LeitorCsvFuncionarios(Path arquivo, int tamanhoJanela) {
+        this.arquivo = arquivo;
+        this.tamanhoJanela = tamanhoJanela;
+        try {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+            this.tamanhoArquivo = canal.size();
+            mapearJanela(0);
+            if (comecaComBom()) posicao = BOM_UTF8.length;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o arquivo " + arquivo, e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (proximo == null) proximo = lerProximo();
+        return proximo != null;
+    }
+
+    @Override
+    public Funcionario next() {
+        if (!hasNext()) throw new NoSuchElementException("Não há mais funcionários no arquivo " + arquivo);
+        Funcionario funcionario = proximo;
+        proximo = null;
+        return funcionario;
+    }
+
+    @Override
+    public void close() {
+        try {
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lê a próxima linha não vazia do arquivo, remapeando a janela quando a linha
+     * atravessa o seu limite.
+     *
+     * @return o funcionário lido ou {@code null} ao final do arquivo.
+     */
+    private Funcionario lerProximo() {
+        while (true) {
+            if (inicioJanela + posicao >= tamanhoArquivo) return null;
+
+            int fim = procurarFimDeLinha(posicao);
+            if (fim < 0) {
+                if (inicioJanela + janela.limit() < tamanhoArquivo) {
+                    if (posicao == 0)
+                        throw invalido("linha maior que " + tamanhoJanela + " bytes");
+                    mapearJanela(inicioJanela + posicao);
+                    continue;
+                }
+                fim = janela.limit();
+            }
+
+            int inicio = posicao;
+            posicao = fim + 1;
+            numeroLinha++;
+
+            int fimConteudo = fim;
+            if (fimConteudo > inicio && janela.get(fimConteudo - 1) == '\r') fimConteudo--;
+            if (fimConteudo == inicio) continue;
+            if (!primeiraLinhaLida) {
+                primeiraLinhaLida = true;
+                if (ehCabecalho(inicio, fimConteudo)) continue;
+            }
+
+            return lerLinha(inicio, fimConteudo);
+        }
+    }
+
+    private int procurarFimDeLinha(int de) {
+        int limite = janela.limit();
+        for (int i = de; i < limite; i++) {
+            if (janela.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    private Funcionario lerLinha(int inicio, int fim) {
+        int fimNome = procurarSeparador(inicio, fim);
+        int fimData = procurarSeparador(fimNome + 1, fim);
+        int fimSalario = procurarSeparador(fimData + 1, fim);
+
+        String nome = lerNome(inicioAparado(inicio, fimNome), fimAparado(inicio, fimNome));
+        LocalDate dataNascimento = lerData(inicioAparado(fimNome + 1, fimData), fimAparado(fimNome + 1, fimData));
+        BigDecimal salario = lerSalario(inicioAparado(fimData + 1, fimSalario), fimAparado(fimData + 1, fimSalario));
+        FuncaoFuncionario funcao = lerFuncao(inicioAparado(fimSalario + 1, fim), fimAparado(fimSalario + 1, fim));
+
+        return new Funcionario(nome, dataNascimento, salario, funcao);
+    }
+
+    /** Início do campo {@code [inicio, fim)} sem os espaços à esquerda. */
+    private int inicioAparado(int inicio, int fim) {
+        while (inicio < fim && janela.get(inicio) == ' ') inicio++;
+        return inicio;
+    }
+
+    /** Fim do campo {@code [inicio, fim)} sem os espaços à direita. */
+    private int fimAparado(int inicio, int fim) {
+        while (fim > inicio && janela.get(fim - 1) == ' ') fim--;
+        return fim;
+    }
+
+    private int procurarSeparador(int de, int fim) {
+        for (int i = de; i < fim; i++) {
+            if (janela.get(i) == SEPARADOR) return i;
+        }
+        throw invalido("esperado 4 campos separados por ';'");
+    }
+
+    private String lerNome(int inicio, int fim) {
+        if (inicio == fim) throw invalido("nome vazio");
+
+        int tamanho = fim - inicio;
+        if (tamanho > bufferNome.length) bufferNome = new byte[Math.max(tamanho, bufferNome.length * 2)];
+        janela.get(inicio, bufferNome, 0, tamanho);
+        return new String(bufferNome, 0, tamanho, StandardCharsets.UTF_8);
+    }
+
+    private LocalDate lerData(int inicio, int fim) {
+        if (fim - inicio != 10 || janela.get(inicio + 2) != '/' || janela.get(inicio + 5) != '/')
+            throw invalido("data deve estar no formato dd/MM/yyyy");
+
+        int dia = lerInteiro(inicio, inicio + 2);
+        int mes = lerInteiro(inicio + 3, inicio + 5);
+        int ano = lerInteiro(inicio + 6, inicio + 10);
+        try {
+            return LocalDate.of(ano, mes, dia);
+        } catch (DateTimeException e) {
+            throw invalido("data inexistente", e);
+        }
+    }
+
+    private int lerInteiro(int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int digito = janela.get(i) - '0';
+            if (digito < 0 || digito > 9) throw invalido("data deve estar no formato dd/MM/yyyy");
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    private BigDecimal lerSalario(int inicio, int fim) {
+        boolean negativo = inicio < fim && janela.get(inicio) == '-';
+        if (negativo) inicio++;
+
+        long valorSemEscala = 0;
+        int digitos = 0;
+        int escala = -1;
+        for (int i = inicio; i < fim; i++) {
+            byte b = janela.get(i);
+            if ((b == '.' || b == ',') && escala < 0) {
+                escala = 0;
+                continue;
+            }
+            int digito = b - '0';
+            if (digito < 0 || digito > 9) throw invalido("salário inválido");
+            if (++digitos > 18) throw invalido("salário com mais de 18 dígitos");
+            valorSemEscala = valorSemEscala * 10 + digito;
+            if (escala >= 0) escala++;
+        }
+        if (digitos == 0) throw invalido("salário vazio");
+        if (escala > 2) throw invalido("salário com mais de duas casas decimais");
+        if (digitos - Math.max(escala, 0) > 16) throw invalido("salário com mais de 16 dígitos inteiros");
+
+        return BigDecimal.valueOf(negativo ? -valorSemEscala : valorSemEscala, Math.max(escala, 0));
+    }
+
+    private FuncaoFuncionario lerFuncao(int inicio, int fim) {
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            if (igualIgnorandoCaixa(inicio, fim, NOMES_FUNCOES[funcao.ordinal()])
+                    || igualIgnorandoCaixa(inicio, fim, DESCRICOES_FUNCOES[funcao.ordinal()])) {
+                return funcao;
+            }
+        }
+        throw invalido("função inválida");
+    }
+
+    private boolean igualIgnorandoCaixa(int inicio, int fim, byte[] esperado) {
+        if (fim - inicio != esperado.length) return false;
+        for (int i = 0; i < esperado.length; i++) {
+            byte b = janela.get(inicio + i);
+            if (b >= 'a' && b <= 'z') b -= 'a' - 'A';
+            if (b != esperado[i]) return false;
+        }
+        return true;
+    }
+
+    private boolean comecaComBom() {
+        if (janela.limit() < BOM_UTF8.length) return false;
+        for (int i = 0; i < BOM_UTF8.length; i++) {
+            if (janela.get(i) != BOM_UTF8[i]) return false;
+        }
+        return true;
+    }
+
+    private boolean ehCabecalho(int inicio, int fim) {
+        int inicioData = inicio;
+        while (inicioData < fim && janela.get(inicioData) != SEPARADOR) inicioData++;
+        if (inicioData == fim) return false;
+
+        inicioData = inicioAparado(inicioData + 1, fim);
+        byte b = inicioData < fim ? janela.get(inicioData) : 0;
+        return b < '0' || b > '9';
+    }
+
+    private void mapearJanela(long inicio) {
+        try {
+            long tamanho = Math.min(tamanhoJanela, tamanhoArquivo - inicio);
+            janela = canal.map(FileChannel.MapMode.READ_ONLY, inicio, tamanho);
+            inicioJanela = inicio;
+            posicao = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao mapear o arquivo " + arquivo, e);
+        }
+    }
+
+    private ArquivoFuncionariosInvalidoException invalido(String motivo) {
+        return invalido(motivo, null);
+    }
+
+    private ArquivoFuncionariosInvalidoException invalido(String motivo, Throwable causa) {
+        return new ArquivoFuncionariosInvalidoException(
+                String.format("Arquivo %s, linha %d: %s", arquivo, numeroLinha, motivo), causa);
+    }
+
+    private static byte[] maiusculas(String texto) {
+        return texto.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,255 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.calculo.SomaCentavos;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Visão materializada dos funcionários agrupados por {@link FuncaoFuncionario}.
+ * <p>
+ * Em vez de reagrupar a lista inteira a cada consulta, o agrupamento é atualizado de forma
+ * incremental a cada inserção, remoção, alteração de salário ou de função. Para cada função
+ * são mantidos os membros (na ordem de inserção), a soma dos salários e um multiconjunto
+ * ordenado dos salários, todos em centavos, de onde saem o menor e o maior valor. Consultas custam O(número de funções).
+ * </p>
+ * <p>
+ * As atualizações incrementais da soma não verificam estouro: com aritmética módulo 2^64, a soma
+ * final é exata sempre que couber em um {@code long}, mesmo que algum passo intermediário não caiba.
+ * Quem altera os grupos verifica antes, com {@link #verificarSomas(List, FuncaoFuncionario[], long[])},
+ * que a soma final de cada função cabe.
+ * </p>
+ */
+class AgrupamentoPorFuncao {
+
+    private final Map<FuncaoFuncionario, Grupo> grupos = new EnumMap<>(FuncaoFuncionario.class);
+
+    AgrupamentoPorFuncao() {
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) grupos.put(funcao, new Grupo());
+    }
+
+    /**
+     * Adiciona vários funcionários de uma vez: os membros entram nos grupos e cada função é
+     * recalculada uma única vez, em vez de atualizar a árvore de salários por funcionário.
+     */
+    void adicionarTodos(Collection<Funcionario> funcionarios) {
+        for (Funcionario funcionario : funcionarios) grupos.get(funcionario.getFuncao()).membros.add(funcionario);
+        grupos.values().forEach(Grupo::recalcularSalarios);
+    }
+
+    /**
+     * Adiciona vários funcionários a uma mesma função, recalculando-a uma única vez. Chamadas para
+     * funções diferentes alteram grupos independentes e podem ser feitas em paralelo.
+     */
+    void adicionarTodos(FuncaoFuncionario funcao, List<Funcionario> funcionarios) {
+        Grupo grupo = grupos.get(funcao);
+        grupo.membros.addAll(funcionarios);
+        grupo.recalcularSalarios();
+    }
+
+    void remover(Funcionario funcionario) {
+        grupos.get(funcionario.getFuncao()).remover(funcionario);
+    }
+
+    /**
+     * Registra a troca de salário de um funcionário já agrupado.
+     *
+     * @param funcionario   Funcionário cujo salário foi alterado.
+     * @param salarioAntigo Salário anterior à alteração, em centavos.
+     */
+    void salarioAlterado(Funcionario funcionario, long salarioAntigo) {
+        grupos.get(funcionario.getFuncao()).trocarSalario(salarioAntigo, funcionario.getSalarioCentavos());
+    }
+
+    /**
+     * Move um funcionário para o grupo da sua nova função.
+     *
+     * @param funcionario  Funcionário com a função já alterada.
+     * @param funcaoAntiga Função anterior à alteração.
+     */
+    void funcaoAlterada(Funcionario funcionario, FuncaoFuncionario funcaoAntiga) {
+        if (funcaoAntiga == funcionario.getFuncao()) return;
+        grupos.get(funcaoAntiga).remover(funcionario);
+        Grupo novo = grupos.get(funcionario.getFuncao());
+        novo.adicionar(funcionario);
+        novo.foraDeOrdem = true;
+    }
+
+    /**
+     * Coloca no fim do grupo da sua função um funcionário retirado com {@link #remover(Funcionario)},
+     * como {@link #funcaoAlterada(Funcionario, FuncaoFuncionario)} faz com quem troca de função.
+     */
+    void adicionarAoFim(Funcionario funcionario) {
+        Grupo grupo = grupos.get(funcionario.getFuncao());
+        grupo.adicionar(funcionario);
+        grupo.foraDeOrdem = true;
+    }
+
+    /**
+     * Indica se, para a quantidade de alterações de salário informada, recalcular a função com
+     * {@link #recalcularSalarios(FuncaoFuncionario)} é mais barato que registrar cada alteração:
+     * cada registro custa duas operações em posições aleatórias da árvore de salários, enquanto o
+     * recálculo ordena os salários e monta a árvore em ordem.
+     */
+    boolean compensaRecalcular(FuncaoFuncionario funcao, int alteracoesSalario) {
+        return alteracoesSalario * 16L >= grupos.get(funcao).membros.size();
+    }
+
+    /**
+     * Recalcula a soma e os salários ordenados da função a partir dos salários atuais dos membros,
+     * para quando eles foram alterados sem {@link #salarioAlterado(Funcionario, long)}.
+     */
+    void recalcularSalarios(FuncaoFuncionario funcao) {
+        grupos.get(funcao).recalcularSalarios();
+    }
+
+    /**
+     * Calcula, sem alterar nada, o salário de cada membro da função depois do fator, na ordem dos membros.
+     *
+     * @throws ArithmeticException se algum salário ou a soma dos salários da função não couber em um {@code long}.
+     */
+    long[] salariosReajustados(FuncaoFuncionario funcao, FatorPercentual fator) {
+        Set<Funcionario> membros = grupos.get(funcao).membros;
+        long[] salarios = new long[membros.size()];
+        int i = 0;
+        // A soma só verifica que o recálculo da função, depois do aumento, não vai estourar.
+        SomaCentavos soma = new SomaCentavos();
+        for (Funcionario membro : membros) {
+            salarios[i] = fator.aplicar(membro.getSalarioCentavos());
+            soma.adicionar(salarios[i++]);
+        }
+        soma.valor();
+        return salarios;
+    }
+
+    /**
+     * Verifica, sem alterar nada, se a soma dos salários de cada função continua cabendo em um {@code long}
+     * depois que os funcionários informados deixarem os seus grupos e, exceto os removidos, entrarem nos
+     * grupos das novas funções com os novos salários.
+     *
+     * @param funcionarios Funcionários agrupados que serão alterados, com a função e o salário atuais.
+     * @param funcoes      Nova função de cada funcionário, na mesma ordem, ou {@code null} se ele for removido.
+     * @param salarios     Novo salário de cada funcionário, em centavos, na mesma ordem.
+     * @throws ArithmeticException se a soma de alguma função não couber em um {@code long}.
+     */
+    void verificarSomas(List<Funcionario> funcionarios, FuncaoFuncionario[] funcoes, long[] salarios) {
+        SomaCentavos[] somas = new SomaCentavos[FuncaoFuncionario.values().length];
+        grupos.forEach((funcao, grupo) -> somas[funcao.ordinal()] = new SomaCentavos(grupo.soma));
+        for (int i = 0; i < funcoes.length; i++) {
+            Funcionario funcionario = funcionarios.get(i);
+            somas[funcionario.getFuncao().ordinal()].subtrair(funcionario.getSalarioCentavos());
+            if (funcoes[i] != null) somas[funcoes[i].ordinal()].adicionar(salarios[i]);
+        }
+        for (SomaCentavos soma : somas) soma.valor();
+    }
+
+    Set<Funcionario> membros(FuncaoFuncionario funcao) {
+        return Collections.unmodifiableSet(grupos.get(funcao).membros);
+    }
+
+    /**
+     * Indica se os membros da função estão na mesma ordem da carga, o que deixa de valer quando um
+     * funcionário muda de função e entra no fim do novo grupo.
+     */
+    boolean emOrdemDeInsercao(FuncaoFuncionario funcao) {
+        return !grupos.get(funcao).foraDeOrdem;
+    }
+
+    /**
+     * Indica, pelos salários ordenados do grupo, se algum membro da função ganha entre os valores
+     * informados, inclusive, sem percorrer os membros.
+     */
+    boolean temSalarioEntre(FuncaoFuncionario funcao, long minimo, long maximo) {
+        Long menorAcimaDoMinimo = grupos.get(funcao).salarios.ceilingKey(minimo);
+        return menorAcimaDoMinimo != null && menorAcimaDoMinimo <= maximo;
+    }
+
+    /**
+     * @return Os membros de cada função que possui funcionários, na ordem das funções.
+     */
+    Map<FuncaoFuncionario, Set<Funcionario>> gruposNaoVazios() {
+        Map<FuncaoFuncionario, Set<Funcionario>> naoVazios = new EnumMap<>(FuncaoFuncionario.class);
+        grupos.forEach((funcao, grupo) -> {
+            if (!grupo.membros.isEmpty()) naoVazios.put(funcao, Collections.unmodifiableSet(grupo.membros));
+        });
+        return naoVazios;
+    }
+
+    /**
+     * @return As estatísticas de cada função que possui funcionários, na ordem das funções.
+     */
+    Map<FuncaoFuncionario, EstatisticasFuncao> estatisticas() {
+        Map<FuncaoFuncionario, EstatisticasFuncao> estatisticas = new EnumMap<>(FuncaoFuncionario.class);
+        grupos.forEach((funcao, grupo) -> {
+            if (!grupo.membros.isEmpty()) {
+                estatisticas.put(funcao, new EstatisticasFuncao(funcao, grupo.membros.size(),
+                        Centavos.paraBigDecimal(grupo.soma),
+                        Centavos.paraBigDecimal(grupo.salarios.firstKey()),
+                        Centavos.paraBigDecimal(grupo.salarios.lastKey())));
+            }
+        });
+        return estatisticas;
+    }
+
+    private static class Grupo {
+
+        private final Set<Funcionario> membros = new LinkedHashSet<>();
+        private final TreeMap<Long, Integer> salarios = new TreeMap<>();
+        private long soma;
+        private boolean foraDeOrdem;
+
+        void adicionar(Funcionario funcionario) {
+            if (!membros.add(funcionario)) return;
+            soma += funcionario.getSalarioCentavos();
+            salarios.merge(funcionario.getSalarioCentavos(), 1, Integer::sum);
+        }
+
+        void remover(Funcionario funcionario) {
+            if (!membros.remove(funcionario)) return;
+            soma -= funcionario.getSalarioCentavos();
+            retirarSalario(funcionario.getSalarioCentavos());
+        }
+
+        void trocarSalario(long antigo, long novo) {
+            soma += novo - antigo;
+            retirarSalario(antigo);
+            salarios.merge(novo, 1, Integer::sum);
+        }
+
+        void recalcularSalarios() {
+            long[] valores = new long[membros.size()];
+            int i = 0;
+            SomaCentavos total = new SomaCentavos();
+            for (Funcionario membro : membros) {
+                valores[i] = membro.getSalarioCentavos();
+                total.adicionar(valores[i++]);
+            }
+            long novaSoma = total.valor();
+            Arrays.sort(valores);
+
+            // Inserções em ordem crescente descem sempre pelo caminho mais à direita da árvore.
+            salarios.clear();
+            for (int inicio = 0, fim; inicio < valores.length; inicio = fim) {
+                fim = inicio + 1;
+                while (fim < valores.length && valores[fim] == valores[inicio]) fim++;
+                salarios.put(valores[inicio], fim - inicio);
+            }
+            soma = novaSoma;
+        }
+
+        private void retirarSalario(long salario) {
+            salarios.computeIfPresent(salario, (s, quantidade) -> quantidade == 1 ? null : quantidade - 1);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.victorgabdev.iniflex.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Cache de resultados de consultas, identificados pela operação e pelos parâmetros.
+ * <p>
+ * Cada resultado guarda a geração em que foi calculado. {@link #invalidar()} apenas avança a
+ * geração, em O(1): resultados de gerações anteriores passam a ser ignorados e são substituídos na
+ * próxima consulta ou descartados pela política LRU, que mantém no máximo {@code capacidade}
+ * resultados. Esta classe não é thread-safe.
+ * </p>
+ */
+final class CacheConsultas {
+
+    private final LinkedHashMap<Chave, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Chave, Entrada> maisAntiga) {
+            return size() > capacidade;
+        }
+    };
+
+    private int capacidade;
+    private long geracao;
+    private long acertos;
+    private long falhas;
+
+    CacheConsultas(int capacidade) {
+        setCapacidade(capacidade);
+    }
+
+    /**
+     * Retorna o resultado da consulta, calculando-o apenas se não houver um da geração atual.
+     *
+     * @param operacao   Nome da operação.
+     * @param parametros Parâmetros da consulta, com {@code equals} por valor; {@code null} se não houver.
+     * @param calculo    Cálculo do resultado, executado em caso de falha.
+     * @return O resultado em cache ou o recém-calculado.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T obter(String operacao, Object parametros, Supplier<T> calculo) {
+        Chave chave = new Chave(operacao, parametros);
+        Entrada entrada = entradas.get(chave);
+        if (entrada != null && entrada.geracao == geracao) {
+            acertos++;
+            return (T) entrada.valor;
+        }
+
+        falhas++;
+        T valor = calculo.get();
+        if (capacidade > 0) entradas.put(chave, new Entrada(geracao, valor));
+        return valor;
+    }
+
+    /** Invalida todos os resultados calculados até aqui. */
+    void invalidar() {
+        geracao++;
+    }
+
+    boolean isAtivo() {
+        return capacidade > 0;
+    }
+
+    void setCapacidade(int capacidade) {
+        if (capacidade < 0) throw new IllegalArgumentException("A capacidade do cache não pode ser negativa: " + capacidade);
+        this.capacidade = capacidade;
+        Iterator<Chave> maisAntigas = entradas.keySet().iterator();
+        while (entradas.size() > capacidade) {
+            maisAntigas.next();
+            maisAntigas.remove();
+        }
+    }
+
+    int getCapacidade() {
+        return capacidade;
+    }
+
+    int tamanho() {
+        return entradas.size();
+    }
+
+    long getAcertos() {
+        return acertos;
+    }
+
+    long getFalhas() {
+        return falhas;
+    }
+
+    private static final class Chave {
+
+        private final String operacao;
+        private final Object parametros;
+
+        Chave(String operacao, Object parametros) {
+            this.operacao = operacao;
+            this.parametros = parametros;
+        }
+
+        @Override
+        public boolean equals(Object outro) {
+            if (this == outro) return true;
+            if (!(outro instanceof Chave)) return false;
+            Chave chave = (Chave) outro;
+            return operacao.equals(chave.operacao) && Objects.equals(parametros, chave.parametros);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * operacao.hashCode() + Objects.hashCode(parametros);
+        }
+    }
+
+    private static final class Entrada {
+
+        private final long geracao;
+        private final Object valor;
+
+        Entrada(long geracao, Object valor) {
+            this.geracao = geracao;
+            this.valor = valor;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Índice de aniversários por mês e dia de nascimento.
+ * <p>
+ * Os funcionários ficam em um calendário de 12 x 31 posições, uma por dia do ano (29 de fevereiro
+ * incluso), e também em um conjunto por mês que preserva a ordem de inserção. Consultas por meses
+ * ou por janela de datas visitam no máximo 372 posições e custam, fora isso, o tamanho do resultado.
+ * </p>
+ * <p>
+ * Nascidos em 29 de fevereiro fazem aniversário em 28 de fevereiro nos anos não bissextos, como em
+ * {@link LocalDate#withYear(int)}.
+ * </p>
+ */
+class CalendarioAniversarios {
+
+    private static final int DIAS_POR_MES = 31;
+
+    /** Quantidade de dias a partir da qual uma janela cobre todos os aniversários do ano. */
+    private static final int DIAS_ANO_COMPLETO = 366;
+
+    private final List<Set<Funcionario>> porDia = new ArrayList<>(12 * DIAS_POR_MES);
+    private final List<Set<Funcionario>> porMes = new ArrayList<>(13);
+
+    CalendarioAniversarios() {
+        for (int i = 0; i < 12 * DIAS_POR_MES; i++) porDia.add(new LinkedHashSet<>());
+        for (int mes = 0; mes <= 12; mes++) porMes.add(new LinkedHashSet<>());
+    }
+
+    void adicionar(Funcionario funcionario) {
+        LocalDate nascimento = funcionario.getDataNascimento();
+        porDia.get(posicao(nascimento.getMonthValue(), nascimento.getDayOfMonth())).add(funcionario);
+        porMes.get(nascimento.getMonthValue()).add(funcionario);
+    }
+
+    void remover(Funcionario funcionario) {
+        LocalDate nascimento = funcionario.getDataNascimento();
+        porDia.get(posicao(nascimento.getMonthValue(), nascimento.getDayOfMonth())).remove(funcionario);
+        porMes.get(nascimento.getMonthValue()).remove(funcionario);
+    }
+
+    /**
+     * @return Os nascidos no mês, na ordem de inserção.
+     * @throws IllegalArgumentException se o mês for inválido.
+     */
+    Set<Funcionario> doMes(int mes) {
+        validarMes(mes);
+        return Collections.unmodifiableSet(porMes.get(mes));
+    }
+
+    /**
+     * @return Os nascidos nos meses informados, na ordem dos meses e, dentro de cada mês, na ordem
+     * de inserção. Meses repetidos são considerados uma única vez.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    List<Funcionario> dosMeses(int... meses) {
+        boolean[] incluidos = new boolean[13];
+        List<Funcionario> resultado = new ArrayList<>();
+        for (int mes : meses) {
+            validarMes(mes);
+            if (incluidos[mes]) continue;
+            incluidos[mes] = true;
+            resultado.addAll(porMes.get(mes));
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna os nascidos entre dois meses, inclusive. Se o mês final for anterior ao inicial, o
+     * intervalo passa pela virada do ano (de 11 a 2: novembro, dezembro, janeiro e fevereiro).
+     *
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    List<Funcionario> entreMeses(int mesInicial, int mesFinal) {
+        validarMes(mesInicial);
+        validarMes(mesFinal);
+        List<Funcionario> resultado = new ArrayList<>();
+        for (int mes = mesInicial; ; mes = mes % 12 + 1) {
+            resultado.addAll(porMes.get(mes));
+            if (mes == mesFinal) return resultado;
+        }
+    }
+
+    /**
+     * Retorna quem faz aniversário entre duas datas, inclusive, em ordem cronológica dos
+     * aniversários e, no mesmo dia, na ordem de inserção. Cada funcionário aparece uma única vez,
+     * mesmo que a janela tenha mais de um ano.
+     *
+     * @throws IllegalArgumentException se a data final for anterior à inicial.
+     */
+    List<Funcionario> entreDatas(LocalDate inicio, LocalDate fim) {
+        if (fim.isBefore(inicio)) throw new IllegalArgumentException("A data final é anterior à inicial");
+
+        List<Funcionario> resultado = new ArrayList<>();
+        if (ChronoUnit.DAYS.between(inicio, fim) + 1 >= DIAS_ANO_COMPLETO) {
+            // A janela cobre todos os dias do calendário: percorre um ano a partir do dia inicial.
+            int inicial = posicao(inicio.getMonthValue(), inicio.getDayOfMonth());
+            for (int i = 0; i < porDia.size(); i++) resultado.addAll(porDia.get((inicial + i) % porDia.size()));
+            return resultado;
+        }
+
+        for (LocalDate dia = inicio; !dia.isAfter(fim); dia = dia.plusDays(1)) {
+            resultado.addAll(porDia.get(posicao(dia.getMonthValue(), dia.getDayOfMonth())));
+            if (dia.getMonthValue() == 2 && dia.getDayOfMonth() == 28 && !dia.isLeapYear()) {
+                resultado.addAll(porDia.get(posicao(2, 29)));
+            }
+        }
+        return resultado;
+    }
+
+    private static int posicao(int mes, int dia) {
+        return (mes - 1) * DIAS_POR_MES + dia - 1;
+    }
+
+    private static void validarMes(int mes) {
+        if (mes < 1 || mes > 12) throw new IllegalArgumentException("Mês inválido: " + mes);
+    }
+}
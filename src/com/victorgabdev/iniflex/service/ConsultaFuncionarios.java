@@ -0,0 +1,521 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.metricas.Medicao;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * Consulta sobre os funcionários de um {@link FuncionarioService}, criada com
+ * {@link FuncionarioService#consultar()}:
+ * <pre>{@code
+ * List<String> nomes = service.consultar()
+ *         .comFuncao(FuncaoFuncionario.OPERADOR)
+ *         .comSalarioEntre(new BigDecimal("2000.00"), null)
+ *         .ordenarPor(Comparator.comparing(Funcionario::getNome))
+ *         .limitar(10)
+ *         .listar(Funcionario::getNome);
+ * }</pre>
+ * <p>
+ * Os filtros, a ordenação e o limite apenas descrevem a consulta, que é executada pelas operações
+ * terminais ({@link #listar()}, {@link #paraCada(Consumer)}, {@link #contar()}, {@link #agregar(Collector)}...).
+ * Na execução, o filtro com índice mais seletivo define de onde os candidatos são lidos:
+ * </p>
+ * <ul>
+ *   <li>função: os grupos do agrupamento por função, descartando as funções sem nenhum salário na
+ *   faixa pedida, pelos salários ordenados de cada grupo;</li>
+ *   <li>mês de nascimento: o calendário de aniversários;</li>
+ *   <li>prefixo do nome: as chaves do índice de nomes, quando os outros índices não reduzem os
+ *   candidatos a menos de um quarto.</li>
+ * </ul>
+ * <p>
+ * Sem índice útil, a lista inteira é percorrida. Todos os filtros são aplicados juntos, em uma única
+ * passada sobre os candidatos, dos mais baratos para os mais caros. Sem ordenação, a passada para
+ * assim que o limite é atingido; com ordenação e limite, apenas os primeiros são mantidos em um heap
+ * ({@link SelecaoOrdenada}). No modo paralelo do serviço, ordenações completas e consultas pelo
+ * primeiro de uma ordem sobre a lista inteira usam o fork-join.
+ * </p>
+ * <p>
+ * O resultado não depende do caminho escolhido: sem ordenação os funcionários vêm na ordem de
+ * inserção, e com ordenação os empates são desfeitos por ela. A consulta pode ser executada várias
+ * vezes e sempre lê o estado atual do serviço. Assim como o serviço, não é thread-safe.
+ * </p>
+ */
+public final class ConsultaFuncionarios {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    /** Fração da lista abaixo da qual os índices de função e mês dispensam o índice de nomes. */
+    private static final int DIVISOR_SELETIVIDADE_PREFIXO = 4;
+
+    private final FuncionarioService service;
+    private final OperacaoFuncionario operacao;
+
+    /** Funções aceitas, pelo ordinal; {@code null} aceita todas. */
+    private boolean[] funcoes;
+    private long salarioMinimo = Long.MIN_VALUE;
+    private long salarioMaximo = Long.MAX_VALUE;
+    private LocalDate nascimentoInicial;
+    private LocalDate nascimentoFinal;
+
+    /** Meses de nascimento aceitos, indexados de 1 a 12; {@code null} aceita todos. */
+    private boolean[] meses;
+
+    /** Prefixo do nome sem acentos e em minúsculas; {@code null} aceita qualquer nome. */
+    private String prefixoNome;
+
+    /** Indica que os filtros se contradizem, como dois prefixos incompatíveis. */
+    private boolean vazia;
+
+    private Predicate<Funcionario> predicado;
+    private Comparator<Funcionario> ordem;
+    private int quantidadePulada;
+    private int limite = Integer.MAX_VALUE;
+
+    ConsultaFuncionarios(FuncionarioService service, OperacaoFuncionario operacao) {
+        this.service = service;
+        this.operacao = operacao;
+    }
+
+    /**
+     * Mantém apenas os funcionários de uma das funções informadas.
+     */
+    public ConsultaFuncionarios comFuncao(FuncaoFuncionario... funcoes) {
+        boolean[] aceitas = new boolean[FUNCOES.length];
+        for (FuncaoFuncionario funcao : funcoes) aceitas[Objects.requireNonNull(funcao, "funcao").ordinal()] = true;
+        if (this.funcoes != null) {
+            for (int i = 0; i < aceitas.length; i++) aceitas[i] &= this.funcoes[i];
+        }
+        this.funcoes = aceitas;
+        return this;
+    }
+
+    /**
+     * Mantém apenas os funcionários com salário entre os valores, inclusive.
+     *
+     * @param minimo Menor salário, ou {@code null} para não limitar.
+     * @param maximo Maior salário, ou {@code null} para não limitar.
+     */
+    public ConsultaFuncionarios comSalarioEntre(BigDecimal minimo, BigDecimal maximo) {
+        return comSalarioEntreCentavos(
+                minimo == null ? Long.MIN_VALUE : Centavos.de(minimo.setScale(2, RoundingMode.CEILING)),
+                maximo == null ? Long.MAX_VALUE : Centavos.de(maximo.setScale(2, RoundingMode.FLOOR)));
+    }
+
+    /**
+     * Como {@link #comSalarioEntre(BigDecimal, BigDecimal)}, com os valores em centavos.
+     */
+    public ConsultaFuncionarios comSalarioEntreCentavos(long minimo, long maximo) {
+        salarioMinimo = Math.max(salarioMinimo, minimo);
+        salarioMaximo = Math.min(salarioMaximo, maximo);
+        return this;
+    }
+
+    /**
+     * Mantém apenas os nascidos entre as datas, inclusive.
+     *
+     * @param inicio Primeira data, ou {@code null} para não limitar.
+     * @param fim    Última data, ou {@code null} para não limitar.
+     */
+    public ConsultaFuncionarios nascidosEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio != null && (nascimentoInicial == null || inicio.isAfter(nascimentoInicial))) nascimentoInicial = inicio;
+        if (fim != null && (nascimentoFinal == null || fim.isBefore(nascimentoFinal))) nascimentoFinal = fim;
+        return this;
+    }
+
+    /**
+     * Mantém apenas os nascidos em um dos meses informados.
+     *
+     * @param meses Meses de nascimento (1 a 12).
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public ConsultaFuncionarios nascidosNosMeses(int... meses) {
+        boolean[] aceitos = new boolean[13];
+        for (int mes : meses) {
+            if (mes < 1 || mes > 12) throw new IllegalArgumentException("Mês inválido: " + mes);
+            aceitos[mes] = true;
+        }
+        if (this.meses != null) {
+            for (int i = 0; i < aceitos.length; i++) aceitos[i] &= this.meses[i];
+        }
+        this.meses = aceitos;
+        return this;
+    }
+
+    /**
+     * Mantém apenas os funcionários cujo nome começa com o prefixo, ignorando maiúsculas/minúsculas e acentos.
+     */
+    public ConsultaFuncionarios comNomeIniciadoPor(String prefixo) {
+        String normalizado = IndiceFuncionarios.normalizarNome(Objects.requireNonNull(prefixo, "prefixo"));
+        if (prefixoNome == null || normalizado.startsWith(prefixoNome)) {
+            prefixoNome = normalizado;
+        } else if (!prefixoNome.startsWith(normalizado)) {
+            vazia = true;
+        }
+        return this;
+    }
+
+    /**
+     * Mantém apenas os funcionários que satisfazem o predicado, avaliado depois dos demais filtros.
+     */
+    public ConsultaFuncionarios filtrar(Predicate<? super Funcionario> predicado) {
+        Objects.requireNonNull(predicado, "predicado");
+        Predicate<Funcionario> novo = predicado::test;
+        this.predicado = this.predicado == null ? novo : this.predicado.and(novo);
+        return this;
+    }
+
+    /**
+     * Ordena o resultado. Chamadas seguintes desempatam as anteriores e os empates restantes
+     * seguem a ordem de inserção.
+     */
+    public ConsultaFuncionarios ordenarPor(Comparator<? super Funcionario> ordem) {
+        Objects.requireNonNull(ordem, "ordem");
+        Comparator<Funcionario> nova = ordem::compare;
+        this.ordem = this.ordem == null ? nova : this.ordem.thenComparing(nova);
+        return this;
+    }
+
+    /**
+     * Descarta os primeiros funcionários do resultado, como em uma paginação.
+     *
+     * @throws IllegalArgumentException se a quantidade for negativa.
+     */
+    public ConsultaFuncionarios pular(int quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("A quantidade não pode ser negativa: " + quantidade);
+        this.quantidadePulada = quantidade;
+        return this;
+    }
+
+    /**
+     * Limita a quantidade de funcionários do resultado.
+     *
+     * @throws IllegalArgumentException se a quantidade for negativa.
+     */
+    public ConsultaFuncionarios limitar(int quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("A quantidade não pode ser negativa: " + quantidade);
+        this.limite = quantidade;
+        return this;
+    }
+
+    /**
+     * @return Os funcionários do resultado, em uma lista não modificável.
+     */
+    public List<Funcionario> listar() {
+        return listar(Function.identity());
+    }
+
+    /**
+     * @param projecao Valor extraído de cada funcionário, como {@code Funcionario::getNome}.
+     * @return Os valores projetados, na ordem do resultado, em uma lista não modificável.
+     */
+    public <R> List<R> listar(Function<? super Funcionario, ? extends R> projecao) {
+        List<R> resultado = new ArrayList<>();
+        executar(limite, funcionario -> resultado.add(projecao.apply(funcionario)));
+        return Collections.unmodifiableList(resultado);
+    }
+
+    /**
+     * Executa a ação para cada funcionário do resultado, na ordem do resultado.
+     */
+    public void paraCada(Consumer<? super Funcionario> acao) {
+        executar(limite, acao::accept);
+    }
+
+    /**
+     * @return O primeiro funcionário do resultado. Sem ordenação, a passada para no primeiro encontrado.
+     */
+    public Optional<Funcionario> primeiro() {
+        Funcionario[] encontrado = new Funcionario[1];
+        executar(Math.min(limite, 1), funcionario -> encontrado[0] = funcionario);
+        return Optional.ofNullable(encontrado[0]);
+    }
+
+    /**
+     * @return A quantidade de funcionários do resultado.
+     */
+    public long contar() {
+        long[] quantidade = new long[1];
+        executar(limite, funcionario -> quantidade[0]++);
+        return quantidade[0];
+    }
+
+    /**
+     * @return A soma dos salários do resultado, em centavos.
+     * @throws ArithmeticException se a soma ultrapassar o limite de {@code long}.
+     */
+    public long somarSalariosCentavos() {
+        long[] total = new long[1];
+        executar(limite, funcionario -> total[0] = Math.addExact(total[0], funcionario.getSalarioCentavos()));
+        return total[0];
+    }
+
+    /**
+     * Agrega o resultado com um {@link Collector}, como {@code Collectors.groupingBy(...)} ou
+     * {@code Collectors.averagingLong(Funcionario::getSalarioCentavos)}.
+     */
+    public <A, R> R agregar(Collector<? super Funcionario, A, R> coletor) {
+        A acumulador = coletor.supplier().get();
+        BiConsumer<A, ? super Funcionario> acumular = coletor.accumulator();
+        executar(limite, funcionario -> acumular.accept(acumulador, funcionario));
+        return coletor.finisher().apply(acumulador);
+    }
+
+    /**
+     * Descreve como a consulta seria executada agora, para diagnóstico:
+     * {@code "índice de funções: 3 de 10 candidatos; ordenação com heap de 5"}.
+     */
+    public String explicar() {
+        if (vazia || limite == 0) return "resultado vazio, sem leitura";
+        Fonte fonte = escolherFonte(service.funcionariosCarregados());
+        String leitura = fonte.descricao + ": " + fonte.estimativa + " de " + service.funcionariosCarregados().size() + " candidatos";
+        if (ordem == null) return limite == Integer.MAX_VALUE ? leitura : leitura + "; para após " + limite;
+        if (limite == Integer.MAX_VALUE) return leitura + "; ordenação completa";
+        return leitura + "; ordenação com heap de " + ((long) quantidadePulada + limite);
+    }
+
+    /**
+     * Executa a consulta, entregando ao destino no máximo {@code limiteEfetivo} funcionários.
+     */
+    private void executar(int limiteEfetivo, Consumer<Funcionario> destino) {
+        Medicao medicao = service.getMetricas().iniciar(operacao);
+        if (vazia || limiteEfetivo == 0) {
+            medicao.concluir(0);
+            return;
+        }
+
+        Set<Funcionario> todos = service.funcionariosCarregados();
+        Fonte fonte = escolherFonte(todos);
+        Filtrados filtrados = new Filtrados(fonte);
+        ProcessadorParalelo processador = service.processadorParalelo();
+
+        if (ordem == null) {
+            long ignorados = 0;
+            int entregues = 0;
+            while (entregues < limiteEfetivo && filtrados.hasNext()) {
+                Funcionario funcionario = filtrados.next();
+                if (ignorados < quantidadePulada) {
+                    ignorados++;
+                } else {
+                    destino.accept(funcionario);
+                    entregues++;
+                }
+            }
+        } else if (processador != null && fonte.completa
+                && (limiteEfetivo == Integer.MAX_VALUE || limiteEfetivo == 1 && quantidadePulada == 0)) {
+            Funcionario[] lista = todos.toArray(new Funcionario[0]);
+            Funcionario[] candidatos = temFiltros()
+                    ? processador.filtrar(lista, this::aceita).toArray(new Funcionario[0])
+                    : lista;
+            filtrados.examinados = lista.length;
+            if (limiteEfetivo == 1) {
+                if (candidatos.length > 0) destino.accept(processador.maximo(candidatos, ordem.reversed()));
+            } else {
+                Funcionario[] ordenados = processador.ordenar(candidatos, ordem);
+                for (int i = quantidadePulada; i < ordenados.length; i++) destino.accept(ordenados[i]);
+            }
+        } else if (limiteEfetivo < Integer.MAX_VALUE) {
+            long fim = (long) quantidadePulada + limiteEfetivo;
+            if (fim > Integer.MAX_VALUE) throw new IllegalArgumentException("Limite fora do intervalo suportado: " + fim);
+            List<Funcionario> primeiros = SelecaoOrdenada.primeiros(() -> filtrados, (int) fim, ordem);
+            for (int i = quantidadePulada; i < primeiros.size(); i++) destino.accept(primeiros.get(i));
+        } else {
+            List<Funcionario> candidatos = new ArrayList<>();
+            filtrados.forEachRemaining(candidatos::add);
+            candidatos.sort(ordem);
+            for (int i = quantidadePulada; i < candidatos.size(); i++) destino.accept(candidatos.get(i));
+        }
+        medicao.concluir(filtrados.examinados);
+    }
+
+    /**
+     * Escolhe o índice que produz menos candidatos ou, se nenhum reduzir a lista, a lista inteira.
+     */
+    private Fonte escolherFonte(Set<Funcionario> todos) {
+        Fonte melhor = null;
+
+        boolean[] funcoesPossiveis = funcoesPossiveis();
+        if (funcoesPossiveis != null) {
+            List<Collection<Funcionario>> grupos = new ArrayList<>();
+            boolean emOrdem = true;
+            for (FuncaoFuncionario funcao : FUNCOES) {
+                if (!funcoesPossiveis[funcao.ordinal()]) continue;
+                grupos.add(service.agrupamento().membros(funcao));
+                emOrdem &= service.agrupamento().emOrdemDeInsercao(funcao);
+            }
+            melhor = new Fonte("índice de funções", grupos, emOrdem, false, false);
+        }
+
+        if (meses != null) {
+            List<Collection<Funcionario>> doMes = new ArrayList<>();
+            for (int mes = 1; mes <= 12; mes++) {
+                if (meses[mes]) doMes.add(service.indice().buscarPorMesNascimento(mes));
+            }
+            Fonte calendario = new Fonte("índice de meses de nascimento", doMes, true, false, false);
+            if (melhor == null || calendario.estimativa < melhor.estimativa) melhor = calendario;
+        }
+
+        if (prefixoNome != null && (melhor == null || melhor.estimativa > todos.size() / DIVISOR_SELETIVIDADE_PREFIXO)) {
+            List<Collection<Funcionario>> comPrefixo = List.of(service.indice().buscarPorPrefixo(prefixoNome));
+            Fonte nomes = new Fonte("índice de nomes", comPrefixo, false, true, false);
+            if (melhor == null || nomes.estimativa < melhor.estimativa) melhor = nomes;
+        }
+
+        if (melhor == null || melhor.estimativa >= todos.size()) {
+            return new Fonte("lista completa", List.of(todos), true, false, true);
+        }
+        return melhor;
+    }
+
+    /**
+     * Funções que podem ter resultados, combinando o filtro de funções com os salários ordenados de
+     * cada grupo; {@code null} quando nenhuma função pode ser descartada.
+     */
+    private boolean[] funcoesPossiveis() {
+        boolean limitaSalario = salarioMinimo != Long.MIN_VALUE || salarioMaximo != Long.MAX_VALUE;
+        if (funcoes == null && !limitaSalario) return null;
+
+        boolean[] possiveis = new boolean[FUNCOES.length];
+        boolean todas = true;
+        for (FuncaoFuncionario funcao : FUNCOES) {
+            boolean possivel = (funcoes == null || funcoes[funcao.ordinal()])
+                    && (!limitaSalario || service.agrupamento().temSalarioEntre(funcao, salarioMinimo, salarioMaximo));
+            possiveis[funcao.ordinal()] = possivel;
+            todas &= possivel;
+        }
+        return todas ? null : possiveis;
+    }
+
+    private boolean temFiltros() {
+        return funcoes != null || salarioMinimo != Long.MIN_VALUE || salarioMaximo != Long.MAX_VALUE
+                || nascimentoInicial != null || nascimentoFinal != null || meses != null
+                || prefixoNome != null || predicado != null;
+    }
+
+    private boolean aceita(Funcionario funcionario) {
+        return aceita(funcionario, true);
+    }
+
+    /** Aplica todos os filtros, dos mais baratos para os mais caros. */
+    private boolean aceita(Funcionario funcionario, boolean verificarPrefixo) {
+        if (funcoes != null && !funcoes[funcionario.getFuncao().ordinal()]) return false;
+
+        long salario = funcionario.getSalarioCentavos();
+        if (salario < salarioMinimo || salario > salarioMaximo) return false;
+
+        LocalDate nascimento = funcionario.getDataNascimento();
+        if (nascimentoInicial != null && nascimento.isBefore(nascimentoInicial)) return false;
+        if (nascimentoFinal != null && nascimento.isAfter(nascimentoFinal)) return false;
+        if (meses != null && !meses[nascimento.getMonthValue()]) return false;
+
+        if (verificarPrefixo && prefixoNome != null
+                && !IndiceFuncionarios.normalizarNome(funcionario.getNome()).startsWith(prefixoNome)) return false;
+        return predicado == null || predicado.test(funcionario);
+    }
+
+    /**
+     * Origem dos candidatos: a lista inteira ou as coleções de um índice.
+     */
+    private final class Fonte {
+
+        private final String descricao;
+        private final List<Collection<Funcionario>> partes;
+        /** Indica que cada parte já está na ordem de inserção. */
+        private final boolean partesEmOrdem;
+        private final boolean garantePrefixo;
+        private final boolean completa;
+        private final int estimativa;
+
+        Fonte(String descricao, List<Collection<Funcionario>> partes, boolean partesEmOrdem, boolean garantePrefixo,
+              boolean completa) {
+            this.descricao = descricao;
+            this.partes = partes;
+            this.partesEmOrdem = partesEmOrdem;
+            this.garantePrefixo = garantePrefixo;
+            this.completa = completa;
+            int total = 0;
+            for (Collection<Funcionario> parte : partes) total += parte.size();
+            this.estimativa = total;
+        }
+
+        /**
+         * @return Os candidatos na ordem de inserção. Uma única parte ordenada é percorrida
+         *         diretamente; nos demais casos, como vários meses ou um grupo que recebeu uma troca
+         *         de função, a ordem é refeita pela posição de cada candidato na carga.
+         */
+        Iterator<Funcionario> emOrdemDeInsercao() {
+            if (partes.size() == 1 && partesEmOrdem) return partes.get(0).iterator();
+
+            Funcionario[] candidatos = new Funcionario[estimativa];
+            long[] chaves = new long[estimativa];
+            int quantidade = 0;
+            boolean ordenados = true;
+            for (Collection<Funcionario> parte : partes) {
+                for (Funcionario funcionario : parte) {
+                    // Posição na carga nos 32 bits altos e índice no array nos baixos.
+                    chaves[quantidade] = (long) service.posicaoCarga(funcionario) << 32 | quantidade;
+                    if (quantidade > 0 && chaves[quantidade] < chaves[quantidade - 1]) ordenados = false;
+                    candidatos[quantidade++] = funcionario;
+                }
+            }
+            if (ordenados) return Arrays.asList(candidatos).iterator();
+
+            Arrays.sort(chaves, 0, quantidade);
+            Funcionario[] emOrdem = new Funcionario[quantidade];
+            for (int i = 0; i < quantidade; i++) emOrdem[i] = candidatos[(int) chaves[i]];
+            return Arrays.asList(emOrdem).iterator();
+        }
+    }
+
+    /** Candidatos que passam pelos filtros, avaliados sob demanda. */
+    private final class Filtrados implements Iterator<Funcionario> {
+
+        private final Iterator<Funcionario> candidatos;
+        private final boolean verificarPrefixo;
+        private Funcionario proximo;
+        private long examinados;
+
+        Filtrados(Fonte fonte) {
+            this.candidatos = fonte.emOrdemDeInsercao();
+            this.verificarPrefixo = !fonte.garantePrefixo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (proximo == null && candidatos.hasNext()) {
+                Funcionario candidato = candidatos.next();
+                examinados++;
+                if (aceita(candidato, verificarPrefixo)) proximo = candidato;
+            }
+            return proximo != null;
+        }
+
+        @Override
+        public Funcionario next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Funcionario atual = proximo;
+            proximo = null;
+            return atual;
+        }
+    }
+}
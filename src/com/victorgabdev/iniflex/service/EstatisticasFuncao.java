@@ -0,0 +1,56 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+
+import java.math.BigDecimal;
+
+/**
+ * Valores agregados dos funcionários de uma {@link FuncaoFuncionario}: quantidade,
+ * soma, menor e maior salário.
+ * <p>
+ * Instâncias são imutáveis e representam o estado do agrupamento no momento da consulta.
+ * </p>
+ */
+public class EstatisticasFuncao {
+
+    private final FuncaoFuncionario funcao;
+    private final int quantidade;
+    private final BigDecimal totalSalarios;
+    private final BigDecimal menorSalario;
+    private final BigDecimal maiorSalario;
+
+    public EstatisticasFuncao(FuncaoFuncionario funcao, int quantidade, BigDecimal totalSalarios,
+                              BigDecimal menorSalario, BigDecimal maiorSalario) {
+        this.funcao = funcao;
+        this.quantidade = quantidade;
+        this.totalSalarios = totalSalarios;
+        this.menorSalario = menorSalario;
+        this.maiorSalario = maiorSalario;
+    }
+
+    public FuncaoFuncionario getFuncao() {
+        return funcao;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getTotalSalarios() {
+        return totalSalarios;
+    }
+
+    public BigDecimal getMenorSalario() {
+        return menorSalario;
+    }
+
+    public BigDecimal getMaiorSalario() {
+        return maiorSalario;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Função: %s, quantidade: %d, total: %s, menor: %s, maior: %s",
+                funcao.getDescricao(), quantidade, totalSalarios, menorSalario, maiorSalario);
+    }
+}
@@ -1,26 +1,43 @@
 package com.victorgabdev.iniflex.service;
 
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.calculo.DivisorCentavos;
+import com.victorgabdev.iniflex.calculo.FaixasEtarias;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.calculo.TabelaSalarioMinimo;
 import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
 import com.victorgabdev.iniflex.entities.Funcionario;
 import com.victorgabdev.iniflex.entities.Pessoa;
 import com.victorgabdev.iniflex.exceptions.FuncionariosJaCarregadosException;
+import com.victorgabdev.iniflex.metricas.Medicao;
+import com.victorgabdev.iniflex.metricas.Metricas;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
 import com.victorgabdev.iniflex.repositoty.FuncionarioRepositoryImpl;
 import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+import com.victorgabdev.iniflex.store.FuncionarioColunarStore;
+import com.victorgabdev.iniflex.store.FuncionarioOffHeapStore;
+import com.victorgabdev.iniflex.store.RegistroFuncionario;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.NumberFormat;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.Period;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Serviço responsável por gerenciar operações relacionadas aos funcionários,
@@ -29,25 +46,203 @@ import java.util.stream.Collectors;
  */
 public class FuncionarioService {
 
-    /** Lista de funcionários cadastrados. */
-    private List<Funcionario> funcionarios = new ArrayList<>();
+    /** Salário mínimo nacional da tabela padrão de {@link #imprimirSalariosEmMinimos()}: R$ 1212,00. */
+    public static final long SALARIO_MINIMO_CENTAVOS = 1212_00;
 
-    /** Mapa que agrupa funcionários por função. A chave é a função e o valor é a lista de funcionários. */
-    private Map<FuncaoFuncionario, List<Funcionario>> funcionariosAgrupadosPorFuncao = new HashMap<>();
+    /** Quantidade padrão de relatórios mantidos em cache; ver {@link #setCapacidadeCache(int)}. */
+    private static final int CAPACIDADE_CACHE_PADRAO = 64;
+
+    private static final Comparator<Funcionario> POR_NASCIMENTO = Comparator.comparing(Pessoa::getDataNascimento);
+    private static final Comparator<Funcionario> POR_MAIOR_SALARIO =
+            Comparator.comparingLong(Funcionario::getSalarioCentavos).reversed();
+
+    /** Funcionários cadastrados, na ordem de inserção. */
+    private Set<Funcionario> funcionarios = new LinkedHashSet<>();
+
+    /** Índices por nome, função e mês de nascimento, mantidos junto com {@link #funcionarios}. */
+    private final IndiceFuncionarios indice = new IndiceFuncionarios();
+
+    /**
+     * Agrupamento dos funcionários por função, mantido de forma incremental a cada inserção,
+     * remoção e alteração de salário ou função.
+     */
+    private final AgrupamentoPorFuncao funcionariosAgrupadosPorFuncao = new AgrupamentoPorFuncao();
+
+    /** Ordem alfabética pelas chaves de ordenação do {@link #indice}; ver {@link #ordemAlfabetica()}. */
+    private final Comparator<Funcionario> porNome =
+            (a, b) -> ChaveOrdenacaoNome.comparar(indice.chaveOrdenacao(a), indice.chaveOrdenacao(b));
+
+    /** Indica se o agrupamento por função já foi solicitado através de {@link #agruparFuncionariosPorFuncao()}. */
+    private boolean agrupado;
+
+    /** Destino dos métodos {@code imprimir*}; por padrão, a saída padrão. */
+    private EscritorRelatorio saida = EscritorRelatorio.paraConsole();
+
+    /** Executor fork-join das operações em lote; {@code null} quando o modo paralelo está desligado. */
+    private ProcessadorParalelo processadorParalelo;
+
+    /** Versão imutável publicada a cada alteração feita pelo serviço; ver {@link #fixarVersao()}. */
+    private volatile VersaoFuncionarios versaoAtual = VersaoFuncionarios.VAZIA;
+
+    /** Identificador de cada funcionário nas versões: a sua posição na carga. */
+    private final Map<Funcionario, Integer> idsVersao = new IdentityHashMap<>();
+
+    /** Versões com leitores, mantidas para {@link #getQuantidadeVersoesRetidas()}. */
+    private final Set<VersaoFuncionarios> versoesFixadas = ConcurrentHashMap.newKeySet();
+
+    /** Relatórios agregados já formatados; invalidado a cada alteração feita pelo serviço. */
+    private final CacheConsultas cache = new CacheConsultas(CAPACIDADE_CACHE_PADRAO);
+
+    /** Métricas de cada operação; desligadas por padrão, ver {@link #getMetricas()}. */
+    private final Metricas<OperacaoFuncionario> metricas = new Metricas<>(OperacaoFuncionario.class);
+
+    /** Salários mínimos usados em {@link #imprimirSalariosEmMinimos(String, LocalDate)}. */
+    private volatile TabelaSalarioMinimo tabelaSalarioMinimo = TabelaSalarioMinimo.nacional(SALARIO_MINIMO_CENTAVOS);
+
+    /** Log onde as mutações são registradas antes de aplicadas; {@code null} quando o serviço não é persistido. */
+    private PersistenciaFuncionarios persistencia;
 
     /**
      * Repositório de dados de funcionários, responsável pela persistência dos dados.
      * <p>
-     * Utiliza a implementação concreta {@link FuncionarioRepositoryImpl} que fornece
-     * acesso aos dados dos funcionários. Este repositório segue o padrão de injeção
-     * de dependência através do uso da interface {@link IFuncionarioRepository}.
+     * Por padrão utiliza a implementação concreta {@link FuncionarioRepositoryImpl}, mas qualquer
+     * implementação de {@link IFuncionarioRepository} pode ser informada no construtor, como o
+     * {@link com.victorgabdev.iniflex.repositoty.FuncionarioCsvRepository} para cargas a partir de arquivo.
      * </p>
      * <p>
      * O repositório é final e inicializado durante a construção do serviço,
      * garantindo que sempre haverá uma instância válida disponível.
      * </p>
      */
-    private final IFuncionarioRepository repository = new FuncionarioRepositoryImpl();
+    private final IFuncionarioRepository repository;
+
+    /**
+     * Cria o serviço utilizando o repositório em memória {@link FuncionarioRepositoryImpl}.
+     */
+    public FuncionarioService() {
+        this(new FuncionarioRepositoryImpl());
+    }
+
+    /**
+     * Cria o serviço utilizando o repositório informado.
+     *
+     * @param repository Repositório de onde os funcionários serão carregados.
+     */
+    public FuncionarioService(IFuncionarioRepository repository) {
+        this.repository = Objects.requireNonNull(repository, "O repositório não pode ser nulo");
+    }
+
+    /**
+     * Define para onde os métodos {@code imprimir*} escrevem.
+     * <p>
+     * Cada relatório é montado no buffer do escritor e descarregado de uma vez ao final do método.
+     * </p>
+     *
+     * @param saida Escritor de destino, por exemplo {@code new EscritorRelatorio(canal)}.
+     */
+    public void setSaida(EscritorRelatorio saida) {
+        this.saida = Objects.requireNonNull(saida, "A saída não pode ser nula");
+    }
+
+    /**
+     * Liga ou desliga o modo paralelo, usando o {@link ForkJoinPool#commonPool()}.
+     *
+     * @param paralelo {@code true} para executar as operações em lote com fork-join.
+     * @see #setModoParalelo(ForkJoinPool)
+     */
+    public void setModoParalelo(boolean paralelo) {
+        setModoParalelo(paralelo ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Liga o modo paralelo com o pool informado, ou o desliga quando o pool for {@code null}.
+     * <p>
+     * No modo paralelo o total de salários, o agrupamento na carga, o funcionário mais velho, as
+     * consultas ordenadas sem limite e a conversão em salários mínimos dividem os funcionários em blocos
+     * processados com fork-join, e o aumento salarial reajusta e recalcula cada função em uma tarefa
+     * própria. Os resultados são idênticos aos do modo sequencial.
+     * </p>
+     *
+     * @param pool Pool onde as tarefas serão executadas.
+     */
+    public void setModoParalelo(ForkJoinPool pool) {
+        this.processadorParalelo = pool == null ? null : new ProcessadorParalelo(pool);
+    }
+
+    public boolean isModoParalelo() {
+        return processadorParalelo != null;
+    }
+
+    /**
+     * Define quantos relatórios agregados (total de salários, agrupamento por função e salários em
+     * mínimos) são mantidos em cache, descartando os menos usados quando o limite é atingido.
+     * <p>
+     * Enquanto os funcionários não forem alterados pelo serviço, imprimir novamente um desses
+     * relatórios apenas reescreve o texto já formatado. Carregar, remover, aplicar aumentos e alterar
+     * funções invalida o cache; mudanças feitas diretamente nos objetos {@link Funcionario} não são
+     * detectadas.
+     * </p>
+     *
+     * @param capacidade Quantidade máxima de relatórios; 0 desliga o cache. O padrão é 64.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     */
+    public void setCapacidadeCache(int capacidade) {
+        cache.setCapacidade(capacidade);
+    }
+
+    /**
+     * Define a tabela de salários mínimos por região e vigência usada na conversão de salários em mínimos.
+     * <p>
+     * A tabela padrão tem apenas o salário mínimo nacional de R$ 1212,00, vigente em qualquer data.
+     * </p>
+     *
+     * @param tabela Tabela de salários mínimos.
+     */
+    public void setTabelaSalarioMinimo(TabelaSalarioMinimo tabela) {
+        this.tabelaSalarioMinimo = Objects.requireNonNull(tabela, "A tabela de salários mínimos não pode ser nula");
+    }
+
+    public TabelaSalarioMinimo getTabelaSalarioMinimo() {
+        return tabelaSalarioMinimo;
+    }
+
+    /**
+     * @return Quantas impressões com o cache ativo reaproveitaram um relatório já formatado.
+     */
+    public long getAcertosCache() {
+        return cache.getAcertos();
+    }
+
+    /**
+     * @return Quantas impressões com o cache ativo precisaram calcular o relatório.
+     */
+    public long getFalhasCache() {
+        return cache.getFalhas();
+    }
+
+    /**
+     * Retorna as métricas das operações do serviço: chamadas, histograma de latências, funcionários
+     * percorridos e bytes alocados.
+     * <p>
+     * As métricas começam desligadas e, assim, não custam mais que a leitura de um campo por operação.
+     * Para coletar e consultar:
+     * </p>
+     * <pre>{@code
+     * service.getMetricas().setAtivo(true);
+     * service.getMetricas().registrarJmx("funcionarios"); // opcional
+     * ...
+     * System.out.print(service.getMetricas().getRelatorio());
+     * }</pre>
+     *
+     * @return O registro de métricas deste serviço.
+     */
+    public Metricas<OperacaoFuncionario> getMetricas() {
+        return metricas;
+    }
+
+    void setPersistencia(PersistenciaFuncionarios persistencia) {
+        this.persistencia = persistencia;
+    }
 
     /**
      * Insere todos os funcionários na lista, utilizando dados pré-definidos.
@@ -57,20 +252,320 @@ public class FuncionarioService {
     public void inserirFuncionarios() {
 
         if (!funcionarios.isEmpty()) throw new FuncionariosJaCarregadosException("Funcionarios já foram cadastrados");
-        funcionarios = repository.retornaTodosFuncionarios();
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.INSERIR_FUNCIONARIOS);
+        funcionarios = new LinkedHashSet<>(repository.retornaTodosFuncionarios());
+        indice.carregar(funcionarios);
+        carregarAgrupamento();
+        for (Funcionario funcionario : funcionarios) idsVersao.put(funcionario, idsVersao.size());
+        versaoAtual = VersaoFuncionarios.de(funcionarios);
+        cache.invalidar();
+        medicao.concluir(funcionarios.size());
     }
 
     /**
      * Remove um funcionário da lista pelo nome.
+     * <p>
+     * A busca usa o índice por nome, ignorando maiúsculas/minúsculas e acentos. Todos os
+     * funcionários com o nome informado são removidos.
+     * </p>
      *
      * @param nome Nome do funcionário a ser removido.
      * @throws NoSuchElementException se a lista de funcionários estiver vazia ou se o funcionário não existir.
      */
     public void removerFuncionario(String nome) {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
-        boolean funcionarioRemovido = funcionarios.removeIf(f -> f.getNome().equalsIgnoreCase(nome));
-        if (!funcionarioRemovido)
+
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.REMOVER_FUNCIONARIO);
+        List<Funcionario> encontrados = new ArrayList<>(indice.buscarPorNome(nome));
+        if (encontrados.isEmpty())
+            throw new NoSuchElementException(String.format("Funcionário com nome '%s' não existe", nome));
+
+        int[] ids = new int[encontrados.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = idsVersao.get(encontrados.get(i));
+        funcionariosAgrupadosPorFuncao.verificarSomas(encontrados, new FuncaoFuncionario[ids.length], new long[ids.length]);
+        VersaoFuncionarios novaVersao = versaoAtual.sem(ids);
+        if (persistencia != null) persistencia.registrarRemocao(nome);
+
+        for (Funcionario funcionario : encontrados) {
+            funcionarios.remove(funcionario);
+            indice.remover(funcionario);
+            funcionariosAgrupadosPorFuncao.remover(funcionario);
+            idsVersao.remove(funcionario);
+        }
+        versaoAtual = novaVersao;
+        cache.invalidar();
+        if (persistencia != null) persistencia.aposMutacao();
+        medicao.concluir(ids.length);
+    }
+
+    /**
+     * Busca os funcionários pelo nome, ignorando maiúsculas/minúsculas e acentos.
+     *
+     * @param nome Nome a ser buscado.
+     * @return Os funcionários com o nome informado, ou uma lista vazia se não houver nenhum.
+     */
+    public List<Funcionario> buscarPorNome(String nome) {
+        return medido(metricas.iniciar(OperacaoFuncionario.BUSCAR_POR_NOME), indice.buscarPorNome(nome));
+    }
+
+    /**
+     * Busca os funcionários que exercem a função informada.
+     *
+     * @param funcao Função a ser buscada.
+     * @return Os funcionários da função, na ordem de inserção.
+     */
+    public Set<Funcionario> buscarPorFuncao(FuncaoFuncionario funcao) {
+        return medido(metricas.iniciar(OperacaoFuncionario.BUSCAR_POR_FUNCAO), funcionariosAgrupadosPorFuncao.membros(funcao));
+    }
+
+    /**
+     * Altera a função de todos os funcionários com o nome informado, mantendo o agrupamento atualizado.
+     *
+     * @param nome       Nome do funcionário, ignorando maiúsculas/minúsculas e acentos.
+     * @param novaFuncao Nova função a ser exercida.
+     * @throws NoSuchElementException se o funcionário não existir.
+     * @throws ArithmeticException se a soma dos salários da nova função não couber em um {@code long};
+     *                             nesse caso nada é alterado.
+     */
+    public void alterarFuncao(String nome, FuncaoFuncionario novaFuncao) {
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.ALTERAR_FUNCAO);
+        List<Funcionario> encontrados = indice.buscarPorNome(nome);
+        if (encontrados.isEmpty())
             throw new NoSuchElementException(String.format("Funcionário com nome '%s' não existe", nome));
+
+        int[] ids = new int[encontrados.size()];
+        FuncaoFuncionario[] funcoes = new FuncaoFuncionario[ids.length];
+        long[] salarios = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idsVersao.get(encontrados.get(i));
+            funcoes[i] = novaFuncao;
+            salarios[i] = encontrados.get(i).getSalarioCentavos();
+        }
+        funcionariosAgrupadosPorFuncao.verificarSomas(encontrados, funcoes, salarios);
+        if (persistencia != null) persistencia.registrarAlteracaoFuncao(nome, novaFuncao);
+
+        for (Funcionario funcionario : encontrados) {
+            FuncaoFuncionario funcaoAntiga = funcionario.getFuncao();
+            funcionario.setFuncao(novaFuncao);
+            funcionariosAgrupadosPorFuncao.funcaoAlterada(funcionario, funcaoAntiga);
+        }
+        versaoAtual = versaoAtual.comFuncao(novaFuncao, ids);
+        cache.invalidar();
+        if (persistencia != null) persistencia.aposMutacao();
+        medicao.concluir(ids.length);
+    }
+
+    /**
+     * Busca os funcionários que fazem aniversário no mês informado.
+     *
+     * @param mes Mês de nascimento (1 a 12).
+     * @return Os funcionários nascidos no mês, na ordem de inserção.
+     * @throws IllegalArgumentException se o mês for inválido.
+     */
+    public Set<Funcionario> buscarPorMesNascimento(int mes) {
+        return medido(metricas.iniciar(OperacaoFuncionario.BUSCAR_POR_MES_NASCIMENTO), indice.buscarPorMesNascimento(mes));
+    }
+
+    /**
+     * Busca os aniversariantes de um conjunto de meses.
+     *
+     * @param meses Meses de nascimento (1 a 12); meses repetidos são considerados uma única vez.
+     * @return Os funcionários na ordem dos meses informados e, dentro de cada mês, na ordem de inserção.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public List<Funcionario> buscarAniversariantes(int... meses) {
+        return medido(metricas.iniciar(OperacaoFuncionario.BUSCAR_ANIVERSARIANTES),
+                Collections.unmodifiableList(indice.calendario().dosMeses(meses)));
+    }
+
+    /**
+     * Busca os aniversariantes de um intervalo de meses, inclusive. Se o mês final for anterior
+     * ao inicial, o intervalo passa pela virada do ano (de 11 a 2: novembro a fevereiro).
+     *
+     * @param mesInicial Primeiro mês do intervalo (1 a 12).
+     * @param mesFinal   Último mês do intervalo (1 a 12).
+     * @return Os funcionários na ordem dos meses e, dentro de cada mês, na ordem de inserção.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public List<Funcionario> buscarAniversariantesEntreMeses(int mesInicial, int mesFinal) {
+        return medido(metricas.iniciar(OperacaoFuncionario.BUSCAR_ANIVERSARIANTES_ENTRE_MESES),
+                Collections.unmodifiableList(indice.calendario().entreMeses(mesInicial, mesFinal)));
+    }
+
+    /**
+     * Busca quem faz aniversário entre duas datas, inclusive, inclusive janelas que atravessam a
+     * virada do ano. Nascidos em 29 de fevereiro fazem aniversário em 28 de fevereiro nos anos não bissextos.
+     *
+     * @param inicio Primeiro dia da janela.
+     * @param fim    Último dia da janela.
+     * @return Os funcionários em ordem cronológica dos aniversários, cada um uma única vez.
+     * @throws IllegalArgumentException se a data final for anterior à inicial.
+     */
+    public List<Funcionario> buscarAniversariantesEntre(LocalDate inicio, LocalDate fim) {
+        return medido(metricas.iniciar(OperacaoFuncionario.BUSCAR_ANIVERSARIANTES_ENTRE),
+                Collections.unmodifiableList(indice.calendario().entreDatas(inicio, fim)));
+    }
+
+    /**
+     * Busca quem faz aniversário nos próximos dias, a partir da data de referência (inclusive).
+     *
+     * @param referencia Data inicial, normalmente o dia atual.
+     * @param dias       Quantidade de dias da janela; 1 considera apenas a data de referência.
+     * @return Os funcionários em ordem cronológica dos aniversários.
+     * @throws IllegalArgumentException se a quantidade de dias for menor que 1.
+     * @see #buscarAniversariantesEntre(LocalDate, LocalDate)
+     */
+    public List<Funcionario> buscarProximosAniversariantes(LocalDate referencia, int dias) {
+        if (dias < 1) throw new IllegalArgumentException("A quantidade de dias deve ser maior que zero: " + dias);
+        return buscarAniversariantesEntre(referencia, referencia.plusDays(dias - 1L));
+    }
+
+    /**
+     * Cria uma consulta sobre os funcionários cadastrados, que combina filtros por função, salário,
+     * data e mês de nascimento e prefixo do nome com ordenação, paginação e agregação. Os filtros
+     * usam o agrupamento por função e os índices de meses e de nomes quando reduzem os candidatos.
+     *
+     * @return Uma nova consulta, sem filtros; ver {@link ConsultaFuncionarios}.
+     */
+    public ConsultaFuncionarios consultar() {
+        return consultar(OperacaoFuncionario.CONSULTAR);
+    }
+
+    /**
+     * Cria uma consulta medida como a operação informada, para os métodos implementados sobre ela.
+     */
+    ConsultaFuncionarios consultar(OperacaoFuncionario operacao) {
+        return new ConsultaFuncionarios(this, operacao);
+    }
+
+    /**
+     * Retorna a ordem alfabética usada pelo serviço, segundo as regras do português do Brasil: acentos e
+     * maiúsculas só desempatam nomes iguais nas letras, então "Élio" vem antes de "Fábio".
+     * <p>
+     * Os funcionários cadastrados são comparados pelas {@link ChaveOrdenacaoNome chaves} calculadas na
+     * carga; para os demais a chave é calculada a cada comparação.
+     * </p>
+     *
+     * @return Um comparador para, por exemplo, {@link ConsultaFuncionarios#ordenarPor(Comparator)}.
+     */
+    public Comparator<Funcionario> ordemAlfabetica() {
+        return porNome;
+    }
+
+    /**
+     * Retorna os {@code k} funcionários mais velhos, do mais velho para o mais novo.
+     * <p>
+     * As datas de nascimento são comparadas diretamente e apenas {@code k} candidatos são mantidos
+     * em um heap, sem ordenar a lista. Em caso de empate prevalece a ordem de inserção.
+     * </p>
+     *
+     * @param k Quantidade máxima de funcionários.
+     * @return Até {@code k} funcionários, ou uma lista vazia se não houver nenhum.
+     * @throws IllegalArgumentException se {@code k} for negativo.
+     */
+    public List<Funcionario> buscarMaisVelhos(int k) {
+        return consultar(OperacaoFuncionario.BUSCAR_MAIS_VELHOS).ordenarPor(POR_NASCIMENTO).limitar(k).listar();
+    }
+
+    /**
+     * Retorna os {@code k} funcionários mais novos, do mais novo para o mais velho.
+     *
+     * @param k Quantidade máxima de funcionários.
+     * @return Até {@code k} funcionários, ou uma lista vazia se não houver nenhum.
+     * @throws IllegalArgumentException se {@code k} for negativo.
+     * @see #buscarMaisVelhos(int)
+     */
+    public List<Funcionario> buscarMaisNovos(int k) {
+        return consultar(OperacaoFuncionario.BUSCAR_MAIS_NOVOS).ordenarPor(POR_NASCIMENTO.reversed()).limitar(k).listar();
+    }
+
+    /**
+     * Busca os funcionários com pelo menos a idade informada na data de referência, como os que já
+     * podem se aposentar por idade.
+     * <p>
+     * A idade mínima é convertida uma única vez na data de nascimento limite, e cada funcionário é
+     * filtrado comparando datas, com o mesmo resultado de
+     * {@code Period.between(nascimento, referencia).getYears() >= idadeMinima}.
+     * </p>
+     *
+     * @param referencia  Data em que as idades são consideradas.
+     * @param idadeMinima Idade mínima em anos completos, a partir de 1.
+     * @return Os funcionários na ordem de inserção, ou uma lista vazia se não houver nenhum.
+     * @throws IllegalArgumentException se a idade mínima for menor que 1.
+     */
+    public List<Funcionario> buscarPorIdadeMinima(LocalDate referencia, int idadeMinima) {
+        LocalDate limite = CalculadoraIdade.em(referencia).limiteNascimento(idadeMinima);
+        return consultar(OperacaoFuncionario.BUSCAR_POR_IDADE_MINIMA).nascidosEntre(null, limite).listar();
+    }
+
+    /**
+     * Conta quantos funcionários estão em cada faixa etária na data de referência.
+     *
+     * @param referencia Data em que as idades são consideradas.
+     * @param limites    Idade mínima de cada faixa a partir da segunda, em ordem crescente; com
+     *                   {@code 18, 30, 60} as faixas são até 17, 18 a 29, 30 a 59 e 60 ou mais.
+     * @return Array indexado pela faixa com a quantidade de funcionários.
+     * @throws IllegalArgumentException se os limites forem inválidos; ver {@link FaixasEtarias#de(CalculadoraIdade, int...)}.
+     */
+    public int[] contarPorFaixaEtaria(LocalDate referencia, int... limites) {
+        FaixasEtarias faixas = FaixasEtarias.de(CalculadoraIdade.em(referencia), limites);
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.CONTAR_POR_FAIXA_ETARIA);
+        int[] contagem = new int[faixas.quantidade()];
+        for (Funcionario funcionario : funcionarios) contagem[faixas.faixa(funcionario.getDataNascimento())]++;
+        return medido(medicao, funcionarios.size(), contagem);
+    }
+
+    /**
+     * Retorna os {@code k} funcionários com os maiores salários, do maior para o menor.
+     *
+     * @param k Quantidade máxima de funcionários.
+     * @return Até {@code k} funcionários, ou uma lista vazia se não houver nenhum.
+     * @throws IllegalArgumentException se {@code k} for negativo.
+     * @see #buscarMaisVelhos(int)
+     */
+    public List<Funcionario> buscarMaioresSalarios(int k) {
+        return consultar(OperacaoFuncionario.BUSCAR_MAIORES_SALARIOS).ordenarPor(POR_MAIOR_SALARIO).limitar(k).listar();
+    }
+
+    /**
+     * Retorna os {@code k} primeiros funcionários em ordem alfabética pelo nome.
+     *
+     * @param k Quantidade máxima de funcionários.
+     * @return Até {@code k} funcionários, ou uma lista vazia se não houver nenhum.
+     * @throws IllegalArgumentException se {@code k} for negativo.
+     * @see #buscarMaisVelhos(int)
+     */
+    public List<Funcionario> buscarPrimeirosEmOrdemAlfabetica(int k) {
+        return consultar(OperacaoFuncionario.BUSCAR_PRIMEIROS_EM_ORDEM_ALFABETICA).ordenarPor(porNome).limitar(k).listar();
+    }
+
+    /**
+     * Retorna uma página da listagem em ordem alfabética.
+     * <p>
+     * Apenas os funcionários até o fim da página são selecionados, então consultar as primeiras
+     * páginas não exige ordenar a lista inteira.
+     * </p>
+     *
+     * @param pagina        Número da página, começando em 1.
+     * @param tamanhoPagina Quantidade de funcionários por página.
+     * @return Os funcionários da página, ou uma lista vazia se ela estiver além do fim.
+     * @throws IllegalArgumentException se a página ou o tamanho forem menores que 1.
+     */
+    public List<Funcionario> listarOrdemAlfabetica(int pagina, int tamanhoPagina) {
+        return paginar(consultar(OperacaoFuncionario.LISTAR_ORDEM_ALFABETICA).ordenarPor(porNome), pagina, tamanhoPagina);
+    }
+
+    /**
+     * Retorna uma página da listagem por salário, do maior para o menor.
+     *
+     * @param pagina        Número da página, começando em 1.
+     * @param tamanhoPagina Quantidade de funcionários por página.
+     * @return Os funcionários da página, ou uma lista vazia se ela estiver além do fim.
+     * @throws IllegalArgumentException se a página ou o tamanho forem menores que 1.
+     * @see #listarOrdemAlfabetica(int, int)
+     */
+    public List<Funcionario> listarMaioresSalarios(int pagina, int tamanhoPagina) {
+        return paginar(consultar(OperacaoFuncionario.LISTAR_MAIORES_SALARIOS).ordenarPor(POR_MAIOR_SALARIO), pagina, tamanhoPagina);
     }
 
     /**
@@ -80,53 +575,281 @@ public class FuncionarioService {
      */
     public void imprimirTodosFuncionarios() {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
-        funcionarios.forEach(System.out::println);
+        consultar(OperacaoFuncionario.IMPRIMIR_TODOS_FUNCIONARIOS).paraCada(f -> saida.escreverFuncionario(f).novaLinha());
+        saida.flush();
     }
 
     /**
      * Aplica um aumento percentual no salário de todos os funcionários.
+     * <p>
+     * O percentual é convertido uma única vez em um {@link FatorPercentual} e aplicado sobre os
+     * salários em centavos, com arredondamento HALF_UP para 2 casas decimais. Como todos os salários
+     * mudam, o agrupamento por função é recalculado uma única vez no final.
+     * </p>
      *
      * @param percentual Percentual de aumento a ser aplicado (ex: 10 para 10%).
      * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     * @throws ArithmeticException se algum salário, a soma dos salários de uma função ou o total dos salários
+     *                             não couber em um {@code long}; nesse caso nenhum salário é alterado.
      */
     public void aplicarAumentoPercentual(double percentual) {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
 
-        funcionarios.forEach(f -> {
-            var novoSalario = calculaNovoSalario(f.getSalario(), percentual);
-            f.setSalario(novoSalario);
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.APLICAR_AUMENTO_PERCENTUAL);
+        FatorPercentual fator = FatorPercentual.de(percentual);
+        // Os novos salários e a nova versão são calculados antes de registrar ou alterar qualquer coisa: se algum
+        // salário ou soma não couber em um long, o aumento falha sem efeito, e o log não guarda um aumento que
+        // falharia na reprodução.
+        long[][] novosSalarios = new long[FuncaoFuncionario.values().length][];
+        paraCadaFuncao(funcao -> novosSalarios[funcao.ordinal()] = funcionariosAgrupadosPorFuncao.salariosReajustados(funcao, fator));
+        VersaoFuncionarios novaVersao = versaoAtual.comAumento(fator);
+        if (persistencia != null) persistencia.registrarAumento(percentual);
+
+        // Todos os salários mudam: cada função é recalculada uma vez, em vez de atualizar a árvore por funcionário.
+        paraCadaFuncao(funcao -> {
+            long[] salarios = novosSalarios[funcao.ordinal()];
+            int i = 0;
+            for (Funcionario funcionario : funcionariosAgrupadosPorFuncao.membros(funcao)) funcionario.setSalarioCentavos(salarios[i++]);
+            funcionariosAgrupadosPorFuncao.recalcularSalarios(funcao);
         });
+        versaoAtual = novaVersao;
+        cache.invalidar();
+        if (persistencia != null) persistencia.aposMutacao();
+        medicao.concluir(funcionarios.size());
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de quem exerce a função informada, com as mesmas
+     * regras de {@link #aplicarAumentoPercentual(double)}. Apenas os membros da função são percorridos.
+     *
+     * @param funcao     Função que recebe o aumento.
+     * @param percentual Percentual de aumento a ser aplicado (ex: 10 para 10%).
+     * @return A quantidade de funcionários que receberam o aumento.
+     */
+    public int aplicarAumentoPercentual(FuncaoFuncionario funcao, double percentual) {
+        return aplicarLote(new LoteMutacoes().aplicarAumentoPercentual(funcao, percentual))
+                .getResultados().get(0).getFuncionariosAfetados();
     }
 
     /**
-     * Agrupa os funcionários por função em um mapa.
-     * A chave é a função e o valor é a lista de funcionários que ocupam essa função.
+     * Aplica um lote de remoções, aumentos por função e trocas de função de uma só vez.
+     * <p>
+     * O resultado é o mesmo de aplicar as mutações uma a uma, mas o estado final de cada funcionário é
+     * calculado antes de qualquer alteração, percorrendo apenas os funcionários com um dos nomes do
+     * lote e os membros das funções que recebem aumento. Em seguida cada funcionário é alterado uma
+     * única vez, e os índices, o agrupamento, a versão e o cache são atualizados uma única vez. Com
+     * persistência, o lote é registrado no log como um único registro, antes de ser aplicado.
+     * </p>
+     * <p>
+     * Mutações que não encontram nenhum funcionário não interrompem o lote: elas aparecem no
+     * resultado com zero funcionários afetados.
+     * </p>
+     *
+     * @param lote Mutações a aplicar, na ordem em que foram adicionadas.
+     * @return Quantos funcionários cada mutação afetou e os totais de removidos e alterados.
+     * @throws IllegalArgumentException se o lote for grande demais para um registro do log.
+     * @throws ArithmeticException se algum salário, a soma dos salários de uma função ou o total dos salários
+     *                             não couber em um {@code long}; nesse caso nada é alterado.
+     */
+    public ResultadoLote aplicarLote(LoteMutacoes lote) {
+        Objects.requireNonNull(lote, "O lote não pode ser nulo");
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.APLICAR_LOTE);
+        PlanoLote plano = PlanoLote.de(lote, indice, funcionariosAgrupadosPorFuncao);
+        if (!plano.temEfeito()) return medido(medicao, plano.candidatos(), plano.resultado(0, 0));
+
+        // As somas das funções e a nova versão são verificadas antes de registrar ou alterar qualquer coisa,
+        // como no aumento geral.
+        int[] removidos = new int[plano.candidatos()];
+        int[] alterados = new int[plano.candidatos()];
+        FuncaoFuncionario[] novasFuncoes = new FuncaoFuncionario[plano.candidatos()];
+        long[] novosSalarios = new long[plano.candidatos()];
+        // Removidos e alterados juntos, com a função final (nula para os removidos) e o salário final.
+        List<Funcionario> mudancas = new ArrayList<>();
+        FuncaoFuncionario[] funcoesFinais = new FuncaoFuncionario[plano.candidatos()];
+        long[] salariosFinais = new long[plano.candidatos()];
+        int[] alteracoesSalario = new int[FuncaoFuncionario.values().length];
+        int quantidadeRemovidos = 0;
+        int quantidadeAlterados = 0;
+        for (Map.Entry<Funcionario, PlanoLote.Estado> entrada : plano.estados().entrySet()) {
+            Funcionario funcionario = entrada.getKey();
+            PlanoLote.Estado estado = entrada.getValue();
+            boolean salarioMuda = estado.salario != funcionario.getSalarioCentavos();
+            if (estado.removido) {
+                removidos[quantidadeRemovidos++] = idsVersao.get(funcionario);
+            } else if (salarioMuda || estado.funcao != funcionario.getFuncao()) {
+                alterados[quantidadeAlterados] = idsVersao.get(funcionario);
+                novasFuncoes[quantidadeAlterados] = estado.funcao;
+                novosSalarios[quantidadeAlterados++] = estado.salario;
+            } else {
+                continue;
+            }
+            if (!estado.removido) {
+                funcoesFinais[mudancas.size()] = estado.funcao;
+                salariosFinais[mudancas.size()] = estado.salario;
+                if (!estado.trocouFuncao() && salarioMuda) alteracoesSalario[estado.funcao.ordinal()]++;
+            }
+            mudancas.add(funcionario);
+        }
+        funcionariosAgrupadosPorFuncao.verificarSomas(mudancas, Arrays.copyOf(funcoesFinais, mudancas.size()),
+                Arrays.copyOf(salariosFinais, mudancas.size()));
+        VersaoFuncionarios novaVersao = versaoAtual.comLote(Arrays.copyOf(removidos, quantidadeRemovidos),
+                Arrays.copyOf(alterados, quantidadeAlterados), Arrays.copyOf(novasFuncoes, quantidadeAlterados),
+                Arrays.copyOf(novosSalarios, quantidadeAlterados));
+        if (persistencia != null) persistencia.registrarLote(plano);
+
+        // Funções com muitos salários alterados têm a árvore de salários recalculada uma vez no final.
+        boolean[] recalcular = new boolean[alteracoesSalario.length];
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            recalcular[funcao.ordinal()] = alteracoesSalario[funcao.ordinal()] > 0
+                    && funcionariosAgrupadosPorFuncao.compensaRecalcular(funcao, alteracoesSalario[funcao.ordinal()]);
+        }
+
+        List<Map.Entry<Funcionario, PlanoLote.Estado>> trocasFuncao = new ArrayList<>();
+        for (Map.Entry<Funcionario, PlanoLote.Estado> entrada : plano.estados().entrySet()) {
+            Funcionario funcionario = entrada.getKey();
+            PlanoLote.Estado estado = entrada.getValue();
+            if (estado.removido) {
+                funcionarios.remove(funcionario);
+                indice.remover(funcionario);
+                funcionariosAgrupadosPorFuncao.remover(funcionario);
+                idsVersao.remove(funcionario);
+                continue;
+            }
+
+            // Quem troca de função sai do grupo antigo com o salário antigo e entra no novo depois do laço.
+            if (estado.trocouFuncao()) {
+                funcionariosAgrupadosPorFuncao.remover(funcionario);
+                funcionario.setFuncao(estado.funcao);
+                trocasFuncao.add(entrada);
+            }
+            long salarioAntigo = funcionario.getSalarioCentavos();
+            if (estado.salario != salarioAntigo) {
+                funcionario.setSalarioCentavos(estado.salario);
+                if (!estado.trocouFuncao() && !recalcular[estado.funcao.ordinal()]) {
+                    funcionariosAgrupadosPorFuncao.salarioAlterado(funcionario, salarioAntigo);
+                }
+            }
+        }
+
+        // Uma a uma, cada troca coloca o funcionário no fim do novo grupo: a ordem é a da última troca no lote.
+        trocasFuncao.sort(Comparator.comparingInt(entrada -> entrada.getValue().ultimaTrocaFuncao));
+        for (Map.Entry<Funcionario, PlanoLote.Estado> entrada : trocasFuncao) {
+            funcionariosAgrupadosPorFuncao.adicionarAoFim(entrada.getKey());
+        }
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            if (recalcular[funcao.ordinal()]) funcionariosAgrupadosPorFuncao.recalcularSalarios(funcao);
+        }
+        versaoAtual = novaVersao;
+        cache.invalidar();
+        if (persistencia != null) persistencia.aposMutacao();
+        return medido(medicao, plano.candidatos(), plano.resultado(quantidadeRemovidos, quantidadeAlterados));
+    }
+
+    /**
+     * Fixa a versão atual dos funcionários para leitura.
+     * <p>
+     * A versão é imutável: alterações posteriores, inclusive aumentos salariais, criam novas versões
+     * e não afetam quem a fixou. Fixar uma versão não copia dados e pode ser feito de qualquer thread,
+     * inclusive enquanto outra thread altera o serviço. Feche a fixação ao terminar o relatório:
+     * </p>
+     * <pre>{@code
+     * try (VersaoFuncionarios.Fixacao antes = service.fixarVersao()) {
+     *     service.aplicarAumentoPercentual(10);
+     *     try (VersaoFuncionarios.Fixacao depois = service.fixarVersao()) {
+     *         service.imprimirVariacaoSalarios(antes.getVersao(), depois.getVersao());
+     *     }
+     * }
+     * }</pre>
+     * <p>
+     * Apenas as alterações feitas pelos métodos do serviço geram versões; mudanças feitas diretamente
+     * nos objetos {@link Funcionario} não são refletidas.
+     * </p>
+     *
+     * @return A fixação da versão atual, que deve ser fechada.
+     */
+    public VersaoFuncionarios.Fixacao fixarVersao() {
+        return versaoAtual.fixar(versoesFixadas);
+    }
+
+    /**
+     * @return Quantas versões o serviço mantém vivas: a atual e as antigas que ainda têm leitores.
+     */
+    public int getQuantidadeVersoesRetidas() {
+        VersaoFuncionarios atual = versaoAtual;
+        return versoesFixadas.size() + (versoesFixadas.contains(atual) ? 0 : 1);
+    }
+
+    /**
+     * Disponibiliza o agrupamento dos funcionários por função.
+     * <p>
+     * O agrupamento é mantido de forma incremental pelo serviço, então esta operação não percorre
+     * a lista: apenas libera a consulta por {@link #imprimirFuncionariosAgrupados()}.
+     * </p>
      *
      * @throws NoSuchElementException se a lista de funcionários estiver vazia.
      */
     public void agruparFuncionariosPorFuncao() {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
-
-        funcionariosAgrupadosPorFuncao.clear();
-        funcionariosAgrupadosPorFuncao = funcionarios.stream()
-                .collect(Collectors.groupingBy(Funcionario::getFuncao));
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.AGRUPAR_FUNCIONARIOS_POR_FUNCAO);
+        agrupado = true;
+        medicao.concluir(0);
     }
 
     /**
-     * Imprime os funcionários agrupados por função.
+     * Imprime os funcionários agrupados por função, na ordem das funções.
      *
      * @throws NoSuchElementException se os funcionários ainda não tiverem sido agrupados.
      */
     public void imprimirFuncionariosAgrupados() {
-        if (funcionariosAgrupadosPorFuncao.isEmpty())
+        if (!agrupado || funcionarios.isEmpty())
             throw new NoSuchElementException("Os funcionários ainda não foram agrupados");
 
-        funcionariosAgrupadosPorFuncao.forEach((funcao, funcionarios) -> {
-            String nomes = funcionarios.stream()
-                    .map(Funcionario::getNome)
-                    .collect(Collectors.joining(", "));
-            System.out.println(funcao.getDescricao() + " = " + nomes);
-        });
+        imprimirComCache(OperacaoFuncionario.IMPRIMIR_FUNCIONARIOS_AGRUPADOS, null, escritor ->
+                funcionariosAgrupadosPorFuncao.gruposNaoVazios().forEach((funcao, funcionarios) -> {
+                    escritor.escrever(funcao.getDescricao()).escrever(" = ");
+                    boolean primeiro = true;
+                    for (Funcionario f : funcionarios) {
+                        if (!primeiro) escritor.escrever(", ");
+                        escritor.escrever(f.getNome());
+                        primeiro = false;
+                    }
+                    escritor.novaLinha();
+                }));
+    }
+
+    /**
+     * Retorna, para cada função com funcionários, a quantidade, a soma, o menor e o maior salário.
+     * <p>
+     * Os valores são lidos do agrupamento incremental, em O(número de funções).
+     * </p>
+     *
+     * @return Mapa ordenado pela função com as {@link EstatisticasFuncao}.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public Map<FuncaoFuncionario, EstatisticasFuncao> obterEstatisticasPorFuncao() {
+        if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.OBTER_ESTATISTICAS_POR_FUNCAO);
+        Map<FuncaoFuncionario, EstatisticasFuncao> estatisticas = funcionariosAgrupadosPorFuncao.estatisticas();
+        medicao.concluir(0);
+        return estatisticas;
+    }
+
+    /**
+     * Imprime, para cada função, a quantidade de funcionários e os totais de salário.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirEstatisticasPorFuncao() {
+        Map<FuncaoFuncionario, EstatisticasFuncao> porFuncao = obterEstatisticasPorFuncao();
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.IMPRIMIR_ESTATISTICAS_POR_FUNCAO);
+        porFuncao.forEach((funcao, estatisticas) -> saida
+                .escrever(funcao.getDescricao()).escrever(" = ")
+                .escreverInteiro(estatisticas.getQuantidade()).escrever(" funcionário(s), total: ")
+                .escreverMoeda(Centavos.de(estatisticas.getTotalSalarios())).escrever(", menor: ")
+                .escreverMoeda(Centavos.de(estatisticas.getMenorSalario())).escrever(", maior: ")
+                .escreverMoeda(Centavos.de(estatisticas.getMaiorSalario())).novaLinha());
+        saida.flush();
+        medicao.concluir(0);
     }
 
     /**
@@ -134,47 +857,75 @@ public class FuncionarioService {
      * mostrando o nome e a data de nascimento.
      *
      * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     * @see #imprimirAniversariantes(int...)
      */
     public void imprimirAniversariantesMes10E12() {
-        if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        imprimirAniversariantes(10, 12);
+    }
 
-        DateTimeFormatter formatter = getFormatter();
+    /**
+     * Imprime os funcionários que fazem aniversário nos meses informados, mostrando o nome e a
+     * data de nascimento.
+     * <p>
+     * Os aniversariantes são obtidos do calendário de aniversários, sem percorrer a lista, e
+     * impressos na ordem de inserção, com os meses intercalados, como ao filtrar a lista. Meses
+     * repetidos são considerados uma única vez.
+     * </p>
+     *
+     * @param meses Meses de nascimento (1 a 12).
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public void imprimirAniversariantes(int... meses) {
+        if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
 
-        funcionarios.stream()
-                .filter(f -> {
-                    int mes = f.getDataNascimento().getMonthValue();
-                    return mes == 10 || mes == 12;
-                })
-                .forEach(f -> System.out.println(f.getNome() + " - " + f.getDataNascimento().format(formatter)));
+        consultar(OperacaoFuncionario.IMPRIMIR_ANIVERSARIANTES).nascidosNosMeses(meses)
+                .paraCada(f -> saida.escrever(f.getNome()).escrever(" - ").escreverData(f.getDataNascimento()).novaLinha());
+        saida.flush();
     }
 
     /**
      * Imprime o funcionário com a maior idade, mostrando nome e idade.
+     * <p>
+     * O mais velho é o primeiro em ordem de data de nascimento, selecionado sem ordenar a lista; a
+     * idade é calculada uma única vez, para ele, com uma {@link CalculadoraIdade} na data atual.
+     * </p>
      *
      * @throws NoSuchElementException se a lista de funcionários estiver vazia.
      */
     public void imprimirFuncionarioMaisVelho() {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
 
-        Funcionario maisVelho = funcionarios.stream()
-                .max(Comparator.comparingInt(f ->calculaIdade(f.getDataNascimento())))
-                .get();
+        Funcionario maisVelho = consultar(OperacaoFuncionario.IMPRIMIR_FUNCIONARIO_MAIS_VELHO)
+                .ordenarPor(POR_NASCIMENTO).primeiro().orElseThrow();
 
-        int idade = calculaIdade(maisVelho.getDataNascimento());
-        System.out.println("Nome: " + maisVelho.getNome() + ", Idade: " + idade);
+        int idade = CalculadoraIdade.hoje().idade(maisVelho.getDataNascimento());
+        saida.escrever("Nome: ").escrever(maisVelho.getNome()).escrever(", Idade: ").escreverInteiro(idade).novaLinha();
+        saida.flush();
     }
 
     /**
-     * Imprime a lista de funcionários em ordem alfabética pelo nome.
+     * Imprime a lista de funcionários em ordem alfabética pelo nome, na {@link #ordemAlfabetica()}.
+     * <p>
+     * As chaves de ordenação calculadas na carga são ordenadas com o radix sort de
+     * {@link ChaveOrdenacaoNome#ordenar(Object[], byte[][])}, sem comparar os nomes; homônimos
+     * mantêm a ordem de inserção.
+     * </p>
      *
      * @throws NoSuchElementException se a lista de funcionários estiver vazia.
      */
     public void imprimirFuncionariosOrdemAlfabetica() {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
 
-        funcionarios.stream()
-                .sorted(Comparator.comparing(Pessoa::getNome))
-                .forEach(System.out::println);
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.IMPRIMIR_FUNCIONARIOS_ORDEM_ALFABETICA);
+        Funcionario[] ordenados = paraArray();
+        byte[][] chaves = new byte[ordenados.length][];
+        for (int i = 0; i < ordenados.length; i++) chaves[i] = indice.chaveOrdenacao(ordenados[i]);
+        ChaveOrdenacaoNome.ordenar(ordenados, chaves);
+
+        for (Funcionario f : ordenados) saida.escreverFuncionario(f).novaLinha();
+        saida.flush();
+        medicao.concluir(ordenados.length);
     }
 
     /**
@@ -185,58 +936,367 @@ public class FuncionarioService {
     public void imprimirTotalSalarios() {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
 
-        BigDecimal total = BigDecimal.ZERO;
-        for (Funcionario f : funcionarios) total = total.add(f.getSalario());
+        imprimirComCache(OperacaoFuncionario.IMPRIMIR_TOTAL_SALARIOS, null, escritor -> {
+            long total = 0;
+            if (processadorParalelo != null) total = processadorParalelo.somarSalarios(paraArray());
+            else for (Funcionario f : funcionarios) total = Math.addExact(total, f.getSalarioCentavos());
 
-        NumberFormat numberFormat = NumberFormat.getInstance(new Locale("pt", "BR"));
-        System.out.println("Total de salários: " + numberFormat.format(total));
+            escritor.escrever("Total de salários: ").escreverMoeda(total).novaLinha();
+        });
     }
 
     /**
-     * Imprime quantos salários mínimos cada funcionário ganha.
-     * Considera o salário mínimo como R$ 1212,00.
+     * Imprime o total de salários de uma versão fixada, sem percorrer os funcionários.
      *
-     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     * @param versao Versão obtida com {@link #fixarVersao()}.
+     * @throws NoSuchElementException se a versão não tiver funcionários.
+     */
+    public void imprimirTotalSalarios(VersaoFuncionarios versao) {
+        if (versao.tamanho() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+
+        saida.escrever("Total de salários: ").escreverMoeda(versao.getTotalSalariosCentavos()).novaLinha();
+        saida.flush();
+    }
+
+    /**
+     * Imprime, na ordem de inserção, o salário de cada funcionário em duas versões, como
+     * {@code "Maria: 2.009,44 -> 2.210,38"}. Funcionários removidos entre as versões são omitidos.
+     *
+     * @param anterior Versão de referência, por exemplo fixada antes de um aumento.
+     * @param atual    Versão a ser comparada.
+     * @throws IllegalArgumentException se as versões não vierem da mesma carga de funcionários.
+     */
+    public void imprimirVariacaoSalarios(VersaoFuncionarios anterior, VersaoFuncionarios atual) {
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.IMPRIMIR_VARIACAO_SALARIOS);
+        VersaoFuncionarios.paraCadaEmAmbas(anterior, atual, (nome, salarioAnterior, salarioAtual) ->
+                saida.escrever(nome).escrever(": ").escreverMoeda(salarioAnterior)
+                        .escrever(" -> ").escreverMoeda(salarioAtual).novaLinha());
+        saida.flush();
+        medicao.concluir(anterior.tamanho() + atual.tamanho());
+    }
+
+    /**
+     * Imprime quantos salários mínimos nacionais vigentes hoje cada funcionário ganha.
+     * Com a tabela padrão, considera o salário mínimo como R$ 1212,00.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia ou se a tabela não
+     *                                tiver salário mínimo vigente.
+     * @see #setTabelaSalarioMinimo(TabelaSalarioMinimo)
      */
     public void imprimirSalariosEmMinimos() {
+        imprimirSalariosEmMinimos(TabelaSalarioMinimo.NACIONAL, LocalDate.now());
+    }
+
+    /**
+     * Imprime quantos salários mínimos cada funcionário ganha, considerando o salário mínimo da
+     * região vigente na data informada.
+     * <p>
+     * Os salários são convertidos em lote, com o recíproco do salário mínimo pré-calculado, e o
+     * resultado é idêntico a {@code salario.divide(minimo, 2, RoundingMode.HALF_UP)}. O relatório fica
+     * em cache pelo valor do salário mínimo, então datas e regiões com o mesmo mínimo o compartilham.
+     * </p>
+     *
+     * @param regiao Região do salário mínimo, como {@link TabelaSalarioMinimo#NACIONAL}.
+     * @param data   Data de referência.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia ou se a tabela não
+     *                                tiver salário mínimo vigente.
+     */
+    public void imprimirSalariosEmMinimos(String regiao, LocalDate data) {
+        if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+
+        DivisorCentavos minimo = tabelaSalarioMinimo.divisor(regiao, data);
+        imprimirComCache(OperacaoFuncionario.IMPRIMIR_SALARIOS_EM_MINIMOS, minimo, escritor -> {
+            Funcionario[] lote = paraArray();
+            long[] quantidades;
+            if (processadorParalelo != null) {
+                quantidades = processadorParalelo.mapearSalarios(lote, f -> minimo.razao(f.getSalarioCentavos()));
+            } else {
+                long[] salarios = new long[lote.length];
+                for (int i = 0; i < lote.length; i++) salarios[i] = lote[i].getSalarioCentavos();
+                quantidades = minimo.razoes(salarios);
+            }
+            for (int i = 0; i < lote.length; i++) escreverSalarioEmMinimos(escritor, lote[i].getNome(), quantidades[i]);
+        });
+    }
+
+    /**
+     * Copia os funcionários carregados para um {@link FuncionarioColunarStore}, indicado para
+     * análises sobre grandes volumes com menor consumo de memória.
+     *
+     * @return Um novo armazenamento colunar com os funcionários, na ordem atual.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public FuncionarioColunarStore criarArmazenamentoColunar() {
         if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.CRIAR_ARMAZENAMENTO_COLUNAR);
+        FuncionarioColunarStore store = FuncionarioColunarStore.de(funcionarios);
+        medicao.concluir(funcionarios.size());
+        return store;
+    }
+
+    /**
+     * Grava os funcionários carregados em um snapshot binário, para que a próxima inicialização
+     * os carregue sem interpretar texto:
+     * <pre>{@code
+     * new FuncionarioService(new FuncionarioSnapshotRepository(arquivo))
+     * }</pre>
+     * <p>
+     * O snapshot evita a interpretação do texto, mas não a montagem do serviço: a recarga ainda cria
+     * um {@link Funcionario} por linha, o agrupamento por função e a primeira versão, cerca de 3 s por
+     * milhão de funcionários. Só o {@link FuncionarioColunarStore#carregar(Path)} responde em menos de
+     * um segundo sobre 10 milhões, com as consultas do próprio armazenamento colunar.
+     * </p>
+     *
+     * @param arquivo Caminho do snapshot; um arquivo existente é substituído.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     * @throws java.io.UncheckedIOException caso o arquivo não possa ser gravado.
+     * @see FuncionarioColunarStore#gravar(Path)
+     */
+    public void salvarSnapshot(Path arquivo) {
+        FuncionarioColunarStore store = criarArmazenamentoColunar();
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.SALVAR_SNAPSHOT);
+        store.gravar(arquivo);
+        medicao.concluir(store.tamanho());
+    }
 
-        BigDecimal salarioMinimo = new BigDecimal("1212.00");
-        for (Funcionario funcionario : funcionarios) {
-            BigDecimal quantidade = funcionario.getSalario().divide(salarioMinimo, 2, RoundingMode.HALF_UP);
-            System.out.println(funcionario.getNome() + " ganha " + quantidade + " salários mínimos");
+    /**
+     * Grava o snapshot usado pela {@link PersistenciaFuncionarios}, que também pode estar vazio.
+     */
+    void gravarSnapshot(Path arquivo) {
+        FuncionarioColunarStore.de(funcionarios).gravar(arquivo);
+    }
+
+    /**
+     * Calcula o total de salários, os aniversariantes dos meses informados e o funcionário mais velho
+     * em uma única passagem sobre o cursor do repositório.
+     * <p>
+     * Os funcionários não são carregados na lista do serviço: cada um é lido do repositório,
+     * acumulado e descartado, o que permite processar conjuntos maiores que o heap.
+     * </p>
+     *
+     * @param meses Meses de aniversário (1 a 12) a serem filtrados.
+     * @return O {@link ResumoFuncionarios} com os valores acumulados.
+     * @throws NoSuchElementException se o repositório não possuir funcionários.
+     */
+    public ResumoFuncionarios calcularResumoSemCarregar(int... meses) {
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.CALCULAR_RESUMO_SEM_CARREGAR);
+        ResumoFuncionarios resumo = new ResumoFuncionarios(meses);
+        try (Stream<Funcionario> cursor = repository.streamFuncionarios()) {
+            cursor.forEach(resumo);
         }
+        if (resumo.getQuantidade() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        medicao.concluir(resumo.getQuantidade());
+        return resumo;
     }
 
     /**
-     * Retorna um DateTimeFormatter com o padrão "dd/MM/yyyy".
+     * Imprime o total de salários, os aniversariantes dos meses 10 e 12 e o funcionário mais velho
+     * lendo os funcionários diretamente do repositório, sem materializar a lista.
      *
-     * @return DateTimeFormatter
+     * @throws NoSuchElementException se o repositório não possuir funcionários.
+     * @see #calcularResumoSemCarregar(int...)
      */
-    private DateTimeFormatter getFormatter() {
-        return DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    public void imprimirResumoSemCarregar() {
+        ResumoFuncionarios resumo = calcularResumoSemCarregar(10, 12);
+
+        saida.escrever("Total de salários: ").escreverMoeda(resumo.getTotalSalariosCentavos()).novaLinha();
+
+        resumo.getAniversariantes()
+                .forEach(f -> saida.escrever(f.getNome()).escrever(" - ").escreverData(f.getDataNascimento()).novaLinha());
+
+        Funcionario maisVelho = resumo.getMaisVelho();
+        saida.escrever("Nome: ").escrever(maisVelho.getNome())
+                .escrever(", Idade: ").escreverInteiro(resumo.getIdadeMaisVelho(LocalDate.now())).novaLinha();
+        saida.flush();
     }
 
     /**
-     * Calcula o novo salário aplicando um percentual de aumento.
+     * Copia os funcionários do repositório para um {@link FuncionarioOffHeapStore}, sem carregá-los
+     * na lista do serviço.
+     * <p>
+     * Cada funcionário é lido do cursor do repositório, copiado para os registros fora do heap e
+     * descartado, então o heap usado não cresce com a quantidade de funcionários; ver
+     * {@link #imprimirRelatoriosForaDoHeap(FuncionarioOffHeapStore)}.
+     * </p>
      *
-     * @param salario Salário atual
-     * @param percentual Percentual de aumento
-     * @return Novo salário arredondado para 2 casas decimais
+     * @return O armazenamento com os funcionários, na ordem do repositório.
+     * @throws NoSuchElementException se o repositório não possuir funcionários.
      */
-    private BigDecimal calculaNovoSalario(BigDecimal salario, double percentual) {
-        BigDecimal fator = BigDecimal.valueOf(percentual).divide(BigDecimal.valueOf(100));
-        return salario.add(salario.multiply(fator)).setScale(2, RoundingMode.HALF_UP);
+    public FuncionarioOffHeapStore carregarForaDoHeap() {
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.CARREGAR_FORA_DO_HEAP);
+        FuncionarioOffHeapStore store = new FuncionarioOffHeapStore();
+        try (Stream<Funcionario> cursor = repository.streamFuncionarios()) {
+            cursor.forEach(store::adicionar);
+        }
+        if (store.tamanho() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        medicao.concluir(store.tamanho());
+        return store;
     }
 
     /**
-     * Calcula a idade em anos completos a partir da data de nascimento informada.
+     * Imprime, a partir de um armazenamento fora do heap, os relatórios do fluxo padrão: funcionários
+     * agrupados por função, aniversariantes dos meses 10 e 12, o mais velho, a ordem alfabética e o
+     * total de salários.
+     * <p>
+     * Os agrupamentos e ordenações são índices fora do heap e os funcionários são lidos por um único
+     * {@link RegistroFuncionario}; apenas os textos de cada linha são criados no heap. O formato é o
+     * mesmo dos métodos {@code imprimir*} correspondentes.
+     * </p>
      *
-     * @param dataNascimento Data de nascimento da pessoa.
-     * @return Idade em anos completos, considerando a data atual.
+     * @param store Armazenamento obtido, por exemplo, com {@link #carregarForaDoHeap()}.
+     * @throws NoSuchElementException se o armazenamento estiver vazio.
+     */
+    public void imprimirRelatoriosForaDoHeap(FuncionarioOffHeapStore store) {
+        if (store.tamanho() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        Medicao medicao = metricas.iniciar(OperacaoFuncionario.IMPRIMIR_RELATORIOS_FORA_DO_HEAP);
+
+        FuncaoFuncionario[] funcaoAnterior = new FuncaoFuncionario[1];
+        store.ordemPorFuncao().paraCada(registro -> {
+            FuncaoFuncionario funcao = registro.getFuncao();
+            if (funcao != funcaoAnterior[0]) {
+                if (funcaoAnterior[0] != null) saida.novaLinha();
+                saida.escrever(funcao.getDescricao()).escrever(" = ");
+                funcaoAnterior[0] = funcao;
+            } else {
+                saida.escrever(", ");
+            }
+            saida.escrever(registro.getNome());
+        });
+        saida.novaLinha();
+
+        store.aniversariantesDosMeses(10, 12).paraCada(registro ->
+                saida.escrever(registro.getNome()).escrever(" - ").escreverData(registro.getDataNascimento()).novaLinha());
+
+        RegistroFuncionario maisVelho = store.registro(store.indiceMaisVelho());
+        saida.escrever("Nome: ").escrever(maisVelho.getNome()).escrever(", Idade: ")
+                .escreverInteiro(CalculadoraIdade.hoje().idade(maisVelho.getDataNascimento())).novaLinha();
+
+        store.ordemAlfabetica().paraCada(registro -> saida.escreverFuncionario(registro.getNome(),
+                registro.getDataNascimento(), registro.getSalarioCentavos(), registro.getFuncao()).novaLinha());
+
+        saida.escrever("Total de salários: ").escreverMoeda(store.totalSalariosCentavos()).novaLinha();
+        saida.flush();
+        medicao.concluir(store.tamanho());
+    }
+
+    /**
+     * Executa a ação para cada função. No modo paralelo, cada função é uma tarefa do fork-join: as funções
+     * têm grupos independentes no agrupamento e podem ser alteradas ao mesmo tempo.
+     */
+    private void paraCadaFuncao(Consumer<FuncaoFuncionario> acao) {
+        if (processadorParalelo == null) {
+            for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) acao.accept(funcao);
+            return;
+        }
+
+        List<Runnable> tarefas = new ArrayList<>();
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) tarefas.add(() -> acao.accept(funcao));
+        processadorParalelo.executarTodas(tarefas);
+    }
+
+    /**
+     * Preenche o agrupamento por função com os funcionários carregados. No modo paralelo os
+     * funcionários são agrupados por blocos e cada função é carregada em uma tarefa separada.
+     */
+    private void carregarAgrupamento() {
+        if (processadorParalelo == null || funcionarios.isEmpty()) {
+            funcionariosAgrupadosPorFuncao.adicionarTodos(funcionarios);
+            return;
+        }
+
+        List<Runnable> tarefas = new ArrayList<>();
+        processadorParalelo.agruparPorFuncao(paraArray()).forEach((funcao, membros) ->
+                tarefas.add(() -> funcionariosAgrupadosPorFuncao.adicionarTodos(funcao, membros)));
+        processadorParalelo.executarTodas(tarefas);
+    }
+
+    Set<Funcionario> funcionariosCarregados() {
+        return Collections.unmodifiableSet(funcionarios);
+    }
+
+    IndiceFuncionarios indice() {
+        return indice;
+    }
+
+    AgrupamentoPorFuncao agrupamento() {
+        return funcionariosAgrupadosPorFuncao;
+    }
+
+    ProcessadorParalelo processadorParalelo() {
+        return processadorParalelo;
+    }
+
+    /**
+     * @return A posição do funcionário na carga, crescente na ordem de inserção.
      */
-    private int calculaIdade(LocalDate dataNascimento) {
-        return Period.between(dataNascimento, LocalDate.now()).getYears();
+    int posicaoCarga(Funcionario funcionario) {
+        return idsVersao.get(funcionario);
+    }
+
+    private Funcionario[] paraArray() {
+        return funcionarios.toArray(new Funcionario[0]);
+    }
+
+    /**
+     * Escreve o relatório no {@link #saida}, reaproveitando o texto do {@link #cache} quando os
+     * funcionários não foram alterados desde a última impressão. Nas métricas, os funcionários
+     * só são contados como percorridos quando o relatório é calculado.
+     */
+    private void imprimirComCache(OperacaoFuncionario operacao, Object parametros, Consumer<EscritorRelatorio> relatorio) {
+        Medicao medicao = metricas.iniciar(operacao);
+        if (!cache.isAtivo()) {
+            relatorio.accept(saida);
+            saida.flush();
+            medicao.concluir(funcionarios.size());
+            return;
+        }
+
+        long falhas = cache.getFalhas();
+        String texto = cache.obter(operacao.toString(), parametros, () -> {
+            StringBuilder destino = new StringBuilder();
+            EscritorRelatorio escritor = new EscritorRelatorio(destino);
+            relatorio.accept(escritor);
+            escritor.flush();
+            return destino.toString();
+        });
+        saida.escrever(texto).flush();
+        medicao.concluir(cache.getFalhas() != falhas ? funcionarios.size() : 0);
+    }
+
+    /**
+     * Aplica a página à consulta, com as mesmas validações de {@link SelecaoOrdenada#pagina}.
+     */
+    private static List<Funcionario> paginar(ConsultaFuncionarios consulta, int pagina, int tamanhoPagina) {
+        if (pagina < 1) throw new IllegalArgumentException("A página deve ser maior que zero: " + pagina);
+        if (tamanhoPagina < 1)
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero: " + tamanhoPagina);
+
+        long inicio = (long) (pagina - 1) * tamanhoPagina;
+        if (inicio + tamanhoPagina > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Página fora do intervalo suportado: " + pagina);
+        return consulta.pular((int) inicio).limitar(tamanhoPagina).listar();
+    }
+
+    /**
+     * Conclui a medição com o tamanho do resultado. Como os argumentos são avaliados da esquerda
+     * para a direita, em {@code medido(metricas.iniciar(operacao), consulta())} a medição começa
+     * antes da consulta.
+     */
+    private static <T extends Collection<?>> T medido(Medicao medicao, T resultado) {
+        medicao.concluir(resultado.size());
+        return resultado;
+    }
+
+    /**
+     * Como {@link #medido(Medicao, Collection)}, para consultas que percorrem {@code linhas} funcionários.
+     */
+    private static <T> T medido(Medicao medicao, long linhas, T resultado) {
+        medicao.concluir(linhas);
+        return resultado;
+    }
+
+    private static void escreverSalarioEmMinimos(EscritorRelatorio saida, String nome, long quantidade) {
+        saida.escrever(nome).escrever(" ganha ").escreverDecimal(quantidade).escrever(" salários mínimos").novaLinha();
     }
 
 }
@@ -0,0 +1,643 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.calculo.DivisorCentavos;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.entities.Pessoa;
+import com.victorgabdev.iniflex.exceptions.FuncionariosJaCarregadosException;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
+import com.victorgabdev.iniflex.repositoty.FuncionarioRepositoryImpl;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Variante thread-safe do {@link FuncionarioService}, que pode ser compartilhada entre várias threads.
+ * <p>
+ * Os funcionários são divididos em {@value #NUMERO_FAIXAS} faixas pelo nome normalizado. Cada faixa
+ * é imutável: guarda os membros ordenados pelo nome, para busca binária, e os totais de salário de
+ * cada {@link FuncaoFuncionario}. O conjunto das faixas forma um estado publicado por uma única
+ * referência atômica:
+ * </p>
+ * <ul>
+ *   <li>leituras (listagens, totais, agrupamento) obtêm o estado atual uma vez e trabalham sobre ele,
+ *   sem travas e sem bloquear as escritas;</li>
+ *   <li>remoções e trocas de função travam apenas a faixa do nome, montam a nova faixa e publicam
+ *   um novo estado que compartilha as demais;</li>
+ *   <li>{@link #aplicarAumentoPercentual(double)} trava todas as faixas e publica todos os salários
+ *   novos de uma vez: uma leitura concorrente vê a folha inteira antes ou depois do aumento, nunca
+ *   uma mistura.</li>
+ * </ul>
+ * <p>
+ * Funcionários já publicados nunca são alterados; mudanças de salário ou função criam cópias com
+ * {@link Funcionario#comSalarioCentavos(long)} e {@link Funcionario#comFuncao(FuncaoFuncionario)}.
+ * Os objetos retornados pelas consultas também não devem ser alterados por quem os recebe.
+ * </p>
+ */
+public class FuncionarioServiceConcorrente {
+
+    /** Quantidade de faixas; potência de 2. */
+    static final int NUMERO_FAIXAS = 64;
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    private static final Comparator<Funcionario> POR_NASCIMENTO = Comparator.comparing(Pessoa::getDataNascimento);
+
+    /** Salário mínimo considerado em {@link #imprimirSalariosEmMinimos()}: R$ 1212,00. */
+    private static final DivisorCentavos SALARIO_MINIMO = DivisorCentavos.de(FuncionarioService.SALARIO_MINIMO_CENTAVOS);
+
+    private final IFuncionarioRepository repository;
+
+    /** Uma trava por faixa, usada apenas pelas escritas. */
+    private final ReentrantLock[] travas = new ReentrantLock[NUMERO_FAIXAS];
+
+    private final AtomicReference<Estado> estado = new AtomicReference<>(Estado.VAZIO);
+
+    /** Destino dos métodos {@code imprimir*}; cada relatório é escrito com o escritor sincronizado. */
+    private volatile EscritorRelatorio saida = EscritorRelatorio.paraConsole();
+
+    /**
+     * Cria o serviço utilizando o repositório em memória {@link FuncionarioRepositoryImpl}.
+     */
+    public FuncionarioServiceConcorrente() {
+        this(new FuncionarioRepositoryImpl());
+    }
+
+    /**
+     * Cria o serviço utilizando o repositório informado.
+     *
+     * @param repository Repositório de onde os funcionários serão carregados.
+     */
+    public FuncionarioServiceConcorrente(IFuncionarioRepository repository) {
+        this.repository = Objects.requireNonNull(repository, "O repositório não pode ser nulo");
+        for (int i = 0; i < travas.length; i++) travas[i] = new ReentrantLock();
+    }
+
+    /**
+     * Define para onde os métodos {@code imprimir*} escrevem.
+     *
+     * @param saida Escritor de destino.
+     */
+    public void setSaida(EscritorRelatorio saida) {
+        this.saida = Objects.requireNonNull(saida, "A saída não pode ser nula");
+    }
+
+    /**
+     * Carrega os funcionários do repositório.
+     *
+     * @throws FuncionariosJaCarregadosException caso os funcionários já tenham sido cadastrados anteriormente.
+     */
+    public void inserirFuncionarios() {
+        travarTodas();
+        try {
+            if (estado.get().tamanho > 0)
+                throw new FuncionariosJaCarregadosException("Funcionarios já foram cadastrados");
+
+            List<Funcionario> carregados = repository.retornaTodosFuncionarios();
+            List<List<Integer>> porFaixa = new ArrayList<>(NUMERO_FAIXAS);
+            for (int i = 0; i < NUMERO_FAIXAS; i++) porFaixa.add(new ArrayList<>());
+
+            String[] chaves = new String[carregados.size()];
+            byte[][] chavesOrdenacao = new byte[carregados.size()][];
+            for (int posicao = 0; posicao < chaves.length; posicao++) {
+                String nome = carregados.get(posicao).getNome();
+                chaves[posicao] = IndiceFuncionarios.normalizarNome(nome);
+                chavesOrdenacao[posicao] = ChaveOrdenacaoNome.de(nome);
+                porFaixa.get(faixaDe(chaves[posicao])).add(posicao);
+            }
+
+            Faixa[] faixas = new Faixa[NUMERO_FAIXAS];
+            for (int i = 0; i < NUMERO_FAIXAS; i++) faixas[i] = Faixa.de(carregados, chaves, porFaixa.get(i));
+            estado.set(new Estado(faixas, carregados.size(), chavesOrdenacao));
+        } finally {
+            destravarTodas();
+        }
+    }
+
+    /**
+     * Remove todos os funcionários com o nome informado, ignorando maiúsculas/minúsculas e acentos.
+     * Apenas a faixa do nome é travada.
+     *
+     * @param nome Nome do funcionário a ser removido.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia ou se o funcionário não existir.
+     */
+    public void removerFuncionario(String nome) {
+        if (estado.get().tamanho == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+
+        String chave = IndiceFuncionarios.normalizarNome(nome);
+        int faixa = faixaDe(chave);
+        travas[faixa].lock();
+        try {
+            Faixa atual = estado.get().faixas[faixa];
+            Faixa nova = atual.sem(chave);
+            if (nova == atual) throw new NoSuchElementException(String.format("Funcionário com nome '%s' não existe", nome));
+            publicar(faixa, nova);
+        } finally {
+            travas[faixa].unlock();
+        }
+    }
+
+    /**
+     * Altera a função de todos os funcionários com o nome informado. Apenas a faixa do nome é travada.
+     *
+     * @param nome       Nome do funcionário, ignorando maiúsculas/minúsculas e acentos.
+     * @param novaFuncao Nova função a ser exercida.
+     * @throws NoSuchElementException se o funcionário não existir.
+     */
+    public void alterarFuncao(String nome, FuncaoFuncionario novaFuncao) {
+        Objects.requireNonNull(novaFuncao, "A função não pode ser nula");
+
+        String chave = IndiceFuncionarios.normalizarNome(nome);
+        int faixa = faixaDe(chave);
+        travas[faixa].lock();
+        try {
+            Faixa atual = estado.get().faixas[faixa];
+            if (atual.primeiroIndice(chave) < 0)
+                throw new NoSuchElementException(String.format("Funcionário com nome '%s' não existe", nome));
+            publicar(faixa, atual.comFuncao(chave, novaFuncao));
+        } finally {
+            travas[faixa].unlock();
+        }
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de todos os funcionários, de forma atômica.
+     * <p>
+     * Todas as faixas são travadas e os novos salários são publicados juntos: leituras concorrentes,
+     * como {@link #imprimirTotalSalarios()}, veem a folha inteira antes ou depois do aumento.
+     * </p>
+     *
+     * @param percentual Percentual de aumento a ser aplicado (ex: 10 para 10%).
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void aplicarAumentoPercentual(double percentual) {
+        FatorPercentual fator = FatorPercentual.de(percentual);
+        travarTodas();
+        try {
+            Estado atual = estado.get();
+            if (atual.tamanho == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+
+            Faixa[] novas = new Faixa[NUMERO_FAIXAS];
+            for (int i = 0; i < NUMERO_FAIXAS; i++) novas[i] = atual.faixas[i].comAumento(fator);
+            estado.set(new Estado(novas, atual.limitePosicoes, atual.chavesOrdenacao));
+        } finally {
+            destravarTodas();
+        }
+    }
+
+    /**
+     * @return A quantidade de funcionários cadastrados.
+     */
+    public int getQuantidade() {
+        return estado.get().tamanho;
+    }
+
+    /**
+     * Busca os funcionários pelo nome, ignorando maiúsculas/minúsculas e acentos.
+     *
+     * @param nome Nome a ser buscado.
+     * @return Os funcionários com o nome informado, na ordem de inserção, ou uma lista vazia se não houver nenhum.
+     */
+    public List<Funcionario> buscarPorNome(String nome) {
+        String chave = IndiceFuncionarios.normalizarNome(nome);
+        Faixa faixa = estado.get().faixas[faixaDe(chave)];
+
+        int inicio = faixa.primeiroIndice(chave);
+        if (inicio < 0) return Collections.emptyList();
+        int fim = faixa.fimDoNome(inicio);
+        // Homônimos ficam ordenados pela posição de inserção dentro da faixa.
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(faixa.membros, inicio, fim)));
+    }
+
+    /**
+     * @return Os funcionários que exercem a função informada, na ordem de inserção.
+     */
+    public List<Funcionario> buscarPorFuncao(FuncaoFuncionario funcao) {
+        List<Funcionario> membros = new ArrayList<>();
+        for (Funcionario f : estado.get().emOrdemDeInsercao()) if (f.getFuncao() == funcao) membros.add(f);
+        return Collections.unmodifiableList(membros);
+    }
+
+    /**
+     * Retorna o total dos salários, lido de um único estado: nunca reflete um aumento pela metade.
+     *
+     * @return A soma dos salários com duas casas decimais.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public BigDecimal calcularTotalSalarios() {
+        return Centavos.paraBigDecimal(estadoCarregado().totalCentavos());
+    }
+
+    /**
+     * Retorna, para cada função com funcionários, a quantidade, a soma, o menor e o maior salário,
+     * combinando os totais mantidos em cada faixa.
+     *
+     * @return Mapa ordenado pela função com as {@link EstatisticasFuncao}.
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public Map<FuncaoFuncionario, EstatisticasFuncao> obterEstatisticasPorFuncao() {
+        Estado atual = estadoCarregado();
+        Map<FuncaoFuncionario, EstatisticasFuncao> estatisticas = new EnumMap<>(FuncaoFuncionario.class);
+        for (int f = 0; f < FUNCOES.length; f++) {
+            int quantidade = 0;
+            long total = 0;
+            long menor = Long.MAX_VALUE;
+            long maior = Long.MIN_VALUE;
+            for (Faixa faixa : atual.faixas) {
+                if (faixa.quantidadePorFuncao[f] == 0) continue;
+                quantidade += faixa.quantidadePorFuncao[f];
+                total = Math.addExact(total, faixa.totalPorFuncao[f]);
+                menor = Math.min(menor, faixa.menorPorFuncao[f]);
+                maior = Math.max(maior, faixa.maiorPorFuncao[f]);
+            }
+            if (quantidade == 0) continue;
+            estatisticas.put(FUNCOES[f], new EstatisticasFuncao(FUNCOES[f], quantidade, Centavos.paraBigDecimal(total),
+                    Centavos.paraBigDecimal(menor), Centavos.paraBigDecimal(maior)));
+        }
+        return estatisticas;
+    }
+
+    /**
+     * Imprime todos os funcionários cadastrados, na ordem de inserção.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirTodosFuncionarios() {
+        Funcionario[] todos = estadoCarregado().emOrdemDeInsercao();
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            for (Funcionario f : todos) escritor.escreverFuncionario(f).novaLinha();
+            escritor.flush();
+        }
+    }
+
+    /**
+     * Imprime os funcionários agrupados por função, na ordem das funções e, dentro de cada função,
+     * na ordem de inserção.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirFuncionariosAgrupados() {
+        Funcionario[] todos = estadoCarregado().emOrdemDeInsercao();
+        List<List<Funcionario>> grupos = new ArrayList<>(FUNCOES.length);
+        for (int i = 0; i < FUNCOES.length; i++) grupos.add(new ArrayList<>());
+        for (Funcionario f : todos) grupos.get(f.getFuncao().ordinal()).add(f);
+
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            for (int i = 0; i < FUNCOES.length; i++) {
+                List<Funcionario> membros = grupos.get(i);
+                if (membros.isEmpty()) continue;
+                escritor.escrever(FUNCOES[i].getDescricao()).escrever(" = ");
+                for (int j = 0; j < membros.size(); j++) {
+                    if (j > 0) escritor.escrever(", ");
+                    escritor.escrever(membros.get(j).getNome());
+                }
+                escritor.novaLinha();
+            }
+            escritor.flush();
+        }
+    }
+
+    /**
+     * Imprime os funcionários que fazem aniversário nos meses 10 (outubro) e 12 (dezembro), na ordem de inserção.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirAniversariantesMes10E12() {
+        Funcionario[] todos = estadoCarregado().emOrdemDeInsercao();
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            for (Funcionario f : todos) {
+                int mes = f.getDataNascimento().getMonthValue();
+                if (mes != 10 && mes != 12) continue;
+                escritor.escrever(f.getNome()).escrever(" - ").escreverData(f.getDataNascimento()).novaLinha();
+            }
+            escritor.flush();
+        }
+    }
+
+    /**
+     * Imprime o funcionário com a data de nascimento mais antiga, mostrando nome e idade.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirFuncionarioMaisVelho() {
+        Funcionario[] todos = estadoCarregado().emOrdemDeInsercao();
+        Funcionario maisVelho = SelecaoOrdenada.primeiros(Arrays.asList(todos), 1, POR_NASCIMENTO).get(0);
+        int idade = CalculadoraIdade.hoje().idade(maisVelho.getDataNascimento());
+
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            escritor.escrever("Nome: ").escrever(maisVelho.getNome()).escrever(", Idade: ").escreverInteiro(idade).novaLinha();
+            escritor.flush();
+        }
+    }
+
+    /**
+     * Imprime a lista de funcionários em ordem alfabética pelo nome, na mesma ordem de
+     * {@link FuncionarioService#imprimirFuncionariosOrdemAlfabetica()}.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirFuncionariosOrdemAlfabetica() {
+        Funcionario[] ordenados = estadoCarregado().emOrdemAlfabetica();
+
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            for (Funcionario f : ordenados) escritor.escreverFuncionario(f).novaLinha();
+            escritor.flush();
+        }
+    }
+
+    /**
+     * Imprime o total de salários de todos os funcionários, calculado sobre um único estado.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirTotalSalarios() {
+        long total = estadoCarregado().totalCentavos();
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            escritor.escrever("Total de salários: ").escreverMoeda(total).novaLinha();
+            escritor.flush();
+        }
+    }
+
+    /**
+     * Imprime quantos salários mínimos cada funcionário ganha, considerando R$ 1212,00.
+     *
+     * @throws NoSuchElementException se a lista de funcionários estiver vazia.
+     */
+    public void imprimirSalariosEmMinimos() {
+        Funcionario[] todos = estadoCarregado().emOrdemDeInsercao();
+        EscritorRelatorio escritor = saida;
+        synchronized (escritor) {
+            for (Funcionario f : todos) {
+                escritor.escrever(f.getNome()).escrever(" ganha ")
+                        .escreverDecimal(SALARIO_MINIMO.razao(f.getSalarioCentavos()))
+                        .escrever(" salários mínimos").novaLinha();
+            }
+            escritor.flush();
+        }
+    }
+
+    private Estado estadoCarregado() {
+        Estado atual = estado.get();
+        if (atual.tamanho == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        return atual;
+    }
+
+    private static int faixaDe(String chave) {
+        int hash = chave.hashCode();
+        return (hash ^ (hash >>> 16)) & (NUMERO_FAIXAS - 1);
+    }
+
+    private void travarTodas() {
+        for (ReentrantLock trava : travas) trava.lock();
+    }
+
+    private void destravarTodas() {
+        for (int i = travas.length - 1; i >= 0; i--) travas[i].unlock();
+    }
+
+    /**
+     * Publica um novo estado com a faixa substituída. Quem chama deve ter a trava da faixa, então
+     * uma nova tentativa só é necessária quando outra faixa foi publicada ao mesmo tempo.
+     */
+    private void publicar(int indice, Faixa nova) {
+        while (true) {
+            Estado atual = estado.get();
+            Faixa[] faixas = atual.faixas.clone();
+            faixas[indice] = nova;
+            if (estado.compareAndSet(atual, new Estado(faixas, atual.limitePosicoes, atual.chavesOrdenacao))) return;
+        }
+    }
+
+    /**
+     * Conjunto imutável das faixas em um dado momento.
+     */
+    private static final class Estado {
+
+        static final Estado VAZIO = vazio();
+
+        private final Faixa[] faixas;
+
+        /** Maior posição de inserção possível mais um: o tamanho da carga original. */
+        private final int limitePosicoes;
+        private final int tamanho;
+
+        /**
+         * {@link ChaveOrdenacaoNome} de cada posição de inserção, calculadas na carga e compartilhadas
+         * por todos os estados, já que os nomes não mudam.
+         */
+        private final byte[][] chavesOrdenacao;
+
+        Estado(Faixa[] faixas, int limitePosicoes, byte[][] chavesOrdenacao) {
+            this.faixas = faixas;
+            this.limitePosicoes = limitePosicoes;
+            this.chavesOrdenacao = chavesOrdenacao;
+            int total = 0;
+            for (Faixa faixa : faixas) total += faixa.membros.length;
+            this.tamanho = total;
+        }
+
+        private static Estado vazio() {
+            Faixa[] faixas = new Faixa[NUMERO_FAIXAS];
+            Arrays.fill(faixas, Faixa.VAZIA);
+            return new Estado(faixas, 0, new byte[0][]);
+        }
+
+        long totalCentavos() {
+            long total = 0;
+            for (Faixa faixa : faixas) total = Math.addExact(total, faixa.totalCentavos);
+            return total;
+        }
+
+        /**
+         * Distribui os funcionários das faixas pela posição de inserção de cada um.
+         *
+         * @return Um novo array com todos os funcionários, na ordem de inserção.
+         */
+        Funcionario[] emOrdemDeInsercao() {
+            Funcionario[] porPosicao = porPosicao();
+            if (tamanho == limitePosicoes) return porPosicao;
+
+            Funcionario[] resultado = new Funcionario[tamanho];
+            int quantidade = 0;
+            for (Funcionario f : porPosicao) if (f != null) resultado[quantidade++] = f;
+            return resultado;
+        }
+
+        /**
+         * @return Um novo array com todos os funcionários em ordem alfabética e, entre homônimos, na
+         *         ordem de inserção.
+         */
+        Funcionario[] emOrdemAlfabetica() {
+            Funcionario[] porPosicao = porPosicao();
+            Funcionario[] ordenados = new Funcionario[tamanho];
+            byte[][] chaves = new byte[tamanho][];
+            int quantidade = 0;
+            for (int posicao = 0; posicao < limitePosicoes; posicao++) {
+                if (porPosicao[posicao] == null) continue;
+                ordenados[quantidade] = porPosicao[posicao];
+                chaves[quantidade++] = chavesOrdenacao[posicao];
+            }
+            ChaveOrdenacaoNome.ordenar(ordenados, chaves);
+            return ordenados;
+        }
+
+        /**
+         * @return Os funcionários indexados pela posição de inserção, com {@code null} nas removidas.
+         */
+        private Funcionario[] porPosicao() {
+            Funcionario[] porPosicao = new Funcionario[limitePosicoes];
+            for (Faixa faixa : faixas) {
+                for (int i = 0; i < faixa.membros.length; i++) porPosicao[faixa.posicoes[i]] = faixa.membros[i];
+            }
+            return porPosicao;
+        }
+    }
+
+    /**
+     * Funcionários imutáveis de uma faixa, ordenados pelo nome normalizado e, entre homônimos, pela
+     * posição de inserção, com os totais de salário por função.
+     */
+    private static final class Faixa {
+
+        static final Faixa VAZIA = new Faixa(new Funcionario[0], new String[0], new int[0]);
+
+        private final Funcionario[] membros;
+        private final String[] chaves;
+        private final int[] posicoes;
+
+        private final long totalCentavos;
+        private final int[] quantidadePorFuncao = new int[FUNCOES.length];
+        private final long[] totalPorFuncao = new long[FUNCOES.length];
+        private final long[] menorPorFuncao = new long[FUNCOES.length];
+        private final long[] maiorPorFuncao = new long[FUNCOES.length];
+
+        private Faixa(Funcionario[] membros, String[] chaves, int[] posicoes) {
+            this.membros = membros;
+            this.chaves = chaves;
+            this.posicoes = posicoes;
+
+            Arrays.fill(menorPorFuncao, Long.MAX_VALUE);
+            Arrays.fill(maiorPorFuncao, Long.MIN_VALUE);
+            long total = 0;
+            for (Funcionario f : membros) {
+                int funcao = f.getFuncao().ordinal();
+                long salario = f.getSalarioCentavos();
+                total = Math.addExact(total, salario);
+                quantidadePorFuncao[funcao]++;
+                totalPorFuncao[funcao] = Math.addExact(totalPorFuncao[funcao], salario);
+                menorPorFuncao[funcao] = Math.min(menorPorFuncao[funcao], salario);
+                maiorPorFuncao[funcao] = Math.max(maiorPorFuncao[funcao], salario);
+            }
+            this.totalCentavos = total;
+        }
+
+        /**
+         * Monta uma faixa com os funcionários das posições informadas, já em ordem crescente.
+         */
+        static Faixa de(List<Funcionario> funcionarios, String[] chavesPorPosicao, List<Integer> posicoesDaFaixa) {
+            Integer[] ordem = posicoesDaFaixa.toArray(new Integer[0]);
+            // Ordenação estável: homônimos mantêm a ordem de inserção.
+            Arrays.sort(ordem, Comparator.comparing(posicao -> chavesPorPosicao[posicao]));
+
+            Funcionario[] membros = new Funcionario[ordem.length];
+            String[] chaves = new String[ordem.length];
+            int[] posicoes = new int[ordem.length];
+            for (int i = 0; i < ordem.length; i++) {
+                membros[i] = funcionarios.get(ordem[i]);
+                chaves[i] = chavesPorPosicao[ordem[i]];
+                posicoes[i] = ordem[i];
+            }
+            return new Faixa(membros, chaves, posicoes);
+        }
+
+        /**
+         * @return O índice do primeiro funcionário com o nome normalizado, ou -1 se não houver nenhum.
+         */
+        int primeiroIndice(String chave) {
+            int inicio = 0;
+            int fim = chaves.length;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (chaves[meio].compareTo(chave) < 0) inicio = meio + 1;
+                else fim = meio;
+            }
+            return inicio < chaves.length && chaves[inicio].equals(chave) ? inicio : -1;
+        }
+
+        /**
+         * @return O índice seguinte ao último homônimo do funcionário em {@code inicio}.
+         */
+        int fimDoNome(int inicio) {
+            int fim = inicio + 1;
+            while (fim < chaves.length && chaves[fim].equals(chaves[inicio])) fim++;
+            return fim;
+        }
+
+        /**
+         * @return Uma faixa sem os funcionários com o nome normalizado, ou esta mesma se não houver nenhum.
+         */
+        Faixa sem(String chave) {
+            int inicio = primeiroIndice(chave);
+            if (inicio < 0) return this;
+            int fim = fimDoNome(inicio);
+            return new Faixa(remover(membros, inicio, fim), remover(chaves, inicio, fim), remover(posicoes, inicio, fim));
+        }
+
+        /**
+         * @return Uma faixa em que os funcionários com o nome normalizado exercem a nova função.
+         */
+        Faixa comFuncao(String chave, FuncaoFuncionario funcao) {
+            int inicio = primeiroIndice(chave);
+            int fim = fimDoNome(inicio);
+            Funcionario[] alterados = membros.clone();
+            for (int i = inicio; i < fim; i++) alterados[i] = membros[i].comFuncao(funcao);
+            return new Faixa(alterados, chaves, posicoes);
+        }
+
+        /**
+         * @return Uma faixa com cópias reajustadas dos funcionários; nomes e posições são compartilhados.
+         */
+        Faixa comAumento(FatorPercentual fator) {
+            if (membros.length == 0) return this;
+            Funcionario[] reajustados = new Funcionario[membros.length];
+            for (int i = 0; i < membros.length; i++) {
+                reajustados[i] = membros[i].comSalarioCentavos(fator.aplicar(membros[i].getSalarioCentavos()));
+            }
+            return new Faixa(reajustados, chaves, posicoes);
+        }
+
+        private static <T> T[] remover(T[] array, int inicio, int fim) {
+            T[] resultado = Arrays.copyOf(array, array.length - (fim - inicio));
+            System.arraycopy(array, fim, resultado, inicio, array.length - fim);
+            return resultado;
+        }
+
+        private static int[] remover(int[] array, int inicio, int fim) {
+            int[] resultado = Arrays.copyOf(array, array.length - (fim - inicio));
+            System.arraycopy(array, fim, resultado, inicio, array.length - fim);
+            return resultado;
+        }
+    }
+}
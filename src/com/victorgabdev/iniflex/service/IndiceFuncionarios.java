@@ -0,0 +1,174 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índices em memória sobre os funcionários do {@link FuncionarioService}.
+ * <p>
+ * Mantém um índice por nome, que ignora maiúsculas/minúsculas e acentos ("joao" encontra "João"),
+ * a {@link ChaveOrdenacaoNome} de cada funcionário, calculada uma única vez para a ordem alfabética,
+ * e o {@link CalendarioAniversarios}, por mês e dia de nascimento; o agrupamento por função fica a cargo do
+ * {@link AgrupamentoPorFuncao}. Buscas e remoções custam O(1) mais o tamanho do resultado.
+ * </p>
+ * <p>
+ * Os índices não são montados em {@link #carregar(Collection)}: cada um é montado de uma vez, a partir
+ * dos funcionários carregados naquele momento, na primeira consulta que precisa dele. Assim a carga
+ * não paga a normalização dos nomes, as chaves de ordenação e o calendário de quem nunca os consulta.
+ * A montagem é sincronizada, porque consultas podem ser feitas por várias threads ao mesmo tempo.
+ * </p>
+ * <p>
+ * Os funcionários são indexados pelos valores no momento da montagem; alterações de nome
+ * ou data devem passar pelo serviço para manter os índices consistentes.
+ * </p>
+ */
+class IndiceFuncionarios {
+
+    private Collection<Funcionario> funcionarios = Collections.emptyList();
+    private volatile Map<String, List<Funcionario>> porNome;
+    private volatile Map<Funcionario, byte[]> chavesOrdenacao;
+    private volatile CalendarioAniversarios calendario;
+
+    /**
+     * Passa a indexar os funcionários informados, descartando os índices montados até aqui.
+     *
+     * @param funcionarios Funcionários do serviço; remoções feitas depois também devem passar por
+     *                     {@link #remover(Funcionario)}.
+     */
+    synchronized void carregar(Collection<Funcionario> funcionarios) {
+        this.funcionarios = funcionarios;
+        porNome = null;
+        chavesOrdenacao = null;
+        calendario = null;
+    }
+
+    void remover(Funcionario funcionario) {
+        Map<String, List<Funcionario>> indicePorNome = porNome;
+        if (indicePorNome != null) {
+            String chave = normalizarNome(funcionario.getNome());
+            List<Funcionario> homonimos = indicePorNome.get(chave);
+            if (homonimos != null) {
+                homonimos.remove(funcionario);
+                if (homonimos.isEmpty()) indicePorNome.remove(chave);
+            }
+        }
+        Map<Funcionario, byte[]> chaves = chavesOrdenacao;
+        if (chaves != null) chaves.remove(funcionario);
+        CalendarioAniversarios aniversarios = calendario;
+        if (aniversarios != null) aniversarios.remover(funcionario);
+    }
+
+    /**
+     * @return Os funcionários com o nome informado, ignorando maiúsculas/minúsculas e acentos.
+     */
+    List<Funcionario> buscarPorNome(String nome) {
+        List<Funcionario> encontrados = porNome().get(normalizarNome(nome));
+        return encontrados == null ? Collections.emptyList() : Collections.unmodifiableList(encontrados);
+    }
+
+    /**
+     * Busca os funcionários cujo nome normalizado começa com o prefixo, percorrendo apenas as chaves
+     * do índice, uma por nome distinto.
+     *
+     * @param prefixoNormalizado Prefixo já normalizado com {@link #normalizarNome(String)}.
+     * @return Os funcionários encontrados, sem ordem definida.
+     */
+    List<Funcionario> buscarPorPrefixo(String prefixoNormalizado) {
+        List<Funcionario> encontrados = new ArrayList<>();
+        porNome().forEach((chave, homonimos) -> {
+            if (chave.startsWith(prefixoNormalizado)) encontrados.addAll(homonimos);
+        });
+        return encontrados;
+    }
+
+    /**
+     * @return A chave de ordenação do nome do funcionário, calculada na primeira ordenação alfabética,
+     *         ou calculada agora se o funcionário não estiver indexado.
+     */
+    byte[] chaveOrdenacao(Funcionario funcionario) {
+        byte[] chave = chavesOrdenacao().get(funcionario);
+        return chave != null ? chave : ChaveOrdenacaoNome.de(funcionario.getNome());
+    }
+
+    Set<Funcionario> buscarPorMesNascimento(int mes) {
+        return calendario().doMes(mes);
+    }
+
+    CalendarioAniversarios calendario() {
+        CalendarioAniversarios aniversarios = calendario;
+        if (aniversarios != null) return aniversarios;
+        synchronized (this) {
+            if (calendario == null) {
+                CalendarioAniversarios montado = new CalendarioAniversarios();
+                funcionarios.forEach(montado::adicionar);
+                calendario = montado;
+            }
+            return calendario;
+        }
+    }
+
+    private Map<String, List<Funcionario>> porNome() {
+        Map<String, List<Funcionario>> indice = porNome;
+        if (indice != null) return indice;
+        synchronized (this) {
+            if (porNome == null) {
+                Map<String, List<Funcionario>> montado = new HashMap<>();
+                for (Funcionario funcionario : funcionarios) {
+                    montado.computeIfAbsent(normalizarNome(funcionario.getNome()), k -> new ArrayList<>(1)).add(funcionario);
+                }
+                porNome = montado;
+            }
+            return porNome;
+        }
+    }
+
+    private Map<Funcionario, byte[]> chavesOrdenacao() {
+        Map<Funcionario, byte[]> chaves = chavesOrdenacao;
+        if (chaves != null) return chaves;
+        synchronized (this) {
+            if (chavesOrdenacao == null) {
+                Map<Funcionario, byte[]> montado = new IdentityHashMap<>(funcionarios.size());
+                for (Funcionario funcionario : funcionarios) montado.put(funcionario, ChaveOrdenacaoNome.de(funcionario.getNome()));
+                chavesOrdenacao = montado;
+            }
+            return chavesOrdenacao;
+        }
+    }
+
+    /**
+     * Normaliza um nome para comparação: remove acentos e converte para minúsculas. Nomes só com
+     * caracteres ASCII não têm acentos e dispensam a decomposição do {@link Normalizer}.
+     *
+     * @param nome Nome a ser normalizado.
+     * @return O nome sem marcas diacríticas e em minúsculas.
+     */
+    static String normalizarNome(String nome) {
+        if (ehAscii(nome)) return nome.toLowerCase(Locale.ROOT);
+
+        String decomposto = Normalizer.normalize(nome, Normalizer.Form.NFD);
+        StringBuilder normalizado = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) normalizado.append(c);
+        }
+        return normalizado.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean ehAscii(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,104 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Conjunto de mutações aplicadas de uma vez por {@link FuncionarioService#aplicarLote(LoteMutacoes)}:
+ * <pre>{@code
+ * LoteMutacoes lote = new LoteMutacoes()
+ *         .remover("João")
+ *         .aplicarAumentoPercentual(FuncaoFuncionario.OPERADOR, 5)
+ *         .alterarFuncao("Caio", FuncaoFuncionario.GERENTE);
+ * ResultadoLote resultado = service.aplicarLote(lote);
+ * }</pre>
+ * <p>
+ * O resultado é o mesmo de aplicar as mutações uma a uma, na ordem em que foram adicionadas: um
+ * aumento por função vale para quem exerce a função naquele ponto do lote, e uma mutação sobre um
+ * nome já removido não encontra ninguém. Nomes são comparados como em
+ * {@link FuncionarioService#buscarPorNome(String)}.
+ * </p>
+ */
+public final class LoteMutacoes {
+
+    private final List<Mutacao> mutacoes = new ArrayList<>();
+
+    /**
+     * Remove todos os funcionários com o nome informado.
+     */
+    public LoteMutacoes remover(String nome) {
+        mutacoes.add(new Mutacao(Tipo.REMOCAO, Objects.requireNonNull(nome, "nome"), null, 0, null));
+        return this;
+    }
+
+    /**
+     * Altera a função de todos os funcionários com o nome informado.
+     */
+    public LoteMutacoes alterarFuncao(String nome, FuncaoFuncionario funcao) {
+        mutacoes.add(new Mutacao(Tipo.ALTERACAO_FUNCAO, Objects.requireNonNull(nome, "nome"),
+                Objects.requireNonNull(funcao, "funcao"), 0, null));
+        return this;
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de quem exerce a função, com as mesmas regras de
+     * {@link FuncionarioService#aplicarAumentoPercentual(double)}.
+     *
+     * @throws NumberFormatException se o percentual for infinito ou NaN.
+     */
+    public LoteMutacoes aplicarAumentoPercentual(FuncaoFuncionario funcao, double percentual) {
+        mutacoes.add(new Mutacao(Tipo.AUMENTO_FUNCAO, null, Objects.requireNonNull(funcao, "funcao"), percentual,
+                FatorPercentual.de(percentual)));
+        return this;
+    }
+
+    /**
+     * @return A quantidade de mutações do lote.
+     */
+    public int tamanho() {
+        return mutacoes.size();
+    }
+
+    List<Mutacao> mutacoes() {
+        return Collections.unmodifiableList(mutacoes);
+    }
+
+    enum Tipo {
+        REMOCAO,
+        ALTERACAO_FUNCAO,
+        AUMENTO_FUNCAO
+    }
+
+    static final class Mutacao {
+
+        final Tipo tipo;
+        final String nome;
+        final FuncaoFuncionario funcao;
+        final double percentual;
+        final FatorPercentual fator;
+
+        private Mutacao(Tipo tipo, String nome, FuncaoFuncionario funcao, double percentual, FatorPercentual fator) {
+            this.tipo = tipo;
+            this.nome = nome;
+            this.funcao = funcao;
+            this.percentual = percentual;
+            this.fator = fator;
+        }
+
+        String descricao() {
+            switch (tipo) {
+                case REMOCAO:
+                    return "remover " + nome;
+                case ALTERACAO_FUNCAO:
+                    return "alterar função de " + nome + " para " + funcao.getDescricao();
+                default:
+                    return "aumento de " + percentual + "% para " + funcao.getDescricao();
+            }
+        }
+    }
+}
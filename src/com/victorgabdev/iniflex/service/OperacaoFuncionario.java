@@ -0,0 +1,61 @@
+package com.victorgabdev.iniflex.service;
+
+import java.util.Locale;
+
+/**
+ * Operações do {@link FuncionarioService} instrumentadas pelas métricas; ver
+ * {@link FuncionarioService#getMetricas()}. O nome exibido é o do método, como {@code removerFuncionario}.
+ */
+public enum OperacaoFuncionario {
+    INSERIR_FUNCIONARIOS,
+    REMOVER_FUNCIONARIO,
+    BUSCAR_POR_NOME,
+    BUSCAR_POR_FUNCAO,
+    ALTERAR_FUNCAO,
+    BUSCAR_POR_MES_NASCIMENTO,
+    BUSCAR_ANIVERSARIANTES,
+    BUSCAR_ANIVERSARIANTES_ENTRE_MESES,
+    BUSCAR_ANIVERSARIANTES_ENTRE,
+    BUSCAR_MAIS_VELHOS,
+    BUSCAR_MAIS_NOVOS,
+    BUSCAR_POR_IDADE_MINIMA,
+    CONTAR_POR_FAIXA_ETARIA,
+    BUSCAR_MAIORES_SALARIOS,
+    BUSCAR_PRIMEIROS_EM_ORDEM_ALFABETICA,
+    LISTAR_ORDEM_ALFABETICA,
+    LISTAR_MAIORES_SALARIOS,
+    CONSULTAR,
+    IMPRIMIR_TODOS_FUNCIONARIOS,
+    APLICAR_AUMENTO_PERCENTUAL,
+    APLICAR_LOTE,
+    AGRUPAR_FUNCIONARIOS_POR_FUNCAO,
+    IMPRIMIR_FUNCIONARIOS_AGRUPADOS,
+    OBTER_ESTATISTICAS_POR_FUNCAO,
+    IMPRIMIR_ESTATISTICAS_POR_FUNCAO,
+    IMPRIMIR_ANIVERSARIANTES,
+    IMPRIMIR_FUNCIONARIO_MAIS_VELHO,
+    IMPRIMIR_FUNCIONARIOS_ORDEM_ALFABETICA,
+    IMPRIMIR_TOTAL_SALARIOS,
+    IMPRIMIR_VARIACAO_SALARIOS,
+    IMPRIMIR_SALARIOS_EM_MINIMOS,
+    CRIAR_ARMAZENAMENTO_COLUNAR,
+    SALVAR_SNAPSHOT,
+    CALCULAR_RESUMO_SEM_CARREGAR,
+    CARREGAR_FORA_DO_HEAP,
+    IMPRIMIR_RELATORIOS_FORA_DO_HEAP;
+
+    private final String nomeMetodo;
+
+    OperacaoFuncionario() {
+        StringBuilder nome = new StringBuilder();
+        for (String parte : name().toLowerCase(Locale.ROOT).split("_")) {
+            nome.append(nome.length() == 0 ? parte : Character.toUpperCase(parte.charAt(0)) + parte.substring(1));
+        }
+        this.nomeMetodo = nome.toString();
+    }
+
+    @Override
+    public String toString() {
+        return nomeMetodo;
+    }
+}
@@ -0,0 +1,73 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+/**
+ * Critério que distribui os funcionários entre os shards de um armazenamento particionado.
+ * <p>
+ * Os dois critérios são determinísticos e não dependem da JVM: todos os processos que recebem o mesmo
+ * critério e a mesma quantidade de shards concordam sobre o shard de cada funcionário.
+ * </p>
+ */
+public enum Particionamento {
+
+    /**
+     * Pelo hash do nome normalizado, como em {@link FuncionarioService#buscarPorNome(String)}. Todos
+     * os funcionários com um mesmo nome ficam no mesmo shard, então remoções e trocas de função por
+     * nome consultam um único shard.
+     */
+    POR_NOME {
+        @Override
+        public int shard(Funcionario funcionario, int quantidadeShards) {
+            return shardDoNome(funcionario.getNome(), quantidadeShards);
+        }
+
+        @Override
+        public int shardDoNome(String nome, int quantidadeShards) {
+            validarQuantidade(quantidadeShards);
+            int hash = IndiceFuncionarios.normalizarNome(nome).hashCode() * 0x9E3779B9;
+            return Math.floorMod(hash ^ (hash >>> 16), quantidadeShards);
+        }
+    },
+
+    /**
+     * Pela {@link FuncaoFuncionario} na carga: cada função fica inteira em um shard. Uma troca de
+     * função não move o funcionário, então as operações por nome consultam todos os shards.
+     */
+    POR_FUNCAO {
+        @Override
+        public int shard(Funcionario funcionario, int quantidadeShards) {
+            validarQuantidade(quantidadeShards);
+            return funcionario.getFuncao().ordinal() % quantidadeShards;
+        }
+
+        @Override
+        public int shardDoNome(String nome, int quantidadeShards) {
+            validarQuantidade(quantidadeShards);
+            return -1;
+        }
+    };
+
+    /**
+     * @param funcionario      Funcionário a ser distribuído.
+     * @param quantidadeShards Quantidade de shards, a partir de 1.
+     * @return O shard do funcionário, de 0 a {@code quantidadeShards - 1}.
+     * @throws IllegalArgumentException se a quantidade de shards não for positiva.
+     */
+    public abstract int shard(Funcionario funcionario, int quantidadeShards);
+
+    /**
+     * @param nome             Nome do funcionário, ignorando maiúsculas/minúsculas e acentos.
+     * @param quantidadeShards Quantidade de shards, a partir de 1.
+     * @return O único shard que pode conter funcionários com o nome, ou {@code -1} se o critério
+     *         não depender do nome.
+     * @throws IllegalArgumentException se a quantidade de shards não for positiva.
+     */
+    public abstract int shardDoNome(String nome, int quantidadeShards);
+
+    private static void validarQuantidade(int quantidadeShards) {
+        if (quantidadeShards < 1)
+            throw new IllegalArgumentException("A quantidade de shards deve ser positiva: " + quantidadeShards);
+    }
+}
@@ -0,0 +1,301 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+import com.victorgabdev.iniflex.repositoty.FuncionarioSnapshotRepository;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+import com.victorgabdev.iniflex.store.LogMutacoes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persistência durável de um {@link FuncionarioService} em um diretório: um snapshot binário mais um
+ * log das mutações feitas depois dele.
+ * <p>
+ * Cada remoção, aumento percentual e troca de função é registrada no {@link LogMutacoes} antes de
+ * ser aplicada. Na inicialização, o último snapshot é carregado e o log é reproduzido sobre ele.
+ * Quando o log passa de {@link #setLimiteLog(long)}, ele é compactado: o estado atual vira um novo
+ * snapshot e um log vazio passa a ser usado. Os arquivos de cada geração são
+ * {@code funcionarios-<geracao>.snap} e {@code mutacoes-<geracao>.log}.
+ * </p>
+ * <p>
+ * O snapshot poupa a interpretação de texto, não a montagem do {@link FuncionarioService}: a
+ * inicialização custa alguns segundos por milhão de funcionários, como em
+ * {@link FuncionarioService#salvarSnapshot(Path)}.
+ * </p>
+ * <pre>{@code
+ * try (PersistenciaFuncionarios persistencia = new PersistenciaFuncionarios(diretorio)) {
+ *     FuncionarioService service = persistencia.carregar(new FuncionarioRepositoryImpl());
+ *     service.removerFuncionario("João");
+ * }
+ * }</pre>
+ * <p>
+ * Por padrão, cada mutação só retorna depois de gravada em disco. O log junta em um único {@code fsync}
+ * os registros de threads que aguardam ao mesmo tempo, mas o {@link FuncionarioService} não é
+ * thread-safe e é usado por uma thread só: cada mutação espera o seu próprio {@code fsync}, e o
+ * group commit não reúne nada. Para muitas mutações seguidas, use
+ * {@link FuncionarioService#aplicarLote(LoteMutacoes)}, que grava um único registro, ou desligue
+ * {@link #setEsperarDurabilidade(boolean)}: as mutações retornam logo após o registro em memória, são
+ * gravadas em lotes e {@link #sincronizar()} aguarda as pendentes, ao custo de perder as mais recentes
+ * em uma queda do sistema.
+ * </p>
+ * <p>
+ * O snapshot e o log de uma nova geração, inclusive as suas entradas no diretório, estão em disco antes
+ * de os arquivos da geração anterior serem removidos.
+ * </p>
+ */
+public class PersistenciaFuncionarios implements Closeable {
+
+    private static final long LIMITE_LOG_PADRAO = 64L << 20;
+
+    private static final Pattern ARQUIVO_GERACAO = Pattern.compile("(?:funcionarios-(\\d+)\\.snap|mutacoes-(\\d+)\\.log)(\\.tmp)?");
+
+    private final Path diretorio;
+    private long limiteLog = LIMITE_LOG_PADRAO;
+    private boolean esperarDurabilidade = true;
+
+    private FuncionarioService service;
+    private LogMutacoes log;
+    private long geracao;
+
+    /**
+     * Cria a persistência no diretório informado, que é criado na carga se não existir.
+     *
+     * @param diretorio Diretório dos snapshots e logs.
+     */
+    public PersistenciaFuncionarios(Path diretorio) {
+        this.diretorio = Objects.requireNonNull(diretorio, "O diretório não pode ser nulo");
+    }
+
+    /**
+     * Define o tamanho do log, em bytes, a partir do qual ele é compactado em um novo snapshot.
+     *
+     * @param limiteLog Tamanho máximo do log; o padrão é 64 MB.
+     * @throws IllegalArgumentException se o limite não for positivo.
+     */
+    public void setLimiteLog(long limiteLog) {
+        if (limiteLog <= 0) throw new IllegalArgumentException("O limite do log deve ser positivo: " + limiteLog);
+        this.limiteLog = limiteLog;
+    }
+
+    /**
+     * Define se cada mutação aguarda a gravação do seu registro em disco antes de retornar. Com uma
+     * única thread fazendo mutações, ligado significa um {@code fsync} por mutação.
+     *
+     * @param esperarDurabilidade {@code false} para gravar os registros em lotes, em segundo plano.
+     */
+    public void setEsperarDurabilidade(boolean esperarDurabilidade) {
+        this.esperarDurabilidade = esperarDurabilidade;
+    }
+
+    /**
+     * Carrega o serviço a partir do último snapshot do diretório, reproduzindo o log sobre ele.
+     * <p>
+     * Se o diretório ainda não tiver snapshot, os funcionários são carregados da origem e gravados
+     * como a primeira geração. Arquivos de gerações anteriores, deixados por uma compactação
+     * interrompida, são removidos.
+     * </p>
+     *
+     * @param origem Repositório usado apenas quando o diretório ainda não tem snapshot.
+     * @return O serviço carregado, cujas mutações passam a ser registradas no log.
+     * @throws IllegalStateException se a persistência já tiver sido carregada.
+     * @throws UncheckedIOException caso os arquivos não possam ser lidos ou gravados.
+     * @throws ArquivoFuncionariosInvalidoException caso o snapshot ou o log estejam corrompidos.
+     */
+    public FuncionarioService carregar(IFuncionarioRepository origem) {
+        Objects.requireNonNull(origem, "O repositório não pode ser nulo");
+        if (service != null) throw new IllegalStateException("A persistência já foi carregada");
+
+        try {
+            Files.createDirectories(diretorio);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório " + diretorio, e);
+        }
+
+        long ultima = ultimaGeracao();
+        FuncionarioService carregado;
+        if (ultima == 0) {
+            ultima = 1;
+            carregado = new FuncionarioService(origem);
+            carregado.inserirFuncionarios();
+            carregado.gravarSnapshot(snapshot(ultima));
+        } else {
+            carregado = new FuncionarioService(new FuncionarioSnapshotRepository(snapshot(ultima)));
+            carregado.inserirFuncionarios();
+        }
+        removerGeracoesAnteriores(ultima);
+
+        try {
+            log = LogMutacoes.abrir(log(ultima), new Reproducao(carregado));
+        } catch (NoSuchElementException | IllegalArgumentException | ArithmeticException e) {
+            throw new ArquivoFuncionariosInvalidoException("Log de mutações inconsistente com o snapshot: " + log(ultima), e);
+        }
+        geracao = ultima;
+        service = carregado;
+        service.setPersistencia(this);
+        return service;
+    }
+
+    /**
+     * Grava o estado atual como um novo snapshot e passa a usar um log vazio. Os arquivos da geração
+     * anterior são removidos em seguida.
+     *
+     * @throws IllegalStateException se a persistência não tiver sido carregada.
+     * @throws UncheckedIOException caso os arquivos não possam ser gravados.
+     */
+    public void compactar() {
+        exigirCarregada();
+        log.close();
+        long proxima = geracao + 1;
+        service.gravarSnapshot(snapshot(proxima));
+        log = LogMutacoes.abrir(log(proxima), new Reproducao(service));
+        geracao = proxima;
+        removerGeracoesAnteriores(proxima);
+    }
+
+    /**
+     * Bloqueia até que todas as mutações registradas estejam gravadas em disco. Útil quando
+     * {@link #setEsperarDurabilidade(boolean)} está desligado.
+     *
+     * @throws IllegalStateException se a persistência não tiver sido carregada.
+     */
+    public void sincronizar() {
+        exigirCarregada();
+        log.sincronizar();
+    }
+
+    /**
+     * @return A geração atual: o número do último snapshot e do log em uso.
+     */
+    public long getGeracao() {
+        return geracao;
+    }
+
+    /**
+     * @return O tamanho do log em uso, em bytes.
+     */
+    public long getTamanhoLog() {
+        exigirCarregada();
+        return log.tamanhoBytes();
+    }
+
+    /**
+     * Grava as mutações pendentes e fecha o log. Mutações feitas no serviço depois disso falham
+     * com {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (log != null) log.close();
+    }
+
+    void registrarRemocao(String nome) {
+        aguardar(log.registrarRemocao(nome));
+    }
+
+    void registrarAumento(double percentual) {
+        aguardar(log.registrarAumento(percentual));
+    }
+
+    void registrarAlteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+        aguardar(log.registrarAlteracaoFuncao(nome, funcao));
+    }
+
+    void registrarLote(PlanoLote plano) {
+        aguardar(log.registrarLote(plano::registrar));
+    }
+
+    /**
+     * Chamado pelo serviço depois de aplicar uma mutação registrada; compacta o log quando ele
+     * passa do limite.
+     */
+    void aposMutacao() {
+        if (log.tamanhoBytes() > limiteLog) compactar();
+    }
+
+    private void aguardar(long sequencia) {
+        if (esperarDurabilidade) log.aguardar(sequencia);
+    }
+
+    private void exigirCarregada() {
+        if (service == null) throw new IllegalStateException("A persistência ainda não foi carregada");
+    }
+
+    private Path snapshot(long numero) {
+        return diretorio.resolve("funcionarios-" + numero + ".snap");
+    }
+
+    private Path log(long numero) {
+        return diretorio.resolve("mutacoes-" + numero + ".log");
+    }
+
+    private long ultimaGeracao() {
+        long ultima = 0;
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "funcionarios-*.snap")) {
+            for (Path arquivo : arquivos) {
+                Matcher matcher = ARQUIVO_GERACAO.matcher(arquivo.getFileName().toString());
+                if (matcher.matches() && matcher.group(1) != null) ultima = Math.max(ultima, Long.parseLong(matcher.group(1)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível listar o diretório " + diretorio, e);
+        }
+        return ultima;
+    }
+
+    /**
+     * Remove os snapshots e logs de gerações anteriores à informada, além de arquivos temporários
+     * deixados por gravações interrompidas.
+     */
+    private void removerGeracoesAnteriores(long atual) {
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio)) {
+            for (Path arquivo : arquivos) {
+                Matcher matcher = ARQUIVO_GERACAO.matcher(arquivo.getFileName().toString());
+                if (!matcher.matches()) continue;
+                long numero = Long.parseLong(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+                if (numero < atual || matcher.group(3) != null) Files.deleteIfExists(arquivo);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível remover gerações antigas de " + diretorio, e);
+        }
+    }
+
+    /**
+     * Reproduz as mutações do log no serviço, antes de a persistência ser associada a ele.
+     */
+    private static final class Reproducao implements LogMutacoes.ConsumidorMutacoes {
+
+        private final FuncionarioService service;
+
+        Reproducao(FuncionarioService service) {
+            this.service = service;
+        }
+
+        @Override
+        public void remocao(String nome) {
+            service.removerFuncionario(nome);
+        }
+
+        @Override
+        public void aumento(double percentual) {
+            service.aplicarAumentoPercentual(percentual);
+        }
+
+        @Override
+        public void alteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+            service.alterarFuncao(nome, funcao);
+        }
+
+        @Override
+        public void aumentoFuncao(FuncaoFuncionario funcao, double percentual) {
+            service.aplicarAumentoPercentual(funcao, percentual);
+        }
+    }
+}
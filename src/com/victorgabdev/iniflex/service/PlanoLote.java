@@ -0,0 +1,187 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.service.LoteMutacoes.Mutacao;
+import com.victorgabdev.iniflex.store.LogMutacoes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estado final de cada funcionário afetado por um {@link LoteMutacoes}, calculado sem alterar nada.
+ * <p>
+ * Os candidatos são apenas os funcionários com um dos nomes do lote, obtidos do índice por nome, e
+ * os membros das funções que recebem aumento, obtidos do agrupamento por função; o restante da lista
+ * não é percorrido. Para cada candidato, as mutações que podem afetá-lo (as do seu nome e os aumentos
+ * por função) são avaliadas na ordem do lote, o que reproduz a aplicação uma a uma. Os candidatos
+ * ficam na ordem em que foram encontrados, e os homônimos na ordem do índice, como na aplicação uma a uma.
+ * </p>
+ */
+final class PlanoLote {
+
+    private static final int[] NENHUMA = new int[0];
+
+    private final List<Mutacao> mutacoes;
+    private final int[] afetados;
+    private final Map<Funcionario, Estado> estados = new LinkedHashMap<>();
+
+    private PlanoLote(List<Mutacao> mutacoes) {
+        this.mutacoes = mutacoes;
+        this.afetados = new int[mutacoes.size()];
+    }
+
+    static PlanoLote de(LoteMutacoes lote, IndiceFuncionarios indice, AgrupamentoPorFuncao agrupamento) {
+        PlanoLote plano = new PlanoLote(lote.mutacoes());
+        List<Mutacao> mutacoes = plano.mutacoes;
+
+        // Posições das mutações de cada nome e dos aumentos, em ordem crescente.
+        Map<String, List<Integer>> porNome = new HashMap<>();
+        Map<String, String> nomeOriginal = new HashMap<>();
+        List<Integer> posicoesAumentos = new ArrayList<>();
+        boolean[] funcoesAumentadas = new boolean[FuncaoFuncionario.values().length];
+        for (int i = 0; i < mutacoes.size(); i++) {
+            Mutacao mutacao = mutacoes.get(i);
+            if (mutacao.tipo == LoteMutacoes.Tipo.AUMENTO_FUNCAO) {
+                posicoesAumentos.add(i);
+                funcoesAumentadas[mutacao.funcao.ordinal()] = true;
+            } else {
+                String chave = IndiceFuncionarios.normalizarNome(mutacao.nome);
+                porNome.computeIfAbsent(chave, k -> new ArrayList<>()).add(i);
+                nomeOriginal.putIfAbsent(chave, mutacao.nome);
+            }
+        }
+        int[] aumentos = paraArray(posicoesAumentos);
+
+        porNome.forEach((chave, posicoes) -> {
+            int[] doNome = paraArray(posicoes);
+            for (Funcionario funcionario : indice.buscarPorNome(nomeOriginal.get(chave))) {
+                plano.estados.put(funcionario, new Estado(funcionario, doNome));
+            }
+        });
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            if (!funcoesAumentadas[funcao.ordinal()]) continue;
+            for (Funcionario funcionario : agrupamento.membros(funcao)) {
+                plano.estados.computeIfAbsent(funcionario, f -> new Estado(f, NENHUMA));
+            }
+        }
+
+        for (Estado estado : plano.estados.values()) plano.avaliar(estado, aumentos);
+        return plano;
+    }
+
+    /**
+     * Aplica ao estado do candidato, na ordem do lote, as mutações do seu nome e os aumentos.
+     */
+    private void avaliar(Estado estado, int[] aumentos) {
+        int[] doNome = estado.mutacoesDoNome;
+        int i = 0;
+        int j = 0;
+        while (!estado.removido && (i < doNome.length || j < aumentos.length)) {
+            int posicao = j == aumentos.length || i < doNome.length && doNome[i] < aumentos[j] ? doNome[i++] : aumentos[j++];
+            Mutacao mutacao = mutacoes.get(posicao);
+            boolean aplicada = true;
+            switch (mutacao.tipo) {
+                case REMOCAO:
+                    estado.removido = true;
+                    break;
+                case ALTERACAO_FUNCAO:
+                    if (estado.funcao != mutacao.funcao) estado.ultimaTrocaFuncao = posicao;
+                    estado.funcao = mutacao.funcao;
+                    break;
+                case AUMENTO_FUNCAO:
+                    aplicada = estado.funcao == mutacao.funcao;
+                    if (aplicada) estado.salario = mutacao.fator.aplicar(estado.salario);
+                    break;
+            }
+            if (aplicada) afetados[posicao]++;
+        }
+    }
+
+    /**
+     * @return O estado final de cada candidato, inclusive dos que não mudaram, na ordem em que foram encontrados.
+     */
+    Map<Funcionario, Estado> estados() {
+        return estados;
+    }
+
+    int candidatos() {
+        return estados.size();
+    }
+
+    /**
+     * @return {@code true} se alguma mutação encontrou pelo menos um funcionário.
+     */
+    boolean temEfeito() {
+        for (int quantidade : afetados) {
+            if (quantidade > 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Escreve no destino, na ordem do lote, as mutações que encontraram algum funcionário. As
+     * demais não alteram nada e, reproduzidas uma a uma, falhariam por não encontrar o nome.
+     */
+    void registrar(LogMutacoes.ConsumidorMutacoes destino) {
+        for (int i = 0; i < mutacoes.size(); i++) {
+            if (afetados[i] == 0) continue;
+            Mutacao mutacao = mutacoes.get(i);
+            switch (mutacao.tipo) {
+                case REMOCAO:
+                    destino.remocao(mutacao.nome);
+                    break;
+                case ALTERACAO_FUNCAO:
+                    destino.alteracaoFuncao(mutacao.nome, mutacao.funcao);
+                    break;
+                case AUMENTO_FUNCAO:
+                    destino.aumentoFuncao(mutacao.funcao, mutacao.percentual);
+                    break;
+            }
+        }
+    }
+
+    ResultadoLote resultado(int removidos, int alterados) {
+        List<ResultadoLote.ResultadoMutacao> resultados = new ArrayList<>(mutacoes.size());
+        for (int i = 0; i < mutacoes.size(); i++) {
+            resultados.add(new ResultadoLote.ResultadoMutacao(i, mutacoes.get(i).descricao(), afetados[i]));
+        }
+        return new ResultadoLote(resultados, removidos, alterados);
+    }
+
+    private static int[] paraArray(List<Integer> posicoes) {
+        int[] array = new int[posicoes.size()];
+        for (int i = 0; i < array.length; i++) array[i] = posicoes.get(i);
+        return array;
+    }
+
+    /**
+     * Estado de um candidato depois do lote.
+     */
+    static final class Estado {
+
+        private final int[] mutacoesDoNome;
+        boolean removido;
+        FuncaoFuncionario funcao;
+        long salario;
+        /** Posição no lote da última mutação que trocou a função, ou -1 se a função nunca mudou. */
+        int ultimaTrocaFuncao = -1;
+
+        private Estado(Funcionario funcionario, int[] mutacoesDoNome) {
+            this.mutacoesDoNome = mutacoesDoNome;
+            this.funcao = funcionario.getFuncao();
+            this.salario = funcionario.getSalarioCentavos();
+        }
+
+        /**
+         * Indica se alguma mutação trocou a função. Aplicadas uma a uma, as trocas colocam o funcionário
+         * no fim do grupo da nova função, mesmo que ele volte para a função que tinha antes do lote.
+         */
+        boolean trocouFuncao() {
+            return ultimaTrocaFuncao >= 0;
+        }
+    }
+}
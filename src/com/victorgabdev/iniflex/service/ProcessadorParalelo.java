@@ -0,0 +1,196 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Executa as operações em lote do {@link FuncionarioService} com fork-join.
+ * <p>
+ * O conjunto de funcionários é dividido recursivamente em blocos de até {@link #LIMIAR} elementos,
+ * processados em paralelo e combinados sempre da esquerda para a direita. Como a combinação respeita
+ * a ordem original e as operações são exatas (soma de centavos, listas concatenadas em ordem,
+ * desempate pelo primeiro elemento), os resultados são idênticos aos do caminho sequencial.
+ * </p>
+ */
+class ProcessadorParalelo {
+
+    /** Quantidade máxima de elementos processados sequencialmente por uma tarefa. */
+    static final int LIMIAR = 4096;
+
+    private final ForkJoinPool pool;
+
+    ProcessadorParalelo(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return A soma exata dos salários, em centavos.
+     * @throws ArithmeticException se a soma não couber em um {@code long}.
+     */
+    long somarSalarios(Funcionario[] funcionarios) {
+        return reduzir(funcionarios, (inicio, fim) -> {
+            long total = 0;
+            for (int i = inicio; i < fim; i++) total = Math.addExact(total, funcionarios[i].getSalarioCentavos());
+            return total;
+        }, Math::addExact);
+    }
+
+    /**
+     * Aplica uma função a cada funcionário, guardando o resultado na mesma posição.
+     *
+     * @return Array com o resultado da função para cada funcionário.
+     */
+    long[] mapearSalarios(Funcionario[] funcionarios, ToLongFunction<Funcionario> funcao) {
+        long[] resultado = new long[funcionarios.length];
+        pool.invoke(new Mapeamento(0, funcionarios.length, LIMIAR,
+                i -> resultado[i] = funcao.applyAsLong(funcionarios[i])));
+        return resultado;
+    }
+
+    /**
+     * Agrupa os funcionários por função, agrupando cada bloco separadamente e mesclando os
+     * mapas parciais na ordem dos blocos.
+     *
+     * @return Mapa da função para os funcionários, na ordem original.
+     */
+    Map<FuncaoFuncionario, List<Funcionario>> agruparPorFuncao(Funcionario[] funcionarios) {
+        return reduzir(funcionarios, (inicio, fim) -> {
+            Map<FuncaoFuncionario, List<Funcionario>> parcial = new EnumMap<>(FuncaoFuncionario.class);
+            for (int i = inicio; i < fim; i++) {
+                parcial.computeIfAbsent(funcionarios[i].getFuncao(), f -> new ArrayList<>()).add(funcionarios[i]);
+            }
+            return parcial;
+        }, (esquerda, direita) -> {
+            direita.forEach((funcao, lista) -> esquerda.merge(funcao, lista, (a, b) -> {
+                a.addAll(b);
+                return a;
+            }));
+            return esquerda;
+        });
+    }
+
+    /**
+     * @return Os funcionários que satisfazem o predicado, na ordem original.
+     */
+    List<Funcionario> filtrar(Funcionario[] funcionarios, Predicate<Funcionario> predicado) {
+        return reduzir(funcionarios, (inicio, fim) -> {
+            List<Funcionario> parcial = new ArrayList<>();
+            for (int i = inicio; i < fim; i++) {
+                if (predicado.test(funcionarios[i])) parcial.add(funcionarios[i]);
+            }
+            return parcial;
+        }, (esquerda, direita) -> {
+            esquerda.addAll(direita);
+            return esquerda;
+        });
+    }
+
+    /**
+     * Retorna o maior funcionário segundo o comparador. Em caso de empate, prevalece o que
+     * aparece primeiro, como em {@code Stream#max}.
+     */
+    Funcionario maximo(Funcionario[] funcionarios, Comparator<Funcionario> comparador) {
+        BinaryOperator<Funcionario> maior = (a, b) -> comparador.compare(a, b) >= 0 ? a : b;
+        return reduzir(funcionarios, (inicio, fim) -> {
+            Funcionario atual = funcionarios[inicio];
+            for (int i = inicio + 1; i < fim; i++) atual = maior.apply(atual, funcionarios[i]);
+            return atual;
+        }, maior);
+    }
+
+    /**
+     * Ordena uma cópia do array de forma estável, usando {@link Arrays#parallelSort}.
+     */
+    Funcionario[] ordenar(Funcionario[] funcionarios, Comparator<Funcionario> comparador) {
+        Funcionario[] ordenados = funcionarios.clone();
+        Arrays.parallelSort(ordenados, comparador);
+        return ordenados;
+    }
+
+    /**
+     * Executa as tarefas informadas em paralelo, uma por subtarefa do fork-join.
+     */
+    void executarTodas(List<Runnable> tarefas) {
+        pool.invoke(new Mapeamento(0, tarefas.size(), 1, i -> tarefas.get(i).run()));
+    }
+
+    private <R> R reduzir(Funcionario[] funcionarios, Bloco<R> bloco, BinaryOperator<R> combinar) {
+        if (funcionarios.length == 0) throw new IllegalArgumentException("Não há funcionários para processar");
+        return pool.invoke(new Reducao<>(0, funcionarios.length, bloco, combinar));
+    }
+
+    @FunctionalInterface
+    private interface Bloco<R> {
+        R processar(int inicio, int fim);
+    }
+
+    private static class Reducao<R> extends RecursiveTask<R> {
+
+        private final int inicio;
+        private final int fim;
+        private final Bloco<R> bloco;
+        private final BinaryOperator<R> combinar;
+
+        Reducao(int inicio, int fim, Bloco<R> bloco, BinaryOperator<R> combinar) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.bloco = bloco;
+            this.combinar = combinar;
+        }
+
+        @Override
+        protected R compute() {
+            if (fim - inicio <= LIMIAR) return bloco.processar(inicio, fim);
+
+            int meio = (inicio + fim) >>> 1;
+            Reducao<R> esquerda = new Reducao<>(inicio, meio, bloco, combinar);
+            Reducao<R> direita = new Reducao<>(meio, fim, bloco, combinar);
+            esquerda.fork();
+            R resultadoDireita = direita.compute();
+            return combinar.apply(esquerda.join(), resultadoDireita);
+        }
+    }
+
+    @FunctionalInterface
+    private interface AcaoIndice {
+        void executar(int indice);
+    }
+
+    private static class Mapeamento extends RecursiveAction {
+
+        private final int inicio;
+        private final int fim;
+        private final int limiar;
+        private final AcaoIndice acao;
+
+        Mapeamento(int inicio, int fim, int limiar, AcaoIndice acao) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.limiar = limiar;
+            this.acao = acao;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= limiar) {
+                for (int i = inicio; i < fim; i++) acao.executar(i);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Mapeamento(inicio, meio, limiar, acao), new Mapeamento(meio, fim, limiar, acao));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.victorgabdev.iniflex.service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de {@link FuncionarioService#aplicarLote(LoteMutacoes)}: quantos funcionários cada
+ * mutação afetou, na ordem do lote, e os totais de removidos e alterados.
+ * <p>
+ * Instâncias são imutáveis.
+ * </p>
+ */
+public class ResultadoLote {
+
+    private final List<ResultadoMutacao> resultados;
+    private final int funcionariosRemovidos;
+    private final int funcionariosAlterados;
+
+    ResultadoLote(List<ResultadoMutacao> resultados, int funcionariosRemovidos, int funcionariosAlterados) {
+        this.resultados = Collections.unmodifiableList(resultados);
+        this.funcionariosRemovidos = funcionariosRemovidos;
+        this.funcionariosAlterados = funcionariosAlterados;
+    }
+
+    /**
+     * @return O resultado de cada mutação, na ordem em que foram adicionadas ao lote.
+     */
+    public List<ResultadoMutacao> getResultados() {
+        return resultados;
+    }
+
+    /**
+     * @return A quantidade de mutações que não encontraram nenhum funcionário.
+     */
+    public int getMutacoesSemEfeito() {
+        int semEfeito = 0;
+        for (ResultadoMutacao resultado : resultados) {
+            if (!resultado.isAplicada()) semEfeito++;
+        }
+        return semEfeito;
+    }
+
+    public int getFuncionariosRemovidos() {
+        return funcionariosRemovidos;
+    }
+
+    /**
+     * @return A quantidade de funcionários que continuam cadastrados e tiveram a função ou o salário alterados.
+     */
+    public int getFuncionariosAlterados() {
+        return funcionariosAlterados;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Mutações: %d, sem efeito: %d, removidos: %d, alterados: %d",
+                resultados.size(), getMutacoesSemEfeito(), funcionariosRemovidos, funcionariosAlterados);
+    }
+
+    /**
+     * Resultado de uma mutação do lote.
+     */
+    public static final class ResultadoMutacao {
+
+        private final int posicao;
+        private final String descricao;
+        private final int funcionariosAfetados;
+
+        ResultadoMutacao(int posicao, String descricao, int funcionariosAfetados) {
+            this.posicao = posicao;
+            this.descricao = descricao;
+            this.funcionariosAfetados = funcionariosAfetados;
+        }
+
+        /**
+         * @return A posição da mutação no lote, a partir de 0.
+         */
+        public int getPosicao() {
+            return posicao;
+        }
+
+        public String getDescricao() {
+            return descricao;
+        }
+
+        /**
+         * @return Quantos funcionários a mutação encontrou; uma troca para a função atual também conta.
+         */
+        public int getFuncionariosAfetados() {
+            return funcionariosAfetados;
+        }
+
+        /**
+         * @return {@code true} se a mutação encontrou pelo menos um funcionário.
+         */
+        public boolean isAplicada() {
+            return funcionariosAfetados > 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d. %s: %d funcionário(s)", posicao + 1, descricao, funcionariosAfetados);
+        }
+    }
+}
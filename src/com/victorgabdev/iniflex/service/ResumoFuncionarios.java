@@ -0,0 +1,90 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Acumulador que calcula, em uma única passagem, o total de salários, os aniversariantes
+ * de determinados meses e o funcionário mais velho.
+ * <p>
+ * Foi pensado para ser usado sobre o cursor de {@link com.victorgabdev.iniflex.repositoty.IFuncionarioRepository#streamFuncionarios()}:
+ * apenas os aniversariantes e o funcionário mais velho são retidos, os demais funcionários
+ * podem ser descartados assim que processados.
+ * </p>
+ */
+public class ResumoFuncionarios implements Consumer<Funcionario> {
+
+    /** Meses de aniversário considerados, indexados de 1 a 12. */
+    private final boolean[] mesesAniversario = new boolean[13];
+
+    private long quantidade;
+    private long totalSalariosCentavos;
+    private final List<Funcionario> aniversariantes = new ArrayList<>();
+    private Funcionario maisVelho;
+
+    /**
+     * Cria um acumulador para os meses de aniversário informados.
+     *
+     * @param meses Meses de aniversário (1 a 12) a serem filtrados.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public ResumoFuncionarios(int... meses) {
+        for (int mes : meses) {
+            if (mes < 1 || mes > 12) throw new IllegalArgumentException("Mês inválido: " + mes);
+            mesesAniversario[mes] = true;
+        }
+    }
+
+    @Override
+    public void accept(Funcionario funcionario) {
+        quantidade++;
+        totalSalariosCentavos = Math.addExact(totalSalariosCentavos, funcionario.getSalarioCentavos());
+
+        LocalDate dataNascimento = funcionario.getDataNascimento();
+        if (mesesAniversario[dataNascimento.getMonthValue()]) aniversariantes.add(funcionario);
+        if (maisVelho == null || dataNascimento.isBefore(maisVelho.getDataNascimento())) maisVelho = funcionario;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public long getTotalSalariosCentavos() {
+        return totalSalariosCentavos;
+    }
+
+    public BigDecimal getTotalSalarios() {
+        return Centavos.paraBigDecimal(totalSalariosCentavos);
+    }
+
+    public List<Funcionario> getAniversariantes() {
+        return Collections.unmodifiableList(aniversariantes);
+    }
+
+    /**
+     * @return O funcionário com a data de nascimento mais antiga, ou {@code null} se nenhum foi processado.
+     */
+    public Funcionario getMaisVelho() {
+        return maisVelho;
+    }
+
+    /**
+     * Calcula a idade do funcionário mais velho na data informada.
+     *
+     * @param referencia Data de referência para o cálculo.
+     * @return Idade em anos completos.
+     * @throws IllegalStateException se nenhum funcionário foi processado.
+     */
+    public int getIdadeMaisVelho(LocalDate referencia) {
+        if (maisVelho == null) throw new IllegalStateException("Nenhum funcionário foi processado");
+        return CalculadoraIdade.em(referencia).idade(maisVelho.getDataNascimento());
+    }
+}
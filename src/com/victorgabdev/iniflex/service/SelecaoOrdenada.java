@@ -0,0 +1,96 @@
+package com.victorgabdev.iniflex.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Seleção dos primeiros elementos de uma ordenação sem ordenar a coleção inteira.
+ * <p>
+ * Os candidatos são mantidos em um heap limitado a {@code k} elementos, cuja raiz é o pior
+ * dos selecionados: cada novo elemento só entra se for melhor que ela. O custo é
+ * O(n log k) em tempo e O(k) em memória, contra O(n log n) e O(n) de uma ordenação completa.
+ * Empates são desfeitos pela posição na coleção, então o resultado é exatamente o prefixo de
+ * uma ordenação estável.
+ * </p>
+ */
+final class SelecaoOrdenada {
+
+    private SelecaoOrdenada() {
+    }
+
+    /**
+     * Retorna os {@code k} primeiros elementos segundo a ordem informada.
+     *
+     * @param elementos Elementos a serem considerados, na ordem usada para desempate.
+     * @param k         Quantidade máxima de elementos selecionados.
+     * @param ordem     Ordem desejada; o primeiro elemento do resultado é o menor segundo ela.
+     * @return Lista com até {@code k} elementos, em ordem.
+     * @throws IllegalArgumentException se {@code k} for negativo.
+     */
+    static <T> List<T> primeiros(Iterable<T> elementos, int k, Comparator<? super T> ordem) {
+        if (k < 0) throw new IllegalArgumentException("A quantidade não pode ser negativa: " + k);
+        if (k == 0) return Collections.emptyList();
+
+        Comparator<Candidato<T>> porOrdem = (a, b) -> {
+            int comparacao = ordem.compare(a.elemento, b.elemento);
+            return comparacao != 0 ? comparacao : Long.compare(a.posicao, b.posicao);
+        };
+        PriorityQueue<Candidato<T>> heap = new PriorityQueue<>(Math.min(k, 1024), porOrdem.reversed());
+
+        long posicao = 0;
+        for (T elemento : elementos) {
+            if (heap.size() < k) {
+                heap.add(new Candidato<>(elemento, posicao));
+            } else if (ordem.compare(elemento, heap.peek().elemento) < 0) {
+                // Empate com a raiz não entra: a raiz veio antes e ganha o desempate.
+                heap.poll();
+                heap.add(new Candidato<>(elemento, posicao));
+            }
+            posicao++;
+        }
+
+        List<Candidato<T>> selecionados = new ArrayList<>(heap);
+        selecionados.sort(porOrdem);
+        List<T> resultado = new ArrayList<>(selecionados.size());
+        for (Candidato<T> candidato : selecionados) resultado.add(candidato.elemento);
+        return resultado;
+    }
+
+    /**
+     * Retorna uma página da ordenação informada, selecionando apenas os elementos até o fim da página.
+     *
+     * @param elementos     Elementos a serem considerados, na ordem usada para desempate.
+     * @param pagina        Número da página, começando em 1.
+     * @param tamanhoPagina Quantidade de elementos por página.
+     * @param ordem         Ordem da listagem.
+     * @return Os elementos da página, ou uma lista vazia se a página estiver além do fim.
+     * @throws IllegalArgumentException se a página ou o tamanho forem menores que 1.
+     */
+    static <T> List<T> pagina(Iterable<T> elementos, int pagina, int tamanhoPagina, Comparator<? super T> ordem) {
+        if (pagina < 1) throw new IllegalArgumentException("A página deve ser maior que zero: " + pagina);
+        if (tamanhoPagina < 1)
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero: " + tamanhoPagina);
+
+        long inicio = (long) (pagina - 1) * tamanhoPagina;
+        long fim = inicio + tamanhoPagina;
+        if (fim > Integer.MAX_VALUE) throw new IllegalArgumentException("Página fora do intervalo suportado: " + pagina);
+
+        List<T> primeiros = primeiros(elementos, (int) fim, ordem);
+        if (primeiros.size() <= inicio) return Collections.emptyList();
+        return List.copyOf(primeiros.subList((int) inicio, primeiros.size()));
+    }
+
+    private static final class Candidato<T> {
+
+        private final T elemento;
+        private final long posicao;
+
+        Candidato(T elemento, long posicao) {
+            this.elemento = elemento;
+            this.posicao = posicao;
+        }
+    }
+}
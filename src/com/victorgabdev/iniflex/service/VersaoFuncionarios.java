@@ -0,0 +1,395 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.calculo.SomaCentavos;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Versão imutável do conjunto de funcionários de um {@link FuncionarioService}.
+ * <p>
+ * Os funcionários ficam em blocos de {@value #TAMANHO_BLOCO} posições de inserção, e cada bloco guarda
+ * os dados em colunas (nome, nascimento, função e salário em centavos). Uma alteração cria uma nova
+ * versão que reaproveita tudo o que não mudou:
+ * </p>
+ * <ul>
+ *   <li>um aumento salarial cria apenas as colunas de salário; nomes, datas e funções são compartilhados;</li>
+ *   <li>uma remoção ou troca de função recria apenas o bloco afetado;</li>
+ *   <li>um lote de mutações recria cada bloco afetado uma única vez.</li>
+ * </ul>
+ * <p>
+ * Versões antigas continuam válidas enquanto houver referências a elas. Relatórios as obtêm com
+ * {@link FuncionarioService#fixarVersao()} e as liberam com {@link Fixacao#close()}; a partir daí,
+ * se não forem a versão atual, o coletor de lixo pode recuperá-las.
+ * </p>
+ */
+public final class VersaoFuncionarios {
+
+    /** Quantidade de posições de inserção por bloco. */
+    static final int TAMANHO_BLOCO = 1024;
+
+    private static final Bloco BLOCO_VAZIO = new Bloco(new int[0], new String[0], new LocalDate[0],
+            new FuncaoFuncionario[0], new long[0]);
+
+    static final VersaoFuncionarios VAZIA = new VersaoFuncionarios(new Object(), 0, new Bloco[0]);
+
+    /** Identifica a carga de onde a versão foi derivada; versões de cargas diferentes não são comparáveis. */
+    private final Object origem;
+    private final long numero;
+    private final Bloco[] blocos;
+    private final int tamanho;
+    private final long totalSalariosCentavos;
+
+    /** Leitores que fixaram esta versão; protegido pelo monitor da versão. */
+    private int leitores;
+
+    private VersaoFuncionarios(Object origem, long numero, Bloco[] blocos) {
+        this.origem = origem;
+        this.numero = numero;
+        this.blocos = blocos;
+        int quantidade = 0;
+        SomaCentavos total = new SomaCentavos();
+        for (Bloco bloco : blocos) {
+            quantidade += bloco.ids.length;
+            total.adicionar(bloco.totalCentavos);
+        }
+        this.tamanho = quantidade;
+        this.totalSalariosCentavos = total.valor();
+    }
+
+    /**
+     * Cria a primeira versão de uma carga. O identificador de cada funcionário é a sua posição na coleção.
+     */
+    static VersaoFuncionarios de(Collection<Funcionario> funcionarios) {
+        Funcionario[] todos = funcionarios.toArray(new Funcionario[0]);
+        Bloco[] blocos = new Bloco[(todos.length + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO];
+        for (int b = 0; b < blocos.length; b++) {
+            int inicio = b * TAMANHO_BLOCO;
+            int fim = Math.min(inicio + TAMANHO_BLOCO, todos.length);
+            blocos[b] = Bloco.de(todos, inicio, fim);
+        }
+        return new VersaoFuncionarios(new Object(), 1, blocos);
+    }
+
+    /**
+     * @return Uma nova versão sem os funcionários com os identificadores informados.
+     */
+    VersaoFuncionarios sem(int... ids) {
+        Bloco[] novos = blocos.clone();
+        for (int id : ids) novos[id / TAMANHO_BLOCO] = novos[id / TAMANHO_BLOCO].sem(id);
+        return new VersaoFuncionarios(origem, numero + 1, novos);
+    }
+
+    /**
+     * @return Uma nova versão em que os funcionários com os identificadores informados exercem a função.
+     */
+    VersaoFuncionarios comFuncao(FuncaoFuncionario funcao, int... ids) {
+        Bloco[] novos = blocos.clone();
+        for (int id : ids) novos[id / TAMANHO_BLOCO] = novos[id / TAMANHO_BLOCO].comFuncao(id, funcao);
+        return new VersaoFuncionarios(origem, numero + 1, novos);
+    }
+
+    /**
+     * @return Uma nova versão com os salários reajustados pelo fator; as demais colunas são compartilhadas.
+     */
+    VersaoFuncionarios comAumento(FatorPercentual fator) {
+        Bloco[] novos = new Bloco[blocos.length];
+        for (int b = 0; b < blocos.length; b++) novos[b] = blocos[b].comAumento(fator);
+        return new VersaoFuncionarios(origem, numero + 1, novos);
+    }
+
+    /**
+     * Cria a versão resultante de um lote de mutações, recriando uma única vez cada bloco afetado.
+     *
+     * @param removidos Identificadores dos funcionários removidos.
+     * @param alterados Identificadores dos funcionários com função ou salário alterados.
+     * @param funcoes   A nova função de cada funcionário alterado, na mesma ordem.
+     * @param salarios  O novo salário de cada funcionário alterado, em centavos, na mesma ordem.
+     * @return A nova versão; nomes e datas são compartilhados.
+     * @throws ArithmeticException se o total dos salários não couber em um {@code long}.
+     */
+    VersaoFuncionarios comLote(int[] removidos, int[] alterados, FuncaoFuncionario[] funcoes, long[] salarios) {
+        Bloco[] novos = blocos.clone();
+
+        // Identificador nos 32 bits altos e posição nos arrays de alterados nos baixos, para ordenar sem boxing.
+        long[] chaves = new long[alterados.length];
+        for (int i = 0; i < alterados.length; i++) chaves[i] = (long) alterados[i] << 32 | i;
+        Arrays.sort(chaves);
+        for (int inicio = 0, fim; inicio < chaves.length; inicio = fim) {
+            int bloco = (int) (chaves[inicio] >>> 32) / TAMANHO_BLOCO;
+            fim = inicio + 1;
+            while (fim < chaves.length && (int) (chaves[fim] >>> 32) / TAMANHO_BLOCO == bloco) fim++;
+            novos[bloco] = novos[bloco].comAlterados(chaves, inicio, fim, funcoes, salarios);
+        }
+
+        int[] ordenados = removidos.clone();
+        Arrays.sort(ordenados);
+        for (int inicio = 0, fim; inicio < ordenados.length; inicio = fim) {
+            int bloco = ordenados[inicio] / TAMANHO_BLOCO;
+            fim = inicio + 1;
+            while (fim < ordenados.length && ordenados[fim] / TAMANHO_BLOCO == bloco) fim++;
+            novos[bloco] = novos[bloco].sem(ordenados, inicio, fim);
+        }
+        return new VersaoFuncionarios(origem, numero + 1, novos);
+    }
+
+    /**
+     * Fixa esta versão para um leitor, registrando-a no conjunto de versões retidas.
+     */
+    Fixacao fixar(Set<VersaoFuncionarios> retidas) {
+        synchronized (this) {
+            if (leitores++ == 0) retidas.add(this);
+        }
+        return new Fixacao(this, retidas);
+    }
+
+    /**
+     * @return O número da versão, que cresce a cada alteração do serviço.
+     */
+    public long getNumero() {
+        return numero;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @return A soma dos salários desta versão, em centavos, calculada na criação da versão.
+     */
+    public long getTotalSalariosCentavos() {
+        return totalSalariosCentavos;
+    }
+
+    /**
+     * @return A soma dos salários desta versão com duas casas decimais.
+     */
+    public BigDecimal getTotalSalarios() {
+        return Centavos.paraBigDecimal(totalSalariosCentavos);
+    }
+
+    /**
+     * Reconstrói os funcionários desta versão.
+     *
+     * @return Novos objetos {@link Funcionario}, na ordem de inserção; alterá-los não afeta a versão.
+     */
+    public List<Funcionario> funcionarios() {
+        List<Funcionario> resultado = new ArrayList<>(tamanho);
+        for (Bloco bloco : blocos) {
+            for (int i = 0; i < bloco.ids.length; i++) resultado.add(bloco.funcionario(i));
+        }
+        return Collections.unmodifiableList(resultado);
+    }
+
+    /**
+     * Percorre, na ordem de inserção, os funcionários presentes nas duas versões, com o salário de cada uma.
+     *
+     * @throws IllegalArgumentException se as versões não vierem da mesma carga.
+     */
+    static void paraCadaEmAmbas(VersaoFuncionarios anterior, VersaoFuncionarios atual, ComparacaoSalario acao) {
+        if (anterior.origem != atual.origem)
+            throw new IllegalArgumentException("As versões não pertencem à mesma carga de funcionários");
+
+        for (int b = 0; b < anterior.blocos.length; b++) {
+            Bloco antes = anterior.blocos[b];
+            Bloco depois = atual.blocos[b];
+            int i = 0;
+            int j = 0;
+            while (i < antes.ids.length && j < depois.ids.length) {
+                if (antes.ids[i] < depois.ids[j]) i++;
+                else if (antes.ids[i] > depois.ids[j]) j++;
+                else acao.aceitar(depois.nomes[j], antes.salarios[i++], depois.salarios[j++]);
+            }
+        }
+    }
+
+    /**
+     * Recebe o nome e os salários, em centavos, de um funcionário presente em duas versões.
+     */
+    @FunctionalInterface
+    interface ComparacaoSalario {
+        void aceitar(String nome, long salarioAnterior, long salarioAtual);
+    }
+
+    /**
+     * Leitura fixada de uma versão. Deve ser fechada quando o relatório terminar, de preferência
+     * com try-with-resources; fechar mais de uma vez não tem efeito.
+     */
+    public static final class Fixacao implements AutoCloseable {
+
+        private final VersaoFuncionarios versao;
+        private final Set<VersaoFuncionarios> retidas;
+        private boolean fechada;
+
+        private Fixacao(VersaoFuncionarios versao, Set<VersaoFuncionarios> retidas) {
+            this.versao = versao;
+            this.retidas = retidas;
+        }
+
+        /**
+         * @return A versão fixada.
+         * @throws IllegalStateException se a fixação já tiver sido fechada.
+         */
+        public VersaoFuncionarios getVersao() {
+            if (fechada) throw new IllegalStateException("A versão já foi liberada");
+            return versao;
+        }
+
+        @Override
+        public void close() {
+            if (fechada) return;
+            fechada = true;
+            synchronized (versao) {
+                if (--versao.leitores == 0) retidas.remove(versao);
+            }
+        }
+    }
+
+    /**
+     * Funcionários imutáveis de um intervalo de posições de inserção, em colunas ordenadas pelo identificador.
+     */
+    private static final class Bloco {
+
+        private final int[] ids;
+        private final String[] nomes;
+        private final LocalDate[] nascimentos;
+        private final FuncaoFuncionario[] funcoes;
+        private final long[] salarios;
+        private final long totalCentavos;
+
+        private Bloco(int[] ids, String[] nomes, LocalDate[] nascimentos, FuncaoFuncionario[] funcoes, long[] salarios) {
+            this.ids = ids;
+            this.nomes = nomes;
+            this.nascimentos = nascimentos;
+            this.funcoes = funcoes;
+            this.salarios = salarios;
+            SomaCentavos total = new SomaCentavos();
+            for (long salario : salarios) total.adicionar(salario);
+            this.totalCentavos = total.valor();
+        }
+
+        static Bloco de(Funcionario[] funcionarios, int inicio, int fim) {
+            int quantidade = fim - inicio;
+            int[] ids = new int[quantidade];
+            String[] nomes = new String[quantidade];
+            LocalDate[] nascimentos = new LocalDate[quantidade];
+            FuncaoFuncionario[] funcoes = new FuncaoFuncionario[quantidade];
+            long[] salarios = new long[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                Funcionario f = funcionarios[inicio + i];
+                ids[i] = inicio + i;
+                nomes[i] = f.getNome();
+                nascimentos[i] = f.getDataNascimento();
+                funcoes[i] = f.getFuncao();
+                salarios[i] = f.getSalarioCentavos();
+            }
+            return new Bloco(ids, nomes, nascimentos, funcoes, salarios);
+        }
+
+        Funcionario funcionario(int i) {
+            Funcionario f = new Funcionario(nomes[i], nascimentos[i], BigDecimal.ZERO, funcoes[i]);
+            f.setSalarioCentavos(salarios[i]);
+            return f;
+        }
+
+        Bloco sem(int id) {
+            int i = Arrays.binarySearch(ids, id);
+            if (i < 0) return this;
+            if (ids.length == 1) return BLOCO_VAZIO;
+            return new Bloco(remover(ids, i), remover(nomes, i), remover(nascimentos, i), remover(funcoes, i),
+                    remover(salarios, i));
+        }
+
+        Bloco comFuncao(int id, FuncaoFuncionario funcao) {
+            int i = Arrays.binarySearch(ids, id);
+            if (i < 0 || funcoes[i] == funcao) return this;
+            FuncaoFuncionario[] novas = funcoes.clone();
+            novas[i] = funcao;
+            return new Bloco(ids, nomes, nascimentos, novas, salarios);
+        }
+
+        /**
+         * Troca a função e o salário dos funcionários indicados por {@code chaves[inicio..fim)}, no formato
+         * de {@link VersaoFuncionarios#comLote(int[], int[], FuncaoFuncionario[], long[])}.
+         */
+        Bloco comAlterados(long[] chaves, int inicio, int fim, FuncaoFuncionario[] funcoesAlteradas, long[] salariosAlterados) {
+            FuncaoFuncionario[] novasFuncoes = funcoes.clone();
+            long[] novosSalarios = salarios.clone();
+            for (int k = inicio; k < fim; k++) {
+                int i = Arrays.binarySearch(ids, (int) (chaves[k] >>> 32));
+                if (i < 0) continue;
+                novasFuncoes[i] = funcoesAlteradas[(int) chaves[k]];
+                novosSalarios[i] = salariosAlterados[(int) chaves[k]];
+            }
+            return new Bloco(ids, nomes, nascimentos, novasFuncoes, novosSalarios);
+        }
+
+        /**
+         * Remove os identificadores de {@code ordenados[inicio..fim)}, em ordem crescente, em uma única cópia.
+         */
+        Bloco sem(int[] ordenados, int inicio, int fim) {
+            boolean[] remover = new boolean[ids.length];
+            int restantes = ids.length;
+            for (int k = inicio; k < fim; k++) {
+                int i = Arrays.binarySearch(ids, ordenados[k]);
+                if (i >= 0 && !remover[i]) {
+                    remover[i] = true;
+                    restantes--;
+                }
+            }
+            if (restantes == ids.length) return this;
+            if (restantes == 0) return BLOCO_VAZIO;
+
+            int[] novosIds = new int[restantes];
+            String[] novosNomes = new String[restantes];
+            LocalDate[] novosNascimentos = new LocalDate[restantes];
+            FuncaoFuncionario[] novasFuncoes = new FuncaoFuncionario[restantes];
+            long[] novosSalarios = new long[restantes];
+            int j = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (remover[i]) continue;
+                novosIds[j] = ids[i];
+                novosNomes[j] = nomes[i];
+                novosNascimentos[j] = nascimentos[i];
+                novasFuncoes[j] = funcoes[i];
+                novosSalarios[j++] = salarios[i];
+            }
+            return new Bloco(novosIds, novosNomes, novosNascimentos, novasFuncoes, novosSalarios);
+        }
+
+        Bloco comAumento(FatorPercentual fator) {
+            if (ids.length == 0) return this;
+            long[] novos = new long[salarios.length];
+            for (int i = 0; i < salarios.length; i++) novos[i] = fator.aplicar(salarios[i]);
+            return new Bloco(ids, nomes, nascimentos, funcoes, novos);
+        }
+
+        private static int[] remover(int[] array, int i) {
+            int[] resultado = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, i + 1, resultado, i, array.length - i - 1);
+            return resultado;
+        }
+
+        private static long[] remover(long[] array, int i) {
+            long[] resultado = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, i + 1, resultado, i, array.length - i - 1);
+            return resultado;
+        }
+
+        private static <T> T[] remover(T[] array, int i) {
+            T[] resultado = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, i + 1, resultado, i, array.length - i - 1);
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.service.Particionamento;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.NoSuchElementException;
+
+/**
+ * Conexão do coordenador com um {@link ServidorShard}, usada por uma requisição de cada vez.
+ */
+final class ConexaoShard implements Closeable {
+
+    private static final int TEMPO_CONEXAO_MS = 5_000;
+    private static final Particionamento[] PARTICIONAMENTOS = Particionamento.values();
+
+    private final InetSocketAddress endereco;
+    private final Socket socket;
+    private final DataInputStream entrada;
+    private final DataOutputStream saida;
+    private final int shard;
+    private final int quantidadeShards;
+    private final Particionamento particionamento;
+    private final long ultimaTrocaFuncao;
+
+    private ConexaoShard(InetSocketAddress endereco) throws IOException {
+        this.endereco = endereco;
+        this.socket = new Socket();
+        try {
+            socket.connect(endereco, TEMPO_CONEXAO_MS);
+            socket.setTcpNoDelay(true);
+            this.entrada = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.saida = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            int versao = entrada.readInt();
+            if (versao != ProtocoloShard.VERSAO) throw new IOException("Versão de protocolo não suportada: " + versao);
+            this.shard = entrada.readInt();
+            this.quantidadeShards = entrada.readInt();
+            int ordinal = entrada.readUnsignedByte();
+            if (ordinal >= PARTICIONAMENTOS.length) throw new IOException("Particionamento desconhecido: " + ordinal);
+            this.particionamento = PARTICIONAMENTOS[ordinal];
+            this.ultimaTrocaFuncao = entrada.readLong();
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Conecta ao shard e lê a sua identificação.
+     *
+     * @throws UncheckedIOException caso o shard não responda.
+     */
+    static ConexaoShard conectar(InetSocketAddress endereco) {
+        try {
+            return new ConexaoShard(endereco);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível conectar ao shard em " + endereco, e);
+        }
+    }
+
+    /**
+     * Envia uma requisição e lê a resposta.
+     *
+     * @throws NoSuchElementException   se o shard responder que não encontrou o que foi pedido.
+     * @throws IllegalArgumentException se o shard rejeitar os argumentos.
+     * @throws IllegalStateException    para as demais falhas do shard.
+     * @throws UncheckedIOException     caso a comunicação falhe.
+     */
+    synchronized <T> T chamar(byte operacao, Argumentos argumentos, Leitura<T> leitura) {
+        try {
+            saida.writeByte(operacao);
+            argumentos.escrever(saida);
+            saida.flush();
+
+            byte status = entrada.readByte();
+            if (status == ProtocoloShard.OK) return leitura.ler(entrada);
+            String mensagem = entrada.readUTF();
+            switch (status) {
+                case ProtocoloShard.NAO_ENCONTRADO:
+                    throw new NoSuchElementException(mensagem);
+                case ProtocoloShard.ARGUMENTO_INVALIDO:
+                    throw new IllegalArgumentException(mensagem);
+                default:
+                    throw new IllegalStateException(String.format("Falha no shard %d: %s", shard, mensagem));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha na comunicação com o shard em " + endereco, e);
+        }
+    }
+
+    int getShard() {
+        return shard;
+    }
+
+    int getQuantidadeShards() {
+        return quantidadeShards;
+    }
+
+    Particionamento getParticionamento() {
+        return particionamento;
+    }
+
+    /**
+     * @return A maior ordem de troca de função que o shard já recebeu, lida na conexão.
+     */
+    long getUltimaTrocaFuncao() {
+        return ultimaTrocaFuncao;
+    }
+
+    InetSocketAddress getEndereco() {
+        return endereco;
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // A conexão já estava fechada.
+        }
+    }
+
+    /** Argumentos escritos depois do código da operação. */
+    interface Argumentos {
+
+        Argumentos NENHUM = saida -> { };
+
+        void escrever(DataOutputStream saida) throws IOException;
+    }
+
+    /** Leitura do resultado de uma resposta com status {@link ProtocoloShard#OK}. */
+    interface Leitura<T> {
+        T ler(DataInputStream entrada) throws IOException;
+    }
+}
@@ -0,0 +1,569 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
+import com.victorgabdev.iniflex.service.EstatisticasFuncao;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.Particionamento;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coordenador de um armazenamento de funcionários particionado em vários {@link ServidorShard}s,
+ * cada um em seu próprio processo, com as operações do {@link FuncionarioService} feitas por
+ * scatter-gather:
+ * <pre>{@code
+ * try (FuncionarioServiceParticionado service = new FuncionarioServiceParticionado(List.of(
+ *         new InetSocketAddress("localhost", 9001), new InetSocketAddress("localhost", 9002)))) {
+ *     service.removerFuncionario("João");
+ *     service.imprimirFuncionariosOrdemAlfabetica();
+ * }
+ * }</pre>
+ * <p>
+ * Cada requisição é enviada a todos os shards em paralelo e as respostas são combinadas:
+ * </p>
+ * <ul>
+ *   <li>totais e contagens são somados, e as estatísticas por função combinam quantidade, soma,
+ *   menor e maior salário;</li>
+ *   <li>o mais velho é o menor entre os mais velhos de cada shard;</li>
+ *   <li>listagens chegam ordenadas de cada shard e são intercaladas, sem reordenar: a ordem
+ *   alfabética pelo nome, os aniversariantes pela ordem dos meses e as demais pela posição na carga,
+ *   que também desempata as anteriores;</li>
+ *   <li>nos grupos por função, um único serviço coloca no fim do grupo quem troca de função. O
+ *   coordenador numera cada troca de função, e os shards ordenam cada grupo pelo número da última
+ *   troca de cada membro (zero para quem nunca trocou) e depois pela posição na carga.</li>
+ * </ul>
+ * <p>
+ * O resultado é o mesmo de um único serviço com todos os funcionários, na ordem da origem. Ao
+ * conectar, o coordenador continua a numeração das trocas a partir da maior já recebida pelos shards.
+ * </p>
+ * <p>
+ * Com {@link Particionamento#POR_NOME}, remoções e trocas de função são enviadas apenas ao shard do
+ * nome. As alterações não são atômicas entre os shards: se um shard falhar no meio de um aumento, os
+ * demais já o terão aplicado. Assim como o {@link FuncionarioService}, o coordenador não é thread-safe.
+ * </p>
+ */
+public class FuncionarioServiceParticionado implements Closeable {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    private static final Comparator<LinhaShard> POR_POSICAO = Comparator.comparingInt(linha -> linha.posicao);
+    private static final Comparator<LinhaShard> POR_NOME =
+            Comparator.comparing(LinhaShard::chaveOrdenacao, ChaveOrdenacaoNome::comparar).thenComparing(POR_POSICAO);
+    private static final Comparator<LinhaShard> POR_ENTRADA_NO_GRUPO =
+            Comparator.<LinhaShard>comparingLong(linha -> linha.trocaFuncao).thenComparing(POR_POSICAO);
+    private static final Comparator<LinhaShard> POR_NASCIMENTO =
+            Comparator.comparing((LinhaShard linha) -> linha.funcionario.getDataNascimento()).thenComparing(POR_POSICAO);
+
+    /** Conexões indexadas pelo número do shard. */
+    private final ConexaoShard[] shards;
+    private final Particionamento particionamento;
+    private final ExecutorService executor;
+
+    /** Destino dos métodos {@code imprimir*}; por padrão, a saída padrão. */
+    private EscritorRelatorio saida = EscritorRelatorio.paraConsole();
+
+    /** Número da última troca de função enviada aos shards. */
+    private long ultimaTrocaFuncao;
+
+    /**
+     * Conecta aos shards, em qualquer ordem, e confere se eles formam um único particionamento.
+     *
+     * @param enderecos Endereço de cada shard.
+     * @throws IllegalArgumentException se não houver endereços, se os shards usarem quantidades ou
+     *                                  critérios diferentes, ou se algum shard faltar ou se repetir.
+     * @throws UncheckedIOException     caso algum shard não responda.
+     */
+    public FuncionarioServiceParticionado(List<InetSocketAddress> enderecos) {
+        if (enderecos.isEmpty()) throw new IllegalArgumentException("Informe pelo menos um shard");
+        this.shards = new ConexaoShard[enderecos.size()];
+        try {
+            for (InetSocketAddress endereco : enderecos) registrar(ConexaoShard.conectar(endereco));
+            for (int i = 0; i < shards.length; i++) {
+                if (shards[i] == null) throw new IllegalArgumentException("Shard " + i + " não informado");
+            }
+        } catch (RuntimeException e) {
+            fecharConexoes();
+            throw e;
+        }
+        this.particionamento = shards[0].getParticionamento();
+        for (ConexaoShard shard : shards) ultimaTrocaFuncao = Math.max(ultimaTrocaFuncao, shard.getUltimaTrocaFuncao());
+        this.executor = Executors.newFixedThreadPool(shards.length, new FabricaThreads());
+    }
+
+    private void registrar(ConexaoShard conexao) {
+        ConexaoShard primeiro = shards[0] != null ? shards[0] : conexao;
+        if (conexao.getQuantidadeShards() != shards.length || conexao.getParticionamento() != primeiro.getParticionamento()) {
+            conexao.close();
+            throw new IllegalArgumentException(String.format(
+                    "O shard em %s faz parte de outro particionamento: %d shards %s, esperado %d shards %s",
+                    conexao.getEndereco(), conexao.getQuantidadeShards(), conexao.getParticionamento(),
+                    shards.length, primeiro.getParticionamento()));
+        }
+        if (shards[conexao.getShard()] != null) {
+            conexao.close();
+            throw new IllegalArgumentException(String.format("Shard %d informado duas vezes: %s e %s",
+                    conexao.getShard(), shards[conexao.getShard()].getEndereco(), conexao.getEndereco()));
+        }
+        shards[conexao.getShard()] = conexao;
+    }
+
+    /**
+     * Define para onde os métodos {@code imprimir*} escrevem.
+     */
+    public void setSaida(EscritorRelatorio saida) {
+        this.saida = Objects.requireNonNull(saida, "A saída não pode ser nula");
+    }
+
+    public int getQuantidadeShards() {
+        return shards.length;
+    }
+
+    public Particionamento getParticionamento() {
+        return particionamento;
+    }
+
+    /**
+     * @return A quantidade de funcionários em todos os shards.
+     */
+    public long contarFuncionarios() {
+        long total = 0;
+        for (long quantidade : espalhar(ProtocoloShard.CONTAR, ConexaoShard.Argumentos.NENHUM, DataInputStream::readLong)) {
+            total += quantidade;
+        }
+        return total;
+    }
+
+    /**
+     * Remove todos os funcionários com o nome informado, ignorando maiúsculas/minúsculas e acentos.
+     *
+     * @throws NoSuchElementException se não houver funcionários ou se o funcionário não existir.
+     */
+    public void removerFuncionario(String nome) {
+        Objects.requireNonNull(nome, "O nome não pode ser nulo");
+        int removidos = somarPorNome(nome, ProtocoloShard.REMOVER, saida -> saida.writeUTF(nome));
+        if (removidos == 0) throw naoEncontrado(nome);
+    }
+
+    /**
+     * Altera a função de todos os funcionários com o nome informado. O funcionário continua no seu
+     * shard, inclusive com {@link Particionamento#POR_FUNCAO}.
+     *
+     * @throws NoSuchElementException se o funcionário não existir.
+     */
+    public void alterarFuncao(String nome, FuncaoFuncionario novaFuncao) {
+        Objects.requireNonNull(nome, "O nome não pode ser nulo");
+        Objects.requireNonNull(novaFuncao, "A função não pode ser nula");
+        long troca = ++ultimaTrocaFuncao;
+        int alterados = somarPorNome(nome, ProtocoloShard.ALTERAR_FUNCAO, saida -> {
+            saida.writeUTF(nome);
+            saida.writeByte(novaFuncao.ordinal());
+            saida.writeLong(troca);
+        });
+        if (alterados == 0) throw naoEncontrado(nome);
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de todos os funcionários, com as mesmas regras de
+     * {@link FuncionarioService#aplicarAumentoPercentual(double)}.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     * @throws NumberFormatException se o percentual for infinito ou NaN.
+     */
+    public void aplicarAumentoPercentual(double percentual) {
+        FatorPercentual.de(percentual);
+        int afetados = somar(espalhar(ProtocoloShard.AUMENTO, saida -> saida.writeDouble(percentual), DataInputStream::readInt));
+        if (afetados == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de quem exerce a função informada.
+     *
+     * @return A quantidade de funcionários que receberam o aumento.
+     * @throws NumberFormatException se o percentual for infinito ou NaN.
+     */
+    public int aplicarAumentoPercentual(FuncaoFuncionario funcao, double percentual) {
+        Objects.requireNonNull(funcao, "A função não pode ser nula");
+        FatorPercentual.de(percentual);
+        return somar(espalhar(ProtocoloShard.AUMENTO_FUNCAO, saida -> {
+            saida.writeByte(funcao.ordinal());
+            saida.writeDouble(percentual);
+        }, DataInputStream::readInt));
+    }
+
+    /**
+     * @return A soma dos salários de todos os shards, em centavos.
+     */
+    public long getTotalSalariosCentavos() {
+        long total = 0;
+        for (long parcial : espalhar(ProtocoloShard.TOTAL_SALARIOS, ConexaoShard.Argumentos.NENHUM, DataInputStream::readLong)) {
+            total = Math.addExact(total, parcial);
+        }
+        return total;
+    }
+
+    /**
+     * Imprime o total de salários de todos os funcionários.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public void imprimirTotalSalarios() {
+        if (contarFuncionarios() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        saida.escrever("Total de salários: ").escreverMoeda(getTotalSalariosCentavos()).novaLinha();
+        saida.flush();
+    }
+
+    /**
+     * Combina as estatísticas por função de cada shard.
+     *
+     * @return Mapa ordenado pela função, apenas com as funções que têm funcionários.
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public Map<FuncaoFuncionario, EstatisticasFuncao> obterEstatisticasPorFuncao() {
+        long[][] combinadas = new long[FUNCOES.length][];
+        for (long[][] doShard : espalhar(ProtocoloShard.ESTATISTICAS_POR_FUNCAO, ConexaoShard.Argumentos.NENHUM,
+                FuncionarioServiceParticionado::lerEstatisticas)) {
+            for (int i = 0; i < FUNCOES.length; i++) {
+                long[] parcial = doShard[i];
+                if (parcial == null) continue;
+                long[] total = combinadas[i];
+                if (total == null) {
+                    combinadas[i] = parcial;
+                } else {
+                    total[0] += parcial[0];
+                    total[1] = Math.addExact(total[1], parcial[1]);
+                    total[2] = Math.min(total[2], parcial[2]);
+                    total[3] = Math.max(total[3], parcial[3]);
+                }
+            }
+        }
+
+        Map<FuncaoFuncionario, EstatisticasFuncao> estatisticas = new EnumMap<>(FuncaoFuncionario.class);
+        for (int i = 0; i < FUNCOES.length; i++) {
+            long[] valores = combinadas[i];
+            if (valores == null) continue;
+            estatisticas.put(FUNCOES[i], new EstatisticasFuncao(FUNCOES[i], (int) valores[0],
+                    Centavos.paraBigDecimal(valores[1]), Centavos.paraBigDecimal(valores[2]),
+                    Centavos.paraBigDecimal(valores[3])));
+        }
+        if (estatisticas.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        return Collections.unmodifiableMap(estatisticas);
+    }
+
+    /**
+     * Agrupa os funcionários de todos os shards por função.
+     *
+     * @return Mapa ordenado pela função, apenas com as funções que têm funcionários, e cada grupo na
+     *         ordem de um único serviço: a carga e, em seguida, quem trocou de função, na ordem das trocas.
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public Map<FuncaoFuncionario, List<Funcionario>> agruparPorFuncao() {
+        List<List<List<LinhaShard>>> porShard = espalhar(ProtocoloShard.AGRUPADOS_POR_FUNCAO,
+                ConexaoShard.Argumentos.NENHUM, entrada -> {
+                    List<List<LinhaShard>> grupos = new ArrayList<>(FUNCOES.length);
+                    for (int i = 0; i < FUNCOES.length; i++) grupos.add(ProtocoloShard.lerLinhasDeGrupo(entrada));
+                    return grupos;
+                });
+
+        Map<FuncaoFuncionario, List<Funcionario>> grupos = new EnumMap<>(FuncaoFuncionario.class);
+        for (int i = 0; i < FUNCOES.length; i++) {
+            List<List<LinhaShard>> partes = new ArrayList<>(porShard.size());
+            for (List<List<LinhaShard>> doShard : porShard) partes.add(doShard.get(i));
+            List<Funcionario> membros = intercalar(partes, POR_ENTRADA_NO_GRUPO);
+            if (!membros.isEmpty()) grupos.put(FUNCOES[i], membros);
+        }
+        if (grupos.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        return grupos;
+    }
+
+    /**
+     * Imprime os funcionários agrupados por função, na ordem das funções.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public void imprimirFuncionariosAgrupados() {
+        agruparPorFuncao().forEach((funcao, membros) -> {
+            saida.escrever(funcao.getDescricao()).escrever(" = ");
+            for (int i = 0; i < membros.size(); i++) {
+                if (i > 0) saida.escrever(", ");
+                saida.escrever(membros.get(i).getNome());
+            }
+            saida.novaLinha();
+        });
+        saida.flush();
+    }
+
+    /**
+     * @return O funcionário mais velho entre os mais velhos de cada shard; no empate, o primeiro na carga.
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public Funcionario buscarMaisVelho() {
+        LinhaShard maisVelho = null;
+        for (LinhaShard candidato : espalhar(ProtocoloShard.MAIS_VELHO, ConexaoShard.Argumentos.NENHUM,
+                entrada -> entrada.readBoolean() ? ProtocoloShard.lerLinha(entrada) : null)) {
+            if (candidato != null && (maisVelho == null || POR_NASCIMENTO.compare(candidato, maisVelho) < 0)) {
+                maisVelho = candidato;
+            }
+        }
+        if (maisVelho == null) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        return maisVelho.funcionario;
+    }
+
+    /**
+     * Imprime o funcionário com a maior idade, mostrando nome e idade.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public void imprimirFuncionarioMaisVelho() {
+        Funcionario maisVelho = buscarMaisVelho();
+        int idade = CalculadoraIdade.hoje().idade(maisVelho.getDataNascimento());
+        saida.escrever("Nome: ").escrever(maisVelho.getNome()).escrever(", Idade: ").escreverInteiro(idade).novaLinha();
+        saida.flush();
+    }
+
+    /**
+     * @return Todos os funcionários em ordem alfabética pelo nome.
+     */
+    public List<Funcionario> listarOrdemAlfabetica() {
+        return ordemAlfabetica(-1);
+    }
+
+    /**
+     * Busca os {@code k} primeiros funcionários em ordem alfabética. Cada shard envia apenas os seus
+     * {@code k} primeiros.
+     *
+     * @throws IllegalArgumentException se {@code k} for negativo.
+     */
+    public List<Funcionario> buscarPrimeirosEmOrdemAlfabetica(int k) {
+        if (k < 0) throw new IllegalArgumentException("A quantidade não pode ser negativa: " + k);
+        List<Funcionario> primeiros = ordemAlfabetica(k);
+        return primeiros.size() > k ? primeiros.subList(0, k) : primeiros;
+    }
+
+    /**
+     * Imprime a lista de funcionários em ordem alfabética pelo nome.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public void imprimirFuncionariosOrdemAlfabetica() {
+        imprimirFuncionarios(listarOrdemAlfabetica());
+    }
+
+    /**
+     * Busca os funcionários que fazem aniversário nos meses informados: na ordem dos meses e,
+     * dentro de cada mês, na ordem de carga. Meses repetidos são considerados uma única vez.
+     *
+     * @param meses Meses de nascimento (1 a 12).
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public List<Funcionario> buscarAniversariantes(int... meses) {
+        List<Funcionario> aniversariantes = aniversariantesEmOrdemDeCarga(meses);
+        int[] posicaoMes = new int[13];
+        for (int i = meses.length - 1; i >= 0; i--) posicaoMes[meses[i]] = i;
+        // A ordenação é estável: dentro de cada mês, os funcionários continuam na ordem de carga.
+        aniversariantes.sort(Comparator.comparingInt(f -> posicaoMes[f.getDataNascimento().getMonthValue()]));
+        return aniversariantes;
+    }
+
+    private List<Funcionario> aniversariantesEmOrdemDeCarga(int[] meses) {
+        int[] copia = meses.clone();
+        return intercalar(espalhar(ProtocoloShard.ANIVERSARIANTES, saida -> {
+            saida.writeInt(copia.length);
+            for (int mes : copia) saida.writeInt(mes);
+        }, ProtocoloShard::lerLinhas), POR_POSICAO);
+    }
+
+    /**
+     * Imprime os funcionários que fazem aniversário nos meses informados, mostrando o nome e a data
+     * de nascimento, na ordem de carga, com os meses intercalados.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public void imprimirAniversariantes(int... meses) {
+        if (contarFuncionarios() == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        for (Funcionario f : aniversariantesEmOrdemDeCarga(meses)) {
+            saida.escrever(f.getNome()).escrever(" - ").escreverData(f.getDataNascimento()).novaLinha();
+        }
+        saida.flush();
+    }
+
+    /**
+     * @return Todos os funcionários, na ordem de carga.
+     */
+    public List<Funcionario> listarTodos() {
+        return intercalar(espalhar(ProtocoloShard.TODOS, ConexaoShard.Argumentos.NENHUM, ProtocoloShard::lerLinhas), POR_POSICAO);
+    }
+
+    /**
+     * Imprime todos os funcionários, na ordem de carga.
+     *
+     * @throws NoSuchElementException se não houver funcionários.
+     */
+    public void imprimirTodosFuncionarios() {
+        imprimirFuncionarios(listarTodos());
+    }
+
+    /**
+     * Encerra as conexões com os shards; os processos dos shards continuam em execução.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        fecharConexoes();
+    }
+
+    private List<Funcionario> ordemAlfabetica(int limite) {
+        return intercalar(espalhar(ProtocoloShard.ORDEM_ALFABETICA, saida -> saida.writeInt(limite),
+                ProtocoloShard::lerLinhas), POR_NOME);
+    }
+
+    private void imprimirFuncionarios(List<Funcionario> funcionarios) {
+        if (funcionarios.isEmpty()) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        for (Funcionario f : funcionarios) saida.escreverFuncionario(f).novaLinha();
+        saida.flush();
+    }
+
+    /**
+     * Envia uma operação por nome ao shard do nome ou, se o particionamento não depender do nome, a
+     * todos, e soma as quantidades de funcionários afetados.
+     */
+    private int somarPorNome(String nome, byte operacao, ConexaoShard.Argumentos argumentos) {
+        int shard = particionamento.shardDoNome(nome, shards.length);
+        if (shard >= 0) return shards[shard].chamar(operacao, argumentos, DataInputStream::readInt);
+        return somar(espalhar(operacao, argumentos, DataInputStream::readInt));
+    }
+
+    private NoSuchElementException naoEncontrado(String nome) {
+        if (contarFuncionarios() == 0) return new NoSuchElementException("Não há funcionários cadastrados.");
+        return new NoSuchElementException(String.format("Funcionário com nome '%s' não existe", nome));
+    }
+
+    /**
+     * Envia a mesma requisição a todos os shards em paralelo e aguarda todas as respostas.
+     *
+     * @return A resposta de cada shard, na ordem dos shards.
+     * @throws RuntimeException a primeira falha entre os shards, depois que todos responderem.
+     */
+    private <T> List<T> espalhar(byte operacao, ConexaoShard.Argumentos argumentos, ConexaoShard.Leitura<T> leitura) {
+        List<Future<T>> pendentes = new ArrayList<>(shards.length);
+        for (ConexaoShard shard : shards) pendentes.add(executor.submit(() -> shard.chamar(operacao, argumentos, leitura)));
+
+        List<T> respostas = new ArrayList<>(shards.length);
+        RuntimeException falha = null;
+        for (Future<T> pendente : pendentes) {
+            try {
+                respostas.add(pendente.get());
+            } catch (ExecutionException e) {
+                if (falha == null) {
+                    falha = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido aguardando os shards", e);
+            }
+        }
+        if (falha != null) throw falha;
+        return respostas;
+    }
+
+    /**
+     * Intercala listas já ordenadas pela mesma ordem, mantendo um cursor por shard em uma fila de
+     * prioridade: O(n log s) para n funcionários em s shards.
+     */
+    private static List<Funcionario> intercalar(List<List<LinhaShard>> partes, Comparator<LinhaShard> ordem) {
+        int total = 0;
+        PriorityQueue<Cursor> fila = new PriorityQueue<>(Math.max(partes.size(), 1), (a, b) -> ordem.compare(a.atual(), b.atual()));
+        for (List<LinhaShard> parte : partes) {
+            total += parte.size();
+            if (!parte.isEmpty()) fila.add(new Cursor(parte));
+        }
+
+        List<Funcionario> intercalados = new ArrayList<>(total);
+        while (!fila.isEmpty()) {
+            Cursor cursor = fila.poll();
+            intercalados.add(cursor.atual().funcionario);
+            if (cursor.avancar()) fila.add(cursor);
+        }
+        return intercalados;
+    }
+
+    private static long[][] lerEstatisticas(DataInputStream entrada) throws IOException {
+        long[][] porFuncao = new long[FUNCOES.length][];
+        int quantidade = entrada.readInt();
+        for (int i = 0; i < quantidade; i++) {
+            FuncaoFuncionario funcao = ProtocoloShard.lerFuncao(entrada);
+            porFuncao[funcao.ordinal()] = new long[]{entrada.readInt(), entrada.readLong(), entrada.readLong(), entrada.readLong()};
+        }
+        return porFuncao;
+    }
+
+    private static int somar(List<Integer> quantidades) {
+        int total = 0;
+        for (int quantidade : quantidades) total += quantidade;
+        return total;
+    }
+
+    private void fecharConexoes() {
+        for (ConexaoShard shard : shards) {
+            if (shard != null) shard.close();
+        }
+    }
+
+    private static final class Cursor {
+
+        private final List<LinhaShard> linhas;
+        private int posicao;
+
+        Cursor(List<LinhaShard> linhas) {
+            this.linhas = linhas;
+        }
+
+        LinhaShard atual() {
+            return linhas.get(posicao);
+        }
+
+        boolean avancar() {
+            return ++posicao < linhas.size();
+        }
+    }
+
+    /** Threads daemon que aguardam as respostas dos shards. */
+    private static final class FabricaThreads implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "coordenador-shards-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+/**
+ * Funcionário recebido de um shard, com a sua posição na carga completa e, nos grupos por função, a
+ * ordem da sua última troca de função.
+ */
+final class LinhaShard {
+
+    final Funcionario funcionario;
+    final int posicao;
+    /** Ordem dada pelo coordenador à última troca de função; zero se nunca trocou ou fora dos grupos. */
+    final long trocaFuncao;
+
+    private byte[] chaveOrdenacao;
+
+    LinhaShard(Funcionario funcionario, int posicao) {
+        this(funcionario, posicao, 0);
+    }
+
+    LinhaShard(Funcionario funcionario, int posicao, long trocaFuncao) {
+        this.funcionario = funcionario;
+        this.posicao = posicao;
+        this.trocaFuncao = trocaFuncao;
+    }
+
+    /**
+     * @return A {@link ChaveOrdenacaoNome} do nome, calculada na primeira chamada para que a
+     *         intercalação compare cada nome uma única vez.
+     */
+    byte[] chaveOrdenacao() {
+        if (chaveOrdenacao == null) chaveOrdenacao = ChaveOrdenacaoNome.de(funcionario.getNome());
+        return chaveOrdenacao;
+    }
+}
@@ -0,0 +1,99 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Protocolo binário entre o {@link FuncionarioServiceParticionado} e os {@link ServidorShard}s.
+ * <p>
+ * Cada conexão atende uma requisição por vez. A requisição é o código da operação seguido dos
+ * argumentos; a resposta começa pelo status e, se ele for {@link #OK}, traz o resultado, senão uma
+ * mensagem de erro. Funcionários trafegam como nome, dia epoch de nascimento, salário em centavos,
+ * ordinal da função e posição na carga; listas são precedidas pela quantidade de itens. Nos grupos
+ * por função, cada funcionário é seguido da ordem da sua última troca de função (zero se nunca trocou).
+ * </p>
+ */
+final class ProtocoloShard {
+
+    /**
+     * Enviado pelo shard ao aceitar a conexão, antes do shard, da quantidade, do particionamento e da
+     * última ordem de troca de função que recebeu.
+     */
+    static final int VERSAO = 2;
+
+    static final byte CONTAR = 1;
+    static final byte TOTAL_SALARIOS = 2;
+    static final byte ESTATISTICAS_POR_FUNCAO = 3;
+    static final byte AGRUPADOS_POR_FUNCAO = 4;
+    static final byte MAIS_VELHO = 5;
+    static final byte ORDEM_ALFABETICA = 6;
+    static final byte ANIVERSARIANTES = 7;
+    static final byte TODOS = 8;
+    static final byte REMOVER = 9;
+    static final byte ALTERAR_FUNCAO = 10;
+    static final byte AUMENTO = 11;
+    static final byte AUMENTO_FUNCAO = 12;
+
+    static final byte OK = 0;
+    static final byte NAO_ENCONTRADO = 1;
+    static final byte ARGUMENTO_INVALIDO = 2;
+    static final byte ERRO = 3;
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    private ProtocoloShard() {
+    }
+
+    static void escreverLinha(DataOutputStream saida, Funcionario funcionario, int posicao) throws IOException {
+        saida.writeUTF(funcionario.getNome());
+        saida.writeLong(funcionario.getDataNascimento().toEpochDay());
+        saida.writeLong(funcionario.getSalarioCentavos());
+        saida.writeByte(funcionario.getFuncao().ordinal());
+        saida.writeInt(posicao);
+    }
+
+    static LinhaShard lerLinha(DataInputStream entrada) throws IOException {
+        String nome = entrada.readUTF();
+        LocalDate nascimento = LocalDate.ofEpochDay(entrada.readLong());
+        long salario = entrada.readLong();
+        Funcionario funcionario = new Funcionario(nome, nascimento, BigDecimal.ZERO, lerFuncao(entrada));
+        funcionario.setSalarioCentavos(salario);
+        return new LinhaShard(funcionario, entrada.readInt());
+    }
+
+    static void escreverLinhaDeGrupo(DataOutputStream saida, Funcionario funcionario, int posicao, long trocaFuncao) throws IOException {
+        escreverLinha(saida, funcionario, posicao);
+        saida.writeLong(trocaFuncao);
+    }
+
+    static List<LinhaShard> lerLinhasDeGrupo(DataInputStream entrada) throws IOException {
+        int quantidade = entrada.readInt();
+        List<LinhaShard> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            LinhaShard linha = lerLinha(entrada);
+            linhas.add(new LinhaShard(linha.funcionario, linha.posicao, entrada.readLong()));
+        }
+        return linhas;
+    }
+
+    static List<LinhaShard> lerLinhas(DataInputStream entrada) throws IOException {
+        int quantidade = entrada.readInt();
+        List<LinhaShard> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) linhas.add(lerLinha(entrada));
+        return linhas;
+    }
+
+    static FuncaoFuncionario lerFuncao(DataInputStream entrada) throws IOException {
+        int ordinal = entrada.readUnsignedByte();
+        if (ordinal >= FUNCOES.length) throw new IOException("Função desconhecida: " + ordinal);
+        return FUNCOES[ordinal];
+    }
+}
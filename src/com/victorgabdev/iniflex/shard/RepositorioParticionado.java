@@ -0,0 +1,89 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+import com.victorgabdev.iniflex.service.Particionamento;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Repositório com apenas os funcionários de um shard, lidos do cursor de outro repositório.
+ * <p>
+ * Todos os shards leem a mesma origem e descartam os funcionários dos demais, então só a partição
+ * do shard fica em memória. A posição de cada funcionário na origem é guardada para que o
+ * coordenador reconstrua a ordem de inserção do conjunto completo.
+ * </p>
+ */
+public class RepositorioParticionado implements IFuncionarioRepository {
+
+    private final IFuncionarioRepository origem;
+    private final Particionamento particionamento;
+    private final int shard;
+    private final int quantidadeShards;
+    private final Map<Funcionario, Integer> posicoes = new IdentityHashMap<>();
+
+    /**
+     * @param origem           Repositório com todos os funcionários.
+     * @param particionamento  Critério de distribuição entre os shards.
+     * @param shard            Shard deste repositório, de 0 a {@code quantidadeShards - 1}.
+     * @param quantidadeShards Quantidade total de shards.
+     * @throws IllegalArgumentException se o shard estiver fora do intervalo.
+     */
+    public RepositorioParticionado(IFuncionarioRepository origem, Particionamento particionamento,
+                                   int shard, int quantidadeShards) {
+        this.origem = Objects.requireNonNull(origem, "A origem não pode ser nula");
+        this.particionamento = Objects.requireNonNull(particionamento, "O particionamento não pode ser nulo");
+        if (quantidadeShards < 1 || shard < 0 || shard >= quantidadeShards)
+            throw new IllegalArgumentException(String.format("Shard inválido: %d de %d", shard, quantidadeShards));
+        this.shard = shard;
+        this.quantidadeShards = quantidadeShards;
+    }
+
+    /**
+     * Lê a origem inteira e retorna os funcionários do shard, na ordem da origem. Deve ser chamado
+     * antes de o shard passar a ser consultado por outras threads.
+     */
+    @Override
+    public List<Funcionario> retornaTodosFuncionarios() {
+        List<Funcionario> doShard = new ArrayList<>();
+        posicoes.clear();
+        int[] posicao = {0};
+        try (Stream<Funcionario> cursor = origem.streamFuncionarios()) {
+            cursor.forEachOrdered(funcionario -> {
+                if (particionamento.shard(funcionario, quantidadeShards) == shard) {
+                    posicoes.put(funcionario, posicao[0]);
+                    doShard.add(funcionario);
+                }
+                posicao[0]++;
+            });
+        }
+        return doShard;
+    }
+
+    /**
+     * @return A posição do funcionário na origem, a partir de 0.
+     * @throws IllegalArgumentException se o funcionário não tiver sido carregado por este repositório.
+     */
+    public int posicao(Funcionario funcionario) {
+        Integer posicao = posicoes.get(funcionario);
+        if (posicao == null) throw new IllegalArgumentException("Funcionário fora do shard: " + funcionario.getNome());
+        return posicao;
+    }
+
+    public Particionamento getParticionamento() {
+        return particionamento;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public int getQuantidadeShards() {
+        return quantidadeShards;
+    }
+}
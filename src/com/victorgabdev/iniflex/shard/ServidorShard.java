@@ -0,0 +1,380 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.entities.Pessoa;
+import com.victorgabdev.iniflex.service.ConsultaFuncionarios;
+import com.victorgabdev.iniflex.service.EstatisticasFuncao;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Processo de um shard: um {@link FuncionarioService} com a partição do shard, atendendo o
+ * {@link FuncionarioServiceParticionado} por TCP.
+ * <p>
+ * As consultas são respondidas já na ordem em que o coordenador as intercala (nome, data de
+ * nascimento, mês, posição na carga), então ele apenas combina as respostas ordenadas de cada shard.
+ * Cada conexão é atendida em uma thread própria; consultas compartilham uma trava de leitura,
+ * mantida até a resposta ser escrita, e alterações usam a trava de escrita.
+ * </p>
+ * <p>
+ * Um shard vazio é válido: as consultas retornam resultados vazios e as alterações não afetam ninguém.
+ * </p>
+ */
+public class ServidorShard implements Closeable {
+
+    private static final int FILA_CONEXOES = 64;
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final Comparator<Funcionario> POR_NASCIMENTO = Comparator.comparing(Pessoa::getDataNascimento);
+
+    private final RepositorioParticionado repositorio;
+    private final FuncionarioService service;
+    private final Comparator<Funcionario> porPosicao;
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private final ServerSocket servidor;
+    private final ExecutorService executor;
+    private final Set<Socket> conexoes = ConcurrentHashMap.newKeySet();
+    /** Ordem, dada pelo coordenador, da última troca de função de quem já trocou; protegida pela trava. */
+    private final Map<Funcionario, Long> trocasFuncao = new IdentityHashMap<>();
+    private volatile long ultimaTrocaFuncao;
+    private volatile boolean fechado;
+
+    /**
+     * Carrega a partição do repositório e associa o endereço; as conexões só são aceitas após
+     * {@link #iniciar()}.
+     *
+     * @param repositorio Repositório com a partição do shard.
+     * @param endereco    Endereço local; a porta 0 escolhe uma porta livre.
+     * @throws UncheckedIOException caso o endereço não possa ser associado.
+     */
+    public ServidorShard(RepositorioParticionado repositorio, InetSocketAddress endereco) {
+        this.repositorio = Objects.requireNonNull(repositorio, "O repositório não pode ser nulo");
+        this.service = new FuncionarioService(repositorio);
+        this.service.inserirFuncionarios();
+        this.porPosicao = Comparator.comparingInt(repositorio::posicao);
+        try {
+            this.servidor = new ServerSocket();
+            this.servidor.bind(endereco, FILA_CONEXOES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o shard em " + endereco, e);
+        }
+        this.executor = Executors.newCachedThreadPool(new FabricaThreads(repositorio.getShard()));
+    }
+
+    public void iniciar() {
+        executor.execute(this::aceitar);
+    }
+
+    /**
+     * @return A porta em que o shard aceita conexões.
+     */
+    public int getPorta() {
+        return servidor.getLocalPort();
+    }
+
+    /**
+     * @return A quantidade de funcionários carregados no shard.
+     */
+    public long getQuantidadeFuncionarios() {
+        return ler(() -> service.consultar().contar());
+    }
+
+    /**
+     * Para de aceitar conexões e encerra as conexões abertas.
+     */
+    @Override
+    public void close() {
+        fechado = true;
+        try {
+            servidor.close();
+        } catch (IOException e) {
+            // O socket já estava fechado.
+        }
+        for (Socket conexao : conexoes) {
+            try {
+                conexao.close();
+            } catch (IOException e) {
+                // A conexão já estava fechada.
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    private void aceitar() {
+        while (!fechado) {
+            try {
+                Socket conexao = servidor.accept();
+                conexoes.add(conexao);
+                executor.execute(() -> atender(conexao));
+            } catch (IOException e) {
+                if (!fechado) System.err.println("Falha ao aceitar conexão no shard: " + e.getMessage());
+            }
+        }
+    }
+
+    private void atender(Socket conexao) {
+        try (conexao;
+             DataInputStream entrada = new DataInputStream(new BufferedInputStream(conexao.getInputStream()));
+             DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(conexao.getOutputStream()))) {
+            conexao.setTcpNoDelay(true);
+            saida.writeInt(ProtocoloShard.VERSAO);
+            saida.writeInt(repositorio.getShard());
+            saida.writeInt(repositorio.getQuantidadeShards());
+            saida.writeByte(repositorio.getParticionamento().ordinal());
+            saida.writeLong(ultimaTrocaFuncao);
+            saida.flush();
+
+            int operacao;
+            while ((operacao = entrada.read()) >= 0) {
+                responder((byte) operacao, entrada, saida);
+                saida.flush();
+            }
+        } catch (IOException e) {
+            // O coordenador desconectou ou enviou uma requisição inválida.
+        } finally {
+            conexoes.remove(conexao);
+        }
+    }
+
+    /**
+     * Lê os argumentos, executa a operação sob a trava e escreve a resposta antes de liberá-la, para
+     * que a resposta não misture estados de antes e depois de uma alteração.
+     */
+    private void responder(byte operacao, DataInputStream entrada, DataOutputStream saida) throws IOException {
+        Execucao execucao = lerRequisicao(operacao, entrada);
+        Lock lock = operacao >= ProtocoloShard.REMOVER ? trava.writeLock() : trava.readLock();
+        lock.lock();
+        try {
+            Escrita resposta;
+            try {
+                resposta = execucao.executar();
+            } catch (NoSuchElementException e) {
+                escreverErro(saida, ProtocoloShard.NAO_ENCONTRADO, e);
+                return;
+            } catch (IllegalArgumentException e) {
+                escreverErro(saida, ProtocoloShard.ARGUMENTO_INVALIDO, e);
+                return;
+            } catch (RuntimeException e) {
+                escreverErro(saida, ProtocoloShard.ERRO, e);
+                return;
+            }
+            saida.writeByte(ProtocoloShard.OK);
+            resposta.escrever(saida);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Execucao lerRequisicao(byte operacao, DataInputStream entrada) throws IOException {
+        switch (operacao) {
+            case ProtocoloShard.CONTAR:
+                return () -> {
+                    long quantidade = service.consultar().contar();
+                    return saida -> saida.writeLong(quantidade);
+                };
+            case ProtocoloShard.TOTAL_SALARIOS:
+                return () -> {
+                    long total = service.consultar().somarSalariosCentavos();
+                    return saida -> saida.writeLong(total);
+                };
+            case ProtocoloShard.ESTATISTICAS_POR_FUNCAO:
+                return this::estatisticasPorFuncao;
+            case ProtocoloShard.AGRUPADOS_POR_FUNCAO:
+                return this::agrupadosPorFuncao;
+            case ProtocoloShard.MAIS_VELHO:
+                return () -> {
+                    Optional<Funcionario> maisVelho = service.consultar()
+                            .ordenarPor(POR_NASCIMENTO.thenComparing(porPosicao)).primeiro();
+                    return saida -> {
+                        saida.writeBoolean(maisVelho.isPresent());
+                        if (maisVelho.isPresent()) escreverLinha(saida, maisVelho.get());
+                    };
+                };
+            case ProtocoloShard.ORDEM_ALFABETICA: {
+                int limite = entrada.readInt();
+                return () -> {
+                    ConsultaFuncionarios consulta = service.consultar().ordenarPor(service.ordemAlfabetica().thenComparing(porPosicao));
+                    if (limite >= 0) consulta.limitar(limite);
+                    return linhas(consulta.listar());
+                };
+            }
+            case ProtocoloShard.ANIVERSARIANTES: {
+                int[] meses = new int[entrada.readInt()];
+                for (int i = 0; i < meses.length; i++) meses[i] = entrada.readInt();
+                return () -> linhas(service.consultar().nascidosNosMeses(meses).listar());
+            }
+            case ProtocoloShard.TODOS:
+                return () -> linhas(service.consultar().listar());
+            case ProtocoloShard.REMOVER: {
+                String nome = entrada.readUTF();
+                return () -> {
+                    List<Funcionario> encontrados = service.buscarPorNome(nome);
+                    int quantidade = encontrados.size();
+                    encontrados.forEach(trocasFuncao::remove);
+                    if (quantidade > 0) service.removerFuncionario(nome);
+                    return saida -> saida.writeInt(quantidade);
+                };
+            }
+            case ProtocoloShard.ALTERAR_FUNCAO: {
+                String nome = entrada.readUTF();
+                FuncaoFuncionario funcao = ProtocoloShard.lerFuncao(entrada);
+                long troca = entrada.readLong();
+                return () -> {
+                    List<Funcionario> encontrados = service.buscarPorNome(nome);
+                    int quantidade = encontrados.size();
+                    // Como no serviço, só quem muda de fato de função vai para o fim do novo grupo.
+                    for (Funcionario funcionario : encontrados) {
+                        if (funcionario.getFuncao() != funcao) trocasFuncao.put(funcionario, troca);
+                    }
+                    if (quantidade > 0) service.alterarFuncao(nome, funcao);
+                    ultimaTrocaFuncao = Math.max(ultimaTrocaFuncao, troca);
+                    return saida -> saida.writeInt(quantidade);
+                };
+            }
+            case ProtocoloShard.AUMENTO: {
+                double percentual = entrada.readDouble();
+                return () -> {
+                    long quantidade = service.consultar().contar();
+                    if (quantidade > 0) service.aplicarAumentoPercentual(percentual);
+                    return saida -> saida.writeInt((int) quantidade);
+                };
+            }
+            case ProtocoloShard.AUMENTO_FUNCAO: {
+                FuncaoFuncionario funcao = ProtocoloShard.lerFuncao(entrada);
+                double percentual = entrada.readDouble();
+                return () -> {
+                    int afetados = service.aplicarAumentoPercentual(funcao, percentual);
+                    return saida -> saida.writeInt(afetados);
+                };
+            }
+            default:
+                throw new IOException("Operação desconhecida: " + operacao);
+        }
+    }
+
+    private Escrita estatisticasPorFuncao() {
+        if (service.consultar().contar() == 0) return saida -> saida.writeInt(0);
+        Collection<EstatisticasFuncao> estatisticas = service.obterEstatisticasPorFuncao().values();
+        return saida -> {
+            saida.writeInt(estatisticas.size());
+            for (EstatisticasFuncao funcao : estatisticas) {
+                saida.writeByte(funcao.getFuncao().ordinal());
+                saida.writeInt(funcao.getQuantidade());
+                saida.writeLong(Centavos.de(funcao.getTotalSalarios()));
+                saida.writeLong(Centavos.de(funcao.getMenorSalario()));
+                saida.writeLong(Centavos.de(funcao.getMaiorSalario()));
+            }
+        };
+    }
+
+    /**
+     * Os membros de cada função pela ordem da última troca de função e depois pela posição na carga,
+     * acompanhados da ordem da troca. Os números das trocas são globais, dados pelo coordenador, então
+     * os grupos de todos os shards podem ser intercalados na ordem do agrupamento de um único serviço.
+     */
+    private Escrita agrupadosPorFuncao() {
+        Comparator<Funcionario> porEntradaNoGrupo =
+                Comparator.<Funcionario>comparingLong(this::trocaFuncao).thenComparing(porPosicao);
+        List<List<Funcionario>> grupos = new ArrayList<>(FUNCOES.length);
+        for (FuncaoFuncionario funcao : FUNCOES) {
+            List<Funcionario> membros = new ArrayList<>(service.buscarPorFuncao(funcao));
+            membros.sort(porEntradaNoGrupo);
+            grupos.add(membros);
+        }
+        return saida -> {
+            for (List<Funcionario> membros : grupos) {
+                saida.writeInt(membros.size());
+                for (Funcionario funcionario : membros) {
+                    ProtocoloShard.escreverLinhaDeGrupo(saida, funcionario, repositorio.posicao(funcionario), trocaFuncao(funcionario));
+                }
+            }
+        };
+    }
+
+    private long trocaFuncao(Funcionario funcionario) {
+        return trocasFuncao.getOrDefault(funcionario, 0L);
+    }
+
+    private Escrita linhas(List<Funcionario> funcionarios) {
+        return saida -> {
+            saida.writeInt(funcionarios.size());
+            for (Funcionario funcionario : funcionarios) escreverLinha(saida, funcionario);
+        };
+    }
+
+    private void escreverLinha(DataOutputStream saida, Funcionario funcionario) throws IOException {
+        ProtocoloShard.escreverLinha(saida, funcionario, repositorio.posicao(funcionario));
+    }
+
+    private static void escreverErro(DataOutputStream saida, byte status, RuntimeException e) throws IOException {
+        saida.writeByte(status);
+        saida.writeUTF(Objects.toString(e.getMessage(), e.getClass().getSimpleName()));
+    }
+
+    private <T> T ler(Supplier<T> consulta) {
+        trava.readLock().lock();
+        try {
+            return consulta.get();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /** Operação já com os argumentos lidos, executada sob a trava. */
+    private interface Execucao {
+        Escrita executar();
+    }
+
+    /** Resultado de uma operação, escrito na conexão ainda sob a trava. */
+    private interface Escrita {
+        void escrever(DataOutputStream saida) throws IOException;
+    }
+
+    /** Threads daemon, para que um shard aberto não impeça o encerramento da JVM. */
+    private static final class FabricaThreads implements ThreadFactory {
+
+        private final int shard;
+        private final AtomicInteger contador = new AtomicInteger();
+
+        FabricaThreads(int shard) {
+            this.shard = shard;
+        }
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "shard-" + shard + "-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.victorgabdev.iniflex.store;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Torna duráveis as entradas de diretório criadas ou renomeadas pelos snapshots e logs.
+ * <p>
+ * O {@code fsync} de um arquivo grava o seu conteúdo, mas não a entrada dele no diretório: depois de uma
+ * queda de energia, um arquivo recém-criado ou movido com {@code ATOMIC_MOVE} pode não existir com o
+ * novo nome, enquanto remoções feitas depois já estão em disco. Por isso o diretório também é
+ * sincronizado antes de qualquer remoção que dependa do novo arquivo.
+ * </p>
+ */
+final class Diretorios {
+
+    /** No Windows um diretório não pode ser aberto como arquivo, e o NTFS já registra a renomeação no journal. */
+    private static final boolean SINCRONIZA_DIRETORIO = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private Diretorios() {
+    }
+
+    /**
+     * Sincroniza com o disco o diretório que contém o arquivo informado.
+     *
+     * @param arquivo Arquivo criado ou renomeado no diretório.
+     * @throws IOException se o diretório não puder ser aberto ou sincronizado.
+     */
+    static void sincronizarDiretorioDe(Path arquivo) throws IOException {
+        if (!SINCRONIZA_DIRETORIO) return;
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio == null) return;
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.calculo.CalculadoraIdade;
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.calculo.DivisorCentavos;
+import com.victorgabdev.iniflex.calculo.FaixasEtarias;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Armazenamento em memória de funcionários organizado em colunas de tipos primitivos.
+ * <p>
+ * Em vez de manter um objeto {@link Funcionario} por pessoa (com {@code String}, {@code LocalDate} e
+ * {@code BigDecimal}), cada atributo é guardado em um array próprio:
+ * </p>
+ * <ul>
+ *   <li>salário em centavos ({@code long});</li>
+ *   <li>data de nascimento em dias desde a época ({@code int});</li>
+ *   <li>função pelo ordinal de {@link FuncaoFuncionario} ({@code byte});</li>
+ *   <li>nome como índice em um dicionário de nomes distintos ({@code int}).</li>
+ * </ul>
+ * <p>
+ * Cada funcionário ocupa 17 bytes nas colunas, mais a sua parte do dicionário de nomes, e as operações
+ * de análise são laços simples sobre arrays contíguos. Salários com mais de duas casas decimais não
+ * são representáveis e são rejeitados.
+ * </p>
+ * <p>
+ * As colunas podem ser gravadas em um snapshot binário com {@link #gravar(Path)} e recarregadas com
+ * {@link #carregar(Path)}, que copia cada coluna do arquivo mapeado em memória sem converter texto.
+ * </p>
+ * <p>
+ * Esta classe não é thread-safe.
+ * </p>
+ */
+public class FuncionarioColunarStore {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    private int tamanho;
+    private long[] salariosCentavos;
+    private int[] nascimentos;
+    private byte[] funcoes;
+    private int[] nomes;
+
+    /** Dicionário de nomes distintos; {@link #nomes} guarda o índice de cada funcionário aqui. */
+    private String[] dicionarioNomes = new String[CAPACIDADE_INICIAL];
+    private int quantidadeNomes;
+    private final Map<String, Integer> idsNomes = new HashMap<>();
+
+    /**
+     * Tabela de nomes de um snapshot ainda não decodificada por completo; enquanto não for
+     * {@code null}, {@link #dicionarioNomes} é preenchido sob demanda e {@link #idsNomes} está vazio.
+     */
+    private SnapshotColunar.TabelaNomes tabelaNomes;
+
+    public FuncionarioColunarStore() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Cria um armazenamento com capacidade inicial para a quantidade de funcionários informada.
+     *
+     * @param capacidade Capacidade inicial das colunas.
+     */
+    public FuncionarioColunarStore(int capacidade) {
+        int inicial = Math.max(capacidade, 1);
+        salariosCentavos = new long[inicial];
+        nascimentos = new int[inicial];
+        funcoes = new byte[inicial];
+        nomes = new int[inicial];
+    }
+
+    /**
+     * Cria um armazenamento com colunas lidas de um snapshot; os nomes são decodificados sob demanda.
+     */
+    FuncionarioColunarStore(int tamanho, long[] salariosCentavos, int[] nascimentos, byte[] funcoes, int[] nomes,
+                            SnapshotColunar.TabelaNomes tabelaNomes) {
+        this.tamanho = tamanho;
+        this.salariosCentavos = salariosCentavos.length > 0 ? salariosCentavos : new long[1];
+        this.nascimentos = nascimentos.length > 0 ? nascimentos : new int[1];
+        this.funcoes = funcoes.length > 0 ? funcoes : new byte[1];
+        this.nomes = nomes.length > 0 ? nomes : new int[1];
+        this.quantidadeNomes = tabelaNomes.quantidade();
+        this.dicionarioNomes = new String[Math.max(quantidadeNomes, 1)];
+        this.tabelaNomes = tabelaNomes;
+    }
+
+    /**
+     * Carrega um snapshot gravado por {@link #gravar(Path)}.
+     * <p>
+     * Cada coluna é copiada em bloco do arquivo mapeado em memória e os nomes só são decodificados
+     * quando acessados, então o custo da carga é essencialmente o da leitura do arquivo.
+     * </p>
+     *
+     * @param arquivo Caminho do snapshot.
+     * @return O armazenamento com os funcionários do snapshot, na ordem em que foram gravados.
+     * @throws java.io.UncheckedIOException caso o arquivo não possa ser lido.
+     * @throws com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException caso o arquivo
+     *         não seja um snapshot válido ou esteja corrompido.
+     */
+    public static FuncionarioColunarStore carregar(Path arquivo) {
+        return SnapshotColunar.ler(arquivo);
+    }
+
+    /**
+     * Grava os funcionários em um snapshot binário versionado: salários em centavos, datas em dias
+     * desde a época, funções pelo ordinal e uma tabela com os nomes distintos.
+     * <p>
+     * O arquivo é escrito ao lado do destino e movido ao final, substituindo um snapshot anterior.
+     * </p>
+     *
+     * @param arquivo Caminho do snapshot.
+     * @throws java.io.UncheckedIOException caso o arquivo não possa ser gravado.
+     */
+    public void gravar(Path arquivo) {
+        materializarNomes();
+        SnapshotColunar.gravar(arquivo, tamanho, salariosCentavos, nascimentos, nomes, funcoes, dicionarioNomes,
+                quantidadeNomes);
+    }
+
+    /**
+     * Cria um armazenamento colunar com os funcionários informados, na mesma ordem.
+     *
+     * @param funcionarios Funcionários a serem copiados.
+     * @return O armazenamento preenchido.
+     */
+    public static FuncionarioColunarStore de(Collection<Funcionario> funcionarios) {
+        FuncionarioColunarStore store = new FuncionarioColunarStore(funcionarios.size());
+        funcionarios.forEach(store::adicionar);
+        return store;
+    }
+
+    /**
+     * Adiciona um funcionário ao final do armazenamento.
+     *
+     * @param funcionario Funcionário a ser adicionado.
+     */
+    public void adicionar(Funcionario funcionario) {
+        adicionar(funcionario.getNome(), funcionario.getDataNascimento(), funcionario.getSalarioCentavos(),
+                funcionario.getFuncao());
+    }
+
+    /**
+     * Adiciona um funcionário ao final do armazenamento a partir dos seus atributos.
+     *
+     * @param nome             Nome do funcionário.
+     * @param dataNascimento   Data de nascimento.
+     * @param salarioCentavos  Salário em centavos.
+     * @param funcao           Função exercida.
+     */
+    public void adicionar(String nome, LocalDate dataNascimento, long salarioCentavos, FuncaoFuncionario funcao) {
+        if (tamanho == salariosCentavos.length) crescer();
+
+        salariosCentavos[tamanho] = salarioCentavos;
+        nascimentos[tamanho] = Math.toIntExact(dataNascimento.toEpochDay());
+        funcoes[tamanho] = (byte) funcao.ordinal();
+        nomes[tamanho] = idNome(nome);
+        tamanho++;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public String getNome(int indice) {
+        return nome(nomes[verificarIndice(indice)]);
+    }
+
+    public LocalDate getDataNascimento(int indice) {
+        return LocalDate.ofEpochDay(nascimentos[verificarIndice(indice)]);
+    }
+
+    public long getSalarioCentavos(int indice) {
+        return salariosCentavos[verificarIndice(indice)];
+    }
+
+    public BigDecimal getSalario(int indice) {
+        return Centavos.paraBigDecimal(getSalarioCentavos(indice));
+    }
+
+    public FuncaoFuncionario getFuncao(int indice) {
+        return FUNCOES[funcoes[verificarIndice(indice)]];
+    }
+
+    /**
+     * Reconstrói o {@link Funcionario} armazenado na posição informada.
+     *
+     * @param indice Posição do funcionário.
+     * @return Um novo objeto {@link Funcionario} com os dados da posição.
+     */
+    public Funcionario getFuncionario(int indice) {
+        return new Funcionario(getNome(indice), getDataNascimento(indice), getSalario(indice), getFuncao(indice));
+    }
+
+    /**
+     * @return A soma dos salários de todos os funcionários, em centavos.
+     * @throws ArithmeticException se a soma ultrapassar o limite de {@code long}.
+     */
+    public long totalSalariosCentavos() {
+        long total = 0;
+        long[] salarios = salariosCentavos;
+        for (int i = 0; i < tamanho; i++) total = Math.addExact(total, salarios[i]);
+        return total;
+    }
+
+    /**
+     * @return A soma dos salários de todos os funcionários.
+     */
+    public BigDecimal totalSalarios() {
+        return Centavos.paraBigDecimal(totalSalariosCentavos());
+    }
+
+    /**
+     * Conta quantos funcionários estão em cada faixa etária, percorrendo a coluna de nascimentos uma
+     * única vez sem calcular idades; ver {@link FaixasEtarias}.
+     *
+     * @param faixas Faixas etárias na data de referência, por exemplo
+     *               {@code FaixasEtarias.de(CalculadoraIdade.em(referencia), 18, 30, 60)}.
+     * @return Array indexado pela faixa com a quantidade de funcionários.
+     */
+    public int[] contarPorFaixaEtaria(FaixasEtarias faixas) {
+        return faixas.contar(nascimentos, 0, tamanho);
+    }
+
+    /**
+     * Busca as posições dos funcionários com pelo menos a idade informada na data de referência.
+     *
+     * @param calculadora Calculadora com a data de referência.
+     * @param idadeMinima Idade mínima em anos completos, a partir de 1.
+     * @return As posições em ordem crescente.
+     * @throws IllegalArgumentException se a idade mínima for menor que 1.
+     */
+    public int[] comIdadeMinima(CalculadoraIdade calculadora, int idadeMinima) {
+        long limite = calculadora.limiteNascimento(idadeMinima).toEpochDay();
+        int[] encontrados = new int[tamanho];
+        int quantidade = 0;
+        int[] colunaNascimentos = nascimentos;
+        for (int i = 0; i < tamanho; i++) {
+            if (colunaNascimentos[i] <= limite) encontrados[quantidade++] = i;
+        }
+        return Arrays.copyOf(encontrados, quantidade);
+    }
+
+    /**
+     * Calcula quantos salários mínimos cada funcionário ganha, percorrendo a coluna de salários uma
+     * única vez com o recíproco do salário mínimo pré-calculado.
+     *
+     * @param salarioMinimo Salário mínimo, por exemplo {@code tabela.divisor(regiao, data)}.
+     * @return Array indexado pela posição com os salários em mínimos, em centésimos (182 representa 1,82),
+     *         arredondados como {@code salario.divide(minimo, 2, RoundingMode.HALF_UP)}.
+     */
+    public long[] salariosEmMinimos(DivisorCentavos salarioMinimo) {
+        long[] quantidades = new long[tamanho];
+        salarioMinimo.razoes(salariosCentavos, 0, tamanho, quantidades);
+        return quantidades;
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de todos os funcionários.
+     * <p>
+     * O resultado é arredondado para centavos com {@link RoundingMode#HALF_UP}, exatamente como
+     * {@code salario.add(salario.multiply(percentual / 100)).setScale(2, HALF_UP)}, mas sem criar
+     * objetos por funcionário: o fator é convertido uma única vez em um {@link FatorPercentual}.
+     * </p>
+     *
+     * @param percentual Percentual de aumento a ser aplicado (ex: 10 para 10%).
+     * @throws ArithmeticException se algum salário reajustado não couber em um {@code long}; nesse caso
+     *                             nenhum salário é alterado.
+     */
+    public void aplicarAumentoPercentual(double percentual) {
+        FatorPercentual fator = FatorPercentual.de(percentual);
+        // Os salários reajustados vão para uma coluna nova, que só substitui a atual se todos couberem.
+        long[] salarios = salariosCentavos;
+        long[] reajustados = new long[salarios.length];
+        for (int i = 0; i < tamanho; i++) reajustados[i] = fator.aplicar(salarios[i]);
+        salariosCentavos = reajustados;
+    }
+
+    /**
+     * Conta quantos funcionários ocupam cada função.
+     *
+     * @return Array indexado pelo ordinal de {@link FuncaoFuncionario} com a quantidade de funcionários.
+     */
+    public int[] contarPorFuncao() {
+        int[] contagem = new int[FUNCOES.length];
+        byte[] colunaFuncoes = funcoes;
+        for (int i = 0; i < tamanho; i++) contagem[colunaFuncoes[i]]++;
+        return contagem;
+    }
+
+    /**
+     * Agrupa as posições dos funcionários por função, preservando a ordem de inserção.
+     *
+     * @return Mapa da função para as posições dos funcionários que a ocupam. Funções sem
+     *         funcionários não aparecem no mapa.
+     */
+    public Map<FuncaoFuncionario, int[]> agruparPorFuncao() {
+        int[] contagem = contarPorFuncao();
+        int[][] grupos = new int[FUNCOES.length][];
+        for (int f = 0; f < FUNCOES.length; f++) grupos[f] = new int[contagem[f]];
+
+        int[] preenchidos = new int[FUNCOES.length];
+        byte[] colunaFuncoes = funcoes;
+        for (int i = 0; i < tamanho; i++) {
+            int f = colunaFuncoes[i];
+            grupos[f][preenchidos[f]++] = i;
+        }
+
+        Map<FuncaoFuncionario, int[]> agrupados = new EnumMap<>(FuncaoFuncionario.class);
+        for (int f = 0; f < FUNCOES.length; f++) {
+            if (contagem[f] > 0) agrupados.put(FUNCOES[f], grupos[f]);
+        }
+        return agrupados;
+    }
+
+    /**
+     * Agrupa os nomes dos funcionários por função, preservando a ordem de inserção.
+     *
+     * @return Mapa da função para os nomes dos funcionários que a ocupam.
+     */
+    public Map<FuncaoFuncionario, List<String>> agruparNomesPorFuncao() {
+        Map<FuncaoFuncionario, List<String>> nomesPorFuncao = new EnumMap<>(FuncaoFuncionario.class);
+        agruparPorFuncao().forEach((funcao, indices) -> {
+            List<String> nomesGrupo = new ArrayList<>(indices.length);
+            for (int indice : indices) nomesGrupo.add(nome(nomes[indice]));
+            nomesPorFuncao.put(funcao, nomesGrupo);
+        });
+        return nomesPorFuncao;
+    }
+
+    /**
+     * Retorna as posições dos funcionários que fazem aniversário em algum dos meses informados.
+     * <p>
+     * O mês é extraído diretamente do dia desde a época com aritmética inteira, sem criar
+     * objetos {@link LocalDate}.
+     * </p>
+     *
+     * @param meses Meses de aniversário (1 a 12).
+     * @return As posições dos aniversariantes, em ordem de inserção.
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public int[] aniversariantesDosMeses(int... meses) {
+        boolean[] mesesProcurados = new boolean[13];
+        for (int mes : meses) {
+            if (mes < 1 || mes > 12) throw new IllegalArgumentException("Mês inválido: " + mes);
+            mesesProcurados[mes] = true;
+        }
+
+        int[] encontrados = new int[tamanho];
+        int quantidade = 0;
+        int[] colunaNascimentos = nascimentos;
+        for (int i = 0; i < tamanho; i++) {
+            if (mesesProcurados[mesDoDiaEpoca(colunaNascimentos[i])]) encontrados[quantidade++] = i;
+        }
+        return Arrays.copyOf(encontrados, quantidade);
+    }
+
+    /**
+     * Calcula o mês (1 a 12) de um dia contado a partir de 1970-01-01, no calendário ISO.
+     */
+    static int mesDoDiaEpoca(int diaEpoca) {
+        long z = diaEpoca + 719468L;
+        long era = Math.floorDiv(z, 146097L);
+        long diaDaEra = z - era * 146097L;
+        long anoDaEra = (diaDaEra - diaDaEra / 1460 + diaDaEra / 36524 - diaDaEra / 146096) / 365;
+        long diaDoAno = diaDaEra - (365 * anoDaEra + anoDaEra / 4 - anoDaEra / 100);
+        int mesDeslocado = (int) ((5 * diaDoAno + 2) / 153);
+        return mesDeslocado < 10 ? mesDeslocado + 3 : mesDeslocado - 9;
+    }
+
+    private String nome(int id) {
+        String nome = dicionarioNomes[id];
+        if (nome == null) dicionarioNomes[id] = nome = tabelaNomes.nome(id);
+        return nome;
+    }
+
+    /**
+     * Decodifica os nomes ainda pendentes do snapshot e monta o índice de nomes, necessário para
+     * adicionar funcionários reaproveitando o dicionário.
+     */
+    private void materializarNomes() {
+        if (tabelaNomes == null) return;
+        for (int id = 0; id < quantidadeNomes; id++) idsNomes.putIfAbsent(nome(id), id);
+        tabelaNomes = null;
+    }
+
+    private int idNome(String nome) {
+        materializarNomes();
+        Integer id = idsNomes.get(nome);
+        if (id != null) return id;
+
+        if (quantidadeNomes == dicionarioNomes.length)
+            dicionarioNomes = Arrays.copyOf(dicionarioNomes, quantidadeNomes * 2);
+        dicionarioNomes[quantidadeNomes] = nome;
+        idsNomes.put(nome, quantidadeNomes);
+        return quantidadeNomes++;
+    }
+
+    private void crescer() {
+        int novaCapacidade = salariosCentavos.length * 2;
+        salariosCentavos = Arrays.copyOf(salariosCentavos, novaCapacidade);
+        nascimentos = Arrays.copyOf(nascimentos, novaCapacidade);
+        funcoes = Arrays.copyOf(funcoes, novaCapacidade);
+        nomes = Arrays.copyOf(nomes, novaCapacidade);
+    }
+
+    private int verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho)
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do intervalo [0, " + tamanho + ")");
+        return indice;
+    }
+}
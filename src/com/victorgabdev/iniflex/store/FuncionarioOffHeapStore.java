@@ -0,0 +1,431 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.calculo.ChaveOrdenacaoNome;
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento de funcionários fora do heap, em registros de tamanho fixo dentro de
+ * {@link ByteBuffer}s diretos e com os nomes em uma arena separada, cada um seguido da sua
+ * {@link ChaveOrdenacaoNome}.
+ * <p>
+ * Cada funcionário ocupa um registro de {@value #TAMANHO_REGISTRO} bytes:
+ * </p>
+ * <ul>
+ *   <li>salário em centavos ({@code long});</li>
+ *   <li>os 8 primeiros bytes da chave de ordenação do nome, para comparar nomes sem ler a arena;</li>
+ *   <li>posição do nome na arena ({@code long}) e o seu tamanho em bytes em UTF-8;</li>
+ *   <li>data de nascimento em dias desde a época ({@code int});</li>
+ *   <li>função pelo ordinal de {@link FuncaoFuncionario}.</li>
+ * </ul>
+ * <p>
+ * Registros e nomes são alocados em blocos que nunca são copiados; o heap guarda apenas as
+ * referências aos blocos, então o coletor de lixo não percorre nem move os funcionários,
+ * independentemente da quantidade. As ordenações ({@link #ordemPorFuncao()}, {@link #ordemAlfabetica()},
+ * {@link #aniversariantesDosMeses(int...)}) também são índices fora do heap, e os funcionários são lidos
+ * por um {@link RegistroFuncionario}, com os mesmos getters de {@link Funcionario}, reposicionado a cada
+ * registro. A memória é liberada quando o armazenamento deixa de ser referenciado.
+ * </p>
+ * <p>
+ * Nomes com mais de 65535 bytes em UTF-8 são rejeitados. Esta classe não é thread-safe.
+ * </p>
+ */
+public class FuncionarioOffHeapStore {
+
+    static final int TAMANHO_REGISTRO = 32;
+
+    private static final int SALARIO = 0;
+    private static final int PREFIXO_CHAVE = 8;
+    private static final int NOME = 16;
+    private static final int NASCIMENTO = 24;
+    private static final int TAMANHO_NOME = 28;
+    private static final int FUNCAO = 30;
+
+    /** 32768 registros, 1 MB, por bloco. */
+    private static final int BITS_REGISTROS_POR_BLOCO = 15;
+    private static final int MASCARA_REGISTRO = (1 << BITS_REGISTROS_POR_BLOCO) - 1;
+
+    /** 4 MB de nomes por bloco da arena; um nome e a sua chave nunca atravessam dois blocos. */
+    private static final int BITS_ARENA = 22;
+    private static final int TAMANHO_BLOCO_ARENA = 1 << BITS_ARENA;
+    private static final int TAMANHO_MAXIMO_NOME = 0xFFFF;
+
+    /** Abaixo deste tamanho, a ordenação alfabética usa inserção antes das intercalações. */
+    private static final int TAMANHO_SEQUENCIA_INICIAL = 16;
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    private final List<ByteBuffer> blocos = new ArrayList<>();
+    private final List<ByteBuffer> arena = new ArrayList<>();
+    private int tamanho;
+    private int posicaoArena;
+
+    /**
+     * Cria um armazenamento com os funcionários informados, na mesma ordem.
+     *
+     * @param funcionarios Funcionários a serem copiados.
+     * @return O armazenamento preenchido.
+     */
+    public static FuncionarioOffHeapStore de(Collection<Funcionario> funcionarios) {
+        FuncionarioOffHeapStore store = new FuncionarioOffHeapStore();
+        funcionarios.forEach(store::adicionar);
+        return store;
+    }
+
+    /**
+     * Adiciona um funcionário ao final do armazenamento.
+     *
+     * @param funcionario Funcionário a ser copiado; o objeto não é retido.
+     * @throws IllegalArgumentException se o nome tiver mais de 65535 bytes em UTF-8.
+     */
+    public void adicionar(Funcionario funcionario) {
+        adicionar(funcionario.getNome(), funcionario.getDataNascimento(), funcionario.getSalarioCentavos(),
+                funcionario.getFuncao());
+    }
+
+    /**
+     * Adiciona um funcionário ao final do armazenamento a partir dos seus atributos.
+     *
+     * @throws IllegalArgumentException se o nome tiver mais de 65535 bytes em UTF-8.
+     */
+    public void adicionar(String nome, LocalDate dataNascimento, long salarioCentavos, FuncaoFuncionario funcao) {
+        byte[] bytesNome = nome.getBytes(StandardCharsets.UTF_8);
+        if (bytesNome.length > TAMANHO_MAXIMO_NOME)
+            throw new IllegalArgumentException("Nome com mais de " + TAMANHO_MAXIMO_NOME + " bytes: " + nome.substring(0, 32) + "...");
+        int nascimento = Math.toIntExact(dataNascimento.toEpochDay());
+        byte[] chave = ChaveOrdenacaoNome.de(nome);
+
+        // Na arena, o nome em UTF-8 é seguido do tamanho da chave de ordenação e da chave.
+        int tamanhoEntrada = bytesNome.length + Integer.BYTES + chave.length;
+        if (arena.isEmpty() || posicaoArena + tamanhoEntrada > TAMANHO_BLOCO_ARENA) {
+            arena.add(alocar(TAMANHO_BLOCO_ARENA));
+            posicaoArena = 0;
+        }
+        int blocoArena = arena.size() - 1;
+        ByteBuffer entrada = arena.get(blocoArena);
+        entrada.put(posicaoArena, bytesNome);
+        entrada.putInt(posicaoArena + bytesNome.length, chave.length);
+        entrada.put(posicaoArena + bytesNome.length + Integer.BYTES, chave);
+        long referenciaNome = ((long) blocoArena << BITS_ARENA) | posicaoArena;
+        posicaoArena += tamanhoEntrada;
+
+        if ((tamanho & MASCARA_REGISTRO) == 0) blocos.add(alocar(TAMANHO_REGISTRO << BITS_REGISTROS_POR_BLOCO));
+        ByteBuffer bloco = blocos.get(blocos.size() - 1);
+        int base = (tamanho & MASCARA_REGISTRO) * TAMANHO_REGISTRO;
+        bloco.putLong(base + SALARIO, salarioCentavos);
+        bloco.putLong(base + PREFIXO_CHAVE, prefixo(chave));
+        bloco.putLong(base + NOME, referenciaNome);
+        bloco.putInt(base + NASCIMENTO, nascimento);
+        bloco.putShort(base + TAMANHO_NOME, (short) bytesNome.length);
+        bloco.put(base + FUNCAO, (byte) funcao.ordinal());
+        tamanho++;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @return Os bytes alocados fora do heap para registros e nomes.
+     */
+    public long getBytesForaDoHeap() {
+        return (long) blocos.size() * (TAMANHO_REGISTRO << BITS_REGISTROS_POR_BLOCO)
+                + (long) arena.size() * TAMANHO_BLOCO_ARENA;
+    }
+
+    /**
+     * @return Um novo {@link RegistroFuncionario} posicionado no funcionário informado.
+     * @throws IndexOutOfBoundsException se o índice estiver fora do armazenamento.
+     */
+    public RegistroFuncionario registro(int indice) {
+        return new RegistroFuncionario(this).posicionar(indice);
+    }
+
+    /**
+     * Percorre os funcionários na ordem de inserção com um único {@link RegistroFuncionario},
+     * reposicionado a cada funcionário; o registro não deve ser guardado pela ação.
+     */
+    public void paraCada(Consumer<? super RegistroFuncionario> acao) {
+        RegistroFuncionario registro = new RegistroFuncionario(this);
+        for (int i = 0; i < tamanho; i++) acao.accept(registro.posicionar(i));
+    }
+
+    /**
+     * @return A soma dos salários de todos os funcionários, em centavos.
+     * @throws ArithmeticException se a soma ultrapassar o limite de {@code long}.
+     */
+    public long totalSalariosCentavos() {
+        long total = 0;
+        for (int i = 0; i < tamanho; i++) total = Math.addExact(total, salarioCentavos(i));
+        return total;
+    }
+
+    /**
+     * Aplica um aumento percentual no salário de todos os funcionários, com as mesmas regras de
+     * {@link FuncionarioColunarStore#aplicarAumentoPercentual(double)}.
+     *
+     * @param percentual Percentual de aumento a ser aplicado (ex: 10 para 10%).
+     * @throws ArithmeticException se algum salário reajustado não couber em um {@code long}; nesse caso
+     *                             nenhum registro é alterado.
+     */
+    public void aplicarAumentoPercentual(double percentual) {
+        FatorPercentual fator = FatorPercentual.de(percentual);
+        // O reajuste é monotônico no salário: se o menor e o maior salário couberem depois do fator,
+        // todos cabem. A verificação lê os registros uma vez antes de alterar qualquer um.
+        long menor = Long.MAX_VALUE;
+        long maior = Long.MIN_VALUE;
+        for (int i = 0; i < tamanho; i++) {
+            long salario = salarioCentavos(i);
+            menor = Math.min(menor, salario);
+            maior = Math.max(maior, salario);
+        }
+        if (tamanho == 0) return;
+        fator.aplicar(menor);
+        fator.aplicar(maior);
+
+        for (int i = 0; i < tamanho; i++) {
+            ByteBuffer bloco = bloco(i);
+            int posicao = base(i) + SALARIO;
+            bloco.putLong(posicao, fator.aplicar(bloco.getLong(posicao)));
+        }
+    }
+
+    /**
+     * Conta quantos funcionários ocupam cada função.
+     *
+     * @return Array indexado pelo ordinal de {@link FuncaoFuncionario} com a quantidade de funcionários.
+     */
+    public int[] contarPorFuncao() {
+        int[] contagem = new int[FUNCOES.length];
+        for (int i = 0; i < tamanho; i++) contagem[ordinalFuncao(i)]++;
+        return contagem;
+    }
+
+    /**
+     * @return O índice do funcionário com a menor data de nascimento; no empate, o primeiro inserido.
+     * @throws NoSuchElementException se o armazenamento estiver vazio.
+     */
+    public int indiceMaisVelho() {
+        if (tamanho == 0) throw new NoSuchElementException("Não há funcionários cadastrados.");
+        int maisVelho = 0;
+        int menorNascimento = nascimento(0);
+        for (int i = 1; i < tamanho; i++) {
+            int nascimento = nascimento(i);
+            if (nascimento < menorNascimento) {
+                menorNascimento = nascimento;
+                maisVelho = i;
+            }
+        }
+        return maisVelho;
+    }
+
+    /**
+     * Ordena os funcionários pela ordem das funções, preservando a ordem de inserção dentro de cada
+     * função, com uma contagem e uma única passagem sobre os registros.
+     */
+    public OrdemRegistros ordemPorFuncao() {
+        int[] inicio = new int[FUNCOES.length];
+        int acumulado = 0;
+        int[] contagem = contarPorFuncao();
+        for (int f = 0; f < FUNCOES.length; f++) {
+            inicio[f] = acumulado;
+            acumulado += contagem[f];
+        }
+
+        IntBuffer indices = alocarIndices(tamanho);
+        for (int i = 0; i < tamanho; i++) indices.put(inicio[ordinalFuncao(i)]++, i);
+        return new OrdemRegistros(this, indices, tamanho);
+    }
+
+    /**
+     * Seleciona os funcionários que fazem aniversário nos meses informados: na ordem dos meses e,
+     * dentro de cada mês, na ordem de inserção. Meses repetidos são considerados uma única vez.
+     *
+     * @param meses Meses de aniversário (1 a 12).
+     * @throws IllegalArgumentException se algum mês for inválido.
+     */
+    public OrdemRegistros aniversariantesDosMeses(int... meses) {
+        int[] posicaoMes = new int[13];
+        Arrays.fill(posicaoMes, -1);
+        for (int i = meses.length - 1; i >= 0; i--) {
+            if (meses[i] < 1 || meses[i] > 12) throw new IllegalArgumentException("Mês inválido: " + meses[i]);
+            posicaoMes[meses[i]] = i;
+        }
+
+        int[] contagem = new int[meses.length + 1];
+        for (int i = 0; i < tamanho; i++) {
+            int posicao = posicaoMes[FuncionarioColunarStore.mesDoDiaEpoca(nascimento(i))];
+            if (posicao >= 0) contagem[posicao + 1]++;
+        }
+        for (int p = 1; p < contagem.length; p++) contagem[p] += contagem[p - 1];
+
+        int quantidade = contagem[meses.length];
+        IntBuffer indices = alocarIndices(quantidade);
+        for (int i = 0; i < tamanho; i++) {
+            int posicao = posicaoMes[FuncionarioColunarStore.mesDoDiaEpoca(nascimento(i))];
+            if (posicao >= 0) indices.put(contagem[posicao]++, i);
+        }
+        return new OrdemRegistros(this, indices, quantidade);
+    }
+
+    /**
+     * Ordena os funcionários pelo nome, preservando a ordem de inserção entre nomes iguais.
+     * <p>
+     * A ordenação é um merge sort estável sobre índices fora do heap. Os nomes são comparados pelas
+     * chaves de ordenação calculadas em {@link #adicionar}, primeiro pelo prefixo guardado no registro e
+     * só então na arena; a ordem é a mesma de {@link ChaveOrdenacaoNome}, usada pelo
+     * {@code FuncionarioService}.
+     * </p>
+     */
+    public OrdemRegistros ordemAlfabetica() {
+        IntBuffer origem = alocarIndices(tamanho);
+        for (int i = 0; i < tamanho; i++) origem.put(i, i);
+
+        for (int inicio = 0; inicio < tamanho; inicio += TAMANHO_SEQUENCIA_INICIAL) {
+            ordenarPorInsercao(origem, inicio, Math.min(inicio + TAMANHO_SEQUENCIA_INICIAL, tamanho));
+        }
+        if (tamanho <= TAMANHO_SEQUENCIA_INICIAL) return new OrdemRegistros(this, origem, tamanho);
+
+        IntBuffer destino = alocarIndices(tamanho);
+        for (int largura = TAMANHO_SEQUENCIA_INICIAL; largura < tamanho; largura *= 2) {
+            for (int inicio = 0; inicio < tamanho; inicio += 2 * largura) {
+                int meio = Math.min(inicio + largura, tamanho);
+                intercalar(origem, destino, inicio, meio, Math.min(inicio + 2 * largura, tamanho));
+            }
+            IntBuffer troca = origem;
+            origem = destino;
+            destino = troca;
+        }
+        return new OrdemRegistros(this, origem, tamanho);
+    }
+
+    private void ordenarPorInsercao(IntBuffer indices, int inicio, int fim) {
+        for (int i = inicio + 1; i < fim; i++) {
+            int atual = indices.get(i);
+            int j = i - 1;
+            while (j >= inicio && compararNomes(indices.get(j), atual) > 0) {
+                indices.put(j + 1, indices.get(j));
+                j--;
+            }
+            indices.put(j + 1, atual);
+        }
+    }
+
+    private void intercalar(IntBuffer origem, IntBuffer destino, int inicio, int meio, int fim) {
+        int esquerda = inicio;
+        int direita = meio;
+        for (int k = inicio; k < fim; k++) {
+            if (direita == fim || esquerda < meio && compararNomes(origem.get(esquerda), origem.get(direita)) <= 0) {
+                destino.put(k, origem.get(esquerda++));
+            } else {
+                destino.put(k, origem.get(direita++));
+            }
+        }
+    }
+
+    /**
+     * Compara as chaves de ordenação dos nomes de dois funcionários byte a byte.
+     */
+    int compararNomes(int a, int b) {
+        ByteBuffer blocoA = bloco(a);
+        ByteBuffer blocoB = bloco(b);
+        int baseA = base(a);
+        int baseB = base(b);
+        long prefixoA = blocoA.getLong(baseA + PREFIXO_CHAVE);
+        long prefixoB = blocoB.getLong(baseB + PREFIXO_CHAVE);
+        if (prefixoA != prefixoB) return Long.compareUnsigned(prefixoA, prefixoB);
+
+        long nomeA = blocoA.getLong(baseA + NOME);
+        long nomeB = blocoB.getLong(baseB + NOME);
+        ByteBuffer arenaA = arena.get((int) (nomeA >>> BITS_ARENA));
+        ByteBuffer arenaB = arena.get((int) (nomeB >>> BITS_ARENA));
+        int posicaoA = (int) (nomeA & (TAMANHO_BLOCO_ARENA - 1)) + Short.toUnsignedInt(blocoA.getShort(baseA + TAMANHO_NOME));
+        int posicaoB = (int) (nomeB & (TAMANHO_BLOCO_ARENA - 1)) + Short.toUnsignedInt(blocoB.getShort(baseB + TAMANHO_NOME));
+        int tamanhoA = arenaA.getInt(posicaoA);
+        int tamanhoB = arenaB.getInt(posicaoB);
+        posicaoA += Integer.BYTES;
+        posicaoB += Integer.BYTES;
+        int comum = Math.min(tamanhoA, tamanhoB);
+        for (int i = Long.BYTES; i < comum; i++) {
+            int diferenca = Byte.toUnsignedInt(arenaA.get(posicaoA + i)) - Byte.toUnsignedInt(arenaB.get(posicaoB + i));
+            if (diferenca != 0) return diferenca;
+        }
+        return Integer.compare(tamanhoA, tamanhoB);
+    }
+
+    String nome(int indice) {
+        ByteBuffer bloco = bloco(indice);
+        int base = base(indice);
+        long referencia = bloco.getLong(base + NOME);
+        byte[] bytes = new byte[Short.toUnsignedInt(bloco.getShort(base + TAMANHO_NOME))];
+        arena.get((int) (referencia >>> BITS_ARENA)).get((int) (referencia & (TAMANHO_BLOCO_ARENA - 1)), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    long salarioCentavos(int indice) {
+        return bloco(indice).getLong(base(indice) + SALARIO);
+    }
+
+    void setSalarioCentavos(int indice, long salarioCentavos) {
+        bloco(indice).putLong(base(indice) + SALARIO, salarioCentavos);
+    }
+
+    int nascimento(int indice) {
+        return bloco(indice).getInt(base(indice) + NASCIMENTO);
+    }
+
+    FuncaoFuncionario funcao(int indice) {
+        return FUNCOES[ordinalFuncao(indice)];
+    }
+
+    int verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho)
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do intervalo [0, " + tamanho + ")");
+        return indice;
+    }
+
+    private int ordinalFuncao(int indice) {
+        return bloco(indice).get(base(indice) + FUNCAO);
+    }
+
+    private ByteBuffer bloco(int indice) {
+        return blocos.get(indice >>> BITS_REGISTROS_POR_BLOCO);
+    }
+
+    private static int base(int indice) {
+        return (indice & MASCARA_REGISTRO) * TAMANHO_REGISTRO;
+    }
+
+    /**
+     * Os 8 primeiros bytes da chave como um número sem sinal, completados com zeros, de forma que a
+     * ordem dos prefixos seja a ordem dos bytes.
+     */
+    private static long prefixo(byte[] chave) {
+        long prefixo = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            prefixo = (prefixo << 8) | (i < chave.length ? Byte.toUnsignedLong(chave[i]) : 0);
+        }
+        return prefixo;
+    }
+
+    private static ByteBuffer alocar(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private static IntBuffer alocarIndices(int quantidade) {
+        return alocar(Math.max(quantidade, 1) * Integer.BYTES).asIntBuffer();
+    }
+}
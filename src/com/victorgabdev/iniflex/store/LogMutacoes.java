@@ -0,0 +1,522 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de mutações somente de acréscimo (write-ahead log) para remoções, aumentos e trocas de função.
+ * <p>
+ * Cada mutação vira um registro {@code [tamanho][CRC32C][tipo, dados]}, em little-endian. Um lote
+ * ({@link #registrarLote(Consumer)}) é um único registro com várias mutações, cada uma precedida do
+ * seu tamanho, e por isso é reproduzido por inteiro ou descartado por inteiro. Os registros
+ * são acumulados em memória e gravados por uma thread própria, que escreve todos os pendentes de uma
+ * vez e faz um único {@code fsync} por lote (group commit): enquanto um {@code fsync} está em andamento,
+ * os novos registros se acumulam para o próximo, então várias threads aguardando durabilidade dividem
+ * o mesmo {@code fsync}.
+ * </p>
+ * <p>
+ * {@link #abrir(Path, ConsumidorMutacoes)} reproduz os registros existentes e descarta um final
+ * incompleto ou corrompido, deixado por uma falha durante a escrita. Esta classe é thread-safe.
+ * </p>
+ */
+public class LogMutacoes implements Closeable {
+
+    /** "IWAL" em ASCII, lido em little-endian. */
+    static final int MAGICO = 0x4C415749;
+    static final int VERSAO_FORMATO = 1;
+    static final int TAMANHO_CABECALHO = 8;
+
+    /** Maior payload aceito; registros maiores na leitura indicam um final corrompido. */
+    private static final int TAMANHO_MAXIMO_REGISTRO = 1 << 24;
+    private static final int TAMANHO_INICIAL_BUFFER = 64 * 1024;
+
+    private static final byte REMOCAO = 1;
+    private static final byte AUMENTO = 2;
+    private static final byte ALTERACAO_FUNCAO = 3;
+    private static final byte LOTE = 4;
+    private static final byte AUMENTO_FUNCAO = 5;
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    /**
+     * Recebe as mutações reproduzidas de um log, na ordem em que foram registradas.
+     */
+    public interface ConsumidorMutacoes {
+
+        void remocao(String nome);
+
+        void aumento(double percentual);
+
+        void alteracaoFuncao(String nome, FuncaoFuncionario funcao);
+
+        void aumentoFuncao(FuncaoFuncionario funcao, double percentual);
+    }
+
+    private final Path arquivo;
+    private final FileChannel canal;
+    private final Thread gravador;
+
+    /** Protege os campos abaixo; também acorda o gravador e quem aguarda durabilidade. */
+    private final Object trava = new Object();
+    private ByteBuffer pendentes = novoBuffer(TAMANHO_INICIAL_BUFFER);
+    private ByteBuffer emGravacao = novoBuffer(TAMANHO_INICIAL_BUFFER);
+    private long ultimaRegistrada;
+    private long ultimaDuravel;
+    private long bytesGravados;
+    /** Tamanho do log com os registros ainda não gravados; o buffer em gravação é lido pelo gravador sem a trava. */
+    private long bytesRegistrados;
+    private IOException falha;
+    private boolean fechando;
+
+    private LogMutacoes(Path arquivo, FileChannel canal, long bytesGravados) {
+        this.arquivo = arquivo;
+        this.canal = canal;
+        this.bytesGravados = bytesGravados;
+        this.bytesRegistrados = bytesGravados;
+        this.gravador = new Thread(this::gravarLotes, "log-mutacoes-" + arquivo.getFileName());
+        this.gravador.setDaemon(true);
+        this.gravador.start();
+    }
+
+    /**
+     * Abre o log, criando-o se não existir, e reproduz os registros válidos no consumidor.
+     * <p>
+     * A leitura para no primeiro registro incompleto ou com CRC inválido, que é descartado junto com
+     * o restante do arquivo antes de novas mutações serem acrescentadas.
+     * </p>
+     *
+     * @param arquivo    Caminho do log.
+     * @param consumidor Destino das mutações já registradas.
+     * @return O log aberto para acréscimo.
+     * @throws UncheckedIOException caso o arquivo não possa ser lido ou gravado.
+     * @throws ArquivoFuncionariosInvalidoException caso o arquivo exista, mas não seja um log de mutações.
+     */
+    public static LogMutacoes abrir(Path arquivo, ConsumidorMutacoes consumidor) {
+        Objects.requireNonNull(consumidor, "O consumidor não pode ser nulo");
+        FileChannel canal = null;
+        try {
+            canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean novo = canal.size() < TAMANHO_CABECALHO;
+            long validos = novo ? iniciar(canal) : reproduzir(arquivo, canal, consumidor);
+            canal.truncate(validos);
+            canal.force(true);
+            // Um log recém-criado só sobrevive a uma queda de energia depois que o diretório também for gravado.
+            if (novo) Diretorios.sincronizarDiretorioDe(arquivo);
+            return new LogMutacoes(arquivo, canal, validos);
+        } catch (IOException e) {
+            fecharSilenciosamente(canal);
+            throw new UncheckedIOException("Não foi possível abrir o log de mutações " + arquivo, e);
+        } catch (RuntimeException e) {
+            fecharSilenciosamente(canal);
+            throw e;
+        }
+    }
+
+    /**
+     * Registra a remoção dos funcionários com o nome informado.
+     *
+     * @return O número de sequência do registro, para {@link #aguardar(long)}.
+     */
+    public long registrarRemocao(String nome) {
+        byte[] codificado = nome.getBytes(StandardCharsets.UTF_8);
+        synchronized (trava) {
+            int inicio = reservar(1 + codificado.length);
+            pendentes.put(REMOCAO).put(codificado);
+            return concluirRegistro(inicio);
+        }
+    }
+
+    /**
+     * Registra um aumento percentual sobre todos os salários. O percentual é gravado bit a bit,
+     * então a reprodução chega exatamente aos mesmos centavos.
+     *
+     * @return O número de sequência do registro, para {@link #aguardar(long)}.
+     */
+    public long registrarAumento(double percentual) {
+        synchronized (trava) {
+            int inicio = reservar(1 + Long.BYTES);
+            pendentes.put(AUMENTO).putLong(Double.doubleToRawLongBits(percentual));
+            return concluirRegistro(inicio);
+        }
+    }
+
+    /**
+     * Registra a troca de função dos funcionários com o nome informado.
+     *
+     * @return O número de sequência do registro, para {@link #aguardar(long)}.
+     */
+    public long registrarAlteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+        byte[] codificado = nome.getBytes(StandardCharsets.UTF_8);
+        synchronized (trava) {
+            int inicio = reservar(2 + codificado.length);
+            pendentes.put(ALTERACAO_FUNCAO).put((byte) funcao.ordinal()).put(codificado);
+            return concluirRegistro(inicio);
+        }
+    }
+
+    /**
+     * Registra várias mutações em um único registro. Na reprodução, elas são entregues ao consumidor
+     * na ordem em que foram escritas, e somente se o registro inteiro estiver íntegro.
+     *
+     * @param mutacoes Escreve as mutações do lote no consumidor recebido.
+     * @return O número de sequência do registro, para {@link #aguardar(long)}.
+     * @throws IllegalArgumentException se o lote ultrapassar o tamanho máximo de um registro.
+     */
+    public long registrarLote(Consumer<ConsumidorMutacoes> mutacoes) {
+        CodificadorLote codificador = new CodificadorLote();
+        mutacoes.accept(codificador);
+        ByteBuffer lote = codificador.concluir();
+        synchronized (trava) {
+            int inicio = reservar(lote.remaining());
+            pendentes.put(lote);
+            return concluirRegistro(inicio);
+        }
+    }
+
+    /**
+     * Bloqueia até que o registro informado, e todos os anteriores, estejam gravados em disco.
+     *
+     * @param sequencia Número de sequência retornado por um dos métodos {@code registrar*}.
+     * @throws UncheckedIOException caso a gravação tenha falhado ou a thread seja interrompida.
+     */
+    public void aguardar(long sequencia) {
+        synchronized (trava) {
+            while (ultimaDuravel < sequencia && falha == null) {
+                try {
+                    trava.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new InterruptedIOException("Interrompido aguardando o log de mutações"));
+                }
+            }
+            if (ultimaDuravel < sequencia) throw falhaDeGravacao();
+        }
+    }
+
+    /**
+     * Bloqueia até que todos os registros feitos até aqui estejam gravados em disco.
+     *
+     * @throws UncheckedIOException caso a gravação tenha falhado.
+     */
+    public void sincronizar() {
+        long ultima;
+        synchronized (trava) {
+            ultima = ultimaRegistrada;
+        }
+        aguardar(ultima);
+    }
+
+    /**
+     * @return O tamanho do log em bytes, incluindo os registros ainda não gravados.
+     */
+    public long tamanhoBytes() {
+        synchronized (trava) {
+            return bytesRegistrados;
+        }
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Grava os registros pendentes e fecha o arquivo. Fechar mais de uma vez não tem efeito.
+     *
+     * @throws UncheckedIOException caso a gravação dos pendentes falhe.
+     */
+    @Override
+    public void close() {
+        synchronized (trava) {
+            if (fechando) return;
+            fechando = true;
+            trava.notifyAll();
+        }
+        boolean interrompido = false;
+        while (gravador.isAlive()) {
+            try {
+                gravador.join();
+            } catch (InterruptedException e) {
+                interrompido = true;
+            }
+        }
+        if (interrompido) Thread.currentThread().interrupt();
+        try {
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível fechar o log de mutações " + arquivo, e);
+        }
+        synchronized (trava) {
+            if (falha != null) throw falhaDeGravacao();
+        }
+    }
+
+    /**
+     * Laço da thread gravadora: troca o buffer de pendentes por um vazio, grava o lote e faz um
+     * único {@code fsync} para todos os registros dele.
+     */
+    private void gravarLotes() {
+        while (true) {
+            long ultimaDoLote;
+            synchronized (trava) {
+                while (pendentes.position() == 0 && !fechando) {
+                    try {
+                        trava.wait();
+                    } catch (InterruptedException e) {
+                        // A thread só termina pelo fechamento do log.
+                    }
+                }
+                if (pendentes.position() == 0) return;
+
+                ByteBuffer lote = pendentes;
+                pendentes = emGravacao;
+                emGravacao = lote;
+                ultimaDoLote = ultimaRegistrada;
+            }
+
+            try {
+                emGravacao.flip();
+                long posicao = bytesGravados;
+                while (emGravacao.hasRemaining()) posicao += canal.write(emGravacao, posicao);
+                canal.force(false);
+            } catch (IOException e) {
+                synchronized (trava) {
+                    falha = e;
+                    trava.notifyAll();
+                }
+                return;
+            }
+
+            synchronized (trava) {
+                bytesGravados += emGravacao.limit();
+                emGravacao.clear();
+                ultimaDuravel = ultimaDoLote;
+                trava.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Reserva espaço para um registro em {@link #pendentes} e escreve o tamanho do payload.
+     *
+     * @return A posição de início do registro, para {@link #concluirRegistro(int)}.
+     */
+    private int reservar(int tamanhoPayload) {
+        if (fechando) throw new IllegalStateException("O log de mutações está fechado");
+        if (falha != null) throw falhaDeGravacao();
+        if (tamanhoPayload > TAMANHO_MAXIMO_REGISTRO)
+            throw new IllegalArgumentException("Registro excede o tamanho máximo: " + tamanhoPayload + " bytes");
+
+        int necessario = 2 * Integer.BYTES + tamanhoPayload;
+        if (pendentes.remaining() < necessario) {
+            ByteBuffer maior = novoBuffer(Math.max(pendentes.capacity() * 2, pendentes.position() + necessario));
+            pendentes.flip();
+            maior.put(pendentes);
+            pendentes = maior;
+        }
+        int inicio = pendentes.position();
+        pendentes.putInt(tamanhoPayload).putInt(0);
+        return inicio;
+    }
+
+    /**
+     * Preenche o CRC do registro iniciado em {@code inicio} e acorda o gravador.
+     */
+    private long concluirRegistro(int inicio) {
+        CRC32C crc = new CRC32C();
+        crc.update(pendentes.duplicate().position(inicio + 2 * Integer.BYTES).limit(pendentes.position()));
+        pendentes.putInt(inicio + Integer.BYTES, (int) crc.getValue());
+        bytesRegistrados += pendentes.position() - inicio;
+        trava.notifyAll();
+        return ++ultimaRegistrada;
+    }
+
+    private UncheckedIOException falhaDeGravacao() {
+        return new UncheckedIOException("Falha ao gravar o log de mutações " + arquivo, falha);
+    }
+
+    private static long iniciar(FileChannel canal) throws IOException {
+        ByteBuffer cabecalho = novoBuffer(TAMANHO_CABECALHO);
+        cabecalho.putInt(MAGICO).putInt(VERSAO_FORMATO).flip();
+        canal.truncate(0);
+        while (cabecalho.hasRemaining()) canal.write(cabecalho, cabecalho.position());
+        return TAMANHO_CABECALHO;
+    }
+
+    /**
+     * Reproduz os registros válidos do log.
+     *
+     * @return A quantidade de bytes válidos, a partir da qual o arquivo deve ser truncado.
+     */
+    private static long reproduzir(Path arquivo, FileChannel canal, ConsumidorMutacoes consumidor) throws IOException {
+        canal.position(0);
+        // O stream não é fechado aqui: fechá-lo fecharia também o canal.
+        DataInputStream entrada = new DataInputStream(new BufferedInputStream(Channels.newInputStream(canal), 1 << 16));
+        if (Integer.reverseBytes(entrada.readInt()) != MAGICO)
+            throw new ArquivoFuncionariosInvalidoException("Arquivo não é um log de mutações: " + arquivo);
+        int versao = Integer.reverseBytes(entrada.readInt());
+        if (versao != VERSAO_FORMATO)
+            throw new ArquivoFuncionariosInvalidoException("Versão do log de mutações não suportada: " + versao);
+
+        long validos = TAMANHO_CABECALHO;
+        byte[] payload = new byte[256];
+        CRC32C crc = new CRC32C();
+        while (true) {
+            int tamanho;
+            int crcEsperado;
+            try {
+                tamanho = Integer.reverseBytes(entrada.readInt());
+                crcEsperado = Integer.reverseBytes(entrada.readInt());
+                if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_REGISTRO) return validos;
+                if (payload.length < tamanho) payload = new byte[Math.max(tamanho, payload.length * 2)];
+                entrada.readFully(payload, 0, tamanho);
+            } catch (EOFException e) {
+                return validos;
+            }
+
+            crc.reset();
+            crc.update(payload, 0, tamanho);
+            if ((int) crc.getValue() != crcEsperado || !aplicar(payload, tamanho, consumidor)) return validos;
+            validos += 2 * Integer.BYTES + tamanho;
+        }
+    }
+
+    /**
+     * Decodifica um payload e o entrega ao consumidor.
+     *
+     * @return {@code false} se o payload não for uma mutação conhecida.
+     */
+    private static boolean aplicar(byte[] payload, int tamanho, ConsumidorMutacoes consumidor) {
+        if (payload[0] != LOTE) return aplicar(payload, 0, tamanho, consumidor);
+        // O lote é validado por inteiro antes de a primeira mutação ser entregue.
+        return percorrerLote(payload, tamanho, null) && percorrerLote(payload, tamanho, consumidor);
+    }
+
+    /**
+     * Decodifica as mutações de um lote; com o consumidor {@code null}, apenas as valida.
+     */
+    private static boolean percorrerLote(byte[] payload, int tamanho, ConsumidorMutacoes consumidor) {
+        ByteBuffer dados = ByteBuffer.wrap(payload, 1, tamanho - 1).order(ByteOrder.LITTLE_ENDIAN);
+        if (dados.remaining() < Integer.BYTES) return false;
+        int quantidade = dados.getInt();
+        for (int i = 0; i < quantidade; i++) {
+            if (dados.remaining() < Integer.BYTES) return false;
+            int tamanhoMutacao = dados.getInt();
+            int inicio = dados.position();
+            if (tamanhoMutacao < 1 || tamanhoMutacao > dados.remaining() || payload[inicio] == LOTE) return false;
+            if (!aplicar(payload, inicio, tamanhoMutacao, consumidor)) return false;
+            dados.position(inicio + tamanhoMutacao);
+        }
+        return !dados.hasRemaining();
+    }
+
+    /**
+     * Decodifica uma mutação simples; com o consumidor {@code null}, apenas a valida.
+     */
+    private static boolean aplicar(byte[] payload, int inicio, int tamanho, ConsumidorMutacoes consumidor) {
+        ByteBuffer dados = ByteBuffer.wrap(payload, inicio, tamanho).order(ByteOrder.LITTLE_ENDIAN);
+        int ordinal;
+        switch (dados.get()) {
+            case REMOCAO:
+                if (consumidor != null) consumidor.remocao(new String(payload, inicio + 1, tamanho - 1, StandardCharsets.UTF_8));
+                return true;
+            case AUMENTO:
+                if (tamanho != 1 + Long.BYTES) return false;
+                if (consumidor != null) consumidor.aumento(Double.longBitsToDouble(dados.getLong()));
+                return true;
+            case ALTERACAO_FUNCAO:
+                ordinal = tamanho < 2 ? -1 : dados.get();
+                if (ordinal < 0 || ordinal >= FUNCOES.length) return false;
+                if (consumidor != null)
+                    consumidor.alteracaoFuncao(new String(payload, inicio + 2, tamanho - 2, StandardCharsets.UTF_8), FUNCOES[ordinal]);
+                return true;
+            case AUMENTO_FUNCAO:
+                if (tamanho != 2 + Long.BYTES) return false;
+                ordinal = dados.get();
+                if (ordinal < 0 || ordinal >= FUNCOES.length) return false;
+                if (consumidor != null) consumidor.aumentoFuncao(FUNCOES[ordinal], Double.longBitsToDouble(dados.getLong()));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Escreve as mutações de um lote em um buffer próprio, fora da trava do log, no formato
+     * {@code [LOTE][quantidade]} seguido de {@code [tamanho][tipo, dados]} para cada mutação.
+     */
+    private static final class CodificadorLote implements ConsumidorMutacoes {
+
+        private ByteBuffer buffer = novoBuffer(256).put(LOTE).putInt(0);
+        private int quantidade;
+
+        @Override
+        public void remocao(String nome) {
+            byte[] codificado = nome.getBytes(StandardCharsets.UTF_8);
+            iniciar(1 + codificado.length).put(REMOCAO).put(codificado);
+        }
+
+        @Override
+        public void aumento(double percentual) {
+            iniciar(1 + Long.BYTES).put(AUMENTO).putLong(Double.doubleToRawLongBits(percentual));
+        }
+
+        @Override
+        public void alteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+            byte[] codificado = nome.getBytes(StandardCharsets.UTF_8);
+            iniciar(2 + codificado.length).put(ALTERACAO_FUNCAO).put((byte) funcao.ordinal()).put(codificado);
+        }
+
+        @Override
+        public void aumentoFuncao(FuncaoFuncionario funcao, double percentual) {
+            iniciar(2 + Long.BYTES).put(AUMENTO_FUNCAO).put((byte) funcao.ordinal())
+                    .putLong(Double.doubleToRawLongBits(percentual));
+        }
+
+        private ByteBuffer iniciar(int tamanho) {
+            if ((long) buffer.position() + Integer.BYTES + tamanho > TAMANHO_MAXIMO_REGISTRO)
+                throw new IllegalArgumentException("Lote excede o tamanho máximo de um registro: " + TAMANHO_MAXIMO_REGISTRO + " bytes");
+            if (buffer.remaining() < Integer.BYTES + tamanho) {
+                ByteBuffer maior = novoBuffer(Math.max(buffer.capacity() * 2, buffer.position() + Integer.BYTES + tamanho));
+                buffer.flip();
+                buffer = maior.put(buffer);
+            }
+            quantidade++;
+            return buffer.putInt(tamanho);
+        }
+
+        ByteBuffer concluir() {
+            return buffer.putInt(1, quantidade).flip();
+        }
+    }
+
+    private static ByteBuffer novoBuffer(int capacidade) {
+        return ByteBuffer.allocate(capacidade).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void fecharSilenciosamente(FileChannel canal) {
+        if (canal == null) return;
+        try {
+            canal.close();
+        } catch (IOException e) {
+            // A falha original é a que interessa.
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.victorgabdev.iniflex.store;
+
+import java.nio.IntBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Sequência de funcionários de um {@link FuncionarioOffHeapStore} em uma ordem calculada, guardada
+ * como índices fora do heap.
+ * <p>
+ * A sequência referencia os registros do armazenamento: alterações de salário feitas depois
+ * aparecem na leitura, e a ordem não é recalculada.
+ * </p>
+ */
+public final class OrdemRegistros {
+
+    private final FuncionarioOffHeapStore store;
+    private final IntBuffer indices;
+    private final int tamanho;
+
+    OrdemRegistros(FuncionarioOffHeapStore store, IntBuffer indices, int tamanho) {
+        this.store = store;
+        this.indices = indices;
+        this.tamanho = tamanho;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @param posicao Posição na sequência, a partir de 0.
+     * @return O índice do funcionário no armazenamento.
+     * @throws IndexOutOfBoundsException se a posição estiver fora da sequência.
+     */
+    public int indice(int posicao) {
+        if (posicao < 0 || posicao >= tamanho)
+            throw new IndexOutOfBoundsException("Posição " + posicao + " fora do intervalo [0, " + tamanho + ")");
+        return indices.get(posicao);
+    }
+
+    /**
+     * Percorre a sequência com um único {@link RegistroFuncionario}, reposicionado a cada funcionário.
+     */
+    public void paraCada(Consumer<? super RegistroFuncionario> acao) {
+        RegistroFuncionario registro = new RegistroFuncionario(store);
+        for (int i = 0; i < tamanho; i++) acao.accept(registro.posicionar(indices.get(i)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.calculo.Centavos;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Acesso a um funcionário de um {@link FuncionarioOffHeapStore}, com os mesmos getters de
+ * {@link Funcionario}.
+ * <p>
+ * O registro não guarda os dados: cada getter lê o funcionário da posição atual, e o mesmo registro
+ * pode ser reposicionado para percorrer o armazenamento inteiro sem criar um objeto por funcionário.
+ * Apenas {@link #getNome()}, {@link #getDataNascimento()} e {@link #getSalario()} criam objetos, que
+ * não são retidos.
+ * </p>
+ */
+public final class RegistroFuncionario {
+
+    private final FuncionarioOffHeapStore store;
+    private int indice = -1;
+
+    RegistroFuncionario(FuncionarioOffHeapStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Passa a ler o funcionário do índice informado.
+     *
+     * @return Este registro.
+     * @throws IndexOutOfBoundsException se o índice estiver fora do armazenamento.
+     */
+    public RegistroFuncionario posicionar(int indice) {
+        this.indice = store.verificarIndice(indice);
+        return this;
+    }
+
+    /**
+     * @return A posição do funcionário no armazenamento, na ordem de inserção.
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    public String getNome() {
+        return store.nome(indice);
+    }
+
+    public LocalDate getDataNascimento() {
+        return LocalDate.ofEpochDay(store.nascimento(indice));
+    }
+
+    /**
+     * @return A data de nascimento em dias desde 1970-01-01, sem criar um {@link LocalDate}.
+     */
+    public int getDiaEpocaNascimento() {
+        return store.nascimento(indice);
+    }
+
+    public BigDecimal getSalario() {
+        return Centavos.paraBigDecimal(getSalarioCentavos());
+    }
+
+    public long getSalarioCentavos() {
+        return store.salarioCentavos(indice);
+    }
+
+    public void setSalarioCentavos(long salarioCentavos) {
+        store.setSalarioCentavos(indice, salarioCentavos);
+    }
+
+    public FuncaoFuncionario getFuncao() {
+        return store.funcao(indice);
+    }
+
+    /**
+     * @return Um novo {@link Funcionario} com os dados da posição atual.
+     */
+    public Funcionario paraFuncionario() {
+        Funcionario funcionario = new Funcionario(getNome(), getDataNascimento(), BigDecimal.ZERO, getFuncao());
+        funcionario.setSalarioCentavos(getSalarioCentavos());
+        return funcionario;
+    }
+
+    @Override
+    public String toString() {
+        return indice < 0 ? "RegistroFuncionario[sem posição]" : paraFuncionario().toString();
+    }
+}
@@ -0,0 +1,312 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binário dos snapshots do {@link FuncionarioColunarStore}.
+ * <p>
+ * O arquivo reproduz as colunas do armazenamento, em little-endian, para que a carga seja uma cópia
+ * direta de cada coluna mapeada em memória, sem conversão de texto:
+ * </p>
+ * <pre>
+ * cabeçalho (32 bytes)  mágico, versão do formato, quantidade de funcionários, quantidade de nomes,
+ *                       tamanho dos nomes em bytes e CRC32C de todo o conteúdo após o cabeçalho
+ * salários              long[quantidade]        centavos
+ * nascimentos           int[quantidade]         dias desde 1970-01-01
+ * nomes                 int[quantidade]         índice na tabela de nomes
+ * funções               byte[quantidade]        ordinal de {@link FuncaoFuncionario}
+ * tabela de nomes       int[quantidadeNomes + 1] início de cada nome; o último é o tamanho total
+ * nomes                 byte[tamanho]           UTF-8
+ * </pre>
+ * <p>
+ * A função é gravada pelo ordinal: mudar a ordem de {@link FuncaoFuncionario} exige incrementar
+ * {@link #VERSAO_FORMATO}.
+ * </p>
+ */
+final class SnapshotColunar {
+
+    /** "INFX" em ASCII, lido em little-endian. */
+    static final int MAGICO = 0x58464E49;
+    static final int VERSAO_FORMATO = 1;
+    static final int TAMANHO_CABECALHO = 32;
+
+    private static final int TAMANHO_BUFFER_ESCRITA = 1 << 20;
+    private static final int QUANTIDADE_FUNCOES = FuncaoFuncionario.values().length;
+
+    private SnapshotColunar() {
+    }
+
+    /**
+     * Grava as colunas em um arquivo temporário e o move para o destino ao final, de forma que o
+     * arquivo de destino nunca fica parcialmente escrito. O diretório é sincronizado depois da
+     * movimentação, para que o novo nome esteja em disco quando o método retornar.
+     */
+    static void gravar(Path arquivo, int tamanho, long[] salarios, int[] nascimentos, int[] nomes, byte[] funcoes,
+                       String[] dicionario, int quantidadeNomes) {
+        int[] tamanhosNomes = new int[quantidadeNomes];
+        long tamanhoNomes = 0;
+        for (int i = 0; i < quantidadeNomes; i++) {
+            tamanhosNomes[i] = tamanhoUtf8(dicionario[i]);
+            tamanhoNomes += tamanhosNomes[i];
+        }
+        if (tamanhoNomes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Os nomes excedem o tamanho suportado pelo snapshot: " + tamanhoNomes + " bytes");
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Escrita escrita = new Escrita(canal);
+            escrita.escrever(salarios, tamanho);
+            escrita.escrever(nascimentos, tamanho);
+            escrita.escrever(nomes, tamanho);
+            escrita.escrever(funcoes, 0, tamanho);
+
+            int inicio = 0;
+            for (int tamanhoNome : tamanhosNomes) {
+                escrita.reservar(Integer.BYTES).putInt(inicio);
+                inicio += tamanhoNome;
+            }
+            escrita.reservar(Integer.BYTES).putInt(inicio);
+            for (int i = 0; i < quantidadeNomes; i++) {
+                byte[] nome = dicionario[i].getBytes(StandardCharsets.UTF_8);
+                escrita.escrever(nome, 0, nome.length);
+            }
+            long crc = escrita.finalizar();
+
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+            cabecalho.putInt(MAGICO).putInt(VERSAO_FORMATO).putInt(tamanho).putInt(quantidadeNomes)
+                    .putLong(tamanhoNomes).putLong(crc).flip();
+            while (cabecalho.hasRemaining()) canal.write(cabecalho, cabecalho.position());
+            canal.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar o snapshot " + arquivo, e);
+        }
+
+        try {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Diretorios.sincronizarDiretorioDe(arquivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar o snapshot " + arquivo, e);
+        }
+    }
+
+    /**
+     * Lê um snapshot mapeando cada seção do arquivo e copiando as colunas em bloco. Os nomes não são
+     * decodificados aqui: o armazenamento os lê da tabela mapeada conforme forem acessados.
+     *
+     * @throws ArquivoFuncionariosInvalidoException se o arquivo não for um snapshot válido ou estiver corrompido.
+     */
+    static FuncionarioColunarStore ler(Path arquivo) {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo < TAMANHO_CABECALHO) throw invalido(arquivo, "arquivo menor que o cabeçalho");
+
+            ByteBuffer cabecalho = mapear(canal, 0, TAMANHO_CABECALHO);
+            if (cabecalho.getInt() != MAGICO) throw invalido(arquivo, "não é um snapshot de funcionários");
+            int versao = cabecalho.getInt();
+            if (versao != VERSAO_FORMATO) throw invalido(arquivo, "versão do formato não suportada: " + versao);
+            int tamanho = cabecalho.getInt();
+            int quantidadeNomes = cabecalho.getInt();
+            long tamanhoNomes = cabecalho.getLong();
+            long crcEsperado = cabecalho.getLong();
+
+            if (tamanho < 0 || tamanho > Integer.MAX_VALUE / Long.BYTES || quantidadeNomes < 0
+                    || quantidadeNomes > Integer.MAX_VALUE / Integer.BYTES - 1
+                    || tamanhoNomes < 0 || tamanhoNomes > Integer.MAX_VALUE)
+                throw invalido(arquivo, "cabeçalho inconsistente");
+            long esperado = TAMANHO_CABECALHO + 17L * tamanho + Integer.BYTES * (quantidadeNomes + 1L) + tamanhoNomes;
+            if (esperado != tamanhoArquivo)
+                throw invalido(arquivo, "tamanho esperado de " + esperado + " bytes, encontrado " + tamanhoArquivo);
+
+            CRC32C crc = new CRC32C();
+            long posicao = TAMANHO_CABECALHO;
+
+            ByteBuffer secao = mapear(canal, posicao, (long) tamanho * Long.BYTES);
+            crc.update(secao.duplicate());
+            long[] salarios = new long[tamanho];
+            secao.asLongBuffer().get(salarios);
+            posicao += secao.capacity();
+
+            secao = mapear(canal, posicao, (long) tamanho * Integer.BYTES);
+            crc.update(secao.duplicate());
+            int[] nascimentos = new int[tamanho];
+            secao.asIntBuffer().get(nascimentos);
+            posicao += secao.capacity();
+
+            secao = mapear(canal, posicao, (long) tamanho * Integer.BYTES);
+            crc.update(secao.duplicate());
+            int[] nomes = new int[tamanho];
+            secao.asIntBuffer().get(nomes);
+            posicao += secao.capacity();
+
+            secao = mapear(canal, posicao, tamanho);
+            crc.update(secao.duplicate());
+            byte[] funcoes = new byte[tamanho];
+            secao.get(funcoes);
+            posicao += secao.capacity();
+
+            ByteBuffer inicios = mapear(canal, posicao, Integer.BYTES * (quantidadeNomes + 1L));
+            crc.update(inicios.duplicate());
+            posicao += inicios.capacity();
+
+            ByteBuffer bytesNomes = mapear(canal, posicao, tamanhoNomes);
+            crc.update(bytesNomes.duplicate());
+
+            if (crc.getValue() != crcEsperado) throw invalido(arquivo, "CRC32C não confere");
+
+            for (int i = 0; i < tamanho; i++) {
+                if (nomes[i] < 0 || nomes[i] >= quantidadeNomes) throw invalido(arquivo, "índice de nome inválido na posição " + i);
+                if (funcoes[i] < 0 || funcoes[i] >= QUANTIDADE_FUNCOES) throw invalido(arquivo, "função inválida na posição " + i);
+            }
+            TabelaNomes tabela = new TabelaNomes(inicios.asIntBuffer(), bytesNomes);
+            tabela.validar(arquivo);
+
+            return new FuncionarioColunarStore(tamanho, salarios, nascimentos, funcoes, nomes, tabela);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler o snapshot " + arquivo, e);
+        }
+    }
+
+    /**
+     * Calcula o tamanho do nome em UTF-8 sem codificá-lo, como {@link String#getBytes}: surrogates
+     * sem par contam como o caractere de substituição {@code '?'}.
+     */
+    static int tamanhoUtf8(String texto) {
+        int bytes = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) bytes++;
+            else if (c < 0x800) bytes += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < texto.length() && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) bytes++;
+            else bytes += 3;
+        }
+        return bytes;
+    }
+
+    private static ByteBuffer mapear(FileChannel canal, long posicao, long tamanho) throws IOException {
+        MappedByteBuffer mapeado = canal.map(FileChannel.MapMode.READ_ONLY, posicao, tamanho);
+        return mapeado.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ArquivoFuncionariosInvalidoException invalido(Path arquivo, String motivo) {
+        return new ArquivoFuncionariosInvalidoException("Snapshot inválido " + arquivo + ": " + motivo);
+    }
+
+    /**
+     * Tabela de nomes mapeada de um snapshot; cada nome é decodificado apenas quando solicitado.
+     */
+    static final class TabelaNomes {
+
+        private final IntBuffer inicios;
+        private final ByteBuffer bytes;
+
+        private TabelaNomes(IntBuffer inicios, ByteBuffer bytes) {
+            this.inicios = inicios;
+            this.bytes = bytes;
+        }
+
+        int quantidade() {
+            return inicios.capacity() - 1;
+        }
+
+        String nome(int id) {
+            int inicio = inicios.get(id);
+            byte[] codificado = new byte[inicios.get(id + 1) - inicio];
+            bytes.get(inicio, codificado);
+            return new String(codificado, StandardCharsets.UTF_8);
+        }
+
+        private void validar(Path arquivo) {
+            int anterior = 0;
+            if (inicios.get(0) != 0) throw invalido(arquivo, "tabela de nomes inconsistente");
+            for (int i = 1; i < inicios.capacity(); i++) {
+                int inicio = inicios.get(i);
+                if (inicio < anterior) throw invalido(arquivo, "tabela de nomes inconsistente");
+                anterior = inicio;
+            }
+            if (anterior != bytes.capacity()) throw invalido(arquivo, "tabela de nomes inconsistente");
+        }
+    }
+
+    /**
+     * Escrita em blocos por um buffer direto, acumulando o CRC32C de tudo o que é escrito.
+     */
+    private static final class Escrita {
+
+        private final FileChannel canal;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER_ESCRITA).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private long posicao = TAMANHO_CABECALHO;
+
+        Escrita(FileChannel canal) {
+            this.canal = canal;
+        }
+
+        ByteBuffer reservar(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) descarregar();
+            return buffer;
+        }
+
+        void escrever(byte[] dados, int inicio, int quantidade) throws IOException {
+            int escritos = 0;
+            while (escritos < quantidade) {
+                if (!buffer.hasRemaining()) descarregar();
+                int parte = Math.min(buffer.remaining(), quantidade - escritos);
+                buffer.put(dados, inicio + escritos, parte);
+                escritos += parte;
+            }
+        }
+
+        void escrever(long[] dados, int quantidade) throws IOException {
+            int escritos = 0;
+            while (escritos < quantidade) {
+                if (buffer.remaining() < Long.BYTES) descarregar();
+                int parte = Math.min(buffer.remaining() / Long.BYTES, quantidade - escritos);
+                buffer.asLongBuffer().put(dados, escritos, parte);
+                buffer.position(buffer.position() + parte * Long.BYTES);
+                escritos += parte;
+            }
+        }
+
+        void escrever(int[] dados, int quantidade) throws IOException {
+            int escritos = 0;
+            while (escritos < quantidade) {
+                if (buffer.remaining() < Integer.BYTES) descarregar();
+                int parte = Math.min(buffer.remaining() / Integer.BYTES, quantidade - escritos);
+                buffer.asIntBuffer().put(dados, escritos, parte);
+                buffer.position(buffer.position() + parte * Integer.BYTES);
+                escritos += parte;
+            }
+        }
+
+        long finalizar() throws IOException {
+            descarregar();
+            return crc.getValue();
+        }
+
+        private void descarregar() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) posicao += canal.write(buffer, posicao);
+            buffer.clear();
+        }
+    }
+}
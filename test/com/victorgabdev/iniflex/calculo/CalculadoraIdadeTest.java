@@ -0,0 +1,57 @@
+package com.victorgabdev.iniflex.calculo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara as idades da {@link CalculadoraIdade} com {@code Period.between(nascimento, referencia).getYears()}.
+ */
+class CalculadoraIdadeTest {
+
+    @Test
+    void idadeEquivaleAPeriodEmTornoDaReferencia() {
+        // Todos os nascimentos de três anos antes a três anos depois, para referências que incluem 29 de fevereiro.
+        for (LocalDate referencia = LocalDate.of(1999, 12, 1); referencia.isBefore(LocalDate.of(2005, 3, 5));
+             referencia = referencia.plusDays(7)) {
+            CalculadoraIdade calculadora = CalculadoraIdade.em(referencia);
+            for (long dia = referencia.toEpochDay() - 3 * 366; dia <= referencia.toEpochDay() + 3 * 366; dia++) {
+                assertIdade(calculadora, LocalDate.ofEpochDay(dia));
+            }
+        }
+    }
+
+    @Test
+    void idadeEquivaleAPeriodEmDatasSorteadas() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 500_000; i++) {
+            CalculadoraIdade calculadora = CalculadoraIdade.em(LocalDate.ofEpochDay(random.nextInt(-100_000, 100_000)));
+            LocalDate nascimento = LocalDate.ofEpochDay(random.nextInt(-100_000, 100_000));
+            int esperada = assertIdade(calculadora, nascimento);
+
+            int anos = random.nextInt(1, 121);
+            assertEquals(esperada >= anos, calculadora.temIdadeMinima(nascimento, anos),
+                    nascimento + " em " + calculadora.getReferencia() + ", mínimo " + anos);
+        }
+    }
+
+    @Test
+    void limiteNascimentoEIdadeMinimaInvalida() {
+        CalculadoraIdade calculadora = CalculadoraIdade.em(LocalDate.of(2024, 2, 29));
+        assertEquals(LocalDate.of(2023, 2, 28), calculadora.limiteNascimento(1));
+        assertThrows(IllegalArgumentException.class, () -> calculadora.limiteNascimento(0));
+    }
+
+    private static int assertIdade(CalculadoraIdade calculadora, LocalDate nascimento) {
+        int esperada = Period.between(nascimento, calculadora.getReferencia()).getYears();
+        String mensagem = nascimento + " em " + calculadora.getReferencia();
+        assertEquals(esperada, calculadora.idade(nascimento), mensagem);
+        assertEquals(esperada, calculadora.idade(Math.toIntExact(nascimento.toEpochDay())), mensagem);
+        return esperada;
+    }
+}
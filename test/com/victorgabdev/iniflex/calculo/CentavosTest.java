@@ -0,0 +1,64 @@
+package com.victorgabdev.iniflex.calculo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara as operações de {@link Centavos} com as equivalentes em {@link BigDecimal}, para valores sorteados.
+ */
+class CentavosTest {
+
+    private static final int CASOS = 200_000;
+
+    @Test
+    void razaoEquivaleADivisaoDeBigDecimal() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < CASOS; i++) {
+            long valor = Sorteio.centavos(random);
+            long divisor = random.nextBoolean() ? 121200 : random.nextLong(1, 10_000_000);
+            if (random.nextInt(10) == 0) divisor = -divisor;
+
+            BigDecimal esperado = Centavos.paraBigDecimal(valor)
+                    .divide(Centavos.paraBigDecimal(divisor), 2, RoundingMode.HALF_UP);
+            if (esperado.unscaledValue().bitLength() < 64) {
+                assertEquals(esperado.unscaledValue().longValue(), Centavos.razao(valor, divisor),
+                        valor + " / " + divisor);
+            } else {
+                long valorFinal = valor, divisorFinal = divisor;
+                assertThrows(ArithmeticException.class, () -> Centavos.razao(valorFinal, divisorFinal));
+            }
+        }
+    }
+
+    @Test
+    void dividirArredondandoEquivaleAHalfUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < CASOS; i++) {
+            long dividendo = random.nextInt(50) == 0 ? Long.MIN_VALUE : Sorteio.centavos(random);
+            long divisor = random.nextInt(50) == 0 ? Long.MIN_VALUE : random.nextLong();
+            if (divisor == 0) continue;
+
+            BigDecimal esperado = new BigDecimal(dividendo).divide(new BigDecimal(divisor), 0, RoundingMode.HALF_UP);
+            assertEquals(esperado.longValueExact(), Centavos.dividirArredondando(dividendo, divisor),
+                    dividendo + " / " + divisor);
+        }
+    }
+
+    @Test
+    void conversaoParaBigDecimalPreservaOsCentavos() {
+        SplittableRandom random = new SplittableRandom(13);
+        for (int i = 0; i < CASOS; i++) {
+            long valor = Sorteio.centavos(random);
+            assertEquals(valor, Centavos.de(Centavos.paraBigDecimal(valor)));
+        }
+        assertEquals(150, Centavos.de(new BigDecimal("1.5")));
+        assertThrows(ArithmeticException.class, () -> Centavos.de(new BigDecimal("1.005")));
+        assertThrows(ArithmeticException.class, () -> Centavos.razao(1, 0));
+    }
+}
@@ -0,0 +1,111 @@
+package com.victorgabdev.iniflex.calculo;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara a ordem das chaves de {@link ChaveOrdenacaoNome} com a do {@link Collator} de {@code pt-BR}, e o
+ * radix sort com uma ordenação estável por comparação das mesmas chaves.
+ */
+class ChaveOrdenacaoNomeTest {
+
+    private static final Collator COLLATOR = Collator.getInstance(new Locale("pt", "BR"));
+
+    /** Letras do português, pontuação comum em nomes e alguns caracteres fora da tabela de pesos. */
+    private static final String ALFABETO = "aáàâãbcçdeéêfghiíjklmnoóôõpqrstuúüvwxyzAÁÂÃBCÇDEÉÊFGHIÍJKLMNOÓÔÕPQRSTUÚVWXYZ"
+            + " -'.0123456789ñÑßæœ́·中Ωа";
+
+    @Test
+    void chavesComparamComoOCollator() {
+        SplittableRandom random = new SplittableRandom(1);
+        String anterior = sortearNome(random);
+        byte[] chaveAnterior = ChaveOrdenacaoNome.de(anterior);
+        for (int i = 0; i < 200_000; i++) {
+            String nome = random.nextInt(10) == 0 ? variarCaixa(anterior, random) : sortearNome(random);
+            byte[] chave = ChaveOrdenacaoNome.de(nome);
+            assertEquals(Integer.signum(COLLATOR.compare(anterior, nome)),
+                    Integer.signum(ChaveOrdenacaoNome.comparar(chaveAnterior, chave)), anterior + " x " + nome);
+            anterior = nome;
+            chaveAnterior = chave;
+        }
+    }
+
+    @Test
+    void paresDeCaracteresDaTabelaComparamComoOCollationKey() {
+        // Todos os pares de caracteres com pesos na tabela, ordenados pelas chaves: vizinhos devem estar na ordem do
+        // CollationKey. O compare do Collator diverge do próprio CollationKey em alguns pares com caracteres de
+        // controle ignoráveis (U+007F, U+009F, U+00AD) ao lado de espaços e hifens.
+        int quantidade = 0x250 - 0x20;
+        String[] nomes = new String[quantidade * quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            for (int j = 0; j < quantidade; j++) nomes[i * quantidade + j] = "" + (char) (0x20 + i) + (char) (0x20 + j);
+        }
+        byte[][] chaves = chaves(nomes);
+        ChaveOrdenacaoNome.ordenar(nomes, chaves);
+
+        for (int i = 1; i < nomes.length; i++) {
+            assertEquals(Integer.signum(COLLATOR.getCollationKey(nomes[i - 1]).compareTo(COLLATOR.getCollationKey(nomes[i]))),
+                    Integer.signum(ChaveOrdenacaoNome.comparar(chaves[i - 1], chaves[i])), nomes[i - 1] + " x " + nomes[i]);
+        }
+    }
+
+    @Test
+    void ordenarEquivaleAOrdenacaoEstavelPelasChaves() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (int rodada = 0; rodada < 50; rodada++) {
+            String[] nomes = new String[random.nextInt(0, 5_000)];
+            // Poucos nomes distintos, para haver muitas chaves iguais e prefixos em comum.
+            String[] distintos = new String[random.nextInt(1, 200)];
+            for (int i = 0; i < distintos.length; i++) distintos[i] = sortearNome(random);
+            for (int i = 0; i < nomes.length; i++) nomes[i] = new String(distintos[random.nextInt(distintos.length)]);
+
+            byte[][] chaves = chaves(nomes);
+            Integer[] esperado = new Integer[nomes.length];
+            for (int i = 0; i < esperado.length; i++) esperado[i] = i;
+            Arrays.sort(esperado, Comparator.comparing((Integer i) -> chaves[i], ChaveOrdenacaoNome::comparar));
+
+            Integer[] ordenados = esperado.clone();
+            Arrays.sort(ordenados);
+            ChaveOrdenacaoNome.ordenar(ordenados, chaves.clone());
+            assertArrayEquals(esperado, ordenados);
+        }
+    }
+
+    @Test
+    void quantidadesDiferentesSaoRejeitadas() {
+        assertThrows(IllegalArgumentException.class, () -> ChaveOrdenacaoNome.ordenar(new String[2], new byte[1][]));
+    }
+
+    private static byte[][] chaves(String[] nomes) {
+        byte[][] chaves = new byte[nomes.length][];
+        for (int i = 0; i < nomes.length; i++) chaves[i] = ChaveOrdenacaoNome.de(nomes[i]);
+        return chaves;
+    }
+
+    private static String sortearNome(SplittableRandom random) {
+        int tamanho = random.nextInt(1, 13);
+        StringBuilder nome = new StringBuilder(tamanho);
+        for (int i = 0; i < tamanho; i++) nome.append(ALFABETO.charAt(random.nextInt(ALFABETO.length())));
+        return nome.toString();
+    }
+
+    /** Mesmo nome com caixa trocada em algumas letras, para exercitar o desempate de terceiro nível. */
+    private static String variarCaixa(String nome, SplittableRandom random) {
+        StringBuilder variado = new StringBuilder(nome.length());
+        for (int i = 0; i < nome.length(); i++) {
+            char c = nome.charAt(i);
+            if (random.nextBoolean()) c = Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c);
+            variado.append(c);
+        }
+        return variado.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.victorgabdev.iniflex.calculo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara a razão calculada pelo recíproco de {@link DivisorCentavos} com a divisão de {@link BigDecimal}.
+ */
+class DivisorCentavosTest {
+
+    @Test
+    void razaoEquivaleADivisaoDeBigDecimal() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int i = 0; i < 2_000; i++) {
+            long divisorCentavos = sortearDivisor(random);
+            DivisorCentavos divisor = DivisorCentavos.de(divisorCentavos);
+            for (int j = 0; j < 100; j++) {
+                long valor = Sorteio.centavos(random);
+                BigDecimal esperado = Centavos.paraBigDecimal(valor)
+                        .divide(Centavos.paraBigDecimal(divisorCentavos), 2, RoundingMode.HALF_UP);
+                if (esperado.unscaledValue().bitLength() < 64) {
+                    assertEquals(esperado.unscaledValue().longValue(), divisor.razao(valor),
+                            valor + " / " + divisorCentavos);
+                }
+            }
+        }
+    }
+
+    @Test
+    void razoesEmLoteEquivalemARazaoDeCadaValor() {
+        SplittableRandom random = new SplittableRandom(19);
+        DivisorCentavos divisor = DivisorCentavos.de(121200);
+        long[] valores = new long[10_000];
+        for (int i = 0; i < valores.length; i++) valores[i] = random.nextLong(-10_000_000_000L, 10_000_000_000L);
+
+        long[] esperadas = new long[valores.length];
+        for (int i = 0; i < valores.length; i++) esperadas[i] = Centavos.razao(valores[i], 121200);
+        assertArrayEquals(esperadas, divisor.razoes(valores));
+    }
+
+    @Test
+    void divisorInvalidoELancado() {
+        assertThrows(IllegalArgumentException.class, () -> DivisorCentavos.de(0));
+        assertThrows(IllegalArgumentException.class, () -> DivisorCentavos.de(-1));
+        assertThrows(IllegalArgumentException.class, () -> DivisorCentavos.de((1L << 60) + 1));
+    }
+
+    private static long sortearDivisor(SplittableRandom random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return random.nextLong(1, 1_000);
+            case 1:
+                return random.nextLong(1, 10_000_000);
+            default:
+                return random.nextLong(1, (1L << 60) + 1);
+        }
+    }
+}
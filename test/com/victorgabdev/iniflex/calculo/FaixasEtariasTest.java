@@ -0,0 +1,79 @@
+package com.victorgabdev.iniflex.calculo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara a tabela de {@link FaixasEtarias} com as faixas obtidas das idades de {@link Period#between}.
+ */
+class FaixasEtariasTest {
+
+    private static final LocalDate[] REFERENCIAS = {
+            LocalDate.of(2024, 2, 29), LocalDate.of(2023, 2, 28), LocalDate.of(2023, 3, 1), LocalDate.of(2026, 10, 18)
+    };
+
+    @Test
+    void faixasEquivalemAsIdadesDePeriod() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (LocalDate referencia : REFERENCIAS) {
+            for (int rodada = 0; rodada < 20; rodada++) {
+                int[] limites = sortearLimites(random);
+                FaixasEtarias faixas = FaixasEtarias.de(CalculadoraIdade.em(referencia), limites);
+
+                int[] dias = new int[10_000];
+                int[] esperado = new int[limites.length + 1];
+                for (int i = 0; i < dias.length; i++) {
+                    dias[i] = (int) referencia.toEpochDay() - random.nextInt(-400, 160 * 366);
+                    int idade = Period.between(LocalDate.ofEpochDay(dias[i]), referencia).getYears();
+                    int faixa = 0;
+                    while (faixa < limites.length && idade >= limites[faixa]) faixa++;
+                    esperado[faixa]++;
+
+                    assertEquals(faixa, faixas.faixa(dias[i]), LocalDate.ofEpochDay(dias[i]) + " em " + referencia);
+                    assertEquals(faixa, faixas.faixa(LocalDate.ofEpochDay(dias[i])));
+                }
+                assertArrayEquals(esperado, faixas.contar(dias, 0, dias.length));
+            }
+        }
+    }
+
+    @Test
+    void datasExtremasFicamNasFaixasDasPontas() {
+        FaixasEtarias faixas = FaixasEtarias.de(CalculadoraIdade.em(LocalDate.of(2000, 1, 1)), 10, 20);
+        assertEquals(2, faixas.faixa(Integer.MIN_VALUE));
+        assertEquals(0, faixas.faixa(Integer.MAX_VALUE));
+        assertEquals(2, faixas.faixa(LocalDate.MIN));
+        assertEquals(0, faixas.faixa(LocalDate.MAX));
+        assertEquals("até 9", faixas.descricao(0));
+        assertEquals("10 a 19", faixas.descricao(1));
+        assertEquals("20 ou mais", faixas.descricao(2));
+    }
+
+    @Test
+    void limitesInvalidosSaoRejeitados() {
+        CalculadoraIdade calculadora = CalculadoraIdade.em(LocalDate.of(2000, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> FaixasEtarias.de(calculadora));
+        assertThrows(IllegalArgumentException.class, () -> FaixasEtarias.de(calculadora, 30, 18));
+        assertThrows(IllegalArgumentException.class, () -> FaixasEtarias.de(calculadora, 18, 18));
+        assertThrows(IllegalArgumentException.class, () -> FaixasEtarias.de(calculadora, 0));
+        assertThrows(IllegalArgumentException.class, () -> FaixasEtarias.de(calculadora, 151));
+    }
+
+    /** De um a cinco limites crescentes entre 1 e 150 anos. */
+    private static int[] sortearLimites(SplittableRandom random) {
+        int[] limites = new int[random.nextInt(1, 6)];
+        int anterior = 0;
+        for (int i = 0; i < limites.length; i++) {
+            anterior = random.nextInt(anterior + 1, 150 - (limites.length - 1 - i) + 1);
+            limites[i] = anterior;
+        }
+        return limites;
+    }
+}
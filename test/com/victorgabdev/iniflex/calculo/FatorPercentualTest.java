@@ -0,0 +1,49 @@
+package com.victorgabdev.iniflex.calculo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara {@link FatorPercentual#aplicar(long)} com o aumento calculado em {@link BigDecimal}.
+ */
+class FatorPercentualTest {
+
+    private static final double[] PERCENTUAIS = {
+            10, 0.1, 10.5, -3.33, 1e-5, 33.333333, 150, -100, 0, 7.77777777777, 1e20, 2.5e-12, -0.5
+    };
+
+    @Test
+    void aplicarEquivaleAoAumentoComBigDecimal() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            double percentual = i % 3 == 0
+                    ? PERCENTUAIS[random.nextInt(PERCENTUAIS.length)]
+                    : (random.nextDouble() * 200 - 100) * Math.pow(10, -random.nextInt(8));
+            long centavos = Sorteio.centavos(random);
+
+            BigDecimal salario = Centavos.paraBigDecimal(centavos);
+            BigDecimal fator = BigDecimal.valueOf(percentual).divide(BigDecimal.valueOf(100));
+            BigDecimal esperado = salario.add(salario.multiply(fator)).setScale(2, RoundingMode.HALF_UP);
+
+            FatorPercentual fatorPercentual = FatorPercentual.de(percentual);
+            if (esperado.unscaledValue().bitLength() < 64) {
+                assertEquals(esperado.unscaledValue().longValue(), fatorPercentual.aplicar(centavos),
+                        centavos + " + " + percentual + "%");
+            } else {
+                assertThrows(ArithmeticException.class, () -> fatorPercentual.aplicar(centavos));
+            }
+        }
+    }
+
+    @Test
+    void percentualInvalidoELancado() {
+        assertThrows(NumberFormatException.class, () -> FatorPercentual.de(Double.NaN));
+        assertThrows(NumberFormatException.class, () -> FatorPercentual.de(Double.POSITIVE_INFINITY));
+    }
+}
@@ -0,0 +1,25 @@
+package com.victorgabdev.iniflex.calculo;
+
+import java.util.SplittableRandom;
+
+/**
+ * Valores sorteados para os testes de cálculo, misturando salários comuns com valores perto dos limites do {@code long}.
+ */
+final class Sorteio {
+
+    private Sorteio() {
+    }
+
+    static long centavos(SplittableRandom random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return random.nextLong(-1_000_000, 1_000_000);
+            case 1:
+                return random.nextLong();
+            case 2:
+                return random.nextLong(Long.MAX_VALUE / 1000);
+            default:
+                return random.nextLong(0, 100_000_000_000L);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.victorgabdev.iniflex.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara os percentis do {@link HistogramaLatencia} com os percentis exatos de latências sorteadas.
+ */
+class HistogramaLatenciaTest {
+
+    private static final double[] PERCENTIS = {0, 1, 10, 50, 90, 99, 99.9, 99.99, 100};
+
+    @Test
+    void percentilFicaNoBucketDoValorExato() {
+        for (int semente = 0; semente < 20; semente++) {
+            SplittableRandom random = new SplittableRandom(semente);
+            HistogramaLatencia histograma = new HistogramaLatencia();
+            long[] valores = new long[random.nextInt(1, 50_000)];
+            for (int i = 0; i < valores.length; i++) {
+                valores[i] = (long) Math.exp(random.nextDouble() * 25);
+                histograma.registrar(valores[i]);
+            }
+            Arrays.sort(valores);
+            long maximo = valores[valores.length - 1];
+
+            for (double percentil : PERCENTIS) {
+                long posicao = Math.max(1, (long) Math.ceil(percentil / 100 * valores.length));
+                long exato = valores[(int) posicao - 1];
+                long estimado = histograma.percentil(percentil);
+
+                assertEquals(Math.min(HistogramaLatencia.limiteSuperior(HistogramaLatencia.indice(exato)), maximo), estimado,
+                        "p" + percentil);
+                assertTrue(estimado >= exato && estimado <= exato + exato / 32, "p" + percentil + ": " + exato + " ~ " + estimado);
+            }
+            assertEquals(valores.length, histograma.getQuantidade());
+            assertEquals(maximo, histograma.getMaximo());
+            assertEquals(Arrays.stream(valores).sum() / (double) valores.length, histograma.getMedia(), 1e-6);
+        }
+    }
+
+    @Test
+    void bucketsCobremTodosOsValoresSemSobreposicao() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 1_000_000; i++) {
+            long valor = i < 4096 ? i : random.nextLong(1L << random.nextInt(1, 43));
+            int indice = HistogramaLatencia.indice(valor);
+            assertTrue(HistogramaLatencia.limiteSuperior(indice) >= valor, "valor " + valor);
+            if (indice > 0) assertTrue(HistogramaLatencia.limiteSuperior(indice - 1) < valor, "valor " + valor);
+        }
+    }
+
+    @Test
+    void registrosConcorrentesSaoTodosContados() throws InterruptedException {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) histograma.registrar(i % 5000);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(400_000, histograma.getQuantidade());
+        assertEquals(4999, histograma.percentil(100));
+    }
+
+    @Test
+    void casosDeBorda() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        assertEquals(0, histograma.percentil(50));
+
+        histograma.registrar(-10);
+        assertEquals(0, histograma.percentil(100));
+        assertEquals(1, histograma.getQuantidade());
+
+        histograma.registrar(1000);
+        histograma.zerar();
+        assertEquals(0, histograma.getQuantidade());
+        assertEquals(0, histograma.getMaximo());
+        assertEquals(0, histograma.percentil(99));
+
+        assertThrows(IllegalArgumentException.class, () -> histograma.percentil(-1));
+        assertThrows(IllegalArgumentException.class, () -> histograma.percentil(100.1));
+        assertThrows(IllegalArgumentException.class, () -> histograma.percentil(Double.NaN));
+    }
+}
@@ -0,0 +1,79 @@
+package com.victorgabdev.iniflex.relatorio;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara o texto do {@link EscritorRelatorio} com {@link Funcionario#toString()}, {@code NumberFormat} pt-BR,
+ * {@code BigDecimal#toString()} e {@code DateTimeFormatter}, em valores sorteados que incluem negativos, valores
+ * grandes e os limites do {@code long}.
+ */
+class EscritorRelatorioTest {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Test
+    void textoEquivaleAosFormatosDoJdk() {
+        NumberFormat formato = NumberFormat.getInstance(new Locale("pt", "BR"));
+        SplittableRandom random = new SplittableRandom(9);
+        StringBuilder esperado = new StringBuilder();
+        StringBuilder obtido = new StringBuilder();
+        EscritorRelatorio escritor = new EscritorRelatorio(obtido);
+
+        for (int i = 0; i < 200_000; i++) {
+            long centavos = i == 0 ? Long.MIN_VALUE : i == 1 ? Long.MAX_VALUE : centavos(random);
+            esperado.append(formato.format(BigDecimal.valueOf(centavos, 2))).append('|')
+                    .append(BigDecimal.valueOf(centavos, 2)).append('|').append(centavos).append('\n');
+            escritor.escreverMoeda(centavos).escrever('|').escreverDecimal(centavos).escrever('|')
+                    .escreverInteiro(centavos).escrever('\n');
+
+            // Inclui anos fora de 1 a 9999, que usam o DateTimeFormatter.
+            LocalDate data = LocalDate.ofEpochDay(random.nextLong(-800_000, 3_000_000));
+            esperado.append(data.format(FORMATO_DATA)).append('\n');
+            escritor.escreverData(data).escrever('\n');
+
+            Funcionario funcionario = new Funcionario("Zé 🎉 " + i, data,
+                    BigDecimal.valueOf(centavos(random) / 1000, 2), FUNCOES[random.nextInt(FUNCOES.length)]);
+            esperado.append(funcionario).append('\n');
+            escritor.escreverFuncionario(funcionario).escrever('\n');
+        }
+        escritor.flush();
+        assertEquals(esperado.toString(), obtido.toString());
+
+        // O mesmo texto por um canal, em vários buffers cheios e com caracteres de dois chars.
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EscritorRelatorio canal = new EscritorRelatorio(Channels.newChannel(bytes), StandardCharsets.UTF_8)) {
+            canal.escrever(esperado);
+        }
+        assertArrayEquals(esperado.toString().getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+    }
+
+    private static long centavos(SplittableRandom random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return random.nextLong(-100_000, 100_000);
+            case 1:
+                return random.nextLong();
+            case 2:
+                return random.nextLong(-10_000_000_000L, 10_000_000_000L);
+            default:
+                // Centavos redondos, que o NumberFormat escreve sem zeros à direita.
+                return random.nextLong(-1_000, 1_000) * 10;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.victorgabdev.iniflex.repositoty;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara os funcionários lidos pelo {@link LeitorCsvFuncionarios} com os gravados no arquivo, com BOM,
+ * fins de linha CRLF, cabeçalho, campos com espaços e linhas que atravessam o limite das janelas mapeadas.
+ */
+class LeitorCsvFuncionariosTest {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final String[] NOMES = {"Maria", "João", "Heloísa Araújo", "Caio", "Ana Lúcia d'Ávila"};
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void bomCrlfCabecalhoECamposComEspacos() throws IOException {
+        Path arquivo = gravar("\uFEFF nome ; data_nascimento ; salario ; funcao \r\n"
+                + "  Maria ; 18/10/2000 ; 2009.44 ; Operador \r\n"
+                + "\r\n"
+                + "João;12/05/1990;2284,38;GERENTE\r\n"
+                + "Caio;02/05/1961; -9836.14 ;coordenador");
+
+        assertEquals(List.of(
+                        descricao("Maria", LocalDate.of(2000, 10, 18), "2009.44", FuncaoFuncionario.OPERADOR),
+                        descricao("João", LocalDate.of(1990, 5, 12), "2284.38", FuncaoFuncionario.GERENTE),
+                        descricao("Caio", LocalDate.of(1961, 5, 2), "-9836.14", FuncaoFuncionario.COORDENADOR)),
+                ler(arquivo, LeitorCsvFuncionarios.TAMANHO_JANELA));
+    }
+
+    @Test
+    void primeiraLinhaComDataComEspacosNaoEhCabecalho() throws IOException {
+        Path arquivo = gravar("Maria; 18/10/2000; 2009.44; Operador\nJoão;12/05/1990; 2284.38;Gerente\n");
+
+        assertEquals(List.of(
+                        descricao("Maria", LocalDate.of(2000, 10, 18), "2009.44", FuncaoFuncionario.OPERADOR),
+                        descricao("João", LocalDate.of(1990, 5, 12), "2284.38", FuncaoFuncionario.GERENTE)),
+                ler(arquivo, LeitorCsvFuncionarios.TAMANHO_JANELA));
+    }
+
+    @Test
+    void linhasQueAtravessamJanelasSaoLidasInteiras() throws IOException {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int rodada = 0; rodada < 200; rodada++) {
+            StringBuilder conteudo = new StringBuilder();
+            if (random.nextBoolean()) conteudo.append('\uFEFF');
+            if (random.nextBoolean()) conteudo.append("nome;data;salario;funcao").append(fimDeLinha(random));
+
+            List<String> esperados = new ArrayList<>();
+            int quantidade = random.nextInt(0, 60);
+            for (int i = 0; i < quantidade; i++) {
+                if (random.nextInt(8) == 0) conteudo.append(fimDeLinha(random));
+                String nome = NOMES[random.nextInt(NOMES.length)];
+                LocalDate nascimento = LocalDate.ofEpochDay(random.nextInt(-20_000, 20_000));
+                BigDecimal salario = BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 1_000_000_000L), 2);
+                FuncaoFuncionario funcao = FUNCOES[random.nextInt(FUNCOES.length)];
+
+                conteudo.append(espacos(random)).append(nome).append(espacos(random)).append(';')
+                        .append(espacos(random)).append(String.format("%02d/%02d/%04d", nascimento.getDayOfMonth(),
+                                nascimento.getMonthValue(), nascimento.getYear())).append(espacos(random)).append(';')
+                        .append(espacos(random)).append(random.nextBoolean()
+                                ? salario.toPlainString() : salario.toPlainString().replace('.', ','))
+                        .append(espacos(random)).append(';')
+                        .append(espacos(random)).append(random.nextBoolean() ? funcao.name() : funcao.getDescricao())
+                        .append(espacos(random));
+                if (i < quantidade - 1 || random.nextBoolean()) conteudo.append(fimDeLinha(random));
+                esperados.add(descricao(nome, nascimento, salario.toPlainString(), funcao));
+            }
+
+            Path arquivo = gravar(conteudo.toString());
+            // Janelas de pelo menos 128 bytes comportam qualquer linha sorteada.
+            int tamanhoJanela = random.nextInt(128, 512);
+            assertEquals(esperados, ler(arquivo, tamanhoJanela), "rodada " + rodada + ", janela " + tamanhoJanela);
+        }
+    }
+
+    @Test
+    void linhaMaiorQueAJanelaELinhaInvalidaSaoRejeitadas() throws IOException {
+        Path longa = gravar("Maria;18/10/2000;2009.44;Operador\n" + "M".repeat(100) + ";18/10/2000;2009.44;Operador\n");
+        ArquivoFuncionariosInvalidoException excecao = assertThrows(ArquivoFuncionariosInvalidoException.class,
+                () -> ler(longa, 64));
+        assertTrue(excecao.getMessage().contains("linha maior que 64 bytes"), excecao.getMessage());
+
+        Path invalida = gravar("Maria;18/10/2000;2009.44;Operador\r\nJoão;12/05/1990;22 84.38;Gerente\r\n");
+        excecao = assertThrows(ArquivoFuncionariosInvalidoException.class,
+                () -> ler(invalida, LeitorCsvFuncionarios.TAMANHO_JANELA));
+        assertTrue(excecao.getMessage().contains("linha 2: salário inválido"), excecao.getMessage());
+    }
+
+    private Path gravar(String conteudo) throws IOException {
+        Path arquivo = Files.createTempFile(diretorio, "funcionarios", ".csv");
+        Files.write(arquivo, conteudo.getBytes(StandardCharsets.UTF_8));
+        return arquivo;
+    }
+
+    private static List<String> ler(Path arquivo, int tamanhoJanela) {
+        List<String> lidos = new ArrayList<>();
+        try (LeitorCsvFuncionarios leitor = new LeitorCsvFuncionarios(arquivo, tamanhoJanela)) {
+            while (leitor.hasNext()) {
+                Funcionario funcionario = leitor.next();
+                lidos.add(descricao(funcionario.getNome(), funcionario.getDataNascimento(),
+                        funcionario.getSalario().toPlainString(), funcionario.getFuncao()));
+            }
+        }
+        return lidos;
+    }
+
+    private static String descricao(String nome, LocalDate nascimento, String salario, FuncaoFuncionario funcao) {
+        return nome + ";" + nascimento + ";" + new BigDecimal(salario).setScale(2).toPlainString() + ";" + funcao;
+    }
+
+    private static String espacos(SplittableRandom random) {
+        return random.nextInt(3) == 0 ? " ".repeat(random.nextInt(1, 4)) : "";
+    }
+
+    private static String fimDeLinha(SplittableRandom random) {
+        return random.nextBoolean() ? "\r\n" : "\n";
+    }
+}
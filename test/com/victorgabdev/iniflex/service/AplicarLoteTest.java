@@ -0,0 +1,179 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara {@link FuncionarioService#aplicarLote(LoteMutacoes)} com as mesmas mutações aplicadas uma a uma, sobre
+ * lotes sorteados com homônimos, nomes inexistentes e trocas e aumentos repetidos na mesma função: estado, ordem
+ * dos grupos, contagens de cada mutação, relatórios e a reprodução do log.
+ */
+class AplicarLoteTest {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final String[] NOMES = {"Ana", "Ânia", "Bruno", "Caio", "Célia", "Davi", "Eva", "Zé", "Maria", "João"};
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void loteEquivaleAsMutacoesUmaAUma() {
+        SplittableRandom random = new SplittableRandom(22);
+        for (int rodada = 0; rodada < 60; rodada++) {
+            int quantidade = random.nextInt(1, 300);
+            long semente = random.nextLong();
+            IFuncionarioRepository origem = () -> gerar(semente, quantidade);
+            List<Funcionario> base = gerar(semente, quantidade);
+            Path dados = diretorio.resolve("rodada" + rodada);
+
+            StringBuilder saidaLote = new StringBuilder();
+            StringBuilder saidaUmaAUma = new StringBuilder();
+            FuncionarioService umaAUma = new FuncionarioService(origem);
+            umaAUma.setSaida(new EscritorRelatorio(saidaUmaAUma));
+            umaAUma.inserirFuncionarios();
+            umaAUma.agruparFuncionariosPorFuncao();
+
+            try (PersistenciaFuncionarios persistencia = new PersistenciaFuncionarios(dados)) {
+                FuncionarioService lote = persistencia.carregar(origem);
+                lote.setSaida(new EscritorRelatorio(saidaLote));
+                lote.agruparFuncionariosPorFuncao();
+                if (rodada % 3 == 0) lote.setModoParalelo(true);
+
+                for (int l = 0; l < 3; l++) {
+                    Map<Funcionario, String> antes = new IdentityHashMap<>();
+                    for (Funcionario funcionario : umaAUma.consultar().listar()) antes.put(funcionario, funcaoESalario(funcionario));
+
+                    LoteMutacoes mutacoes = new LoteMutacoes();
+                    List<Integer> afetados = new ArrayList<>();
+                    for (int i = random.nextInt(40); i > 0; i--) {
+                        String nome = random.nextInt(5) == 0 ? "Inexistente" : base.get(random.nextInt(quantidade)).getNome();
+                        if (random.nextBoolean()) nome = nome.toUpperCase(Locale.ROOT);
+                        FuncaoFuncionario funcao = FUNCOES[random.nextInt(FUNCOES.length)];
+                        switch (random.nextInt(3)) {
+                            case 0:
+                                mutacoes.remover(nome);
+                                afetados.add(umaAUma.buscarPorNome(nome).size());
+                                if (afetados.get(afetados.size() - 1) > 0) umaAUma.removerFuncionario(nome);
+                                break;
+                            case 1:
+                                mutacoes.alterarFuncao(nome, funcao);
+                                afetados.add(umaAUma.buscarPorNome(nome).size());
+                                if (afetados.get(afetados.size() - 1) > 0) umaAUma.alterarFuncao(nome, funcao);
+                                break;
+                            default:
+                                double percentual = random.nextInt(-10, 31) + (random.nextBoolean() ? 0.5 : 0);
+                                mutacoes.aplicarAumentoPercentual(funcao, percentual);
+                                afetados.add(aumentarUmaAUma(umaAUma, funcao, percentual));
+                                break;
+                        }
+                    }
+
+                    ResultadoLote resultado = lote.aplicarLote(mutacoes);
+                    String mensagem = "rodada " + rodada + ", lote " + l;
+                    List<Integer> obtidos = new ArrayList<>();
+                    for (ResultadoLote.ResultadoMutacao mutacao : resultado.getResultados()) obtidos.add(mutacao.getFuncionariosAfetados());
+                    assertEquals(afetados, obtidos, mensagem);
+
+                    int alterados = 0;
+                    List<Funcionario> restantes = umaAUma.consultar().listar();
+                    for (Funcionario funcionario : restantes) {
+                        if (!antes.get(funcionario).equals(funcaoESalario(funcionario))) alterados++;
+                    }
+                    assertEquals(antes.size() - restantes.size(), resultado.getFuncionariosRemovidos(), mensagem);
+                    assertEquals(alterados, resultado.getFuncionariosAlterados(), mensagem);
+
+                    assertEquals(estado(umaAUma), estado(lote), mensagem);
+                    imprimirRelatorios(umaAUma);
+                    imprimirRelatorios(lote);
+                    assertEquals(saidaUmaAUma.toString(), saidaLote.toString(), mensagem);
+                }
+            }
+
+            try (PersistenciaFuncionarios persistencia = new PersistenciaFuncionarios(dados)) {
+                FuncionarioService reproduzido = persistencia.carregar(origem);
+                // O agrupamento falha quando todos os funcionários foram removidos.
+                if (!umaAUma.consultar().listar().isEmpty()) reproduzido.agruparFuncionariosPorFuncao();
+                assertEquals(estado(umaAUma), estado(reproduzido), "reprodução da rodada " + rodada);
+            }
+        }
+    }
+
+    /** O aumento de uma função aplicado pelo serviço, mesmo que ela não tenha membros. */
+    private static int aumentarUmaAUma(FuncionarioService service, FuncaoFuncionario funcao, double percentual) {
+        int membros = service.buscarPorFuncao(funcao).size();
+        if (membros == 0) return 0;
+        assertEquals(membros, service.aplicarAumentoPercentual(funcao, percentual));
+        return membros;
+    }
+
+    /** Funcionários, membros de cada função na ordem do grupo, estatísticas e a versão atual. */
+    private static String estado(FuncionarioService service) {
+        StringBuilder estado = new StringBuilder();
+        for (Funcionario funcionario : service.consultar().listar()) {
+            estado.append(funcionario.getNome()).append('|').append(funcaoESalario(funcionario)).append('\n');
+        }
+        for (FuncaoFuncionario funcao : FUNCOES) {
+            estado.append(funcao).append(':');
+            for (Funcionario membro : service.buscarPorFuncao(funcao)) estado.append(' ').append(membro.getNome());
+            estado.append('\n');
+        }
+        try {
+            estado.append(service.obterEstatisticasPorFuncao()).append('\n');
+        } catch (NoSuchElementException e) {
+            estado.append("sem funcionários\n");
+        }
+        try (VersaoFuncionarios.Fixacao fixacao = service.fixarVersao()) {
+            VersaoFuncionarios versao = fixacao.getVersao();
+            estado.append(versao.tamanho()).append(' ').append(versao.getTotalSalariosCentavos()).append('\n');
+            for (Funcionario funcionario : versao.funcionarios()) {
+                estado.append(funcionario.getNome()).append('|').append(funcaoESalario(funcionario)).append('\n');
+            }
+        }
+        return estado.toString();
+    }
+
+    private static void imprimirRelatorios(FuncionarioService service) {
+        try {
+            service.imprimirTodosFuncionarios();
+            service.imprimirFuncionariosAgrupados();
+            service.imprimirEstatisticasPorFuncao();
+            service.imprimirTotalSalarios();
+            service.imprimirFuncionariosOrdemAlfabetica();
+        } catch (NoSuchElementException e) {
+            // Todos os funcionários foram removidos; os dois serviços devem falhar no mesmo relatório.
+        }
+    }
+
+    private static String funcaoESalario(Funcionario funcionario) {
+        return funcionario.getFuncao() + "|" + funcionario.getSalarioCentavos();
+    }
+
+    private static List<Funcionario> gerar(long semente, int quantidade) {
+        SplittableRandom random = new SplittableRandom(semente);
+        List<Funcionario> funcionarios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            // Sem sufixo, o nome se repete entre vários funcionários.
+            String nome = NOMES[random.nextInt(NOMES.length)] + (random.nextInt(3) == 0 ? "" : " " + random.nextInt(quantidade / 3 + 1));
+            funcionarios.add(new Funcionario(nome, LocalDate.of(1960, 1, 1).plusDays(random.nextInt(15_000)),
+                    BigDecimal.valueOf(random.nextLong(100_000, 2_100_000), 2), FUNCOES[random.nextInt(FUNCOES.length)]));
+        }
+        return funcionarios;
+    }
+}
@@ -0,0 +1,157 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara o {@link CacheConsultas} com um modelo LRU direto, sobre sequências sorteadas de consultas,
+ * invalidações e mudanças de capacidade, e os relatórios do serviço com e sem o cache.
+ */
+class CacheConsultasTest {
+
+    private static final String[] OPERACOES = {"total", "agrupados", "minimos"};
+
+    @Test
+    void cacheEquivaleAoModeloLru() {
+        for (int semente = 0; semente < 100; semente++) {
+            SplittableRandom random = new SplittableRandom(semente);
+            int capacidade = random.nextInt(5);
+            CacheConsultas cache = new CacheConsultas(capacidade);
+            ModeloLru modelo = new ModeloLru(capacidade);
+            int[] calculos = {0};
+
+            for (int i = 0; i < 2_000; i++) {
+                int acao = random.nextInt(20);
+                if (acao == 0) {
+                    cache.invalidar();
+                    modelo.geracao++;
+                } else if (acao == 1) {
+                    capacidade = random.nextInt(5);
+                    cache.setCapacidade(capacidade);
+                    modelo.setCapacidade(capacidade);
+                } else {
+                    String operacao = OPERACOES[random.nextInt(OPERACOES.length)];
+                    Integer parametros = random.nextInt(3) == 0 ? null : random.nextInt(3);
+                    int calculosAntes = calculos[0];
+                    long falhasAntes = modelo.falhas;
+                    Integer valor = cache.obter(operacao, parametros, () -> ++calculos[0]);
+
+                    Integer esperado = modelo.obter(operacao + "/" + parametros, calculosAntes + 1);
+                    assertEquals(esperado, valor, "semente " + semente + ", passo " + i);
+                    assertEquals(modelo.falhas - falhasAntes, calculos[0] - calculosAntes);
+                }
+                assertEquals(modelo.entradas.size(), cache.tamanho());
+                assertEquals(modelo.acertos, cache.getAcertos());
+                assertEquals(modelo.falhas, cache.getFalhas());
+            }
+        }
+    }
+
+    @Test
+    void capacidadeNegativaELancada() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheConsultas(-1));
+    }
+
+    @Test
+    void relatoriosComCacheSaoIguaisAosSemCache() {
+        StringBuilder saidaComCache = new StringBuilder();
+        StringBuilder saidaSemCache = new StringBuilder();
+        FuncionarioService comCache = new FuncionarioService();
+        FuncionarioService semCache = new FuncionarioService();
+        comCache.setSaida(new EscritorRelatorio(saidaComCache));
+        semCache.setSaida(new EscritorRelatorio(saidaSemCache));
+        semCache.setCapacidadeCache(0);
+
+        String[] nomes = {"Maria", "Caio", "Miguel", "Alice", "Heitor", "Arthur", "Laura", "Heloísa", "Helena", "João"};
+        FuncaoFuncionario[] funcoes = FuncaoFuncionario.values();
+        SplittableRandom random = new SplittableRandom(3);
+        List<FuncionarioService> servicos = List.of(comCache, semCache);
+        for (FuncionarioService servico : servicos) {
+            servico.inserirFuncionarios();
+            servico.agruparFuncionariosPorFuncao();
+        }
+
+        for (int i = 0; i < 300; i++) {
+            int operacao = random.nextInt(5);
+            double percentual = random.nextInt(20);
+            String nome = nomes[random.nextInt(nomes.length)];
+            FuncaoFuncionario funcao = funcoes[random.nextInt(funcoes.length)];
+            for (FuncionarioService servico : servicos) {
+                switch (operacao) {
+                    case 0:
+                        servico.imprimirTotalSalarios();
+                        break;
+                    case 1:
+                        servico.imprimirFuncionariosAgrupados();
+                        break;
+                    case 2:
+                        servico.imprimirSalariosEmMinimos();
+                        break;
+                    case 3:
+                        servico.aplicarAumentoPercentual(percentual);
+                        break;
+                    default:
+                        servico.alterarFuncao(nome, funcao);
+                        break;
+                }
+            }
+        }
+
+        assertEquals(saidaSemCache.toString(), saidaComCache.toString());
+        assertEquals(0, semCache.getAcertosCache());
+        assertTrue(comCache.getAcertosCache() > 0);
+    }
+
+    /** LRU em uma lista, da entrada menos para a mais recentemente usada. */
+    private static final class ModeloLru {
+
+        final List<Object[]> entradas = new ArrayList<>();
+        int capacidade;
+        long geracao;
+        long acertos;
+        long falhas;
+
+        ModeloLru(int capacidade) {
+            this.capacidade = capacidade;
+        }
+
+        Integer obter(String chave, int novoValor) {
+            for (int i = 0; i < entradas.size(); i++) {
+                Object[] entrada = entradas.get(i);
+                if (!entrada[0].equals(chave)) continue;
+                // Consultar uma entrada a torna a mais recente, mesmo que seja de uma geração anterior.
+                entradas.remove(i);
+                entradas.add(entrada);
+                if ((long) entrada[1] == geracao) {
+                    acertos++;
+                    return (Integer) entrada[2];
+                }
+                falhas++;
+                entrada[1] = geracao;
+                entrada[2] = novoValor;
+                return novoValor;
+            }
+
+            falhas++;
+            if (capacidade > 0) {
+                entradas.add(new Object[]{chave, geracao, novoValor});
+                if (entradas.size() > capacidade) entradas.remove(0);
+            }
+            return novoValor;
+        }
+
+        void setCapacidade(int capacidade) {
+            this.capacidade = capacidade;
+            while (entradas.size() > capacidade) entradas.remove(0);
+        }
+    }
+}
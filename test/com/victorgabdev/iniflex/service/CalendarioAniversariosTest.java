@@ -0,0 +1,158 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara as consultas do {@link CalendarioAniversarios} com a varredura de todos os funcionários usando
+ * {@link LocalDate#withYear(int)}, em janelas que passam pela virada do ano, por 29 de fevereiro e que têm
+ * um ano ou mais.
+ */
+class CalendarioAniversariosTest {
+
+    @Test
+    void entreDatasEquivaleAVarreduraComWithYear() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        CalendarioAniversarios calendario = calendario(random, funcionarios);
+
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate inicio;
+            int dias;
+            switch (random.nextInt(4)) {
+                case 0:
+                    // Em torno de 29 de fevereiro, em anos bissextos ou não.
+                    inicio = LocalDate.of(random.nextInt(2022, 2030), 2, random.nextInt(20, 29));
+                    dias = random.nextInt(1, 15);
+                    break;
+                case 1:
+                    // Pela virada do ano.
+                    inicio = LocalDate.of(random.nextInt(2022, 2030), 12, random.nextInt(1, 32));
+                    dias = random.nextInt(1, 90);
+                    break;
+                case 2:
+                    // Um ano ou mais, inclusive 365 e 366 dias.
+                    inicio = LocalDate.ofEpochDay(random.nextInt(18_000, 22_000));
+                    dias = random.nextInt(364, 1_000);
+                    break;
+                default:
+                    inicio = LocalDate.ofEpochDay(random.nextInt(18_000, 22_000));
+                    dias = random.nextInt(1, 366);
+                    break;
+            }
+            LocalDate fim = inicio.plusDays(dias - 1);
+            assertEquals(nomes(esperadosEntreDatas(funcionarios, inicio, fim)), nomes(calendario.entreDatas(inicio, fim)),
+                    inicio + " a " + fim);
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> calendario.entreDatas(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    void entreMesesEDosMesesEquivalemAVarredura() {
+        SplittableRandom random = new SplittableRandom(12);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        CalendarioAniversarios calendario = calendario(random, funcionarios);
+
+        for (int inicial = 1; inicial <= 12; inicial++) {
+            for (int fim = 1; fim <= 12; fim++) {
+                List<Integer> meses = new ArrayList<>();
+                for (int mes = inicial; ; mes = mes % 12 + 1) {
+                    meses.add(mes);
+                    if (mes == fim) break;
+                }
+                assertEquals(nomes(esperadosDosMeses(funcionarios, meses)), nomes(calendario.entreMeses(inicial, fim)),
+                        "meses " + inicial + " a " + fim);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int[] meses = new int[random.nextInt(1, 8)];
+            List<Integer> distintos = new ArrayList<>();
+            for (int j = 0; j < meses.length; j++) {
+                meses[j] = random.nextInt(1, 13);
+                if (!distintos.contains(meses[j])) distintos.add(meses[j]);
+            }
+            assertEquals(nomes(esperadosDosMeses(funcionarios, distintos)), nomes(calendario.dosMeses(meses)));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> calendario.entreMeses(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> calendario.dosMeses(1, 13));
+    }
+
+    /** Preenche o calendário com nascimentos sorteados, vários em 28 e 29 de fevereiro, e remove alguns deles. */
+    private static CalendarioAniversarios calendario(SplittableRandom random, List<Funcionario> funcionarios) {
+        CalendarioAniversarios calendario = new CalendarioAniversarios();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate nascimento;
+            switch (random.nextInt(10)) {
+                case 0:
+                    nascimento = LocalDate.of(1960 + 4 * random.nextInt(12), 2, 29);
+                    break;
+                case 1:
+                    nascimento = LocalDate.of(random.nextInt(1960, 2005), 2, 28);
+                    break;
+                default:
+                    nascimento = LocalDate.ofEpochDay(random.nextInt(-3_000, 13_000));
+                    break;
+            }
+            Funcionario funcionario = new Funcionario("Funcionário " + i, nascimento, BigDecimal.ONE, FuncaoFuncionario.OPERADOR);
+            funcionarios.add(funcionario);
+            calendario.adicionar(funcionario);
+        }
+        for (int i = 0; i < 200; i++) calendario.remover(funcionarios.remove(random.nextInt(funcionarios.size())));
+        return calendario;
+    }
+
+    /**
+     * Quem tem o próximo aniversário a partir do início, calculado com {@code withYear}, até o fim. No mesmo dia,
+     * os nascidos em 29 de fevereiro vêm depois dos nascidos em 28, e cada dia segue a ordem de inserção.
+     */
+    private static List<Funcionario> esperadosEntreDatas(List<Funcionario> funcionarios, LocalDate inicio, LocalDate fim) {
+        List<Funcionario> esperados = new ArrayList<>();
+        List<LocalDate> aniversarios = new ArrayList<>();
+        for (Funcionario funcionario : funcionarios) {
+            LocalDate aniversario = funcionario.getDataNascimento().withYear(inicio.getYear());
+            if (aniversario.isBefore(inicio)) aniversario = funcionario.getDataNascimento().withYear(inicio.getYear() + 1);
+            if (aniversario.isAfter(fim)) continue;
+            esperados.add(funcionario);
+            aniversarios.add(aniversario);
+        }
+
+        List<Integer> ordem = new ArrayList<>();
+        for (int i = 0; i < esperados.size(); i++) ordem.add(i);
+        ordem.sort(Comparator.<Integer, LocalDate>comparing(aniversarios::get)
+                .thenComparing(i -> esperados.get(i).getDataNascimento().getDayOfMonth()));
+        List<Funcionario> ordenados = new ArrayList<>();
+        for (int i : ordem) ordenados.add(esperados.get(i));
+        return ordenados;
+    }
+
+    private static List<Funcionario> esperadosDosMeses(List<Funcionario> funcionarios, List<Integer> meses) {
+        List<Funcionario> esperados = new ArrayList<>();
+        for (int mes : meses) {
+            for (Funcionario funcionario : funcionarios) {
+                if (funcionario.getDataNascimento().getMonthValue() == mes) esperados.add(funcionario);
+            }
+        }
+        return esperados;
+    }
+
+    private static List<String> nomes(List<Funcionario> funcionarios) {
+        List<String> nomes = new ArrayList<>(funcionarios.size());
+        for (Funcionario funcionario : funcionarios) nomes.add(funcionario.getNome());
+        return nomes;
+    }
+}
@@ -0,0 +1,123 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica que mutações cujos salários ou somas não cabem em um {@code long} falham sem alterar o serviço
+ * nem registrar nada no log, e que o diretório continua podendo ser reaberto.
+ */
+class EstouroSalariosTest {
+
+    private static final BigDecimal QUARENTA_QUATRILHOES = new BigDecimal("40000000000000000.00");
+    private static final BigDecimal CINQUENTA_QUATRILHOES = new BigDecimal("50000000000000000.00");
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void aumentoQueEstouraOTotalNaoAlteraNada() {
+        assertFalhaSemEfeito(repositorio(
+                        funcionario("Maria", QUARENTA_QUATRILHOES, FuncaoFuncionario.OPERADOR),
+                        funcionario("João", QUARENTA_QUATRILHOES, FuncaoFuncionario.GERENTE)),
+                service -> service.aplicarAumentoPercentual(20));
+    }
+
+    @Test
+    void loteQueEstouraOTotalNaoAlteraNada() {
+        assertFalhaSemEfeito(repositorio(
+                        funcionario("Maria", QUARENTA_QUATRILHOES, FuncaoFuncionario.OPERADOR),
+                        funcionario("João", QUARENTA_QUATRILHOES, FuncaoFuncionario.GERENTE),
+                        funcionario("Caio", BigDecimal.ONE, FuncaoFuncionario.GERENTE)),
+                service -> service.aplicarLote(new LoteMutacoes()
+                        .remover("Caio")
+                        .aplicarAumentoPercentual(FuncaoFuncionario.OPERADOR, 20)
+                        .aplicarAumentoPercentual(FuncaoFuncionario.GERENTE, 20)));
+    }
+
+    @Test
+    void trocaDeFuncaoQueEstouraASomaDaFuncaoNaoAlteraNada() {
+        // O total cabe, mas a soma dos salários da nova função não.
+        assertFalhaSemEfeito(repositorio(
+                        funcionario("Maria", CINQUENTA_QUATRILHOES, FuncaoFuncionario.OPERADOR),
+                        funcionario("João", CINQUENTA_QUATRILHOES, FuncaoFuncionario.GERENTE),
+                        funcionario("Caio", CINQUENTA_QUATRILHOES.negate(), FuncaoFuncionario.GERENTE)),
+                service -> service.alterarFuncao("João", FuncaoFuncionario.OPERADOR));
+    }
+
+    @Test
+    void loteQueEstouraASomaDeUmaFuncaoNaoAlteraNada() {
+        assertFalhaSemEfeito(repositorio(
+                        funcionario("Maria", CINQUENTA_QUATRILHOES, FuncaoFuncionario.OPERADOR),
+                        funcionario("João", CINQUENTA_QUATRILHOES, FuncaoFuncionario.GERENTE),
+                        funcionario("Caio", CINQUENTA_QUATRILHOES.negate(), FuncaoFuncionario.GERENTE)),
+                service -> service.aplicarLote(new LoteMutacoes()
+                        .alterarFuncao("João", FuncaoFuncionario.OPERADOR)
+                        .aplicarAumentoPercentual(FuncaoFuncionario.OPERADOR, 10)));
+    }
+
+    private void assertFalhaSemEfeito(IFuncionarioRepository origem, Consumer<FuncionarioService> mutacao) {
+        String antes;
+        try (PersistenciaFuncionarios persistencia = new PersistenciaFuncionarios(diretorio)) {
+            FuncionarioService service = persistencia.carregar(origem);
+            service.agruparFuncionariosPorFuncao();
+            antes = estado(service);
+            long numero = service.fixarVersao().getVersao().getNumero();
+
+            assertThrows(ArithmeticException.class, () -> mutacao.accept(service));
+            assertEquals(antes, estado(service));
+            assertEquals(numero, service.fixarVersao().getVersao().getNumero());
+
+            // O serviço continua utilizável depois da falha.
+            service.aplicarAumentoPercentual(1);
+            antes = estado(service);
+        }
+
+        try (PersistenciaFuncionarios persistencia = new PersistenciaFuncionarios(diretorio)) {
+            FuncionarioService reaberto = persistencia.carregar(origem);
+            reaberto.agruparFuncionariosPorFuncao();
+            assertEquals(antes, estado(reaberto));
+        }
+    }
+
+    /** Funcionários, grupos por função, estatísticas e total da versão atual, para comparar estados do serviço. */
+    private static String estado(FuncionarioService service) {
+        StringBuilder estado = new StringBuilder();
+        for (FuncaoFuncionario funcao : FuncaoFuncionario.values()) {
+            estado.append(funcao).append(':');
+            for (Funcionario funcionario : service.buscarPorFuncao(funcao)) {
+                estado.append(' ').append(funcionario.getNome()).append('=').append(funcionario.getSalarioCentavos());
+            }
+            estado.append('\n');
+        }
+        try (VersaoFuncionarios.Fixacao fixacao = service.fixarVersao()) {
+            estado.append(fixacao.getVersao().funcionarios()).append(' ').append(fixacao.getVersao().getTotalSalariosCentavos());
+        }
+        return estado.append(' ').append(service.obterEstatisticasPorFuncao()).toString();
+    }
+
+    private static IFuncionarioRepository repositorio(Funcionario... funcionarios) {
+        return () -> {
+            List<Funcionario> copias = new ArrayList<>();
+            for (Funcionario f : funcionarios) copias.add(funcionario(f.getNome(), f.getSalario(), f.getFuncao()));
+            return copias;
+        };
+    }
+
+    private static Funcionario funcionario(String nome, BigDecimal salario, FuncaoFuncionario funcao) {
+        return new Funcionario(nome, LocalDate.of(1990, 1, 1), salario, funcao);
+    }
+}
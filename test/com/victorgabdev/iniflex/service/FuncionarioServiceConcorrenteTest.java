@@ -0,0 +1,123 @@
+package com.victorgabdev.iniflex.service;
+
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que as leituras do {@link FuncionarioServiceConcorrente} veem sempre um estado inteiro enquanto uma
+ * thread aplica aumentos e outra remove funcionários: cada total lido é o de algum número de aumentos aplicados
+ * sobre algum número de remoções, nunca um aumento ou uma remoção pela metade.
+ */
+class FuncionarioServiceConcorrenteTest {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final int QUANTIDADE = 5_000;
+    private static final int AUMENTOS = 30;
+    private static final int REMOCOES = 300;
+    private static final int LEITORES = 3;
+
+    @Test
+    void leiturasVeemTotaisAntesOuDepoisDeCadaEscrita() throws Exception {
+        SplittableRandom random = new SplittableRandom(12);
+        List<Funcionario> base = new ArrayList<>(QUANTIDADE);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            base.add(new Funcionario("Funcionário " + i, LocalDate.ofEpochDay(random.nextInt(-5_000, 12_000)),
+                    BigDecimal.valueOf(random.nextLong(100_000, 2_000_000), 2), FUNCOES[random.nextInt(FUNCOES.length)]));
+        }
+        double[] percentuais = new double[AUMENTOS];
+        for (int i = 0; i < AUMENTOS; i++) percentuais[i] = random.nextInt(-300, 1_000) / 100.0;
+        int[] removidos = new int[REMOCOES];
+        boolean[] sorteado = new boolean[QUANTIDADE];
+        for (int i = 0; i < REMOCOES; i++) {
+            do {
+                removidos[i] = random.nextInt(QUANTIDADE);
+            } while (sorteado[removidos[i]]);
+            sorteado[removidos[i]] = true;
+        }
+
+        // Os aumentos e as remoções comutam: o estado depende só de quantos de cada já foram aplicados.
+        Set<Long> validos = new HashSet<>();
+        long[] salarios = new long[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) salarios[i] = base.get(i).getSalarioCentavos();
+        long totalFinal = 0;
+        for (int aumento = 0; aumento <= AUMENTOS; aumento++) {
+            if (aumento > 0) {
+                FatorPercentual fator = FatorPercentual.de(percentuais[aumento - 1]);
+                for (int i = 0; i < QUANTIDADE; i++) salarios[i] = fator.aplicar(salarios[i]);
+            }
+            long total = 0;
+            for (long salario : salarios) total += salario;
+            validos.add(total);
+            for (int removido : removidos) {
+                total -= salarios[removido];
+                validos.add(total);
+            }
+            totalFinal = total;
+        }
+
+        FuncionarioServiceConcorrente service = new FuncionarioServiceConcorrente(() -> new ArrayList<>(base));
+        service.inserirFuncionarios();
+
+        AtomicBoolean escrevendo = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(LEITORES + 2);
+        try {
+            List<Future<Integer>> leitores = new ArrayList<>();
+            for (int l = 0; l < LEITORES; l++) {
+                leitores.add(executor.submit(() -> {
+                    int leituras = 0;
+                    do {
+                        long total = service.calcularTotalSalarios().unscaledValue().longValueExact();
+                        assertTrue(validos.contains(total), "total lido no meio de uma escrita: " + total);
+
+                        long somaFuncoes = 0;
+                        for (EstatisticasFuncao estatisticas : service.obterEstatisticasPorFuncao().values()) {
+                            somaFuncoes += estatisticas.getTotalSalarios().unscaledValue().longValueExact();
+                        }
+                        assertTrue(validos.contains(somaFuncoes), "estatísticas lidas no meio de uma escrita: " + somaFuncoes);
+                        leituras++;
+                    } while (escrevendo.get());
+                    return leituras;
+                }));
+            }
+
+            Future<?> aumentos = executor.submit(() -> {
+                for (double percentual : percentuais) {
+                    service.aplicarAumentoPercentual(percentual);
+                    Thread.yield();
+                }
+            });
+            Future<?> remocoes = executor.submit(() -> {
+                for (int removido : removidos) {
+                    service.removerFuncionario(base.get(removido).getNome());
+                    Thread.yield();
+                }
+            });
+            aumentos.get();
+            remocoes.get();
+            escrevendo.set(false);
+            for (Future<Integer> leitor : leitores) assertTrue(leitor.get() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(QUANTIDADE - REMOCOES, service.getQuantidade());
+        assertEquals(totalFinal, service.calcularTotalSalarios().unscaledValue().longValueExact());
+    }
+}
@@ -0,0 +1,177 @@
+package com.victorgabdev.iniflex.shard;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.relatorio.EscritorRelatorio;
+import com.victorgabdev.iniflex.repositoty.IFuncionarioRepository;
+import com.victorgabdev.iniflex.service.FuncionarioService;
+import com.victorgabdev.iniflex.service.Particionamento;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Sobe shards locais na porta 0 e compara cada relatório e consulta do {@link FuncionarioServiceParticionado}
+ * com um {@link FuncionarioService} que recebe as mesmas mutações, nos dois critérios de particionamento.
+ */
+class FuncionarioServiceParticionadoTest {
+
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+    private static final String[] NOMES = {"Élio", "elio", "Ângela", "angela", "Ana Maria", "Çarla", "Carla", "Íris",
+            "Heloísa", "heloisa", "Straße", "Жанна"};
+    private static final int QUANTIDADE = 300;
+
+    @Test
+    void relatoriosEquivalemAoServicoUnico() {
+        for (Particionamento particionamento : Particionamento.values()) {
+            for (int shards = 2; shards <= 3; shards++) {
+                comparar(particionamento, shards, new SplittableRandom(31L * shards + particionamento.ordinal()));
+            }
+        }
+    }
+
+    private static void comparar(Particionamento particionamento, int quantidadeShards, SplittableRandom random) {
+        long semente = random.nextLong();
+        IFuncionarioRepository origem = () -> gerar(semente);
+        List<Funcionario> base = gerar(semente);
+
+        StringBuilder saidaUnico = new StringBuilder();
+        StringBuilder saidaParticionado = new StringBuilder();
+        FuncionarioService unico = new FuncionarioService(origem);
+        unico.setSaida(new EscritorRelatorio(saidaUnico));
+        unico.inserirFuncionarios();
+        unico.agruparFuncionariosPorFuncao();
+
+        List<ServidorShard> servidores = new ArrayList<>();
+        List<InetSocketAddress> enderecos = new ArrayList<>();
+        try {
+            for (int shard = 0; shard < quantidadeShards; shard++) {
+                ServidorShard servidor = new ServidorShard(
+                        new RepositorioParticionado(origem, particionamento, shard, quantidadeShards),
+                        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+                servidor.iniciar();
+                servidores.add(servidor);
+                enderecos.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), servidor.getPorta()));
+            }
+
+            try (FuncionarioServiceParticionado particionado = new FuncionarioServiceParticionado(enderecos)) {
+                particionado.setSaida(new EscritorRelatorio(saidaParticionado));
+                for (int i = 0; i < 40; i++) {
+                    String nome = random.nextInt(6) == 0 ? "Inexistente" : base.get(random.nextInt(QUANTIDADE)).getNome();
+                    FuncaoFuncionario funcao = FUNCOES[random.nextInt(FUNCOES.length)];
+                    String mensagem = particionamento + ", " + quantidadeShards + " shards, passo " + i;
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            if (unico.buscarPorNome(nome).isEmpty()) {
+                                assertThrows(NoSuchElementException.class, () -> particionado.removerFuncionario(nome), mensagem);
+                            } else {
+                                unico.removerFuncionario(nome);
+                                particionado.removerFuncionario(nome);
+                            }
+                            break;
+                        case 1:
+                            if (unico.buscarPorNome(nome).isEmpty()) {
+                                assertThrows(NoSuchElementException.class, () -> particionado.alterarFuncao(nome, funcao), mensagem);
+                            } else {
+                                unico.alterarFuncao(nome, funcao);
+                                particionado.alterarFuncao(nome, funcao);
+                            }
+                            break;
+                        case 2:
+                            double percentual = random.nextInt(-500, 2_000) / 100.0;
+                            unico.aplicarAumentoPercentual(percentual);
+                            particionado.aplicarAumentoPercentual(percentual);
+                            break;
+                        default:
+                            double percentualFuncao = random.nextInt(0, 500) / 100.0;
+                            assertEquals(unico.buscarPorFuncao(funcao).isEmpty() ? 0 : unico.aplicarAumentoPercentual(funcao, percentualFuncao),
+                                    particionado.aplicarAumentoPercentual(funcao, percentualFuncao), mensagem);
+                            break;
+                    }
+                    compararConsultas(unico, particionado, random, mensagem);
+                    imprimirRelatorios(unico, particionado, random.nextInt(1, 13), random.nextInt(1, 13));
+                    assertEquals(saidaUnico.toString(), saidaParticionado.toString(), mensagem);
+                }
+            }
+        } finally {
+            for (ServidorShard servidor : servidores) servidor.close();
+        }
+    }
+
+    private static void compararConsultas(FuncionarioService unico, FuncionarioServiceParticionado particionado,
+                                          SplittableRandom random, String mensagem) {
+        assertEquals(unico.consultar().contar(), particionado.contarFuncionarios(), mensagem);
+        assertEquals(unico.consultar().somarSalariosCentavos(), particionado.getTotalSalariosCentavos(), mensagem);
+        assertEquals(unico.obterEstatisticasPorFuncao().toString(), particionado.obterEstatisticasPorFuncao().toString(), mensagem);
+        assertEquals(descricao(unico.consultar().listar()), descricao(particionado.listarTodos()), mensagem);
+
+        int k = random.nextInt(0, 40);
+        assertEquals(descricao(unico.buscarPrimeirosEmOrdemAlfabetica(k)),
+                descricao(particionado.buscarPrimeirosEmOrdemAlfabetica(k)), mensagem);
+
+        Map<FuncaoFuncionario, List<Funcionario>> grupos = particionado.agruparPorFuncao();
+        for (FuncaoFuncionario funcao : FUNCOES) {
+            assertEquals(descricao(unico.buscarPorFuncao(funcao)), descricao(grupos.getOrDefault(funcao, List.of())),
+                    mensagem + ", " + funcao);
+        }
+
+        // Esperados: os meses na ordem pedida, sem repetição, e dentro de cada mês a ordem de inserção.
+        int[] meses = {random.nextInt(1, 13), random.nextInt(1, 13), random.nextInt(1, 13)};
+        List<Funcionario> aniversariantes = new ArrayList<>();
+        List<Integer> vistos = new ArrayList<>();
+        for (int mes : meses) {
+            if (vistos.contains(mes)) continue;
+            vistos.add(mes);
+            aniversariantes.addAll(unico.consultar().nascidosNosMeses(mes).listar());
+        }
+        assertEquals(descricao(aniversariantes), descricao(particionado.buscarAniversariantes(meses)), mensagem);
+    }
+
+    private static void imprimirRelatorios(FuncionarioService unico, FuncionarioServiceParticionado particionado,
+                                           int mes, int outroMes) {
+        unico.imprimirTodosFuncionarios();
+        particionado.imprimirTodosFuncionarios();
+        unico.imprimirFuncionariosAgrupados();
+        particionado.imprimirFuncionariosAgrupados();
+        unico.imprimirFuncionarioMaisVelho();
+        particionado.imprimirFuncionarioMaisVelho();
+        unico.imprimirFuncionariosOrdemAlfabetica();
+        particionado.imprimirFuncionariosOrdemAlfabetica();
+        unico.imprimirAniversariantes(mes, outroMes);
+        particionado.imprimirAniversariantes(mes, outroMes);
+        unico.imprimirTotalSalarios();
+        particionado.imprimirTotalSalarios();
+    }
+
+    private static List<String> descricao(Collection<Funcionario> funcionarios) {
+        List<String> descricao = new ArrayList<>(funcionarios.size());
+        for (Funcionario funcionario : funcionarios) {
+            descricao.add(funcionario + " (" + funcionario.getSalarioCentavos() + ")");
+        }
+        return descricao;
+    }
+
+    private static List<Funcionario> gerar(long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        List<Funcionario> funcionarios = new ArrayList<>(QUANTIDADE);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            // Nomes que só diferem em acentos e maiúsculas são o mesmo nome para remoções e trocas de função.
+            String nome = NOMES[random.nextInt(NOMES.length)] + (random.nextBoolean() ? "" : " " + random.nextInt(40));
+            funcionarios.add(new Funcionario(nome, LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20_000)),
+                    BigDecimal.valueOf(random.nextLong(100_000, 2_000_000), 2), FUNCOES[random.nextInt(FUNCOES.length)]));
+        }
+        return funcionarios;
+    }
+}
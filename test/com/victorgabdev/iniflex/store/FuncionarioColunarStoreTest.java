@@ -0,0 +1,34 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica que um aumento que estoura algum salário do {@link FuncionarioColunarStore} não altera nenhum salário.
+ */
+class FuncionarioColunarStoreTest {
+
+    @Test
+    void aumentoQueEstouraUmSalarioNaoAlteraNenhum() {
+        FuncionarioColunarStore store = new FuncionarioColunarStore(2);
+        long[] salarios = {1_000_00, 5_000_000_000_000_000_000L, 2_500_00};
+        for (int i = 0; i < salarios.length; i++) {
+            store.adicionar("Funcionário " + i, LocalDate.of(1990, 1, 1), salarios[i], FuncaoFuncionario.OPERADOR);
+        }
+
+        assertThrows(ArithmeticException.class, () -> store.aplicarAumentoPercentual(100));
+        for (int i = 0; i < salarios.length; i++) assertEquals(salarios[i], store.getSalarioCentavos(i));
+
+        store.aplicarAumentoPercentual(10);
+        assertEquals(1_100_00, store.getSalarioCentavos(0));
+        assertEquals(5_500_000_000_000_000_000L, store.getSalarioCentavos(1));
+        assertEquals(2_750_00, store.getSalarioCentavos(2));
+        store.adicionar("Outro", LocalDate.of(1990, 1, 1), 1, FuncaoFuncionario.GERENTE);
+        assertEquals(4, store.tamanho());
+    }
+}
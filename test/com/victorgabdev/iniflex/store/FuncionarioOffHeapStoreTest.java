@@ -0,0 +1,55 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.calculo.FatorPercentual;
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara o aumento do {@link FuncionarioOffHeapStore} com o {@link FatorPercentual} aplicado a cada salário, e
+ * verifica que um aumento que estoura algum salário não altera nenhum registro.
+ */
+class FuncionarioOffHeapStoreTest {
+
+    @Test
+    void aumentoEquivaleAoFatorOuNaoAlteraNenhumRegistro() {
+        SplittableRandom random = new SplittableRandom(24);
+        for (int rodada = 0; rodada < 200; rodada++) {
+            FuncionarioOffHeapStore store = new FuncionarioOffHeapStore();
+            long[] salarios = new long[random.nextInt(0, 50)];
+            for (int i = 0; i < salarios.length; i++) {
+                // Alguns salários perto do limite de um long, para que parte dos aumentos estoure.
+                salarios[i] = random.nextInt(20) == 0
+                        ? random.nextLong(-Long.MAX_VALUE / 2, Long.MAX_VALUE / 2) : random.nextLong(-1_000_000, 100_000_000);
+                store.adicionar("Funcionário " + i, LocalDate.of(1990, 1, 1), salarios[i], FuncaoFuncionario.OPERADOR);
+            }
+
+            double percentual = random.nextInt(-30_000, 30_000) / 100.0;
+            FatorPercentual fator = FatorPercentual.de(percentual);
+            long[] esperados = salarios.clone();
+            boolean estoura = false;
+            for (int i = 0; i < esperados.length; i++) {
+                try {
+                    esperados[i] = fator.aplicar(salarios[i]);
+                } catch (ArithmeticException e) {
+                    estoura = true;
+                }
+            }
+
+            if (estoura) {
+                assertThrows(ArithmeticException.class, () -> store.aplicarAumentoPercentual(percentual));
+                esperados = salarios;
+            } else {
+                store.aplicarAumentoPercentual(percentual);
+            }
+            for (int i = 0; i < esperados.length; i++) {
+                assertEquals(esperados[i], store.registro(i).getSalarioCentavos(), "rodada " + rodada + ", " + percentual + "%");
+            }
+        }
+    }
+}
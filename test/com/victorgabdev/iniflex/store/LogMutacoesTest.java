@@ -0,0 +1,228 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Registra mutações sorteadas, altera ou trunca o arquivo e verifica que a reprodução entrega exatamente
+ * os registros anteriores ao dano, descartando o restante.
+ */
+class LogMutacoesTest {
+
+    private static final String[] NOMES = {"Maria", "João", "Heloísa", "Zoë 😀", ""};
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void logRelidoReproduzTodasAsMutacoes() {
+        Path arquivo = diretorio.resolve("mutacoes.log");
+        Registros registros = registrar(arquivo, new SplittableRandom(1));
+
+        List<String> reproduzidas = reproduzir(arquivo);
+        assertEquals(registros.mutacoesAte(registros.quantidade()), reproduzidas);
+    }
+
+    @Test
+    void byteAlteradoDescartaORegistroEORestante() throws IOException {
+        Path arquivo = diretorio.resolve("mutacoes.log");
+        for (int semente = 0; semente < 200; semente++) {
+            Files.deleteIfExists(arquivo);
+            SplittableRandom random = new SplittableRandom(semente);
+            Registros registros = registrar(arquivo, random);
+
+            byte[] bytes = Files.readAllBytes(arquivo);
+            int posicao = random.nextInt(LogMutacoes.TAMANHO_CABECALHO, bytes.length);
+            bytes[posicao] ^= (byte) (1 + random.nextInt(255));
+            Files.write(arquivo, bytes);
+
+            int intactos = registros.terminadosAte(posicao);
+            assertEquals(registros.mutacoesAte(intactos), reproduzir(arquivo), "byte " + posicao);
+            assertEquals(registros.inicio(intactos), Files.size(arquivo));
+        }
+    }
+
+    @Test
+    void finalTruncadoEDescartado() throws IOException {
+        Path arquivo = diretorio.resolve("mutacoes.log");
+        for (int semente = 0; semente < 200; semente++) {
+            Files.deleteIfExists(arquivo);
+            SplittableRandom random = new SplittableRandom(semente);
+            Registros registros = registrar(arquivo, random);
+
+            byte[] bytes = Files.readAllBytes(arquivo);
+            int tamanho = random.nextInt(LogMutacoes.TAMANHO_CABECALHO, bytes.length + 1);
+            Files.write(arquivo, Arrays.copyOf(bytes, tamanho));
+
+            int intactos = registros.terminadosAte(tamanho);
+            assertEquals(registros.mutacoesAte(intactos), reproduzir(arquivo), "tamanho " + tamanho);
+            assertEquals(registros.inicio(intactos), Files.size(arquivo));
+        }
+    }
+
+    @Test
+    void cabecalhoInvalidoERejeitado() throws IOException {
+        Path arquivo = diretorio.resolve("mutacoes.log");
+        Files.write(arquivo, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        assertThrows(ArquivoFuncionariosInvalidoException.class, () -> reproduzir(arquivo));
+    }
+
+    /**
+     * Grava de 1 a 50 registros, alguns deles lotes, e guarda o início de cada um e as mutações esperadas.
+     */
+    private static Registros registrar(Path arquivo, SplittableRandom random) {
+        Registros registros = new Registros();
+        try (LogMutacoes log = LogMutacoes.abrir(arquivo, new Descricao(new ArrayList<>()))) {
+            int quantidade = random.nextInt(1, 50);
+            for (int i = 0; i < quantidade; i++) {
+                List<String> mutacoes = new ArrayList<>();
+                registros.inicios.add(log.tamanhoBytes());
+                if (random.nextInt(5) == 0) {
+                    int tamanhoLote = random.nextInt(1, 6);
+                    long[] sementes = new long[tamanhoLote];
+                    for (int j = 0; j < tamanhoLote; j++) sementes[j] = random.nextLong();
+                    log.registrarLote(consumidor -> {
+                        for (long s : sementes) sortearMutacao(new SplittableRandom(s), consumidor);
+                    });
+                    for (long s : sementes) sortearMutacao(new SplittableRandom(s), new Descricao(mutacoes));
+                } else {
+                    long s = random.nextLong();
+                    sortearMutacao(new SplittableRandom(s), new RegistroNoLog(log));
+                    sortearMutacao(new SplittableRandom(s), new Descricao(mutacoes));
+                }
+                registros.mutacoes.add(mutacoes);
+            }
+            registros.inicios.add(log.tamanhoBytes());
+        }
+        return registros;
+    }
+
+    private static List<String> reproduzir(Path arquivo) {
+        List<String> reproduzidas = new ArrayList<>();
+        LogMutacoes.abrir(arquivo, new Descricao(reproduzidas)).close();
+        return reproduzidas;
+    }
+
+    private static void sortearMutacao(SplittableRandom random, LogMutacoes.ConsumidorMutacoes consumidor) {
+        String nome = NOMES[random.nextInt(NOMES.length)] + random.nextInt(100);
+        FuncaoFuncionario funcao = FUNCOES[random.nextInt(FUNCOES.length)];
+        double percentual = random.nextDouble(-50, 50);
+        switch (random.nextInt(4)) {
+            case 0:
+                consumidor.remocao(nome);
+                break;
+            case 1:
+                consumidor.aumento(percentual);
+                break;
+            case 2:
+                consumidor.alteracaoFuncao(nome, funcao);
+                break;
+            default:
+                consumidor.aumentoFuncao(funcao, percentual);
+                break;
+        }
+    }
+
+    private static final class Registros {
+
+        /** Início de cada registro no arquivo, mais o tamanho final. */
+        final List<Long> inicios = new ArrayList<>();
+        final List<List<String>> mutacoes = new ArrayList<>();
+
+        int quantidade() {
+            return mutacoes.size();
+        }
+
+        long inicio(int registro) {
+            return inicios.get(registro);
+        }
+
+        /** Quantidade de registros que terminam antes da posição informada. */
+        int terminadosAte(long posicao) {
+            int registro = 0;
+            while (registro < quantidade() && inicios.get(registro + 1) <= posicao) registro++;
+            return registro;
+        }
+
+        List<String> mutacoesAte(int registros) {
+            List<String> todas = new ArrayList<>();
+            for (int i = 0; i < registros; i++) todas.addAll(mutacoes.get(i));
+            return todas;
+        }
+    }
+
+    /** Grava cada mutação recebida como um registro separado do log. */
+    private static final class RegistroNoLog implements LogMutacoes.ConsumidorMutacoes {
+
+        private final LogMutacoes log;
+
+        RegistroNoLog(LogMutacoes log) {
+            this.log = log;
+        }
+
+        @Override
+        public void remocao(String nome) {
+            log.registrarRemocao(nome);
+        }
+
+        @Override
+        public void aumento(double percentual) {
+            log.registrarAumento(percentual);
+        }
+
+        @Override
+        public void alteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+            log.registrarAlteracaoFuncao(nome, funcao);
+        }
+
+        /** O aumento por função só é registrado dentro de um lote. */
+        @Override
+        public void aumentoFuncao(FuncaoFuncionario funcao, double percentual) {
+            log.registrarLote(consumidor -> consumidor.aumentoFuncao(funcao, percentual));
+        }
+    }
+
+    /** Descreve cada mutação recebida em uma lista, para comparação. */
+    private static final class Descricao implements LogMutacoes.ConsumidorMutacoes {
+
+        private final List<String> destino;
+
+        Descricao(List<String> destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        public void remocao(String nome) {
+            destino.add("remocao " + nome);
+        }
+
+        @Override
+        public void aumento(double percentual) {
+            destino.add("aumento " + percentual);
+        }
+
+        @Override
+        public void alteracaoFuncao(String nome, FuncaoFuncionario funcao) {
+            destino.add("alteracaoFuncao " + nome + " " + funcao);
+        }
+
+        @Override
+        public void aumentoFuncao(FuncaoFuncionario funcao, double percentual) {
+            destino.add("aumentoFuncao " + funcao + " " + percentual);
+        }
+    }
+}
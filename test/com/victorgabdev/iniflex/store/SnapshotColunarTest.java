@@ -0,0 +1,83 @@
+package com.victorgabdev.iniflex.store;
+
+import com.victorgabdev.iniflex.entities.FuncaoFuncionario;
+import com.victorgabdev.iniflex.entities.Funcionario;
+import com.victorgabdev.iniflex.exceptions.ArquivoFuncionariosInvalidoException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Grava e relê snapshots de conjuntos sorteados, e verifica que bytes alterados ou um arquivo truncado são rejeitados.
+ */
+class SnapshotColunarTest {
+
+    private static final String[] NOMES = {"Maria", "João", "Heloísa", "日本", "Zoë 😀", ""};
+    private static final FuncaoFuncionario[] FUNCOES = FuncaoFuncionario.values();
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void snapshotRelidoTemOsMesmosFuncionarios() {
+        Path arquivo = diretorio.resolve("funcionarios.snap");
+        for (int semente = 0; semente < 50; semente++) {
+            List<Funcionario> funcionarios = sortear(new SplittableRandom(semente));
+            FuncionarioColunarStore.de(funcionarios).gravar(arquivo);
+
+            FuncionarioColunarStore lido = FuncionarioColunarStore.carregar(arquivo);
+            assertEquals(funcionarios.size(), lido.tamanho());
+            for (int i = 0; i < funcionarios.size(); i++) {
+                Funcionario esperado = funcionarios.get(i);
+                assertEquals(esperado.getNome(), lido.getNome(i));
+                assertEquals(esperado.getDataNascimento(), lido.getDataNascimento(i));
+                assertEquals(esperado.getSalarioCentavos(), lido.getSalarioCentavos(i));
+                assertEquals(esperado.getFuncao(), lido.getFuncao(i));
+            }
+        }
+    }
+
+    @Test
+    void snapshotCorrompidoERejeitado() throws IOException {
+        Path arquivo = diretorio.resolve("funcionarios.snap");
+        for (int semente = 0; semente < 200; semente++) {
+            SplittableRandom random = new SplittableRandom(semente);
+            FuncionarioColunarStore.de(sortear(random)).gravar(arquivo);
+            byte[] bytes = Files.readAllBytes(arquivo);
+
+            byte[] corrompidos = bytes.clone();
+            int posicao = random.nextInt(corrompidos.length);
+            corrompidos[posicao] ^= (byte) (1 + random.nextInt(255));
+            Files.write(arquivo, corrompidos);
+            assertThrows(ArquivoFuncionariosInvalidoException.class, () -> FuncionarioColunarStore.carregar(arquivo),
+                    "byte " + posicao + " de " + bytes.length);
+
+            Files.write(arquivo, Arrays.copyOf(bytes, random.nextInt(bytes.length)));
+            assertThrows(ArquivoFuncionariosInvalidoException.class, () -> FuncionarioColunarStore.carregar(arquivo));
+        }
+    }
+
+    private static List<Funcionario> sortear(SplittableRandom random) {
+        int tamanho = random.nextInt(1, 500);
+        List<Funcionario> funcionarios = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            funcionarios.add(new Funcionario(NOMES[random.nextInt(NOMES.length)] + random.nextInt(50),
+                    LocalDate.ofEpochDay(random.nextInt(-500_000, 500_000)),
+                    BigDecimal.valueOf(random.nextLong(0, Long.MAX_VALUE / 4), 2),
+                    FUNCOES[random.nextInt(FUNCOES.length)]));
+        }
+        return funcionarios;
+    }
+}